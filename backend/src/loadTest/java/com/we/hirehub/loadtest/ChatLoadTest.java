@@ -0,0 +1,336 @@
+package com.we.hirehub.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.io.File;
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * STOMP 채팅 부하 테스트
+ * - 내장 H2로 앱을 띄우고 /ws 로 가상 유저 N명 + 상담사 A명을 접속시킴
+ * - 유저: 방 구독 → (일부) 핸드오프 요청 → 메시지 M개 전송 → 명시적/비명시적 연결 해제
+ * - 상담사: /topic/support.queue 구독 → 대기 큐 델타의 핸드오프 요청 수락
+ * - 메시지 본문에 송신 시각(nanoTime)을 넣고, 에코 수신 시각과 비교해 종단 지연 측정
+ * - 결과는 build/reports/loadtest/chat-load.json (빌드 간 비교용)
+ *
+ * 실행: ./gradlew loadTest -Ploadtest.clients=2000 -Ploadtest.messages=20 -Ploadtest.label=$(git rev-parse --short HEAD)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+class ChatLoadTest {
+
+    private static final String MARK = "lt|";
+
+    private final int clients = Integer.getInteger("loadtest.clients", 1000);
+    private final int agents = Integer.getInteger("loadtest.agents", 10);
+    private final int messages = Integer.getInteger("loadtest.messages", 10);
+    private final int thinkMs = Integer.getInteger("loadtest.think-ms", 200);
+    private final int connectConcurrency = Integer.getInteger("loadtest.connect-concurrency", 200);
+    private final int drainSeconds = Integer.getInteger("loadtest.drain-seconds", 30);
+    private final double handoffRatio = Double.parseDouble(System.getProperty("loadtest.handoff-ratio", "0.2"));
+    private final double explicitDisconnectRatio = Double.parseDouble(System.getProperty("loadtest.explicit-disconnect-ratio", "0.5"));
+    private final double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.05"));
+
+    @LocalServerPort
+    int port;
+
+    private WebSocketStompClient stompClient;
+    private ThreadPoolTaskScheduler heartbeatScheduler;
+    private ScheduledExecutorService driver;
+
+    private final LatencyRecorder latency = new LatencyRecorder();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicInteger connectErrors = new AtomicInteger();
+    private final AtomicInteger transportErrors = new AtomicInteger();
+    private final AtomicInteger handoffsRequested = new AtomicInteger();
+    private final AtomicInteger handoffsAccepted = new AtomicInteger();
+    private final AtomicInteger queueFrames = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(4);
+        heartbeatScheduler.setThreadNamePrefix("lt-heartbeat-");
+        heartbeatScheduler.initialize();
+
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        stompClient.setTaskScheduler(heartbeatScheduler);
+        stompClient.setDefaultHeartbeat(new long[]{10000, 10000});
+
+        driver = Executors.newScheduledThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        driver.shutdownNow();
+        stompClient.stop();
+        heartbeatScheduler.shutdown();
+    }
+
+    @Test
+    void chatLoad() throws Exception {
+        String url = "ws://localhost:" + port + "/ws";
+
+        // 1. 상담사 접속
+        List<Agent> agentList = new ArrayList<>();
+        for (int i = 0; i < agents; i++) {
+            Agent agent = new Agent(i);
+            agent.session = stompClient.connectAsync(url, agent).get(10, TimeUnit.SECONDS);
+            agent.session.subscribe("/topic/support.queue", agent);
+            agentList.add(agent);
+        }
+
+        // 2. 유저 접속 (동시 연결 수 제한)
+        Semaphore gate = new Semaphore(connectConcurrency);
+        List<VirtualUser> users = new ArrayList<>();
+        List<CompletableFuture<?>> connecting = new ArrayList<>();
+        long connectStart = System.nanoTime();
+        for (int i = 0; i < clients; i++) {
+            VirtualUser vu = new VirtualUser(i);
+            users.add(vu);
+            gate.acquire();
+            connecting.add(stompClient.connectAsync(url, vu)
+                    .whenComplete((session, ex) -> {
+                        gate.release();
+                        if (ex != null) {
+                            connectErrors.incrementAndGet();
+                        } else {
+                            vu.session = session;
+                            session.subscribe("/topic/rooms/" + vu.roomId, vu);
+                        }
+                    }));
+        }
+        CompletableFuture.allOf(connecting.toArray(CompletableFuture[]::new))
+                .exceptionally(ex -> null)
+                .get(5, TimeUnit.MINUTES);
+        long connectMillis = (System.nanoTime() - connectStart) / 1_000_000;
+
+        // 3. 시나리오 실행
+        List<VirtualUser> connected = users.stream().filter(vu -> vu.session != null).toList();
+        CountDownLatch done = new CountDownLatch(connected.size());
+        long runStart = System.nanoTime();
+        for (VirtualUser vu : connected) {
+            long jitter = ThreadLocalRandom.current().nextLong(Math.max(1, thinkMs));
+            driver.schedule(() -> vu.step(done), jitter, TimeUnit.MILLISECONDS);
+        }
+        done.await(10, TimeUnit.MINUTES);
+
+        // 4. 남은 에코 대기
+        long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(drainSeconds);
+        while (received.get() < sent.get() && System.nanoTime() < drainDeadline) {
+            Thread.sleep(50);
+        }
+        long runNanos = System.nanoTime() - runStart;
+
+        // 5. 연결 해제 (명시적 프레임 / 프레임 없이 종료)
+        for (VirtualUser vu : connected) {
+            vu.leave();
+        }
+        agentList.forEach(a -> a.session.disconnect());
+
+        Map<String, Object> report = report(connected.size(), connectMillis, runNanos);
+        write(report);
+
+        assertThat((double) report.get("errorRate")).isLessThanOrEqualTo(maxErrorRate);
+    }
+
+    // ===== 가상 클라이언트 =====
+
+    /** 채팅 유저 1명 = 방 1개 */
+    private final class VirtualUser extends StompSessionHandlerAdapter {
+        final int no;
+        final String roomId;
+        final boolean handoff;
+        volatile StompSession session;
+        int seq;
+
+        VirtualUser(int no) {
+            this.no = no;
+            this.roomId = "lt-room-" + no;
+            this.handoff = ThreadLocalRandom.current().nextDouble() < handoffRatio;
+        }
+
+        void step(CountDownLatch done) {
+            try {
+                if (seq == 0 && handoff) {
+                    session.send("/app/support.handoff/" + roomId, Map.of("userId", "null"));
+                    handoffsRequested.incrementAndGet();
+                }
+                if (seq < messages) {
+                    String text = MARK + no + "|" + seq++ + "|" + System.nanoTime();
+                    session.send("/app/support.send/" + roomId, Map.of("type", "TEXT", "role", "USER", "text", text));
+                    sent.incrementAndGet();
+                }
+                if (seq < messages) {
+                    driver.schedule(() -> step(done), thinkMs, TimeUnit.MILLISECONDS);
+                    return;
+                }
+            } catch (Exception e) {
+                transportErrors.incrementAndGet();
+            }
+            done.countDown();
+        }
+
+        void leave() {
+            try {
+                if (ThreadLocalRandom.current().nextDouble() < explicitDisconnectRatio) {
+                    session.send("/app/support.disconnect/" + roomId, Map.of());
+                }
+                session.disconnect();
+            } catch (Exception e) {
+                transportErrors.incrementAndGet();
+            }
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return Map.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            if (!(payload instanceof Map<?, ?> body)) return;
+            Object text = body.get("text");
+            if (text instanceof String s && s.startsWith(MARK)) {
+                long sentAt = Long.parseLong(s.substring(s.lastIndexOf('|') + 1));
+                latency.recordNanos(System.nanoTime() - sentAt);
+                received.incrementAndGet();
+            } else if ("HANDOFF_ACCEPTED".equals(body.get("type"))) {
+                handoffsAccepted.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void handleException(StompSession s, StompCommand command, StompHeaders headers, byte[] payload, Throwable ex) {
+            transportErrors.incrementAndGet();
+        }
+
+        @Override
+        public void handleTransportError(StompSession s, Throwable ex) {
+            transportErrors.incrementAndGet();
+        }
+    }
+
+    /** 상담사: 대기 큐의 핸드오프 요청을 수락 (방 해시로 담당 상담사 1명만 수락) */
+    private final class Agent extends StompSessionHandlerAdapter {
+        final int no;
+        volatile StompSession session;
+
+        Agent(int no) {
+            this.no = no;
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return Map.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            queueFrames.incrementAndGet();
+            if (!(payload instanceof Map<?, ?> body)) return;
+            if ("QUEUE_DELTA".equals(body.get("event")) && body.get("upserts") instanceof List<?> upserts) {
+                for (Object o : upserts) {
+                    if (o instanceof Map<?, ?> room && room.get("roomId") != null
+                            && Math.floorMod(room.get("roomId").hashCode(), agents) == no) {
+                        session.send("/app/support.handoff.accept", Map.of("roomId", room.get("roomId")));
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void handleTransportError(StompSession s, Throwable ex) {
+            transportErrors.incrementAndGet();
+        }
+    }
+
+    // ===== 리포트 =====
+
+    private Map<String, Object> report(int connectedClients, long connectMillis, long runNanos) {
+        double seconds = runNanos / 1e9;
+        long sentCount = sent.get();
+        long receivedCount = Math.min(received.get(), sentCount);
+        long lost = sentCount - receivedCount;
+        int errors = connectErrors.get() + transportErrors.get();
+        long attempts = sentCount + clients;
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("clients", clients);
+        config.put("agents", agents);
+        config.put("messagesPerClient", messages);
+        config.put("thinkMs", thinkMs);
+        config.put("handoffRatio", handoffRatio);
+        config.put("explicitDisconnectRatio", explicitDisconnectRatio);
+
+        Map<String, Object> latencyMs = new LinkedHashMap<>();
+        latencyMs.put("p50", latency.percentileMicros(0.50) / 1000.0);
+        latencyMs.put("p90", latency.percentileMicros(0.90) / 1000.0);
+        latencyMs.put("p99", latency.percentileMicros(0.99) / 1000.0);
+        latencyMs.put("p999", latency.percentileMicros(0.999) / 1000.0);
+        latencyMs.put("max", latency.maxMicros() / 1000.0);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("label", System.getProperty("loadtest.label", "local"));
+        report.put("timestamp", Instant.now().toString());
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("config", config);
+        report.put("connectedClients", connectedClients);
+        report.put("connectMillis", connectMillis);
+        report.put("durationSeconds", seconds);
+        report.put("sent", sentCount);
+        report.put("received", receivedCount);
+        report.put("lost", lost);
+        report.put("throughputPerSecond", seconds > 0 ? receivedCount / seconds : 0);
+        report.put("latencyMs", latencyMs);
+        report.put("handoffsRequested", handoffsRequested.get());
+        report.put("handoffsAccepted", handoffsAccepted.get());
+        report.put("queueFrames", queueFrames.get());
+        report.put("connectErrors", connectErrors.get());
+        report.put("transportErrors", transportErrors.get());
+        report.put("errorRate", attempts > 0 ? (double) (errors + lost) / attempts : 0.0);
+        return report;
+    }
+
+    private void write(Map<String, Object> report) throws Exception {
+        File dir = new File(System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+        dir.mkdirs();
+        ObjectMapper om = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        om.writeValue(new File(dir, "chat-load.json"), report);
+        om.writeValue(new File(dir, "chat-load-" + System.currentTimeMillis() + ".json"), report);
+        System.out.println("📊 부하 테스트 결과: " + om.writeValueAsString(report));
+    }
+}
@@ -0,0 +1,158 @@
+package com.we.hirehub.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.we.hirehub.dto.chat.LiveChatDto;
+import com.we.hirehub.ws.FrameCodec;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * STOMP 프레임 코덱 벤치마크 (JSON vs CBOR vs Smile)
+ * - 실제 브로드캐스트와 같은 모양의 프레임: 채팅 메시지, 핸드오프 알림, 프레즌스 변경분
+ * - 코덱별 프레임 크기(바이트)와 1회 직렬화 평균 ns, 왕복(역직렬화) 일치 확인
+ * - 결과는 build/reports/loadtest/frame-codec-bench.json
+ *
+ * 실행: ./gradlew loadTest --tests '*FrameCodecBenchmark'
+ */
+class FrameCodecBenchmark {
+
+    private final int warmup = Integer.getInteger("loadtest.bench-warmup", 200_000);
+    private final int iterations = Integer.getInteger("loadtest.bench-iterations", 1_000_000);
+
+    @Test
+    void sizeAndCost() throws Exception {
+        ObjectMapper json = new ObjectMapper().registerModule(new JavaTimeModule());
+        Map<FrameCodec, ObjectMapper> mappers = new LinkedHashMap<>();
+        mappers.put(FrameCodec.JSON, json);
+        mappers.put(FrameCodec.CBOR, json.copyWith(new CBORFactory()));
+        mappers.put(FrameCodec.SMILE, json.copyWith(new SmileFactory()));
+
+        Map<String, Object> frames = new LinkedHashMap<>();
+        frames.put("chat", chatFrame());
+        frames.put("chatDto", chatDto());
+        frames.put("handoff", handoffFrame());
+        frames.put("presence", presenceFrame());
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> f : frames.entrySet()) {
+            Map<String, Object> perCodec = new LinkedHashMap<>();
+            int jsonSize = json.writeValueAsBytes(f.getValue()).length;
+            for (Map.Entry<FrameCodec, ObjectMapper> m : mappers.entrySet()) {
+                byte[] encoded = m.getValue().writeValueAsBytes(f.getValue());
+                // 왕복 확인 (같은 트리로 복원)
+                assertThat(m.getValue().readTree(encoded)).isEqualTo(json.readTree(json.writeValueAsBytes(f.getValue())));
+
+                run(m.getValue(), f.getValue(), warmup);
+                long started = System.nanoTime();
+                long sink = run(m.getValue(), f.getValue(), iterations);
+                long elapsed = System.nanoTime() - started;
+
+                Map<String, Object> r = new LinkedHashMap<>();
+                r.put("bytes", encoded.length);
+                r.put("ratioToJson", (double) encoded.length / jsonSize);
+                r.put("encodeNs", (double) elapsed / iterations);
+                r.put("sink", sink);
+                perCodec.put(m.getKey().id(), r);
+
+                if (m.getKey().binary()) {
+                    assertThat(encoded.length).as(f.getKey() + "/" + m.getKey().id()).isLessThan(jsonSize);
+                }
+            }
+            results.put(f.getKey(), perCodec);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("label", System.getProperty("loadtest.label", "local"));
+        report.put("timestamp", Instant.now().toString());
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("iterations", iterations);
+        report.put("frames", results);
+        write(report);
+    }
+
+    private static long run(ObjectMapper mapper, Object frame, int n) throws Exception {
+        long bytes = 0;
+        for (int i = 0; i < n; i++) {
+            bytes += mapper.writeValueAsBytes(frame).length;
+        }
+        return bytes;
+    }
+
+    private static Map<String, Object> chatFrame() {
+        Map<String, Object> echo = new HashMap<>();
+        echo.put("id", 1_284_533L);
+        echo.put("type", "CHAT");
+        echo.put("role", "AGENT");
+        echo.put("text", "안녕하세요, 상담사 김하나입니다. 이력서 첨부 파일 문제는 확인 후 바로 안내드릴게요.");
+        echo.put("userId", 4821L);
+        echo.put("nickname", "상담사하나");
+        echo.put("seq", 57L);
+        return echo;
+    }
+
+    private static LiveChatDto chatDto() {
+        return LiveChatDto.builder()
+                .id(1_284_534L)
+                .content("지원한 공고 상태가 계속 검토중으로 나와요")
+                .createAt(LocalDateTime.of(2025, 3, 14, 9, 30, 12))
+                .sessionId("c0a8012e-8f3d-4a6b-9c1e-2f7d5b9a1e44")
+                .userId(10293L)
+                .nickname("취준생")
+                .seq(58L)
+                .build();
+    }
+
+    private static Map<String, Object> handoffFrame() {
+        Map<String, Object> ack = new HashMap<>();
+        ack.put("type", "HANDOFF_REQUESTED");
+        ack.put("seq", 12L);
+        return ack;
+    }
+
+    private static Map<String, Object> presenceFrame() {
+        List<Map<String, Object>> rooms = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Map<String, Object> r = new HashMap<>();
+            r.put("roomId", "c0a8012e-8f3d-4a6b-9c1e-2f7d5b9a1e" + (10 + i));
+            r.put("userOnline", i % 2 == 0);
+            r.put("agentOnline", i % 3 == 0);
+            rooms.add(r);
+        }
+        List<Map<String, Object>> agents = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> a = new HashMap<>();
+            a.put("agent", "agent" + i + "@hirehub.com");
+            a.put("online", i != 1);
+            agents.add(a);
+        }
+        Map<String, Object> frame = new HashMap<>();
+        frame.put("event", "PRESENCE_DELTA");
+        frame.put("rooms", rooms);
+        frame.put("agents", agents);
+        frame.put("agentsOnline", 2);
+        frame.put("node", "node-a");
+        return frame;
+    }
+
+    private static void write(Map<String, Object> report) throws Exception {
+        File dir = new File(System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+        dir.mkdirs();
+        ObjectMapper om = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        om.writeValue(new File(dir, "frame-codec-bench.json"), report);
+        System.out.println("📊 프레임 코덱 벤치마크: " + om.writeValueAsString(report));
+    }
+}
@@ -0,0 +1,98 @@
+package com.we.hirehub.loadtest;
+
+import com.we.hirehub.config.JwtTokenProvider;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.security.Key;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JWT 검증 요청당 비용 (JMH)
+ * - legacyThreeParses: 변경 전 필터 (validate + getUserId + getUsername, 매번 새 파서로 서명 검증 3번)
+ * - singleParse: 캐시 미스 (재사용 파서로 1번)
+ * - cachedVerify: 같은 토큰 재요청 (해시 → 캐시 조회)
+ * - 결과는 build/reports/loadtest/jwt-verify-bench.json (JMH JSON)
+ *
+ * 실행: ./gradlew loadTest --tests '*JwtVerifyBenchmark'
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtVerifyBenchmark {
+
+    private static final String SECRET = "loadtest-jwt-secret-0123456789-abcdefghijklmnop";
+
+    private Key key;
+    private JwtParser parser;
+    private JwtTokenProvider provider;
+    private String token;
+
+    @Setup
+    public void setup() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        parser = Jwts.parserBuilder().setSigningKey(key).build();
+        provider = new JwtTokenProvider(SECRET, 10_000, 900);
+        token = provider.createToken("bench-user@hirehub.com", 4821L);
+        provider.verify(token);
+    }
+
+    @Benchmark
+    public Object legacyThreeParses() {
+        boolean valid = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token) != null;
+        Object id = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().get("id");
+        String email = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
+        return valid ? email + id : null;
+    }
+
+    @Benchmark
+    public Object singleParse() {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Object cachedVerify() {
+        return provider.verify(token);
+    }
+
+    @Test
+    void perRequestCost() throws Exception {
+        File dir = new File(System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+        dir.mkdirs();
+        Options options = new OptionsBuilder()
+                .include(JwtVerifyBenchmark.class.getName() + "\\.")
+                .forks(Integer.getInteger("loadtest.jmh-forks", 1))
+                .warmupIterations(Integer.getInteger("loadtest.jmh-warmup", 3))
+                .warmupTime(org.openjdk.jmh.runner.options.TimeValue.seconds(1))
+                .measurementIterations(Integer.getInteger("loadtest.jmh-iterations", 5))
+                .measurementTime(org.openjdk.jmh.runner.options.TimeValue.seconds(1))
+                .resultFormat(ResultFormatType.JSON)
+                .result(new File(dir, "jwt-verify-bench.json").getAbsolutePath())
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        Map<String, Double> nsPerOp = new HashMap<>();
+        for (RunResult r : results) {
+            String label = r.getParams().getBenchmark();
+            nsPerOp.put(label.substring(label.lastIndexOf('.') + 1), r.getPrimaryResult().getScore());
+        }
+        System.out.println("📊 JWT 검증 벤치마크 (ns/op): " + nsPerOp);
+
+        assertThat(nsPerOp.get("singleParse")).isLessThan(nsPerOp.get("legacyThreeParses"));
+        assertThat(nsPerOp.get("cachedVerify")).isLessThan(nsPerOp.get("singleParse"));
+    }
+}
@@ -0,0 +1,63 @@
+package com.we.hirehub.loadtest;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 지연시간 히스토그램 (마이크로초 단위, 로그-선형 버킷 → 상대오차 약 3%)
+ * - 여러 스레드에서 동시에 record() 해도 락 없이 누적
+ * - 전체 샘플을 들고 있지 않으므로 클라이언트 수가 늘어도 메모리 고정
+ */
+class LatencyRecorder {
+
+    private static final int SUB = 64;          // 지수 구간당 버킷 수 (앞 32개는 정확값)
+    private static final int HALF = SUB / 2;
+    private static final int BUCKETS = SUB + 58 * HALF;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    void recordNanos(long nanos) {
+        long us = Math.max(0, nanos / 1000);
+        counts.incrementAndGet(index(us));
+        total.incrementAndGet();
+        max.accumulateAndGet(us, Math::max);
+    }
+
+    long count() {
+        return total.get();
+    }
+
+    long maxMicros() {
+        return max.get();
+    }
+
+    /** q (0~1) 분위수 (마이크로초, 버킷 하한값) */
+    long percentileMicros(double q) {
+        long n = total.get();
+        if (n == 0) return 0;
+        long rank = (long) Math.ceil(q * n);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) return lowerBound(i);
+        }
+        return max.get();
+    }
+
+    private static int index(long us) {
+        if (us < SUB) return (int) us;
+        int shift = 63 - Long.numberOfLeadingZeros(us) - 5; // 유효 6비트만 남김 → 가수 [32, 63]
+        int idx = SUB + (shift - 1) * HALF + (int) ((us >>> shift) - HALF);
+        return Math.min(idx, BUCKETS - 1);
+    }
+
+    private static long lowerBound(int idx) {
+        if (idx < SUB) return idx;
+        int k = idx - SUB;
+        int shift = k / HALF + 1;
+        long mantissa = k % HALF + HALF;
+        return mantissa << shift;
+    }
+}
@@ -0,0 +1,137 @@
+package com.we.hirehub.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.we.hirehub.moderation.BannedWordMatcher;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 금칙어 매처 마이크로 벤치마크
+ * - 실제 금칙어 목록(classpath:moderation/banned-words.txt)으로 컴파일
+ * - 일반적인 상담 채팅 길이의 메시지를 반복 스캔 → 메시지당 평균 ns, 스레드 할당 바이트 측정
+ * - 결과는 build/reports/loadtest/moderation-bench.json
+ *
+ * 실행: ./gradlew loadTest --tests '*ModerationFilterBenchmark' -Ploadtest.bench-max-ns=1000
+ */
+class ModerationFilterBenchmark {
+
+    private final int warmup = Integer.getInteger("loadtest.bench-warmup", 200_000);
+    private final int iterations = Integer.getInteger("loadtest.bench-iterations", 2_000_000);
+    private final long maxNanosPerMessage = Long.getLong("loadtest.bench-max-ns", 1_000);
+
+    private static final String[] CLEAN = {
+            "안녕하세요, 이력서 첨부 파일이 업로드가 안 되는데 확인 부탁드립니다.",
+            "지원한 공고 상태가 계속 검토중으로 나와요",
+            "회원 탈퇴는 어디서 하나요?",
+            "Hello, I can't log in with my Kakao account since yesterday.",
+            "네 감사합니다! 좋은 하루 보내세요 :)",
+            "자기소개서 글자 수 제한이 몇 자인가요? 2000자 넘으면 저장이 안 되네요",
+            "기업 회원으로 전환하려면 사업자 등록증이 꼭 필요한가요",
+            "ㅋㅋㅋ 알겠습니다 다시 해볼게요",
+    };
+
+    private static final String[] DIRTY = {
+            "아 진짜 시발 왜 또 안돼",
+            "씨ㅂㅏㄹ 이거 언제 고쳐요",
+            "개.새.끼 들아 답변 좀",
+            "This is SHIT service",
+    };
+
+    @Test
+    void scanCost() throws Exception {
+        BannedWordMatcher matcher = BannedWordMatcher.compile(loadWords());
+
+        for (String dirty : DIRTY) {
+            assertThat(matcher.matches(dirty)).as(dirty).isTrue();
+        }
+        for (String clean : CLEAN) {
+            assertThat(matcher.matches(clean)).as(clean).isFalse();
+            assertThat(matcher.mask(clean, '*')).isSameAs(clean);
+        }
+
+        // 워밍업 (JIT)
+        long sink = run(matcher, warmup);
+
+        com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long tid = Thread.currentThread().getId();
+
+        long allocBefore = mx.getThreadAllocatedBytes(tid);
+        long started = System.nanoTime();
+        sink += run(matcher, iterations);
+        long elapsed = System.nanoTime() - started;
+        long allocated = mx.getThreadAllocatedBytes(tid) - allocBefore;
+
+        // 가림 처리 (금칙어 포함 메시지만 결과 문자열 할당)
+        long maskStarted = System.nanoTime();
+        int maskIterations = iterations / 10;
+        for (int i = 0; i < maskIterations; i++) {
+            sink += matcher.mask(DIRTY[i % DIRTY.length], '*').length();
+        }
+        long maskElapsed = System.nanoTime() - maskStarted;
+
+        int totalChars = 0;
+        for (String s : CLEAN) totalChars += s.length();
+
+        double nsPerMessage = (double) elapsed / iterations;
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("label", System.getProperty("loadtest.label", "local"));
+        report.put("timestamp", Instant.now().toString());
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("patterns", matcher.size());
+        report.put("iterations", iterations);
+        report.put("avgMessageChars", totalChars / CLEAN.length);
+        report.put("scanNsPerMessage", nsPerMessage);
+        report.put("maskNsPerDirtyMessage", (double) maskElapsed / maskIterations);
+        report.put("scanAllocatedBytes", allocated);
+        report.put("sink", sink);
+        write(report);
+
+        assertThat(nsPerMessage).isLessThan(maxNanosPerMessage);
+        // 측정 도구 자체의 소량 할당만 허용
+        assertThat(allocated).isLessThan(4_096);
+    }
+
+    private static long run(BannedWordMatcher matcher, int n) {
+        long hits = 0;
+        for (int i = 0; i < n; i++) {
+            String msg = CLEAN[i % CLEAN.length];
+            if (matcher.matches(msg)) hits++;
+            if (matcher.mask(msg, '*') != msg) hits++;
+        }
+        return hits;
+    }
+
+    private static List<String> loadWords() throws Exception {
+        List<String> words = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                ModerationFilterBenchmark.class.getResourceAsStream("/moderation/banned-words.txt"), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String word = line.strip();
+                if (!word.isEmpty() && !word.startsWith("#")) words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static void write(Map<String, Object> report) throws Exception {
+        File dir = new File(System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+        dir.mkdirs();
+        ObjectMapper om = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        om.writeValue(new File(dir, "moderation-bench.json"), report);
+        System.out.println("📊 금칙어 매처 벤치마크: " + om.writeValueAsString(report));
+    }
+}
@@ -0,0 +1,217 @@
+package com.we.hirehub.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카카오/네이버 소셜 로그인 부하 테스트 (오프라인)
+ * - OAuthStubServer를 제공자 엔드포인트로 연결하고 /kakao/callback, /api/auth/naver/callback 을 동시에 호출
+ * - 콜백 1번 = 토큰 교환 + 사용자 조회 (외부 2회) + 가입/조회 + JWT/리프레시 토큰 발급
+ * - 302 + token= 리다이렉트면 성공, 503(벌크헤드)/504(타임아웃)는 따로 집계
+ * - 결과는 build/reports/loadtest/oauth-login.json
+ *
+ * 실행: ./gradlew loadTest --tests '*OAuthLoginLoadTest' -Ploadtest.oauth.logins=5000 -Ploadtest.oauth.latency-ms=200
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+class OAuthLoginLoadTest {
+
+    private static final long STUB_LATENCY_MS = Long.getLong("loadtest.oauth.latency-ms", 50);
+    private static OAuthStubServer stub;
+
+    private final int logins = Integer.getInteger("loadtest.oauth.logins", 2000);
+    private final int concurrency = Integer.getInteger("loadtest.oauth.concurrency", 64);
+    private final double returningRatio = Double.parseDouble(System.getProperty("loadtest.oauth.returning-ratio", "0.5"));
+    private final double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.05"));
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private final LatencyRecorder kakaoLatency = new LatencyRecorder();
+    private final LatencyRecorder naverLatency = new LatencyRecorder();
+    private final AtomicInteger ok = new AtomicInteger();
+    private final AtomicInteger rejected = new AtomicInteger();
+    private final AtomicInteger timeouts = new AtomicInteger();
+    private final AtomicInteger errors = new AtomicInteger();
+
+    @DynamicPropertySource
+    static void stubProperties(DynamicPropertyRegistry registry) throws Exception {
+        stub = new OAuthStubServer(STUB_LATENCY_MS, 256);
+        String base = stub.baseUrl();
+        for (String provider : new String[]{"kakao", "naver"}) {
+            registry.add(provider + ".oauth.client-id", () -> "loadtest");
+            registry.add(provider + ".oauth.client-secret", () -> "loadtest");
+            registry.add(provider + ".oauth.redirect-uri", () -> "http://localhost/" + provider + "/callback");
+            registry.add(provider + ".oauth.front-redirect-url", () -> "http://localhost/auth/callback");
+        }
+        registry.add("kakao.oauth.token-uri", () -> base + "/kakao/oauth/token");
+        registry.add("kakao.oauth.user-info-uri", () -> base + "/kakao/v2/user/me");
+        registry.add("naver.oauth.token-uri", () -> base + "/naver/oauth2.0/token");
+        registry.add("naver.oauth.user-info-uri", () -> base + "/naver/v1/nid/me");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        if (stub != null) stub.close();
+    }
+
+    @Test
+    void oauthLoginLoad() throws Exception {
+        ExecutorService io = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        HttpClient http = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(io)
+                .build();
+
+        Semaphore gate = new Semaphore(concurrency);
+        CountDownLatch done = new CountDownLatch(logins);
+        long start = System.nanoTime();
+        for (int i = 0; i < logins; i++) {
+            boolean kakao = (i & 1) == 0;
+            // 일부는 이미 가입한 사용자로 재로그인
+            int userNo = i > 0 && ThreadLocalRandom.current().nextDouble() < returningRatio
+                    ? ThreadLocalRandom.current().nextInt(i) : i;
+            String path = kakao ? "/kakao/callback" : "/api/auth/naver/callback";
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path + "?code=lt" + userNo))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+            LatencyRecorder latency = kakao ? kakaoLatency : naverLatency;
+
+            gate.acquire();
+            long sentAt = System.nanoTime();
+            http.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((res, ex) -> {
+                        latency.recordNanos(System.nanoTime() - sentAt);
+                        classify(res, ex);
+                        gate.release();
+                        done.countDown();
+                    });
+        }
+        done.await(10, TimeUnit.MINUTES);
+        long runNanos = System.nanoTime() - start;
+        io.shutdownNow();
+
+        Map<String, Object> report = report(runNanos);
+        write(report);
+
+        assertThat((double) report.get("errorRate")).isLessThanOrEqualTo(maxErrorRate);
+    }
+
+    private void classify(HttpResponse<Void> res, Throwable ex) {
+        if (ex != null) {
+            errors.incrementAndGet();
+            return;
+        }
+        int status = res.statusCode();
+        String location = res.headers().firstValue("Location").orElse("");
+        if (status == 302 && location.contains("token=")) ok.incrementAndGet();
+        else if (status == 503) rejected.incrementAndGet();
+        else if (status == 504) timeouts.incrementAndGet();
+        else errors.incrementAndGet();
+    }
+
+    // ===== 리포트 =====
+
+    private Map<String, Object> report(long runNanos) {
+        double seconds = runNanos / 1e9;
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("logins", logins);
+        config.put("concurrency", concurrency);
+        config.put("returningRatio", returningRatio);
+        config.put("stubLatencyMs", STUB_LATENCY_MS);
+
+        Map<String, Object> latencyMs = new LinkedHashMap<>();
+        latencyMs.put("kakao", percentiles(kakaoLatency));
+        latencyMs.put("naver", percentiles(naverLatency));
+
+        // 서버 쪽 외부 호출 메트릭 (OutboundHttpClients)
+        Map<String, Object> outbound = new LinkedHashMap<>();
+        for (String provider : new String[]{"kakao", "naver"}) {
+            Map<String, Object> m = new LinkedHashMap<>();
+            long calls = 0;
+            double totalMs = 0, maxMs = 0;
+            for (Timer t : meterRegistry.find("outbound.http").tag("provider", provider).timers()) {
+                calls += t.count();
+                totalMs += t.totalTime(TimeUnit.MILLISECONDS);
+                maxMs = Math.max(maxMs, t.max(TimeUnit.MILLISECONDS));
+            }
+            m.put("calls", calls);
+            m.put("meanMs", calls > 0 ? totalMs / calls : 0);
+            m.put("maxMs", maxMs);
+            var rejectedCounter = meterRegistry.find("outbound.http.rejected").tag("provider", provider).counter();
+            m.put("bulkheadRejected", rejectedCounter != null ? (long) rejectedCounter.count() : 0);
+            outbound.put(provider, m);
+        }
+
+        int failed = errors.get() + timeouts.get() + rejected.get();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("label", System.getProperty("loadtest.label", "local"));
+        report.put("timestamp", Instant.now().toString());
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("config", config);
+        report.put("durationSeconds", seconds);
+        report.put("ok", ok.get());
+        report.put("rejected", rejected.get());
+        report.put("timeouts", timeouts.get());
+        report.put("errors", errors.get());
+        report.put("throughputPerSecond", seconds > 0 ? ok.get() / seconds : 0);
+        report.put("latencyMs", latencyMs);
+        report.put("outbound", outbound);
+        report.put("stubRequests", stub.requests());
+        report.put("errorRate", logins > 0 ? (double) failed / logins : 0.0);
+        return report;
+    }
+
+    private static Map<String, Object> percentiles(LatencyRecorder latency) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("p50", latency.percentileMicros(0.50) / 1000.0);
+        m.put("p90", latency.percentileMicros(0.90) / 1000.0);
+        m.put("p99", latency.percentileMicros(0.99) / 1000.0);
+        m.put("max", latency.maxMicros() / 1000.0);
+        return m;
+    }
+
+    private void write(Map<String, Object> report) throws Exception {
+        File dir = new File(System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+        dir.mkdirs();
+        ObjectMapper om = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        om.writeValue(new File(dir, "oauth-login.json"), report);
+        om.writeValue(new File(dir, "oauth-login-" + System.currentTimeMillis() + ".json"), report);
+        System.out.println("📊 소셜 로그인 부하 테스트 결과: " + om.writeValueAsString(report));
+    }
+}
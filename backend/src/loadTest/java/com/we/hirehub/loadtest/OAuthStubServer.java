@@ -0,0 +1,98 @@
+package com.we.hirehub.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카카오/네이버 OAuth 스텁 서버 (JDK 내장 HttpServer, 외부 의존성 없음)
+ * - 토큰 교환: code → "stub-{code}" 액세스 토큰
+ * - 사용자 조회: 토큰의 code로 고정 사용자 (같은 code = 같은 사용자 → 재로그인 시나리오)
+ * - 모든 응답 전에 latency-ms 만큼 지연 (느린 제공자 재현)
+ *
+ *   POST /kakao/oauth/token, GET /kakao/v2/user/me
+ *   POST /naver/oauth2.0/token, GET /naver/v1/nid/me
+ */
+final class OAuthStubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService workers;
+    private final long latencyMs;
+    private final AtomicLong requests = new AtomicLong();
+
+    OAuthStubServer(long latencyMs, int threads) throws IOException {
+        this.latencyMs = latencyMs;
+        this.workers = Executors.newFixedThreadPool(threads);
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.setExecutor(workers);
+        server.createContext("/kakao/oauth/token", this::token);
+        server.createContext("/naver/oauth2.0/token", this::token);
+        server.createContext("/kakao/v2/user/me", ex -> {
+            String code = code(ex);
+            respond(ex, 200, "{\"id\":" + Math.abs((long) code.hashCode())
+                    + ",\"kakao_account\":{\"email\":\"" + code + "@kakao.stub\",\"profile\":{\"nickname\":\"" + code + "\"}}}");
+        });
+        server.createContext("/naver/v1/nid/me", ex -> {
+            String code = code(ex);
+            respond(ex, 200, "{\"resultcode\":\"00\",\"message\":\"success\",\"response\":{\"id\":\"" + code
+                    + "\",\"email\":\"" + code + "@naver.stub\",\"name\":\"" + code + "\"}}");
+        });
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    long requests() {
+        return requests.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        workers.shutdownNow();
+    }
+
+    // ===== 핸들러 =====
+
+    private void token(HttpExchange ex) throws IOException {
+        String form = new String(ex.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        String code = "unknown";
+        for (String pair : form.split("&")) {
+            if (pair.startsWith("code=")) code = URLDecoder.decode(pair.substring(5), StandardCharsets.UTF_8);
+        }
+        respond(ex, 200, "{\"access_token\":\"stub-" + code + "\",\"token_type\":\"bearer\",\"expires_in\":3600}");
+    }
+
+    /** Authorization: Bearer stub-{code} → code */
+    private static String code(HttpExchange ex) {
+        String auth = ex.getRequestHeaders().getFirst("Authorization");
+        return auth != null && auth.startsWith("Bearer stub-") ? auth.substring("Bearer stub-".length()) : "unknown";
+    }
+
+    private void respond(HttpExchange ex, int status, String json) throws IOException {
+        requests.incrementAndGet();
+        if (latencyMs > 0) {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        ex.sendResponseHeaders(status, body.length);
+        try (OutputStream out = ex.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
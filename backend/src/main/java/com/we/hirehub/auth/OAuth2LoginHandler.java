@@ -4,12 +4,14 @@ package com.we.hirehub.auth;
 import com.we.hirehub.config.JwtTokenProvider;
 import com.we.hirehub.entity.Users;
 import com.we.hirehub.repository.UsersRepository;
+import com.we.hirehub.service.RefreshTokenService;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.oauth2.core.user.OAuth2User;
@@ -28,6 +30,7 @@ public class OAuth2LoginHandler implements AuthenticationSuccessHandler, Authent
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UsersRepository usersRepository;
+    private final RefreshTokenService refreshTokenService;
 
     @Value("${app.front.base-url}")
     private String frontendUrl;
@@ -89,6 +92,9 @@ public class OAuth2LoginHandler implements AuthenticationSuccessHandler, Authent
                     + "&isNewUser=" + isNewUser
                     + "&email=" + URLEncoder.encode(email, StandardCharsets.UTF_8);
 
+            // 리프레시 토큰은 URL에 싣지 않고 HttpOnly 쿠키로
+            response.addHeader(HttpHeaders.SET_COOKIE, refreshTokenService.cookie(refreshTokenService.issue(user.getId())).toString());
+
             log.info("프론트 콜백으로 리다이렉트: {}", callbackUrl);
             response.sendRedirect(callbackUrl);
 
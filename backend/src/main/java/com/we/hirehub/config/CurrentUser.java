@@ -0,0 +1,29 @@
+package com.we.hirehub.config;
+
+import com.we.hirehub.entity.Role;
+import com.we.hirehub.entity.Users;
+
+/**
+ * 컨트롤러 파라미터로 주입되는 현재 로그인 사용자 요약 (CurrentUserArgumentResolver)
+ * - JWT의 userId + UserSummaryCache에 잠깐 보관한 기본 정보
+ */
+public record CurrentUser(Long id, String email, String name, String nickname, Role role) {
+
+    public static CurrentUser of(Users user) {
+        return new CurrentUser(user.getId(), user.getEmail(), user.getName(), user.getNickname(), user.getRole());
+    }
+
+    /**
+     * 연관관계(FK) 연결용 Users (DB 조회 없음)
+     * - id와 요약 필드만 채운 detached 엔티티라 저장/수정 대상으로 쓰면 안 됨
+     */
+    public Users toUserRef() {
+        return Users.builder()
+                .id(id)
+                .email(email)
+                .name(name)
+                .nickname(nickname)
+                .role(role)
+                .build();
+    }
+}
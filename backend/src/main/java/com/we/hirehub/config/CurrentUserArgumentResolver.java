@@ -0,0 +1,48 @@
+package com.we.hirehub.config;
+
+import com.we.hirehub.service.UserSummaryCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * CurrentUser 파라미터 주입
+ * - JwtAuthenticationFilter가 넣어 둔 JwtUserPrincipal에서 userId를 바로 꺼냄 (리플렉션 없음)
+ * - 사용자 요약은 UserSummaryCache에서 (TTL 동안 DB 조회 없음)
+ * - 비로그인: @Nullable 파라미터면 null, 아니면 401
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final UserSummaryCache userSummaryCache;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.getParameterType() == CurrentUser.class;
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest,
+                                  WebDataBinderFactory binderFactory) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        CurrentUser user = null;
+        if (auth != null && auth.getPrincipal() instanceof JwtUserPrincipal principal && principal.getUserId() != null) {
+            user = userSummaryCache.get(principal.getUserId());
+        }
+        if (user == null && !parameter.isOptional()) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
+        }
+        return user;
+    }
+}
@@ -20,9 +20,11 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
+    private final TokenDenylist tokenDenylist;
 
-    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider) {
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, TokenDenylist tokenDenylist) {
         this.tokenProvider = tokenProvider;
+        this.tokenDenylist = tokenDenylist;
     }
 
     @Override
@@ -64,9 +66,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         log.debug("🪙 추출된 토큰: {}", token.substring(0, Math.min(15, token.length())) + "...");
 
         try {
-            if (StringUtils.hasText(token) && tokenProvider.validate(token)) {
-                Long userId = tokenProvider.getUserId(token);
-                String email = tokenProvider.getUsername(token);
+            // 서명 검증 1번 (같은 토큰 재요청은 캐시)
+            JwtTokenProvider.VerifiedClaims claims = StringUtils.hasText(token) ? tokenProvider.verify(token) : null;
+            if (claims != null && tokenDenylist.isRevoked(claims)) {
+                log.debug("⛔ 폐기된 토큰: userId={}", claims.userId());
+            } else if (claims != null) {
+                Long userId = claims.userId();
+                String email = claims.email();
 
                 List<GrantedAuthority> authorities =
                         Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
@@ -2,34 +2,63 @@ package com.we.hirehub.config;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * JWT 발급/검증
+ * - 파서는 한 번만 만들어 재사용 (스레드 안전)
+ * - verify(): 서명 검증 1번으로 id/email/만료를 한꺼번에 꺼냄
+ * - 검증 결과는 토큰 해시(SHA-256 앞 128비트) 키로 토큰 만료 시각까지만 캐시 (원본 토큰 문자열은 보관하지 않음)
+ * - 액세스 토큰은 짧게(app.jwt.access-expire-seconds) 발급, 연장은 RefreshTokenService, 폐기 확인은 TokenDenylist
+ */
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
-    @Value("${app.jwt.secret}")
-    private String secretKey;
+    private final Key key;
+    private final JwtParser parser;
+    private final int cacheSize;
+    private final long accessTtlMillis;
+    private final Map<TokenDigest, VerifiedClaims> verified = new ConcurrentHashMap<>();
 
-    private Key key;
-
-    @PostConstruct
-    public void init() {
+    public JwtTokenProvider(@Value("${app.jwt.secret}") String secretKey,
+                            @Value("${app.jwt.cache-size:10000}") int cacheSize,
+                            @Value("${app.jwt.access-expire-seconds:900}") long accessExpireSeconds) {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.cacheSize = cacheSize;
+        this.accessTtlMillis = accessExpireSeconds * 1000L;
     }
 
+    /**
+     * 검증이 끝난 토큰 내용
+     * @param issuedAt  발급 시각 (ms, 초 단위 절삭)
+     * @param expiresAt 만료 시각 (ms)
+     */
+    public record VerifiedClaims(Long userId, String email, String jti, long issuedAt, long expiresAt) {}
+
+    private record TokenDigest(long hi, long lo) {}
+
     // ✅ 토큰 생성 (로그인/소셜 통합용)
     public String createToken(String email, Long userId) {
         Date now = new Date();
-        Date expiry = new Date(now.getTime() + (1000L * 60 * 60 * 24)); // 24시간
+        Date expiry = new Date(now.getTime() + accessTtlMillis);
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(email)
                 .claim("id", userId)
                 .setIssuedAt(now)
@@ -38,45 +67,96 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    // ✅ 토큰 유효성 검사
-    public boolean validate(String token) {
-        try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            log.warn("❌ JWT 검증 실패: {}", e.getMessage());
-            return false;
-        }
+    /** 액세스 토큰 수명 (ms) */
+    public long accessTtlMillis() {
+        return accessTtlMillis;
     }
 
-    public Long getUserId(String token) {
-        try {
-            Claims claims = Jwts.parserBuilder().setSigningKey(key).build()
-                    .parseClaimsJws(token).getBody();
-            Object idObj = claims.get("id");
-            if (idObj instanceof Integer i) return i.longValue();
-            if (idObj instanceof Long l) return l;
-            if (idObj instanceof String s) return Long.parseLong(s);
-            return null;
-        } catch (Exception e) {
-            log.error("❌ getUserId 실패: {}", e.getMessage());
+    /**
+     * 토큰 검증 (캐시 → 없으면 1회 파싱)
+     * @return 유효하지 않거나 만료된 토큰이면 null
+     */
+    public VerifiedClaims verify(String token) {
+        if (token == null || token.isEmpty()) return null;
+        TokenDigest digest = digest(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedClaims cached = verified.get(digest);
+        if (cached != null) {
+            if (cached.expiresAt() > now) return cached;
+            verified.remove(digest);
             return null;
         }
+
+        VerifiedClaims claims = parse(token);
+        if (claims != null) {
+            if (verified.size() >= cacheSize) evict(now);
+            verified.put(digest, claims);
+        }
+        return claims;
     }
 
+    // ✅ 토큰 유효성 검사
+    public boolean validate(String token) {
+        return verify(token) != null;
+    }
+
+    public Long getUserId(String token) {
+        VerifiedClaims claims = verify(token);
+        return claims != null ? claims.userId() : null;
+    }
 
     // ✅ 이메일(Subject) 가져오기
     public String getUsername(String token) {
+        VerifiedClaims claims = verify(token);
+        return claims != null ? claims.email() : null;
+    }
+
+    public String getEmail(String token) {
+        return getUsername(token);
+    }
+
+    // ===== Private Helper Methods =====
+
+    private VerifiedClaims parse(String token) {
         try {
-            Claims claims = Jwts.parserBuilder().setSigningKey(key).build()
-                    .parseClaimsJws(token).getBody();
-            return claims.getSubject();
-        } catch (Exception e) {
-            log.error("❌ getUsername 실패: {}", e.getMessage());
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            Date iat = claims.getIssuedAt();
+            Date exp = claims.getExpiration();
+            return new VerifiedClaims(toLong(claims.get("id")), claims.getSubject(), claims.getId(),
+                    iat != null ? iat.getTime() : 0L,
+                    exp != null ? exp.getTime() : Long.MAX_VALUE);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("❌ JWT 검증 실패: {}", e.getMessage());
             return null;
         }
     }
-    public String getEmail(String token) {
-        return getUsername(token);
+
+    private static Long toLong(Object idObj) {
+        if (idObj instanceof Integer i) return i.longValue();
+        if (idObj instanceof Long l) return l;
+        if (idObj instanceof String s) return Long.parseLong(s);
+        return null;
+    }
+
+    /** 만료된 항목 정리 → 그래도 가득 차면 임의로 1/4 비움 */
+    private void evict(long now) {
+        verified.values().removeIf(c -> c.expiresAt() <= now);
+        int excess = verified.size() - cacheSize * 3 / 4;
+        Iterator<TokenDigest> it = verified.keySet().iterator();
+        while (excess-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static TokenDigest digest(String token) {
+        try {
+            byte[] h = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            ByteBuffer buf = ByteBuffer.wrap(h);
+            return new TokenDigest(buf.getLong(), buf.getLong());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
@@ -7,8 +7,9 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 public class PasswordConfig {
+    // BCrypt는 요청 스레드가 아니라 전용 실행기에서 (로그인 폭주 격리)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor) {
+        return new OffloadedPasswordEncoder(new BCryptPasswordEncoder(), passwordHashingExecutor);
     }
 }
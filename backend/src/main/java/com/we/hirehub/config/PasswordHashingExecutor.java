@@ -0,0 +1,118 @@
+package com.we.hirehub.config;
+
+import com.we.hirehub.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시 전용 실행기 (BCrypt encode/matches)
+ * - 고정 스레드 + 고정 크기 대기열 → 로그인 폭주 때도 해시 CPU 사용량과 묶이는 요청 스레드 수가 상한을 가짐
+ * - 대기열이 차면 즉시 거절, 대기열에서 max-queue-wait 이상 기다린 작업은 실행하지 않고 거절
+ * - 거절은 PasswordHashingBusyException → 503 + Retry-After
+ * - 메트릭: auth.password.hash(op), auth.password.queue.wait, auth.password.rejected(reason), auth.password.queue/active
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor pool;
+    private final long maxQueueWaitNanos;
+    private final long timeoutMillis;
+    private final MeterRegistry registry;
+    private final Timer queueWait;
+
+    public PasswordHashingExecutor(MeterRegistry registry,
+                                   @Value("${app.password.threads:0}") int threads,
+                                   @Value("${app.password.queue-capacity:32}") int queueCapacity,
+                                   @Value("${app.password.max-queue-wait-ms:1000}") long maxQueueWaitMs,
+                                   @Value("${app.password.timeout-ms:3000}") long timeoutMs) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger seq = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.maxQueueWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxQueueWaitMs);
+        this.timeoutMillis = timeoutMs;
+        this.registry = registry;
+        this.queueWait = Timer.builder("auth.password.queue.wait").register(registry);
+        Gauge.builder("auth.password.queue", pool, p -> p.getQueue().size()).register(registry);
+        Gauge.builder("auth.password.active", pool, ThreadPoolExecutor::getActiveCount).register(registry);
+        log.info("🔐 비밀번호 해시 실행기: threads={}, queue={}", poolSize, queueCapacity);
+    }
+
+    /**
+     * 해시 작업 실행 (호출 스레드는 결과까지 최대 timeout-ms 대기)
+     * @param op 메트릭 태그 (encode / matches)
+     * @throws PasswordHashingBusyException 대기열 초과, 대기 시간 초과, 응답 시간 초과
+     */
+    public <T> T call(String op, Supplier<T> work) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = pool.submit(() -> {
+                long waited = System.nanoTime() - enqueuedAt;
+                queueWait.record(waited, TimeUnit.NANOSECONDS);
+                // 호출자가 이미 포기했을 작업은 CPU를 쓰지 않음
+                if (waited > maxQueueWaitNanos) throw reject("expired");
+                Timer.Sample sample = Timer.start(registry);
+                try {
+                    return work.get();
+                } finally {
+                    sample.stop(registry.timer("auth.password.hash", "op", op));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw reject("queue-full");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw reject("timeout");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw reject("interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            if (cause instanceof Error err) throw err;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    // ===== Private Helper Methods =====
+
+    private PasswordHashingBusyException reject(String reason) {
+        Counter.builder("auth.password.rejected").tag("reason", reason).register(registry).increment();
+        log.warn("⚠️ 비밀번호 해시 거절: reason={}, queue={}", reason, pool.getQueue().size());
+        return new PasswordHashingBusyException("요청이 많아 잠시 후 다시 시도해주세요.");
+    }
+}
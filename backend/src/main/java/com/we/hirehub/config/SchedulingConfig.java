@@ -0,0 +1,10 @@
+package com.we.hirehub.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/** @Scheduled 작업 활성화 (프레즌스 만료 틱 등) */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -2,16 +2,27 @@ package com.we.hirehub.config;
 
 import com.we.hirehub.auth.CustomOAuth2UserService;
 import com.we.hirehub.auth.OAuth2LoginHandler;
+import com.we.hirehub.entity.Role;
+import com.we.hirehub.ratelimit.RateLimitFilter;
+import com.we.hirehub.ratelimit.RateLimiter;
+import com.we.hirehub.service.UserSummaryCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
 import org.springframework.web.cors.CorsConfigurationSource;
 
 @Configuration
@@ -23,7 +34,10 @@ public class SecurityConfig {
     private final OAuth2LoginHandler oAuth2LoginHandler;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final JwtTokenProvider tokenProvider;
+    private final TokenDenylist tokenDenylist;
     private final CorsConfigurationSource corsConfigurationSource;
+    private final RateLimiter rateLimiter;
+    private final UserSummaryCache userSummaryCache;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -36,7 +50,7 @@ public class SecurityConfig {
                         // ✅ 인증 없이 접근 가능한 경로
                         .requestMatchers(
                                 "/ws/**",
-                                "/api/chatbot/faq", "/api/chatbot/faq/**",
+                                "/api/chatbot/faq", "/api/chatbot/faq/**", "/api/chatbot/ask",
                                 "/api/ads",  // ✅ 일반 사용자 광고 조회 추가
                                 "/api/auth/**",
                                 "/api/public/**",
@@ -48,7 +62,7 @@ public class SecurityConfig {
                                 "/", "/error",
                                 "/favicon.ico", "/css/**", "/js/**", "/images/**",
                                 "/swagger-ui/**", "/v3/api-docs/**",
-                                "/actuator/**",
+                                "/actuator/health",   // 메트릭은 ADMIN만 (아래)
                                 "/login/**", "/oauth2/**",
                                 "/google", "/kakao", "/naver",
                                 "/api/mypage/resumes/**",
@@ -66,6 +80,9 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/api/comment/**").authenticated()
                         .requestMatchers(HttpMethod.DELETE, "/api/comment/**").authenticated()
 
+                        // ✅ 액추에이터: health만 공개, 메트릭 등 나머지는 ADMIN만
+                        .requestMatchers("/actuator/**").access(adminOnly())
+
                         // ✅ 그 외 모든 요청은 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -74,11 +91,34 @@ public class SecurityConfig {
                         .userInfoEndpoint(ui -> ui.userService(customOAuth2UserService))
                         .successHandler(oAuth2LoginHandler)
                         .failureHandler(oAuth2LoginHandler)
-                );
+                )
+                // ✅ API는 로그인 페이지 리다이렉트 대신 401 → 프론트 api 인터셉터가 리프레시 후 재시도
+                .exceptionHandling(e -> e.defaultAuthenticationEntryPointFor(
+                        new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED),
+                        PathPatternRequestMatcher.withDefaults().matcher("/api/**")));
 
         // ✅ JWT 필터 추가
-        http.addFilterBefore(new JwtAuthenticationFilter(tokenProvider), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(new JwtAuthenticationFilter(tokenProvider, tokenDenylist), UsernamePasswordAuthenticationFilter.class);
+        // ✅ 속도 제한 (JWT 필터 다음 → 로그인 사용자는 사용자 id 기준)
+        http.addFilterAfter(new RateLimitFilter(rateLimiter), JwtAuthenticationFilter.class);
 
         return http.build();
     }
+
+    /**
+     * ADMIN 전용 경로 판정
+     * - JWT 필터는 권한을 ROLE_USER로만 넣으므로 실제 역할은 사용자 요약 캐시(TTL)에서 확인
+     */
+    private AuthorizationManager<RequestAuthorizationContext> adminOnly() {
+        return (authentication, context) -> {
+            Authentication auth = authentication.get();
+            if (auth == null || !auth.isAuthenticated()) return new AuthorizationDecision(false);
+            if (auth.getAuthorities().stream().anyMatch(a -> Role.ADMIN.getValue().equals(a.getAuthority()))) {
+                return new AuthorizationDecision(true);
+            }
+            CurrentUser user = auth.getPrincipal() instanceof JwtUserPrincipal p && p.getUserId() != null
+                    ? userSummaryCache.get(p.getUserId()) : null;
+            return new AuthorizationDecision(user != null && user.role() == Role.ADMIN);
+        };
+    }
 }
@@ -0,0 +1,210 @@
+package com.we.hirehub.config;
+
+import com.we.hirehub.entity.RevokedToken;
+import com.we.hirehub.repository.RevokedTokenRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 액세스 토큰 폐기 목록
+ * - 사용자 단위(탈퇴/권한 변경: 그 시각 이전 발급 토큰 전부)와 토큰 단위(로그아웃: jti) 폐기
+ * - revoked_token 테이블에 저장하고, 메모리에는 정확한 목록 + 그 앞단의 Bloom 필터를 둠
+ *   → 일반 요청은 Bloom 필터에서 바로 통과 (DB 조회 없음), 양성일 때만 메모리 목록 확인
+ * - 다른 노드에서 추가한 폐기분은 sync-ms마다 id 기준으로 이어서 읽음
+ *   (늦게 커밋된 작은 id를 놓치지 않도록 최근 lookback-ms 안의 폐기분도 다시 읽음, 같은 항목은 합쳐짐)
+ * - 이 노드의 폐기는 커밋된 뒤에만 메모리에 반영 (롤백된 폐기가 남지 않음)
+ * - 시각은 모두 초 단위로 절삭해서 비교 (JWT iat가 초 단위, DB 컬럼 정밀도와 무관하게 노드 간 같은 판정)
+ * - 항목은 액세스 토큰 수명이 지나면 의미가 없으므로 만료 후 메모리/테이블에서 정리
+ * - 항목 추가와 Bloom 필터 재구성은 같은 락 안에서 → 재구성 중 추가된 키가 새 필터에서 빠지지 않음
+ */
+@Slf4j
+@Component
+public class TokenDenylist {
+
+    private static final String USER = "USER";
+    private static final String TOKEN = "TOKEN";
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final JwtTokenProvider tokenProvider;
+    private final int bloomBits;
+    private final long lookbackMs;
+
+    /** 키("USER:12", "TOKEN:{jti}") → 폐기 항목 */
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloom;
+    private volatile long lastId = 0L;
+
+    private record Entry(long revokedAt, long expiresAt) {}
+
+    public TokenDenylist(RevokedTokenRepository revokedTokenRepository,
+                         JwtTokenProvider tokenProvider,
+                         @Value("${app.jwt.denylist.bloom-bits:1048576}") int bloomBits,
+                         @Value("${app.jwt.denylist.lookback-ms:60000}") long lookbackMs) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.tokenProvider = tokenProvider;
+        this.bloomBits = bloomBits;
+        this.lookbackMs = lookbackMs;
+        this.bloom = new BloomFilter(bloomBits);
+    }
+
+    @PostConstruct
+    void init() {
+        sync();
+    }
+
+    /** 이 토큰이 폐기됐는지 (요청 경로, 메모리만 사용) */
+    public boolean isRevoked(JwtTokenProvider.VerifiedClaims claims) {
+        BloomFilter b = bloom;
+        if (claims.userId() != null) {
+            String key = USER + ":" + claims.userId();
+            if (b.mightContain(key)) {
+                Entry e = entries.get(key);
+                if (e != null && seconds(claims.issuedAt()) <= e.revokedAt()) return true;
+            }
+        }
+        if (claims.jti() != null) {
+            String key = TOKEN + ":" + claims.jti();
+            return b.mightContain(key) && entries.containsKey(key);
+        }
+        return false;
+    }
+
+    /** 사용자의 지금까지 발급된 액세스 토큰 전부 폐기 (탈퇴/권한 변경) */
+    public void revokeUser(Long userId) {
+        if (userId == null) return;
+        long now = seconds(System.currentTimeMillis());
+        persist(USER, String.valueOf(userId), now, now + tokenProvider.accessTtlMillis());
+        log.info("🚫 사용자 토큰 폐기: userId={}", userId);
+    }
+
+    /** 액세스 토큰 1개 폐기 (로그아웃) */
+    public void revokeToken(JwtTokenProvider.VerifiedClaims claims) {
+        if (claims == null || claims.jti() == null) return;
+        persist(TOKEN, claims.jti(), seconds(System.currentTimeMillis()), claims.expiresAt());
+    }
+
+    /** 다른 노드 폐기분 반영 + 만료 항목 정리 */
+    @Scheduled(fixedDelayString = "${app.jwt.denylist.sync-ms:5000}")
+    public synchronized void sync() {
+        long now = System.currentTimeMillis();
+        try {
+            List<RevokedToken> added = revokedTokenRepository.findActiveAfter(lastId, toLocal(now - lookbackMs), toLocal(now));
+            for (RevokedToken r : added) {
+                add(r.getKind() + ":" + r.getSubject(), seconds(toMillis(r.getRevokedAt())), toMillis(r.getExpiresAt()));
+                lastId = Math.max(lastId, r.getId());
+            }
+        } catch (Exception e) {
+            log.error("❌ 토큰 폐기 목록 동기화 실패", e);
+        }
+
+        // 만료 항목이 빠지면 Bloom 필터 다시 만듦 (오탐률 유지)
+        if (entries.values().removeIf(e -> e.expiresAt() <= now)) {
+            BloomFilter rebuilt = new BloomFilter(bloomBits);
+            entries.keySet().forEach(rebuilt::add);
+            bloom = rebuilt;
+        }
+    }
+
+    /** 만료된 폐기 행 삭제 */
+    @Scheduled(fixedDelayString = "${app.jwt.denylist.cleanup-ms:3600000}")
+    public void cleanup() {
+        try {
+            int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+            if (deleted > 0) log.debug("🧹 만료된 토큰 폐기 행 삭제: {}", deleted);
+        } catch (Exception e) {
+            log.error("❌ 토큰 폐기 목록 정리 실패", e);
+        }
+    }
+
+    // ===== Private Helper Methods =====
+
+    private void persist(String kind, String subject, long revokedAt, long expiresAt) {
+        revokedTokenRepository.save(RevokedToken.builder()
+                .kind(kind)
+                .subject(subject)
+                .revokedAt(toLocal(revokedAt))
+                .expiresAt(toLocal(expiresAt))
+                .build());
+        // 이 노드에는 커밋 직후 반영 (트랜잭션 밖이면 바로), 다른 노드는 sync로
+        AfterCommit.run(() -> add(kind + ":" + subject, revokedAt, expiresAt));
+    }
+
+    /** sync()의 Bloom 필터 재구성과 같은 락 */
+    private synchronized void add(String key, long revokedAt, long expiresAt) {
+        entries.merge(key, new Entry(revokedAt, expiresAt),
+                (a, b) -> new Entry(Math.max(a.revokedAt(), b.revokedAt()), Math.max(a.expiresAt(), b.expiresAt())));
+        bloom.add(key);
+    }
+
+    /** 초 단위 절삭 (ms) */
+    static long seconds(long millis) {
+        return millis - Math.floorMod(millis, 1000L);
+    }
+
+    private static LocalDateTime toLocal(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZONE);
+    }
+
+    private static long toMillis(LocalDateTime at) {
+        return at.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    /** 고정 크기 Bloom 필터 (해시 4개, 이중 해싱, 비트 추가는 락 없이 원자적으로) */
+    static final class BloomFilter {
+        private static final int HASHES = 4;
+        private final AtomicLongArray words;
+        private final int bits;
+
+        BloomFilter(int bits) {
+            this.bits = Math.max(64, bits);
+            this.words = new AtomicLongArray((this.bits + 63) >>> 6);
+        }
+
+        void add(String key) {
+            long h = hash(key);
+            int h1 = (int) h;
+            int h2 = (int) (h >>> 32);
+            for (int i = 0; i < HASHES; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bits);
+                words.getAndAccumulate(bit >>> 6, 1L << bit, (a, m) -> a | m);
+            }
+        }
+
+        boolean mightContain(String key) {
+            long h = hash(key);
+            int h1 = (int) h;
+            int h2 = (int) (h >>> 32);
+            for (int i = 0; i < HASHES; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bits);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) return false;
+            }
+            return true;
+        }
+
+        /** FNV-1a 64 + 비트 섞기 */
+        private static long hash(String key) {
+            long h = 0xcbf29ce484222325L;
+            for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+                h ^= b;
+                h *= 0x100000001b3L;
+            }
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
@@ -1,26 +1,38 @@
 package com.we.hirehub.config;
 
 
+import com.we.hirehub.ws.FrameCodec;
+import com.we.hirehub.ws.FrameFanout;
+import com.we.hirehub.ws.PresenceService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
 
 @Slf4j
 @Configuration
@@ -29,12 +41,25 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenDenylist tokenDenylist;
     private final UserDetailsService dbUserDetailsService;
+    private final PresenceService presenceService;
+    private final FrameFanout frameFanout;
+    private final TaskScheduler heartbeatScheduler;
 
+    // PresenceService/스케줄러는 브로커 설정 이후에 만들어지므로 @Lazy로 순환 참조 방지
     public WebSocketConfig(JwtTokenProvider jwtTokenProvider,
-                           @Qualifier("dbUserDetailsService") UserDetailsService dbUserDetailsService) {
+                           TokenDenylist tokenDenylist,
+                           @Qualifier("dbUserDetailsService") UserDetailsService dbUserDetailsService,
+                           @Lazy PresenceService presenceService,
+                           @Lazy FrameFanout frameFanout,
+                           @Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler heartbeatScheduler) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenDenylist = tokenDenylist;
         this.dbUserDetailsService = dbUserDetailsService;
+        this.presenceService = presenceService;
+        this.frameFanout = frameFanout;
+        this.heartbeatScheduler = heartbeatScheduler;
     }
 
     @Override
@@ -43,13 +68,30 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOriginPatterns("http://localhost:3000", "http://127.0.0.1:3000") // 정확히 명시
                 .withSockJS();
 
+        // ✅ 순수 WebSocket 연결만 바이너리 프레임(CBOR/Smile) 협상 가능 (SockJS는 텍스트 전용)
         registry.addEndpoint("/ws")
-                .setAllowedOriginPatterns("*");
+                .setAllowedOriginPatterns("*")
+                .addInterceptors(new HandshakeInterceptor() {
+                    @Override
+                    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+                        attributes.put(FrameFanout.BINARY_CAPABLE_ATTR, Boolean.TRUE);
+                        return true;
+                    }
+
+                    @Override
+                    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                               WebSocketHandler wsHandler, Exception exception) {
+                    }
+                });
     }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry){
-        registry.enableSimpleBroker("/topic", "/queue");
+        // ✅ 서버↔클라이언트 하트비트 10초 (프레즌스 만료 판단 기준)
+        registry.enableSimpleBroker("/topic", "/queue")
+                .setHeartbeatValue(new long[]{10000, 10000})
+                .setTaskScheduler(heartbeatScheduler);
         registry.setApplicationDestinationPrefixes("/app");
         registry.setUserDestinationPrefix("/user");
     }
@@ -61,15 +103,38 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
             public Message<?> preSend(Message<?> message, MessageChannel channel) {
                 StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
 
+                // ✅ 하트비트 포함 모든 인바운드 프레임 → 프레즌스 갱신
+                String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+                if (sessionId != null) {
+                    presenceService.touch(sessionId);
+                }
+
+                // ✅ 바이너리 코덱 연결: 채팅/대기 큐/프레즌스 구독을 /topic/{codec}/... 로 바꿔 등록
+                if (accessor != null && StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+                    FrameCodec codec = frameFanout.codecOf(sessionId);
+                    if (codec.binary() && FrameFanout.negotiable(accessor.getDestination())) {
+                        accessor.setDestination(codec.destination(accessor.getDestination()));
+                    }
+                }
+
                 if (accessor != null && StompCommand.CONNECT.equals(accessor.getCommand())) {
+                    // ✅ 프레임 코덱 협상 (frame-codec: cbor | smile)
+                    Map<String, Object> attrs = accessor.getSessionAttributes();
+                    if (attrs != null && Boolean.TRUE.equals(attrs.get(FrameFanout.BINARY_CAPABLE_ATTR))) {
+                        frameFanout.register(sessionId, FrameCodec.fromHeader(accessor.getFirstNativeHeader(FrameCodec.HEADER)));
+                    }
+
                     String authToken = accessor.getFirstNativeHeader("Authorization");
 
                     if (authToken != null && authToken.startsWith("Bearer ")) {
                         String token = authToken.substring(7);
 
                         try {
-                            if (jwtTokenProvider.validate(token)) {
-                                String email = jwtTokenProvider.getEmail(token);
+                            JwtTokenProvider.VerifiedClaims claims = jwtTokenProvider.verify(token);
+                            if (claims != null && tokenDenylist.isRevoked(claims)) {
+                                log.warn("⛔ WebSocket 폐기된 토큰: userId={}", claims.userId());
+                            } else if (claims != null) {
+                                String email = claims.email();
                                 UserDetails userDetails = dbUserDetailsService.loadUserByUsername(email);
 
                                 UsernamePasswordAuthenticationToken authentication =
@@ -1,15 +1,20 @@
 package com.we.hirehub.controller;
 
 import com.we.hirehub.config.JwtTokenProvider;
+import com.we.hirehub.config.TokenDenylist;
 import com.we.hirehub.dto.login.LoginRequest;
 import com.we.hirehub.dto.login.SignupEmailRequest;
 import com.we.hirehub.entity.Users;
+import com.we.hirehub.exception.PasswordHashingBusyException;
+import com.we.hirehub.exception.RefreshTokenRaceException;
 import com.we.hirehub.repository.UsersRepository;
 import com.we.hirehub.service.AuthService;
+import com.we.hirehub.service.RefreshTokenService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -24,6 +29,7 @@ import java.util.Map;
  * - 일반 로그인/회원가입 (이메일/비밀번호)
  * - OAuth2 구글 로그인/회원가입
  * - 현재 사용자 정보 조회
+ * - 액세스 토큰 재발급(리프레시 토큰 교체) / 로그아웃
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -35,6 +41,8 @@ public class AuthRestController {
     private final JwtTokenProvider tokenProvider;
     private final UsersRepository usersRepository;
     private final AuthService authService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenDenylist tokenDenylist;
 
     @Value("${app.front.base-url}")
     private String frontendUrl;
@@ -77,9 +85,22 @@ public class AuthRestController {
 
             log.info("✅ 로그인 완료 - 이메일: {}, Role: {}", user.getEmail(), user.getRole());
 
-            return ResponseEntity.ok(response);
+            // 5. 리프레시 토큰은 HttpOnly 쿠키로만 전달
+            String refreshToken = refreshTokenService.issue(user.getId());
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.SET_COOKIE, refreshTokenService.cookie(refreshToken).toString())
+                    .body(response);
 
         } catch (Exception e) {
+            // 해시 실행기 포화 → 비밀번호 오류가 아니라 503 (클라이언트 재시도)
+            if (PasswordHashingBusyException.isCause(e)) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .body(Map.of(
+                                "success", false,
+                                "message", "요청이 많아 잠시 후 다시 시도해주세요."
+                        ));
+            }
             log.error("❌ 로그인 실패: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of(
@@ -103,8 +124,11 @@ public class AuthRestController {
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
         String accessToken = tokenProvider.createToken(user.getEmail(), user.getId());
+        String refreshToken = refreshTokenService.issue(user.getId());
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of(
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(HttpHeaders.SET_COOKIE, refreshTokenService.cookie(refreshToken).toString())
+                .body(Map.of(
                 "tokenType", "Bearer",
                 "accessToken", accessToken,
                 "role", user.getRole().name(),
@@ -113,6 +137,60 @@ public class AuthRestController {
         ));
     }
 
+    /**
+     * 액세스 토큰 재발급 (리프레시 토큰 교체)
+     * POST /api/auth/refresh
+     * - 쿠키(hh_refresh) 우선, 쿠키를 못 쓰는 클라이언트는 body의 refreshToken
+     * - 성공 시 새 리프레시 토큰 쿠키로 교체, 실패 시 401 + 쿠키 삭제
+     * - 다른 탭이 같은 토큰으로 방금 먼저 교체한 경우는 409 + 쿠키 유지 (이긴 탭이 받은 새 쿠키를 지우지 않도록)
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<Map<String, Object>> refresh(
+            @CookieValue(value = RefreshTokenService.COOKIE_NAME, required = false) String cookieToken,
+            @RequestBody(required = false) Map<String, String> body
+    ) {
+        String raw = cookieToken != null ? cookieToken : (body != null ? body.get("refreshToken") : null);
+        try {
+            RefreshTokenService.Rotated rotated = refreshTokenService.rotate(raw);
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.SET_COOKIE, refreshTokenService.cookie(rotated.refreshToken()).toString())
+                    .body(Map.of(
+                            "tokenType", "Bearer",
+                            "accessToken", rotated.accessToken(),
+                            "role", rotated.user().getRole().name()
+                    ));
+        } catch (RefreshTokenRaceException e) {
+            log.debug("⚠️ 토큰 재발급 경합 (grace 안): {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("success", false, "retryable", true, "message", e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            log.debug("⚠️ 토큰 재발급 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .header(HttpHeaders.SET_COOKIE, refreshTokenService.clearCookie().toString())
+                    .body(Map.of("success", false, "message", e.getMessage()));
+        }
+    }
+
+    /**
+     * 로그아웃
+     * POST /api/auth/logout
+     * - 현재 액세스 토큰은 만료 전까지 거부 목록에 등록, 리프레시 토큰 family 폐기
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Map<String, Object>> logout(
+            @RequestHeader(value = "Authorization", required = false) String authz,
+            @CookieValue(value = RefreshTokenService.COOKIE_NAME, required = false) String cookieToken
+    ) {
+        if (authz != null && authz.startsWith("Bearer ")) {
+            JwtTokenProvider.VerifiedClaims claims = tokenProvider.verify(authz.substring(7));
+            if (claims != null) tokenDenylist.revokeToken(claims);
+        }
+        refreshTokenService.revoke(cookieToken);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, refreshTokenService.clearCookie().toString())
+                .body(Map.of("success", true));
+    }
+
     /**
      * 구글 OAuth2 로그인/회원가입 시작
      * GET /api/auth/google
@@ -1,14 +1,13 @@
 package com.we.hirehub.controller;
 
-import com.we.hirehub.dto.chat.ChatBotDto;
-import com.we.hirehub.dto.support.FaqCategoryDto;
 import com.we.hirehub.service.ChatBotService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RestController
@@ -23,13 +22,12 @@ public class ChatBotController {
      * 다른 컴포넌트에서 사용
      */
     @GetMapping("/faq")
-    public ResponseEntity<List<ChatBotDto>> getFaqList() {
-        log.info("=== FAQ 목록 조회 요청 ===");
+    public ResponseEntity<byte[]> getFaqList() {
+        log.debug("=== FAQ 목록 조회 요청 ===");
 
         try {
-            List<ChatBotDto> faqs = chatBotService.getFaqList();
-            log.info("FAQ 조회 성공: {} 개", faqs.size());
-            return ResponseEntity.ok(faqs);
+            // 스냅샷에 미리 직렬화된 JSON 그대로 응답 (DB 조회 없음)
+            return json(chatBotService.getFaqListJson());
         } catch (Exception e) {
             log.error("FAQ 조회 실패", e);
             return ResponseEntity.internalServerError().build();
@@ -40,13 +38,11 @@ public class ChatBotController {
      * ✨ 신규: 계층형 FAQ 전체 조회 (ChatBot.tsx 전용)
      */
     @GetMapping("/faq/categories")
-    public ResponseEntity<List<FaqCategoryDto>> getFaqCategories() {
-        log.info("=== 계층형 FAQ 조회 요청 ===");
+    public ResponseEntity<byte[]> getFaqCategories() {
+        log.debug("=== 계층형 FAQ 조회 요청 ===");
 
         try {
-            List<FaqCategoryDto> categories = chatBotService.getFaqCategoriesFromDb();
-            log.info("계층형 FAQ 조회 성공: {} 개 카테고리", categories.size());
-            return ResponseEntity.ok(categories);
+            return json(chatBotService.getFaqCategoriesJson());
         } catch (Exception e) {
             log.error("계층형 FAQ 조회 실패", e);
             return ResponseEntity.internalServerError().build();
@@ -57,16 +53,31 @@ public class ChatBotController {
      * 기존: 특정 카테고리의 상세 QnA 조회
      */
     @GetMapping("/faq/{category}")
-    public ResponseEntity<List<ChatBotDto>> getFaqByCategory(@PathVariable String category) {
-        log.info("=== 카테고리별 FAQ 조회 요청: {} ===", category);
+    public ResponseEntity<byte[]> getFaqByCategory(@PathVariable String category) {
+        log.debug("=== 카테고리별 FAQ 조회 요청: {} ===", category);
 
         try {
-            List<ChatBotDto> qnas = chatBotService.getFaqByCategory(category);
-            log.info("카테고리 {} FAQ 조회 성공: {} 개", category, qnas.size());
-            return ResponseEntity.ok(qnas);
+            return json(chatBotService.getFaqByCategoryJson(category));
         } catch (Exception e) {
             log.error("카테고리별 FAQ 조회 실패", e);
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    /**
+     * 자유 질문 → 유사한 FAQ 상위 항목 (handoff=true면 상담사 연결 안내)
+     * POST /api/chatbot/ask  { "question": "이력서 수정은 어떻게 하나요?" }
+     */
+    @PostMapping("/ask")
+    public ResponseEntity<?> ask(@RequestBody Map<String, String> body) {
+        String question = body.get("question");
+        if (question == null || question.isBlank()) {
+            return ResponseEntity.badRequest().body(Map.of("message", "질문을 입력해주세요."));
+        }
+        return ResponseEntity.ok(chatBotService.ask(question.length() > 500 ? question.substring(0, 500) : question));
+    }
+
+    private static ResponseEntity<byte[]> json(byte[] body) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
 }
@@ -1,16 +1,15 @@
 // com.we.hirehub.controller.ChatController
 package com.we.hirehub.controller;
 
+import com.we.hirehub.config.CurrentUser;
 import com.we.hirehub.dto.chat.ChatMessageRequest;
 import com.we.hirehub.dto.chat.LiveChatDto;
 import com.we.hirehub.entity.Users;
-import com.we.hirehub.repository.UsersRepository;
 import com.we.hirehub.service.LiveChatService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.lang.Nullable;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -22,7 +21,6 @@ import java.util.List;
 public class ChatController {
 
     private final LiveChatService liveChatService;
-    private final UsersRepository usersRepository;
 
     @GetMapping("/history/{sessionId}")
     public ResponseEntity<List<LiveChatDto>> getChatHistory(
@@ -35,46 +33,14 @@ public class ChatController {
     }
 
     @PostMapping("/send")
-    public ResponseEntity<?> sendMessage(@RequestBody ChatMessageRequest request) {
+    public ResponseEntity<?> sendMessage(@RequestBody ChatMessageRequest request, @Nullable CurrentUser me) {
         log.info("=== /api/chat/send 컨트롤러 시작 ===");
         log.info("요청 데이터 - sessionId: {}, content: {}, nickname: {}",
                 request.getSessionId(), request.getContent(), request.getNickname());
 
-        // 컨트롤러에서 인증 정보 확인
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        log.info("컨트롤러 인증 정보: {}", auth);
-        log.info("Principal: {}", auth != null ? auth.getName() : "null");
-        log.info("Authenticated: {}", auth != null ? auth.isAuthenticated() : "false");
-
-        Users authenticatedUser = null;
-
-        if (auth != null && auth.isAuthenticated() && !"anonymousUser".equals(auth.getName())) {
-            String principal = auth.getName();
-            log.info("Principal 값: {}", principal);
-
-            // Principal이 숫자(ID)인지 이메일인지 확인
-            try {
-                // 숫자로 파싱 시도 - 성공하면 ID로 간주
-                Long userId = Long.parseLong(principal);
-                log.info("Principal이 ID로 판단됨: {}", userId);
-                authenticatedUser = usersRepository.findById(userId).orElse(null);
-            } catch (NumberFormatException e) {
-                // 숫자가 아니면 이메일로 간주
-                log.info("Principal이 이메일로 판단됨: {}", principal);
-                authenticatedUser = usersRepository.findByEmail(principal).orElse(null);
-            }
-
-            if (authenticatedUser != null) {
-                log.info("✅ 컨트롤러에서 사용자 조회 성공 - ID: {}, 이메일: {}, 닉네임: {}",
-                        authenticatedUser.getId(),
-                        authenticatedUser.getEmail(),
-                        authenticatedUser.getNickname());
-            } else {
-                log.warn("❌ 컨트롤러에서 사용자 조회 실패 - Principal: {}", principal);
-            }
-        } else {
-            log.warn("❌ 컨트롤러에서 인증 실패 또는 익명 사용자");
-        }
+        // 로그인 사용자면 작성자 FK 연결 (요약 캐시 사용 → users 재조회 없음)
+        Users authenticatedUser = me != null ? me.toUserRef() : null;
+        log.info("인증 사용자: {}", me != null ? me.id() : "익명");
 
         // 서비스 호출
         liveChatService.send(
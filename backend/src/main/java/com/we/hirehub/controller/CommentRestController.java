@@ -1,15 +1,13 @@
 package com.we.hirehub.controller;
 
-import com.we.hirehub.config.JwtUserPrincipal;
+import com.we.hirehub.config.CurrentUser;
 import com.we.hirehub.dto.support.CommentDto;
-import com.we.hirehub.entity.Users;
 import com.we.hirehub.repository.CommentRepository;
-import com.we.hirehub.repository.UsersRepository;
 import com.we.hirehub.service.CommentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.lang.Nullable;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -23,7 +21,6 @@ public class CommentRestController {
 
     private final CommentService commentService;
     private final CommentRepository commentRepository;
-    private final UsersRepository usersRepository;
 
     /**
      * ✅ 댓글 생성
@@ -31,19 +28,14 @@ public class CommentRestController {
     @PostMapping
     public ResponseEntity<?> createComment(
             @RequestBody CommentDto commentDto,
-            @AuthenticationPrincipal JwtUserPrincipal userPrincipal
+            @Nullable CurrentUser me
     ) {
-        if (userPrincipal == null) {
+        if (me == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body("로그인된 사용자만 댓글을 작성할 수 있습니다.");
         }
 
         try {
-            // 🔹 로그인된 유저 정보 가져오기
-            Long userId = userPrincipal.getUserId();
-            Users loggedInUser = usersRepository.findById(userId)
-                    .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다."));
-
             // 🔹 데이터 유효성 검증
             if (commentDto.getBoardId() == null) {
                 return ResponseEntity.badRequest().body("게시글 ID가 누락되었습니다.");
@@ -52,8 +44,8 @@ public class CommentRestController {
                 return ResponseEntity.badRequest().body("댓글 내용이 비어 있습니다.");
             }
 
-            // 🔹 댓글 생성
-            CommentDto savedComment = commentService.createComment(commentDto, loggedInUser);
+            // 🔹 댓글 생성 (작성자는 FK만 연결 → users 재조회 없음)
+            CommentDto savedComment = commentService.createComment(commentDto, me.toUserRef());
 
             return ResponseEntity.ok(savedComment);
 
@@ -1,5 +1,6 @@
 package com.we.hirehub.controller;
 
+import com.we.hirehub.config.CurrentUser;
 import com.we.hirehub.dto.company.CompanyDto;
 import com.we.hirehub.dto.common.PagedResponse;
 import com.we.hirehub.dto.company.FavoriteSummaryDto;
@@ -12,8 +13,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -36,37 +35,12 @@ public class CompanyRestController {
      * 기업상세 페이지에서 즐겨찾기 추가(C)
      */
     @PostMapping("/{companyId}/favorite")
-    public ResponseEntity<FavoriteSummaryDto> addFavorite(Authentication auth,
+    public ResponseEntity<FavoriteSummaryDto> addFavorite(CurrentUser me,
                                                           @PathVariable Long companyId) {
-        Long uid = userId(auth);
-        FavoriteSummaryDto body = myPageService.addFavoriteCompany(uid, companyId);
+        FavoriteSummaryDto body = myPageService.addFavoriteCompany(me.id(), companyId);
         return ResponseEntity.ok(body);
     }
 
-    // ===== 공통: 로그인 사용자 id 추출 (MyPageRestController와 동일 패턴)
-    private Long userId(Authentication auth) {
-        if (auth == null) {
-            auth = SecurityContextHolder.getContext().getAuthentication();
-            if (auth == null) throw new IllegalStateException("인증 정보가 없습니다.");
-        }
-        Object p = auth.getPrincipal();
-        if (p instanceof Long l) return l;
-        if (p instanceof String s) {
-            try {
-                return Long.parseLong(s);
-            } catch (NumberFormatException ignore) {
-            }
-        }
-        try {
-            var m = p.getClass().getMethod("getId");
-            Object v = m.invoke(p);
-            if (v instanceof Long l) return l;
-            if (v instanceof String s) return Long.parseLong(s);
-        } catch (Exception ignore) {
-        }
-        throw new IllegalStateException("현재 사용자 ID를 확인할 수 없습니다.");
-    }
-
     @GetMapping
     public ResponseEntity<PagedResponse<CompanyDto.Mini>> listCompanies(
             @RequestParam(defaultValue = "0") int page,
@@ -1,14 +1,14 @@
 package com.we.hirehub.controller;
 
-import com.we.hirehub.dto.support.FaqCategoryDto;
-import com.we.hirehub.dto.support.FaqItemDto;
 import com.we.hirehub.service.FaqService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @Slf4j
 @RestController
@@ -20,20 +20,12 @@ public class FaqController {
 
     /**
      * 전체 FAQ 카테고리 목록 조회 (계층형)
-     * GET /api/faq
+     * GET /api/faq  (If-None-Match가 현재 ETag와 같으면 304)
      */
     @GetMapping
-    public ResponseEntity<List<FaqCategoryDto>> getAllFaqCategories() {
-        log.info("=== FAQ 전체 카테고리 조회 요청 ===");
-
-        try {
-            List<FaqCategoryDto> categories = faqService.getFaqCategories();
-            log.info("FAQ 카테고리 조회 성공: {} 개", categories.size());
-            return ResponseEntity.ok(categories);
-        } catch (Exception e) {
-            log.error("FAQ 조회 실패", e);
-            return ResponseEntity.internalServerError().build();
-        }
+    public ResponseEntity<byte[]> getAllFaqCategories(WebRequest request) {
+        FaqService.Registry registry = faqService.registry();
+        return respond(request, registry, registry.categoriesJson());
     }
 
     /**
@@ -41,23 +33,14 @@ public class FaqController {
      * GET /api/faq/category/{categoryName}
      */
     @GetMapping("/category/{categoryName}")
-    public ResponseEntity<FaqCategoryDto> getFaqByCategory(@PathVariable String categoryName) {
-        log.info("=== FAQ 카테고리별 조회 요청: {} ===", categoryName);
-
-        try {
-            FaqCategoryDto category = faqService.getFaqByCategory(categoryName);
-
-            if (category == null) {
-                log.warn("카테고리를 찾을 수 없음: {}", categoryName);
-                return ResponseEntity.notFound().build();
-            }
-
-            log.info("카테고리 {} 조회 성공: {} 개 항목", categoryName, category.getItems().size());
-            return ResponseEntity.ok(category);
-        } catch (Exception e) {
-            log.error("카테고리별 FAQ 조회 실패", e);
-            return ResponseEntity.internalServerError().build();
+    public ResponseEntity<byte[]> getFaqByCategory(@PathVariable String categoryName, WebRequest request) {
+        FaqService.Registry registry = faqService.registry();
+        byte[] body = registry.categoryJson().get(categoryName);
+        if (body == null) {
+            log.warn("카테고리를 찾을 수 없음: {}", categoryName);
+            return ResponseEntity.notFound().build();
         }
+        return respond(request, registry, body);
     }
 
     /**
@@ -65,22 +48,28 @@ public class FaqController {
      * GET /api/faq/{id}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<FaqItemDto> getFaqById(@PathVariable Long id) {
-        log.info("=== FAQ 상세 조회 요청: {} ===", id);
-
-        try {
-            FaqItemDto faqItem = faqService.getFaqById(id);
-
-            if (faqItem == null) {
-                log.warn("FAQ 항목을 찾을 수 없음: {}", id);
-                return ResponseEntity.notFound().build();
-            }
+    public ResponseEntity<byte[]> getFaqById(@PathVariable Long id, WebRequest request) {
+        FaqService.Registry registry = faqService.registry();
+        byte[] body = registry.itemJson().get(id);
+        if (body == null) {
+            log.warn("FAQ 항목을 찾을 수 없음: {}", id);
+            return ResponseEntity.notFound().build();
+        }
+        return respond(request, registry, body);
+    }
 
-            log.info("FAQ 항목 조회 성공: {}", faqItem.getQuestion());
-            return ResponseEntity.ok(faqItem);
-        } catch (Exception e) {
-            log.error("FAQ 상세 조회 실패", e);
-            return ResponseEntity.internalServerError().build();
+    /** 미리 직렬화된 본문 + ETag (변경 없으면 본문 없이 304) */
+    private static ResponseEntity<byte[]> respond(WebRequest request, FaqService.Registry registry, byte[] body) {
+        if (request.checkNotModified(registry.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(registry.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
         }
+        return ResponseEntity.ok()
+                .eTag(registry.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 }
@@ -1,5 +1,6 @@
 package com.we.hirehub.controller;
 
+import com.we.hirehub.config.CurrentUser;
 import com.we.hirehub.dto.common.CalendarSummaryDto;
 import com.we.hirehub.dto.common.PagedResponse;
 import com.we.hirehub.dto.company.FavoriteSummaryDto;
@@ -10,8 +11,6 @@ import com.we.hirehub.service.JobPostsCalendarService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;  // ✅ 추가
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
@@ -28,25 +27,6 @@ public class JobPostController {
     private final JobPostsCalendarService jobPostsCalendarService;
     private final JobPostService jobPostService;
 
-    private Long userId(Authentication auth) {
-        if (auth == null) {
-            auth = SecurityContextHolder.getContext().getAuthentication();
-            if (auth == null) throw new IllegalStateException("인증 정보가 없습니다.");
-        }
-        Object p = auth.getPrincipal();
-        if (p instanceof Long l) return l;
-        if (p instanceof String s) {
-            try { return Long.parseLong(s); } catch (NumberFormatException ignore) {}
-        }
-        try {
-            var m = p.getClass().getMethod("getId");
-            Object v = m.invoke(p);
-            if (v instanceof Long l) return l;
-            if (v instanceof String s) return Long.parseLong(s);
-        } catch (Exception ignore) {}
-        throw new IllegalStateException("현재 사용자 ID를 확인할 수 없습니다.");
-    }
-
     @GetMapping
     public List<JobPostsDto> getAllJobPosts() {
         log.info("🌐 GET /api/jobposts - getAllJobPosts 호출됨");
@@ -74,10 +54,9 @@ public class JobPostController {
     }
 
     @PostMapping("/{jobPostId}/scrap")
-    public ResponseEntity<FavoriteSummaryDto> scrap(Authentication auth,
+    public ResponseEntity<FavoriteSummaryDto> scrap(CurrentUser me,
                                                     @PathVariable Long jobPostId) {
-        Long uid = userId(auth);
-        return ResponseEntity.ok(jobPostScrapService.add(uid, jobPostId));
+        return ResponseEntity.ok(jobPostScrapService.add(me.id(), jobPostId));
     }
 
     @GetMapping("/calendar")
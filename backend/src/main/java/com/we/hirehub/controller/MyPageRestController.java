@@ -1,9 +1,12 @@
-package com.we.hirehub.controller;// MyPageRestController.java의 userId() 메서드만 교체
+package com.we.hirehub.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.we.hirehub.config.CurrentUser;
 import com.we.hirehub.dto.common.PagedResponse;
 import com.we.hirehub.dto.company.FavoriteSummaryDto;
 import com.we.hirehub.dto.job.ApplyDto;
 import com.we.hirehub.dto.resume.ResumeDto;
+import com.we.hirehub.dto.resume.ResumePatchResponse;
 import com.we.hirehub.dto.resume.ResumeUpsertRequest;
 import com.we.hirehub.dto.user.MyProfileDto;
 import com.we.hirehub.dto.user.MyProfileUpdateRequest;
@@ -12,13 +15,13 @@ import com.we.hirehub.service.MyPageService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 import java.util.Map;
@@ -33,159 +36,67 @@ public class MyPageRestController {
     private final MyPageService myPageService;
     private final JobPostScrapService jobPostScrapService;
 
-    /* ==========================================================
-       =============== [공통 유틸: 사용자 ID 추출] ===============
-       ========================================================== */
-
-    private Long userId(Authentication auth) {
-        if (auth == null) {
-            auth = SecurityContextHolder.getContext().getAuthentication();
-            if (auth == null)
-                throw new IllegalStateException("인증 정보가 없습니다.");
-        }
-
-        Object p = auth.getPrincipal();
-
-        log.debug("🔍 Principal 분석: 타입={}, 값={}",
-                p != null ? p.getClass().getSimpleName() : "null", p);
-
-        // 1️⃣ JwtUserPrincipal (JWT 방식)
-        if (p instanceof com.we.hirehub.config.JwtUserPrincipal jwt) {
-            Long userId = jwt.getUserId();
-            log.debug("✅ JwtUserPrincipal에서 userId 추출: {}", userId);
-            return userId;
-        }
-
-        // 2️⃣ OAuth2User (OAuth2 방식) - 중요!
-        if (p instanceof OAuth2User oauth2User) {
-            log.debug("🔑 OAuth2User 분석 - Attributes: {}", oauth2User.getAttributes());
-
-            // id 또는 uid에서 userId 추출
-            Object idObj = oauth2User.getAttribute("id");
-            if (idObj == null) {
-                idObj = oauth2User.getAttribute("uid");
-            }
-
-            if (idObj != null) {
-                Long userId = convertToLong(idObj);
-                if (userId != null) {
-                    log.debug("✅ OAuth2User에서 userId 추출: {}", userId);
-                    return userId;
-                }
-            }
-
-            log.warn("⚠️ OAuth2User에서 id/uid를 찾을 수 없음");
-        }
-
-        // 3️⃣ Long (직접 ID)
-        if (p instanceof Long l) {
-            log.debug("✅ Long으로부터 userId 추출: {}", l);
-            return l;
-        }
-
-        // 4️⃣ String (이메일/ID 문자열)
-        if (p instanceof String s) {
-            try {
-                Long userId = Long.parseLong(s);
-                log.debug("✅ String으로부터 userId 파싱: {}", userId);
-                return userId;
-            } catch (NumberFormatException ignored) {
-                log.debug("⚠️ String을 Long으로 파싱 실패: {}", s);
-            }
-        }
-
-        // 5️⃣ Spring Security User (일반 로그인)
-        if (p instanceof org.springframework.security.core.userdetails.User user) {
-            try {
-                Long userId = Long.parseLong(user.getUsername());
-                log.debug("✅ User(username)으로부터 userId 추출: {}", userId);
-                return userId;
-            } catch (NumberFormatException ignored) {
-                log.debug("⚠️ User username을 Long으로 파싱 실패: {}", user.getUsername());
-            }
-        }
-
-        // 6️⃣ 리플렉션으로 getId() 메서드 시도
-        try {
-            var m = p.getClass().getMethod("getId");
-            Object v = m.invoke(p);
-            if (v instanceof Long l) {
-                log.debug("✅ 리플렉션 getId()로부터 userId 추출: {}", l);
-                return l;
-            }
-            if (v instanceof String s) {
-                Long userId = Long.parseLong(s);
-                log.debug("✅ 리플렉션 getId()로부터 userId 파싱: {}", userId);
-                return userId;
-            }
-        } catch (Exception ignored) {
-            log.debug("⚠️ 리플렉션 getId() 실패");
-        }
-
-        log.error("❌ 모든 방법 실패 - Principal: {}", p);
-        throw new IllegalStateException("현재 사용자 ID를 확인할 수 없습니다.");
-    }
-
-    /**
-     * Object를 Long으로 변환하는 헬퍼 메서드
-     */
-    private Long convertToLong(Object obj) {
-        if (obj instanceof Number n) {
-            return n.longValue();
-        }
-        if (obj instanceof String s) {
-            try {
-                return Long.parseLong(s);
-            } catch (NumberFormatException ignored) {
-            }
-        }
-        return null;
-    }
-
-    // ========== 이하 기존 메서드들 그대로 유지 ==========
-
     /**
      * ✅ 이력서 목록 조회
      */
     @GetMapping("/resumes")
-    public PagedResponse<ResumeDto> list(Authentication auth,
+    public PagedResponse<ResumeDto> list(CurrentUser me,
                                          @RequestParam(defaultValue = "0") int page,
                                          @RequestParam(defaultValue = "10") int size) {
-        return myPageService.list(userId(auth), page, size);
+        return myPageService.list(me.id(), page, size);
     }
 
     /**
      * ✅ 이력서 상세 조회 (온보딩 정보 포함됨)
      */
     @GetMapping("/resumes/{resumeId}")
-    public ResumeDto get(Authentication auth, @PathVariable Long resumeId) {
-        return myPageService.get(userId(auth), resumeId);
+    public ResumeDto get(CurrentUser me, @PathVariable Long resumeId) {
+        return myPageService.get(me.id(), resumeId);
     }
 
     /**
      * ✅ 이력서 생성
      */
     @PostMapping("/resumes")
-    public ResumeDto create(Authentication auth, @Valid @RequestBody ResumeUpsertRequest req) {
-        return myPageService.create(userId(auth), req);
+    public ResumeDto create(CurrentUser me, @Valid @RequestBody ResumeUpsertRequest req) {
+        return myPageService.create(me.id(), req);
     }
 
     /**
      * ✅ 이력서 수정
+     * - If-Match: 마지막으로 받은 버전 (오래됐으면 412 + 현재 버전, 없으면 버전 확인 없이 저장)
+     * - 응답 ETag: 저장 후 버전
      */
     @PutMapping("/resumes/{resumeId}")
-    public ResumeDto update(Authentication auth,
-                            @PathVariable Long resumeId,
-                            @Valid @RequestBody ResumeUpsertRequest req) {
-        return myPageService.update(userId(auth), resumeId, req);
+    public ResponseEntity<ResumeDto> update(CurrentUser me,
+                                            @PathVariable Long resumeId,
+                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                            @Valid @RequestBody ResumeUpsertRequest req) {
+        Long expectedVersion = (ifMatch == null || ifMatch.isBlank()) ? null : parseVersion(ifMatch);
+        ResumeDto res = myPageService.update(me.id(), resumeId, expectedVersion, req);
+        return ResponseEntity.ok().eTag(String.valueOf(res.getVersion())).body(res);
+    }
+
+    /**
+     * ✅ 이력서 자동 저장 (RFC 6902 JSON Patch)
+     * - If-Match: 마지막으로 받은 버전 (없으면 428, 오래됐으면 412 + 현재 버전)
+     * - 응답 ETag: 저장 후 버전
+     */
+    @PatchMapping(value = "/resumes/{resumeId}", consumes = {"application/json-patch+json", "application/json"})
+    public ResponseEntity<ResumePatchResponse> patch(CurrentUser me,
+                                                     @PathVariable Long resumeId,
+                                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                     @RequestBody JsonNode operations) {
+        ResumePatchResponse res = myPageService.patch(me.id(), resumeId, parseVersion(ifMatch), operations);
+        return ResponseEntity.ok().eTag(String.valueOf(res.version())).body(res);
     }
 
     /**
      * ✅ 이력서 삭제
      */
     @DeleteMapping("/resumes/{resumeId}")
-    public ResponseEntity<Void> delete(Authentication auth, @PathVariable Long resumeId) {
-        myPageService.delete(userId(auth), resumeId);
+    public ResponseEntity<Void> delete(CurrentUser me, @PathVariable Long resumeId) {
+        myPageService.delete(me.id(), resumeId);
         return ResponseEntity.noContent().build();
     }
 
@@ -193,17 +104,17 @@ public class MyPageRestController {
      * ✅ 내 프로필 조회 (온보딩 데이터)
      */
     @GetMapping("/me")
-    public ResponseEntity<MyProfileDto> getMe(Authentication auth) {
-        return ResponseEntity.ok(myPageService.getProfile(userId(auth)));
+    public ResponseEntity<MyProfileDto> getMe(CurrentUser me) {
+        return ResponseEntity.ok(myPageService.getProfile(me.id()));
     }
 
     /**
      * ✅ 내 프로필 수정
      */
     @PutMapping("/me")
-    public ResponseEntity<MyProfileDto> updateMe(Authentication auth,
+    public ResponseEntity<MyProfileDto> updateMe(CurrentUser me,
                                                  @Valid @RequestBody MyProfileUpdateRequest req) {
-        return ResponseEntity.ok(myPageService.updateProfile(userId(auth), req));
+        return ResponseEntity.ok(myPageService.updateProfile(me.id(), req));
     }
 
     /** ✅ 회원 탈퇴 (소프트삭제) */
@@ -236,8 +147,8 @@ public class MyPageRestController {
      * ✅ 내가 지원한 공고 내역 조회
      */
     @GetMapping("/applies")
-    public ResponseEntity<List<ApplyDto>> getMyApplies(Authentication auth) {
-        return ResponseEntity.ok(myPageService.getMyApplyList(userId(auth)));
+    public ResponseEntity<List<ApplyDto>> getMyApplies(CurrentUser me) {
+        return ResponseEntity.ok(myPageService.getMyApplyList(me.id()));
     }
 
     /**
@@ -245,11 +156,11 @@ public class MyPageRestController {
      */
     @PostMapping("/applies")
     public ResponseEntity<ApplyDto> applyToJob(
-            Authentication auth,
+            CurrentUser me,
             @RequestBody ApplyRequest request
     ) {
         ApplyDto response = myPageService.applyToJob(
-                userId(auth),
+                me.id(),
                 request.jobPostId(),
                 request.resumeId()
         );
@@ -267,10 +178,10 @@ public class MyPageRestController {
      */
     @PostMapping("/favorites/companies/{companyId}")
     public ResponseEntity<FavoriteSummaryDto> addFavoriteCompany(
-            Authentication auth,
+            CurrentUser me,
             @PathVariable Long companyId
     ) {
-        FavoriteSummaryDto dto = myPageService.addFavoriteCompany(userId(auth), companyId);
+        FavoriteSummaryDto dto = myPageService.addFavoriteCompany(me.id(), companyId);
         return ResponseEntity.ok(dto);
     }
 
@@ -278,18 +189,18 @@ public class MyPageRestController {
      * ✅ 즐겨찾기 목록 조회 (기업)
      */
     @GetMapping("/favorites/companies")
-    public PagedResponse<FavoriteSummaryDto> favoriteCompanies(Authentication auth,
+    public PagedResponse<FavoriteSummaryDto> favoriteCompanies(CurrentUser me,
                                                                       @RequestParam(defaultValue = "0") int page,
                                                                       @RequestParam(defaultValue = "10") int size) {
-        return myPageService.listFavoriteCompanies(userId(auth), page, size);
+        return myPageService.listFavoriteCompanies(me.id(), page, size);
     }
 
     /**
      * ✅ 즐겨찾기 삭제 (기업)
      */
     @DeleteMapping("/favorites/companies/{companyId}")
-    public ResponseEntity<Void> removeFavoriteCompany(Authentication auth, @PathVariable Long companyId) {
-        myPageService.removeFavoriteCompany(userId(auth), companyId);
+    public ResponseEntity<Void> removeFavoriteCompany(CurrentUser me, @PathVariable Long companyId) {
+        myPageService.removeFavoriteCompany(me.id(), companyId);
         return ResponseEntity.noContent().build();
     }
 
@@ -298,10 +209,10 @@ public class MyPageRestController {
      */
     @PostMapping("/favorites/jobposts/{jobPostId}")
     public ResponseEntity<FavoriteSummaryDto> addScrapJobPost(
-            Authentication auth,
+            CurrentUser me,
             @PathVariable Long jobPostId
     ) {
-        FavoriteSummaryDto dto = jobPostScrapService.add(userId(auth), jobPostId);
+        FavoriteSummaryDto dto = jobPostScrapService.add(me.id(), jobPostId);
         return ResponseEntity.ok(dto);
     }
 
@@ -310,19 +221,19 @@ public class MyPageRestController {
      */
     @GetMapping("/favorites/jobposts")
     public PagedResponse<FavoriteSummaryDto> scrapJobPosts(
-            Authentication auth,
+            CurrentUser me,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size
     ) {
-        return jobPostScrapService.list(userId(auth), page, size);
+        return jobPostScrapService.list(me.id(), page, size);
     }
 
     /**
      * ✅ 스크랩 삭제 (공고)
      */
     @DeleteMapping("/favorites/jobposts/{jobPostId}")
-    public ResponseEntity<Void> removeScrapJobPost(Authentication auth, @PathVariable Long jobPostId) {
-        jobPostScrapService.remove(userId(auth), jobPostId);
+    public ResponseEntity<Void> removeScrapJobPost(CurrentUser me, @PathVariable Long jobPostId) {
+        jobPostScrapService.remove(me.id(), jobPostId);
         return ResponseEntity.noContent().build();
     }
 
@@ -331,11 +242,11 @@ public class MyPageRestController {
      */
     @DeleteMapping("/applies")
     public ResponseEntity<?> deleteMyApplies(
-            Authentication auth,
+            CurrentUser me,
             @RequestBody List<Long> applyIds
     ) {
         try {
-            myPageService.deleteMyApplies(userId(auth), applyIds);
+            myPageService.deleteMyApplies(me.id(), applyIds);
             return ResponseEntity.noContent().build();
         } catch (Exception e) {
             log.error("❌ 지원 내역 삭제 중 오류 발생", e);
@@ -349,8 +260,8 @@ public class MyPageRestController {
                                                @RequestParam("file") MultipartFile file) {
         try {
             log.info("🔥 uploadResumePhoto 호출됨 - resumeId={}, file={}", id, file.getOriginalFilename());
-            String photoUrl = myPageService.uploadResumePhotoToS3(id, file);
-            return ResponseEntity.ok(Map.of("url", photoUrl, "idPhoto", photoUrl));
+            MyPageService.PhotoUpload uploaded = myPageService.uploadResumePhotoToS3(id, file);
+            return ResponseEntity.ok(Map.of("url", uploaded.url(), "idPhoto", uploaded.url(), "version", uploaded.version()));
         } catch (Exception e) {
             log.error("❌ 업로드 예외: {}", e.getMessage(), e);
             // 여기서 서버 내부 예외를 직접 반환
@@ -361,4 +272,19 @@ public class MyPageRestController {
                     ));
         }
     }
-}
\ No newline at end of file
+
+    /** If-Match: "3" / W/"3" / 3 → 3 */
+    private static long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_REQUIRED, "If-Match 헤더(이력서 버전)가 필요합니다.");
+        }
+        String v = ifMatch.trim();
+        if (v.startsWith("W/")) v = v.substring(2);
+        v = v.replace("\"", "");
+        try {
+            return Long.parseLong(v);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 If-Match 값: " + ifMatch);
+        }
+    }
+}
@@ -1,16 +1,13 @@
 package com.we.hirehub.controller;
 
-import com.we.hirehub.config.JwtUserPrincipal;
+import com.we.hirehub.config.CurrentUser;
 import com.we.hirehub.dto.support.ReviewDto;
 import com.we.hirehub.entity.Company;
 import com.we.hirehub.entity.Review;
-import com.we.hirehub.entity.Users;
 import com.we.hirehub.repository.CompanyRepository;
-import com.we.hirehub.repository.UsersRepository;
 import com.we.hirehub.service.ReviewService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -22,20 +19,11 @@ public class ReviewRestController {
 
     private final ReviewService reviewService;
     private final CompanyRepository companyRepository;
-    private final UsersRepository usersRepository;
 
     /** ✅ 리뷰 등록 (로그인 사용자 자동 연결) */
     @PostMapping
-    public ReviewDto createReview(@RequestBody ReviewDto dto, Authentication authentication) {
+    public ReviewDto createReview(@RequestBody ReviewDto dto, CurrentUser me) {
         System.out.println("DTO 내용: " + dto);
-        System.out.println("Auth: " + authentication);
-        // ✅ 로그인 사용자 ID 추출
-        JwtUserPrincipal principal = (JwtUserPrincipal) authentication.getPrincipal();
-        Long userId = principal.getUserId();
-
-        // ✅ 사용자 조회
-        Users user = usersRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("유저를 찾을 수 없습니다."));
 
         // ✅ 회사 ID 유효성 검사
         if (dto.getCompanyId() == null) {
@@ -43,7 +31,7 @@ public class ReviewRestController {
         }
 
         // ✅ 리뷰 저장
-        Review saved = reviewService.addReview(dto, user);
+        Review saved = reviewService.addReview(dto, me.toUserRef());   // 작성자는 FK만 연결 (users 재조회 없음)
 
         // ✅ 응답 DTO 반환
         return ReviewDto.builder()
@@ -3,21 +3,35 @@ package com.we.hirehub.controller;
 import com.we.hirehub.entity.LiveChat;
 import com.we.hirehub.entity.Session;
 import com.we.hirehub.entity.Users;
+import com.we.hirehub.moderation.ModerationFilter;
 import com.we.hirehub.repository.LiveChatRepository;
 import com.we.hirehub.repository.SessionRepository;
 import com.we.hirehub.repository.UsersRepository;
+import com.we.hirehub.ws.PresenceService;
+import com.we.hirehub.ws.ReadReceiptStore;
+import com.we.hirehub.ws.RoomBroadcaster;
+import com.we.hirehub.ws.RoomMailboxExecutor;
+import com.we.hirehub.ws.RoomReplayBuffer;
+import com.we.hirehub.ws.RoomSignals;
 import com.we.hirehub.ws.SupportQueue;
+import com.we.hirehub.ws.SupportQueuePublisher;
 import com.we.hirehub.service.ChatService; // 네 서비스 시그니처에 맞추어 optional 사용
+import com.we.hirehub.service.LiveChatService;
+import com.we.hirehub.service.SessionSummaryService;
+import com.we.hirehub.service.ChatSearchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -25,15 +39,76 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class SupportSocketController {
 
-    private final SimpMessagingTemplate messagingTemplate;
     private final SupportQueue supportQueue;
     private final UsersRepository usersRepository;
     private final LiveChatRepository liveChatRepository;
     private final SessionRepository sessionRepository;
+    private final PresenceService presenceService;
+    private final SupportQueuePublisher queuePublisher;
+    private final RoomBroadcaster roomBroadcaster;
+    private final RoomMailboxExecutor roomMailbox;
+    private final RoomReplayBuffer replayBuffer;
+    private final LiveChatService liveChatService;
+    private final ModerationFilter moderationFilter;
+    private final RoomSignals roomSignals;
+    private final ReadReceiptStore readReceipts;
+    private final SessionSummaryService sessionSummaryService;
+    private final ChatSearchService chatSearchService;
+
+    // ✅ 모든 핸들러는 방 메일박스에서 실행 → 같은 방은 상태 변경/저장/브로드캐스트가 순서대로 하나씩 처리됨
 
     // ✅ 유저/상담사가 채팅 보냄 (DB 저장 + WebSocket 브로드캐스트)
     @MessageMapping("support.send/{roomId}")
     public void userSend(@DestinationVariable String roomId, Map<String, Object> payload) {
+        submit(roomId, () -> handleUserSend(roomId, payload));
+    }
+
+    // 유저가 핸드오프 요청
+    @MessageMapping("support.handoff/{roomId}")
+    public void handoffRequest(@DestinationVariable String roomId, Map<String, Object> payload) {
+        submit(roomId, () -> handleHandoffRequest(roomId, payload));
+    }
+
+    // 상담사가 수락
+    @MessageMapping("support.handoff.accept")
+    public void handoffAccept(Map<String, Object> payload) {
+        String roomId = (String) payload.get("roomId");
+        if (roomId == null || roomId.isBlank()) return;
+        submit(roomId, () -> handleHandoffAccept(roomId));
+    }
+
+    // ✅ 유저가 연결 해제
+    @MessageMapping("support.disconnect/{roomId}")
+    public void userDisconnect(@DestinationVariable String roomId, Map<String, Object> payload) {
+        submit(roomId, () -> handleUserDisconnect(roomId));
+    }
+
+    // ✅ 상담사가 연결 해제
+    @MessageMapping("support.agent.disconnect")
+    public void agentDisconnect(Map<String, Object> payload) {
+        String roomId = (String) payload.get("roomId");
+        if (roomId == null || roomId.isBlank()) return;
+        submit(roomId, () -> handleAgentDisconnect(roomId));
+    }
+
+    // ✅ 입력 중 표시 (클라이언트는 몇 초에 한 번만 전송, 서버는 상태가 바뀔 때만 방에 알림)
+    @MessageMapping("support.typing/{roomId}")
+    public void typing(@DestinationVariable String roomId, Map<String, Object> payload, SimpMessageHeaderAccessor accessor) {
+        Participant p = participantOf(accessor);
+        roomSignals.typing(roomId, p.id(), p.role(), Boolean.TRUE.equals(payload.get("typing")));
+    }
+
+    // ✅ 읽음 표시 (마지막으로 읽은 메시지 id)
+    @MessageMapping("support.read/{roomId}")
+    public void read(@DestinationVariable String roomId, Map<String, Object> payload, SimpMessageHeaderAccessor accessor) {
+        if (!(payload.get("lastReadId") instanceof Number lastReadId)) return;
+        Participant p = participantOf(accessor);
+        roomSignals.read(roomId, p.id(), p.role(), lastReadId.longValue());
+    }
+
+    // ===== 메일박스 안에서 실행되는 처리 =====
+
+    private void handleUserSend(String roomId, Map<String, Object> payload) {
         log.info("=== 메시지 수신 ===");
         log.info("roomId: {}, payload: {}", roomId, payload);
 
@@ -46,6 +121,13 @@ public class SupportSocketController {
             return;
         }
 
+        // ✅ 금칙어 가림 (저장/브로드캐스트 모두 가려진 텍스트 사용)
+        String filtered = moderationFilter.mask(text);
+        if (filtered != text) {
+            log.info("🛡️ 금칙어 가림 처리: roomId={}", roomId);
+            text = filtered;
+        }
+
         // ✅ 사용자 정보 추출
         Users user = null;
         String nickname = "익명";
@@ -98,6 +180,7 @@ public class SupportSocketController {
                 user != null ? user.getId() : "null", nickname, role, text);
 
         // ✅ 1. DB에 직접 저장
+        Long savedId = null;
         try {
             Session session = sessionRepository.findById(roomId)
                     .orElseGet(() -> {
@@ -115,7 +198,10 @@ public class SupportSocketController {
                     .user(user)
                     .build();
 
-            liveChatRepository.saveAndFlush(chat);
+            LiveChat saved = liveChatRepository.saveAndFlush(chat);
+            savedId = saved.getId();
+            sessionSummaryService.onMessage(saved, role);  // 세션 목록 요약 갱신
+            chatSearchService.onMessage(saved);            // 검색 색인 대기열 (트랜잭션 안이면 커밋된 뒤에만 적재)
             log.info("✅ DB 저장 완료");
         } catch (Exception e) {
             log.error("❌ DB 저장 실패", e);
@@ -123,28 +209,24 @@ public class SupportSocketController {
 
         // ✅ 2. WebSocket으로 브로드캐스트
         Map<String, Object> echo = new HashMap<>();
+        echo.put("id", savedId);  // 읽음 표시 기준
         echo.put("type", type);
         echo.put("role", role);
         echo.put("text", text);
         echo.put("userId", user != null ? user.getId() : null);
         echo.put("nickname", nickname);
 
-        messagingTemplate.convertAndSend("/topic/rooms/" + roomId, echo);
+        roomBroadcaster.send(roomId, echo);
         log.info("✅ WebSocket 브로드캐스트 완료");
 
         log.info("=== 메시지 처리 완료 ===");
     }
 
-    // 유저가 핸드오프 요청
-    @MessageMapping("support.handoff/{roomId}")
-    public void handoffRequest(@DestinationVariable String roomId, Map<String, Object> payload) {
+    private void handleHandoffRequest(String roomId, Map<String, Object> payload) {
         log.info("=== 핸드오프 요청 받음 ===");
         log.info("roomId: {}", roomId);
         log.info("payload: {}", payload);
 
-        var s = supportQueue.state(roomId);
-        s.handoffRequested = true;
-
         // ✅ userId로 DB에서 실제 유저 정보 조회
         Long userId = null;
         try {
@@ -185,43 +267,34 @@ public class SupportSocketController {
             log.warn("⚠️ userId가 null입니다. payload 전체: {}", payload);
         }
 
-        // SupportQueue에 저장
-        s.userName = userName;
-        s.userNickname = userNickname;
+        // SupportQueue에 저장 (다른 노드에도 전파)
+        supportQueue.requested(roomId, userName, userNickname);
         log.info("📦 SupportQueue에 저장: userName={}, userNickname={}", userName, userNickname);
 
-        // 대기 큐에 브로드캐스트
-        Map<String, Object> notice = new HashMap<>();
-        notice.put("event", "HANDOFF_REQUESTED");
-        notice.put("roomId", roomId);
-        notice.put("userName", userName);
-        notice.put("userNickname", userNickname);
-        log.info("📤 큐에 브로드캐스트: {}", notice);
-        messagingTemplate.convertAndSend("/topic/support.queue", notice);
+        // 대기 큐에 반영 (윈도우 단위로 묶어서 전송)
+        queuePublisher.requested(roomId, userName, userNickname);
 
         // 유저 방에 알림
         Map<String, Object> ack = new HashMap<>();
         ack.put("type", "HANDOFF_REQUESTED");
-        messagingTemplate.convertAndSend("/topic/rooms/" + roomId, ack);
+        roomBroadcaster.send(roomId, ack);
 
         log.info("✅ 핸드오프 요청 처리 완료: roomId={}, name={}, nickname={}", roomId, userName, userNickname);
     }
 
-    // 상담사가 수락
-    @MessageMapping("support.handoff.accept")
-    public void handoffAccept(Map<String, Object> payload) {
-        String roomId = (String) payload.get("roomId");
-        if (roomId == null || roomId.isBlank()) return;
-
+    private void handleHandoffAccept(String roomId) {
         var s = supportQueue.state(roomId);
-        s.handoffAccepted = true;
+        supportQueue.accepted(roomId);  // 다른 노드에도 전파 → 요청 노드의 대기 큐에서도 빠짐
 
-        // SupportQueue에서 저장된 유저 정보 가져오기
+        // SupportQueue에서 저장된 유저 정보 가져오기 (요청이 다른 노드로 들어왔어도 복제되어 있음)
         String userName = s.userName != null ? s.userName : "user";
         String userNickname = s.userNickname != null ? s.userNickname : "user";
 
         log.info("✅ 핸드오프 수락: roomId={}, name={}, nickname={}", roomId, userName, userNickname);
 
+        // 다른 상담사 대기 큐에서도 제거
+        queuePublisher.removed(roomId);
+
         // ✅ 유저 방에 연결 완료 알림 (userName, userNickname 포함)
         Map<String, Object> msg = new HashMap<>();
         msg.put("type", "HANDOFF_ACCEPTED");
@@ -229,22 +302,19 @@ public class SupportSocketController {
         msg.put("text", "상담사가 연결되었습니다. 지금부터 실시간 상담이 가능합니다.");
         msg.put("userName", userName);
         msg.put("userNickname", userNickname);
-        messagingTemplate.convertAndSend("/topic/rooms/" + roomId, msg);
+        roomBroadcaster.send(roomId, msg);
 
         log.info("📤 HANDOFF_ACCEPTED 메시지 전송 완료: userName={}, userNickname={}", userName, userNickname);
     }
 
-    // ✅ 유저가 연결 해제
-    @MessageMapping("support.disconnect/{roomId}")
-    public void userDisconnect(@DestinationVariable String roomId, Map<String, Object> payload) {
+    private void handleUserDisconnect(String roomId) {
         var s = supportQueue.state(roomId);
 
         // SupportQueue에 저장된 정보 사용
         String userName = s.userName != null ? s.userName : "user";
         String userNickname = s.userNickname != null ? s.userNickname : "user";
 
-        s.handoffRequested = false;
-        s.handoffAccepted = false;
+        supportQueue.released(roomId);
 
         log.info("📌 유저 연결 해제: roomId={}, name={}, nickname={}", roomId, userName, userNickname);
 
@@ -254,34 +324,99 @@ public class SupportSocketController {
         msg.put("userName", userName);
         msg.put("userNickname", userNickname);
         msg.put("roomId", roomId);
-        messagingTemplate.convertAndSend("/topic/rooms/" + roomId, msg);
+        roomBroadcaster.send(roomId, msg);
 
-        // 큐에도 알림 (상담사 대시보드 업데이트용)
-        Map<String, Object> queueNotice = new HashMap<>();
-        queueNotice.put("event", "USER_DISCONNECTED");
-        queueNotice.put("roomId", roomId);
-        queueNotice.put("userName", userName);
-        queueNotice.put("userNickname", userNickname);
-        messagingTemplate.convertAndSend("/topic/support.queue", queueNotice);
+        // 큐에도 반영 (상담사 대시보드 업데이트용)
+        queuePublisher.removed(roomId);
 
         log.info("✅ 유저 연결 해제 알림 전송 완료");
     }
 
-    // ✅ 상담사가 연결 해제
-    @MessageMapping("support.agent.disconnect")
-    public void agentDisconnect(Map<String, Object> payload) {
-        String roomId = (String) payload.get("roomId");
-        if (roomId == null || roomId.isBlank()) return;
-
-        var s = supportQueue.state(roomId);
-        s.handoffRequested = false;
-        s.handoffAccepted = false;
+    private void handleAgentDisconnect(String roomId) {
+        supportQueue.released(roomId);
 
         log.info("📌 상담사 연결 해제: roomId={}", roomId);
 
         // 유저에게 알림
         Map<String, Object> msg = new HashMap<>();
         msg.put("type", "AGENT_DISCONNECTED");
-        messagingTemplate.convertAndSend("/topic/rooms/" + roomId, msg);
+        roomBroadcaster.send(roomId, msg);
+    }
+
+    // ✅ 재접속 빈틈 채우기: /app/rooms/{roomId}/since/{lastSeq} 구독 → 놓친 프레임 1회 응답
+    // 버퍼 범위를 벗어나면(reset=true) DB 최근 히스토리로 대체
+    @SubscribeMapping("rooms/{roomId}/since/{lastSeq}")
+    public Map<String, Object> replaySince(@DestinationVariable String roomId, @DestinationVariable long lastSeq) {
+        RoomReplayBuffer.Replay replay = replayBuffer.since(roomId, lastSeq);
+
+        Map<String, Object> res = new HashMap<>();
+        res.put("roomId", roomId);
+        res.put("headSeq", replay.headSeq());
+        if (replay.complete()) {
+            res.put("reset", false);
+            res.put("frames", replay.frames());
+        } else {
+            log.info("🔁 재전송 버퍼 범위 초과 → DB 히스토리로 대체: roomId={}, lastSeq={}, headSeq={}",
+                    roomId, lastSeq, replay.headSeq());
+            res.put("reset", true);
+            res.put("frames", liveChatService.getRecentMessages(roomId, 30));
+        }
+        return res;
+    }
+
+    // ✅ 상담사 대시보드 최초 진입 시 대기 큐 스냅샷 (/app/support.queue 구독 → 1회 응답)
+    @SubscribeMapping("support.queue")
+    public Map<String, Object> queueSnapshot() {
+        return queuePublisher.snapshot();
+    }
+
+    // ✅ 상담사 대시보드 최초 진입 시 프레즌스 스냅샷 (/app/support.presence 구독 → 1회 응답)
+    @SubscribeMapping("support.presence")
+    public Map<String, Object> presenceSnapshot() {
+        return presenceService.snapshot();
+    }
+
+    // ✅ 방 입장 시 참여자별 읽음 위치 (/app/rooms/{roomId}/reads 구독 → 1회 응답)
+    @SubscribeMapping("rooms/{roomId}/reads")
+    public List<ReadReceiptStore.Mark> readMarks(@DestinationVariable String roomId) {
+        return readReceipts.marks(roomId);
+    }
+
+    // ===== Private Helper Methods =====
+
+    /** 방 메일박스 투입, 방 대기열이 가득 차면 처리하지 않고 방에 오류 프레임 전송 (재전송 버퍼 X) */
+    private void submit(String roomId, Runnable handler) {
+        if (roomMailbox.execute(roomId, handler)) return;
+        Map<String, Object> busy = new HashMap<>();
+        busy.put("type", "ROOM_BUSY");
+        busy.put("role", "SYS");
+        busy.put("text", "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        roomBroadcaster.sendEphemeral(roomId, busy);
+    }
+
+    private record Participant(String id, String role) {}
+
+    private static final String PARTICIPANT_ATTR = "support.participant";
+
+    /**
+     * 참여자(역할:userId)는 STOMP 연결 인증 정보로만 결정 (payload의 role/userId는 사용하지 않음)
+     * - ADMIN 권한 → AGENT, 그 외 로그인 유저 → USER, 비로그인 → USER:guest-{STOMP 세션 id}
+     * - 연결당 한 번만 조회해서 세션 속성에 보관
+     */
+    private Participant participantOf(SimpMessageHeaderAccessor accessor) {
+        Map<String, Object> attrs = accessor.getSessionAttributes();
+        if (attrs != null && attrs.get(PARTICIPANT_ATTR) instanceof Participant cached) return cached;
+
+        Participant p;
+        if (accessor.getUser() instanceof Authentication auth && auth.isAuthenticated()) {
+            boolean agent = auth.getAuthorities().stream().anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority()));
+            String role = agent ? "AGENT" : "USER";
+            Long userId = usersRepository.findByEmail(auth.getName()).map(Users::getId).orElse(null);
+            p = new Participant(role + ":" + (userId != null ? userId : auth.getName()), role);
+        } else {
+            p = new Participant("USER:guest-" + accessor.getSessionId(), "USER");
+        }
+        if (attrs != null) attrs.put(PARTICIPANT_ATTR, p);
+        return p;
     }
 }
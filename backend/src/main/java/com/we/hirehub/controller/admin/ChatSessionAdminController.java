@@ -0,0 +1,75 @@
+package com.we.hirehub.controller.admin;
+
+import com.we.hirehub.service.ChatSearchService;
+import com.we.hirehub.service.SessionSummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 관리자 - 상담 세션 목록 API
+ * 기본 경로: /api/admin/chat-sessions
+ * 권한: ADMIN
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/chat-sessions")
+@RequiredArgsConstructor
+public class ChatSessionAdminController {
+
+    private final SessionSummaryService sessionSummaryService;
+    private final ChatSearchService chatSearchService;
+
+    /**
+     * 최근 대화순 세션 목록 (커서 페이징)
+     * GET /api/admin/chat-sessions?size=20&cursor={이전 응답의 nextCursor}
+     */
+    @GetMapping
+    public ResponseEntity<?> getSessions(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Map<String, Object> response = new HashMap<>();
+        try {
+            Map<String, Object> page = sessionSummaryService.page(cursor, size);
+            response.put("success", true);
+            response.put("message", "상담 세션 목록 조회 성공");
+            response.put("data", page.get("items"));
+            response.put("nextCursor", page.get("nextCursor"));  // 마지막 페이지면 null
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+
+    /**
+     * 상담 기록 검색 (보관된 기록 포함, 세션 단위 결과 + 스니펫)
+     * GET /api/admin/chat-sessions/search?q=환불&size=20&cursor={이전 응답의 nextCursor}
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> searchSessions(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Map<String, Object> response = new HashMap<>();
+        try {
+            Map<String, Object> page = chatSearchService.search(q, cursor, size);
+            response.put("success", true);
+            response.put("message", "상담 기록 검색 성공");
+            response.put("data", page.get("items"));
+            response.put("nextCursor", page.get("nextCursor"));
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+}
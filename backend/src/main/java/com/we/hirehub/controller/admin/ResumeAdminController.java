@@ -2,6 +2,7 @@ package com.we.hirehub.controller.admin;
 
 import com.we.hirehub.dto.resume.ResumeDto;
 import com.we.hirehub.entity.Resume;
+import com.we.hirehub.service.ResumeSnapshotService;
 import com.we.hirehub.service.S3Service;
 import com.we.hirehub.service.admin.ResumeAdminService;
 import lombok.RequiredArgsConstructor;
@@ -10,19 +11,25 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * ✅ 관리자 - 이력서 관리 API
  * - 목록:  /api/admin/resume-management            (유지)
  * - 상세:  /api/admin/resume-management/detail/{id} (★ 변경: AdminController와 경로 충돌 회피)
+ * - 지원서: /api/admin/resume-management/applies/{applyId}/snapshot (지원 시점 사본)
  */
 @Slf4j
 @RestController
@@ -32,6 +39,7 @@ public class ResumeAdminController {
 
     private final ResumeAdminService resumeService;
     private final S3Service s3Service;
+    private final ResumeSnapshotService snapshotService;
 
     /** ✅ [1] 이력서 목록 조회 (유지) */
     @GetMapping
@@ -48,9 +56,8 @@ public class ResumeAdminController {
             Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortParams[0]));
             Page<Resume> resumes = resumeService.getAllResumes(pageable);
 
-            List<ResumeDto> resumeDtos = resumes.getContent().stream()
-                    .map(resumeService::toDto)
-                    .collect(Collectors.toList());
+            // 섹션은 페이지 단위로 한 번에 (이력서마다 조회 X)
+            List<ResumeDto> resumeDtos = resumeService.toDtos(resumes.getContent());
 
             log.info("📄 관리자 이력서 목록 조회 완료: {}개", resumes.getTotalElements());
 
@@ -222,6 +229,43 @@ public class ResumeAdminController {
         }
     }
 
+    /**
+     * ✅ [7-1] 지원 시점 이력서 사본 (지원 1건 = resume_snapshot 1행 읽기)
+     * - 저장된 gzip JSON을 그대로 전송 (Accept-Encoding에 gzip 없을 때만 서버에서 해제)
+     * - 사본은 바뀌지 않으므로 인코딩별 고정 ETag + 장기 캐시 (Vary: Accept-Encoding)
+     */
+    @GetMapping("/applies/{applyId}/snapshot")
+    public ResponseEntity<?> getApplySnapshot(@PathVariable Long applyId,
+                                              @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                              WebRequest request) {
+        var snapshot = snapshotService.find(applyId).orElse(null);
+        if (snapshot == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(err("지원 시점 이력서 사본이 없습니다: " + applyId));
+        }
+
+        // 같은 URL이 인코딩별로 다른 바이트 → ETag도 인코딩별로 구분 (캐시/프록시가 gzip 본문을 평문 요청에 돌려주지 않도록)
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        String etag = "\"snapshot-" + applyId + (gzip ? "-gzip" : "") + "\"";
+        CacheControl cache = CacheControl.maxAge(Duration.ofDays(30)).cachePrivate().immutable();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cache)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder res = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cache)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return res.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.getData());
+        }
+        return res.body(ResumeSnapshotService.json(snapshot));
+    }
+
     /** ✅ [8] 증명사진 업로드 */
     @PostMapping("/resume-photo")
     public ResponseEntity<?> uploadResumePhoto(
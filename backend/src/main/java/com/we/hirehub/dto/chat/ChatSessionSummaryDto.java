@@ -0,0 +1,31 @@
+package com.we.hirehub.dto.chat;
+
+import com.we.hirehub.entity.ChatSessionSummary;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class ChatSessionSummaryDto {
+    private String sessionId;
+    private Long lastMessageId;
+    private String lastPreview;
+    private LocalDateTime lastMessageAt;
+    private String lastSenderRole;
+    private long messageCount;
+    private int unreadUser;
+    private int unreadAgent;
+
+    public static ChatSessionSummaryDto from(ChatSessionSummary s) {
+        return ChatSessionSummaryDto.builder()
+                .sessionId(s.getSessionId())
+                .lastMessageId(s.getLastMessageId())
+                .lastPreview(s.getLastPreview())
+                .lastMessageAt(s.getLastMessageAt())
+                .lastSenderRole(s.getLastSenderRole())
+                .messageCount(s.getMessageCount())
+                .unreadUser(s.getUnreadUser())
+                .unreadAgent(s.getUnreadAgent())
+                .build();
+    }
+}
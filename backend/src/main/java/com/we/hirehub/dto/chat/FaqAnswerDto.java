@@ -0,0 +1,26 @@
+package com.we.hirehub.dto.chat;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FaqAnswerDto {
+    private Long id;
+    private String question;       // FAQ 질문
+    private String answer;         // FAQ 답변
+    private String category;
+    private double score;          // 질문과의 유사도 (0~1)
+
+    public static FaqAnswerDto of(ChatBotDto item, double score) {
+        return FaqAnswerDto.builder()
+                .id(item.getId())
+                .question(item.getContent())
+                .answer(item.getBotAnswer())
+                .category(item.getCategory())
+                .score(score)
+                .build();
+    }
+}
@@ -14,6 +14,7 @@ public class LiveChatDto {
     private String sessionId; // LiveChat.session (@ManyToOne) -> Session.id
     private Long userId;      // Users ID 추가
     private String nickname;  // 추가
+    private Long seq;         // 방 단위 순번 (실시간 전송 시에만, 재접속 빈틈 채우기용)
 
     /**
      * LiveChat Entity를 LiveChatDto로 변환
@@ -15,4 +15,5 @@ public class NaverAuthResult {
     private String jwt;
     private String email;
     private boolean isNewUser;
+    private String refreshToken;   // HttpOnly 쿠키로만 내려보냄
 }
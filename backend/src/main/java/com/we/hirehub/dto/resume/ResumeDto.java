@@ -42,6 +42,9 @@ public class ResumeDto {
     private List<Map<String, Object>> skillList;
     private List<Map<String, Object>> languageList;
 
+    // 낙관적 잠금 버전 (자동 저장 PATCH의 If-Match 값)
+    private Long version;
+
     /**
      * 사용자 정보 (관리자용)
      */
@@ -55,6 +58,30 @@ public class ResumeDto {
         private String email;
     }
 
+    /** 섹션 포함 생성자 (version은 setter로) */
+    public ResumeDto(
+            Long id,
+            String title,
+            String idPhoto,
+            String essayTitle,
+            String essayContent,
+            String htmlContent,
+            boolean locked,
+            LocalDate createAt,
+            LocalDate updateAt,
+            UserSummaryDto profile,
+            UserInfo users,
+            List<Map<String, Object>> educationList,
+            List<Map<String, Object>> careerList,
+            List<Map<String, Object>> certificateList,
+            List<Map<String, Object>> skillList,
+            List<Map<String, Object>> languageList
+    ) {
+        this(id, title, idPhoto, essayTitle, essayContent, htmlContent, locked,
+                createAt, updateAt, profile, users,
+                educationList, careerList, certificateList, skillList, languageList, null);
+    }
+
     /** 기존 코드 호환용 생성자 (profile만, users/가변섹션 없음) */
     public ResumeDto(
             Long id,
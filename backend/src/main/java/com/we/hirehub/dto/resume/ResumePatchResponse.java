@@ -0,0 +1,10 @@
+package com.we.hirehub.dto.resume;
+
+import java.util.List;
+
+/**
+ * 이력서 자동 저장(PATCH) 응답
+ * - version: 저장 후 버전 (다음 패치의 If-Match 값)
+ * - changed: 실제로 바뀐 필드/섹션 이름 (비어 있으면 저장 없음)
+ */
+public record ResumePatchResponse(Long id, long version, List<String> changed) {}
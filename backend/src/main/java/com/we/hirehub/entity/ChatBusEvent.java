@@ -0,0 +1,44 @@
+package com.we.hirehub.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/** 노드 간 채팅 팬아웃 이벤트 (JdbcChatBus 전용, 짧게 보관 후 삭제) */
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "chat_bus_event", indexes = @Index(name = "idx_chat_bus_event_create_at", columnList = "create_at"))
+public class ChatBusEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 16)
+    private String kind;
+
+    @Column(name = "origin_node", nullable = false, length = 64)
+    private String originNode;
+
+    @Column(name = "target_node", length = 64)
+    private String targetNode;
+
+    @Column(name = "room_id")
+    private String roomId;
+
+    @Column(nullable = false)
+    private String destination;
+
+    private long seq;
+
+    @Column(columnDefinition = "LONGTEXT", nullable = false)
+    private String payload;
+
+    @Column(name = "create_at", nullable = false)
+    private LocalDateTime createAt;
+}
@@ -0,0 +1,24 @@
+package com.we.hirehub.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/** JdbcChatBus 노드 하트비트 (last_seen이 최근인 노드만 살아있는 것으로 봄) */
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "chat_bus_node")
+public class ChatBusNode {
+    @Id
+    @Column(name = "node_id", length = 64)
+    private String nodeId;
+
+    @Column(name = "last_seen", nullable = false)
+    private LocalDateTime lastSeen;
+}
@@ -0,0 +1,39 @@
+package com.we.hirehub.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/** 상담 채팅 읽음 위치 (참여자당 1행, 마지막으로 읽은 live_chat id만 보관) */
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "chat_read_mark",
+        uniqueConstraints = @UniqueConstraint(name = "uk_chat_read_mark", columnNames = {"session_id", "participant"}))
+public class ChatReadMark {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "session_id", nullable = false)
+    private String sessionId;
+
+    // 역할:식별자 (예: USER:12, AGENT:상담사1)
+    @Column(nullable = false, length = 128)
+    private String participant;
+
+    // USER / AGENT
+    @Column(nullable = false, length = 16)
+    private String role;
+
+    @Column(name = "last_read_id", nullable = false)
+    private Long lastReadId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
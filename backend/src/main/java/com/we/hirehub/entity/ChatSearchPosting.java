@@ -0,0 +1,30 @@
+package com.we.hirehub.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/** 채팅 검색 색인 (검색어 토큰 → 메시지), 보관된 기록도 그대로 남아 검색 대상 */
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "chat_search_posting",
+        uniqueConstraints = @UniqueConstraint(name = "uk_chat_search_posting", columnNames = {"term", "message_id"}),
+        indexes = @Index(name = "idx_chat_search_posting_session", columnList = "session_id"))
+public class ChatSearchPosting {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String term;
+
+    @Column(name = "session_id", nullable = false)
+    private String sessionId;
+
+    @Column(name = "message_id", nullable = false)
+    private Long messageId;
+}
@@ -0,0 +1,47 @@
+package com.we.hirehub.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/** 상담 세션 목록용 요약 (live_chat 저장 시 함께 갱신되는 읽기 모델, 세션당 1행) */
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "chat_session_summary",
+        indexes = @Index(name = "idx_chat_session_summary_recent", columnList = "last_message_at, session_id"))
+public class ChatSessionSummary {
+    @Id
+    @Column(name = "session_id")
+    private String sessionId;
+
+    @Column(name = "last_message_id")
+    private Long lastMessageId;
+
+    // 마지막 메시지 앞부분 (목록 표시용)
+    @Column(name = "last_preview", length = 200)
+    private String lastPreview;
+
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
+    // USER / AGENT (기존 데이터로 채운 행은 null)
+    @Column(name = "last_sender_role", length = 16)
+    private String lastSenderRole;
+
+    @Column(name = "message_count", nullable = false)
+    private long messageCount;
+
+    // 유저가 아직 안 읽은 상담사 메시지 수
+    @Column(name = "unread_user", nullable = false)
+    private int unreadUser;
+
+    // 상담사가 아직 안 읽은 유저 메시지 수
+    @Column(name = "unread_agent", nullable = false)
+    private int unreadAgent;
+}
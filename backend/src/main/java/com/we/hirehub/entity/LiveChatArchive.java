@@ -0,0 +1,48 @@
+package com.we.hirehub.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/** 오래된 상담 채팅 기록 보관본 (Session당 1행, 메시지 목록을 압축해서 저장) */
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "live_chat_archive")
+public class LiveChatArchive {
+    @Id
+    @Column(name = "session_id")
+    private String sessionId;
+
+    @Column(name = "message_count", nullable = false)
+    private int messageCount;
+
+    @Column(name = "first_at")
+    private LocalDateTime firstAt;
+
+    @Column(name = "last_at")
+    private LocalDateTime lastAt;
+
+    // 보관본에 들어간 마지막 live_chat id (재보관 시 중복 제거 기준)
+    @Column(name = "last_message_id")
+    private Long lastMessageId;
+
+    // 압축 방식 (gzip-json-v1)
+    @Column(nullable = false, length = 32)
+    private String codec;
+
+    @Lob
+    @Column(columnDefinition = "LONGBLOB", nullable = false)
+    private byte[] data;
+
+    @Column(name = "raw_bytes")
+    private int rawBytes;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
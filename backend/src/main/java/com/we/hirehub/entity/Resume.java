@@ -2,6 +2,7 @@ package com.we.hirehub.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -15,6 +16,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@DynamicUpdate   // 바뀐 컬럼만 UPDATE (자동 저장 때 LONGTEXT 전체 재기록 방지)
 @Table(name = "resume")
 public class Resume {
     @Id
@@ -55,4 +57,9 @@ public class Resume {
 
     @Column(columnDefinition = "LONGTEXT")
     private String htmlContent;
+
+    // 낙관적 잠금 버전 (수정될 때마다 증가, 자동 저장 패치/수정은 If-Match로 받은 버전과 같을 때만 반영)
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
 }
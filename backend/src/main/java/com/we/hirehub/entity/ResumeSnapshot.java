@@ -0,0 +1,63 @@
+package com.we.hirehub.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/** 지원 시점 이력서 사본 (Apply당 1행, 섹션 포함 ResumeDto JSON을 압축해서 저장, 이후 변경 없음) */
+
+@Entity
+@Immutable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "resume_snapshot")
+public class ResumeSnapshot implements Persistable<Long> {
+    @Id
+    @Column(name = "apply_id")
+    private Long applyId;
+
+    @Column(name = "resume_id", nullable = false)
+    private Long resumeId;
+
+    @Column(name = "users_id", nullable = false)
+    private Long userId;
+
+    // 압축 방식 (gzip-json-v1)
+    @Column(nullable = false, length = 32)
+    private String codec;
+
+    @Lob
+    @Column(columnDefinition = "LONGBLOB", nullable = false)
+    private byte[] data;
+
+    @Column(name = "raw_bytes")
+    private int rawBytes;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // id(apply_id)를 직접 넣는 엔티티 → save()가 merge 전 SELECT 없이 바로 INSERT 하도록 새 행 여부를 직접 알려줌
+    @Transient
+    private boolean persisted;
+
+    @Override
+    public Long getId() {
+        return applyId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+}
@@ -0,0 +1,35 @@
+package com.we.hirehub.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/** 액세스 토큰 폐기 목록 (사용자 단위: 이 시각 이전 발급분 전부 / 토큰 단위: jti), 액세스 토큰 수명이 지나면 삭제 */
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "revoked_token", indexes = @Index(name = "idx_revoked_token_expires", columnList = "expires_at"))
+public class RevokedToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // USER / TOKEN
+    @Column(nullable = false, length = 8)
+    private String kind;
+
+    // USER: users.id, TOKEN: jti
+    @Column(nullable = false, length = 64)
+    private String subject;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.Type;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +27,10 @@ public class Session {
     @Column(columnDefinition = "json")
     private Map<String, Object> ctx;
 
+    // 상담 채팅 기록을 보관(live_chat_archive)한 시각, null이면 보관본 없음 → 히스토리 조회 때 보관본을 읽지 않음
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+
     @OneToMany(mappedBy = "session", fetch = FetchType.LAZY)
     private List<ChatBot> chatBots;
 
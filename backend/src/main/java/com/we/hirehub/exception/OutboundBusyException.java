@@ -0,0 +1,9 @@
+package com.we.hirehub.exception;
+
+/** 외부 제공자 호출 상한(벌크헤드) 초과 → 503 + Retry-After */
+public class OutboundBusyException extends RuntimeException {
+
+    public OutboundBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.we.hirehub.exception;
+
+/** 비밀번호 해시 실행기가 포화 상태 (대기열 초과/대기 시간 초과) → 503 + Retry-After */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+
+    /** 인증 계층이 감싼 경우까지 확인 */
+    public static boolean isCause(Throwable t) {
+        for (Throwable c = t; c != null; c = c.getCause()) {
+            if (c instanceof PasswordHashingBusyException) return true;
+        }
+        return false;
+    }
+}
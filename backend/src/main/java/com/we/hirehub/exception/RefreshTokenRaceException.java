@@ -0,0 +1,12 @@
+package com.we.hirehub.exception;
+
+/**
+ * 다른 탭/요청이 같은 리프레시 토큰으로 방금(grace 안) 먼저 교체함 → 409
+ * - 이긴 쪽이 받은 새 쿠키가 유효하므로 쿠키를 지우지 않고, 클라이언트는 잠시 후 다시 시도
+ */
+public class RefreshTokenRaceException extends RuntimeException {
+
+    public RefreshTokenRaceException(String message) {
+        super(message);
+    }
+}
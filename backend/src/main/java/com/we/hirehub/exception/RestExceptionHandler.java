@@ -1,8 +1,10 @@
 package com.we.hirehub.exception;
 
 import org.springframework.http.*;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.client.ResourceAccessException;
 
 import java.time.Instant;
 import java.util.Map;
@@ -24,6 +26,51 @@ public class RestExceptionHandler {
         ));
     }
 
+    // 자동 저장 패치: If-Match 버전이 오래됨
+    @ExceptionHandler(ResumeVersionConflictException.class)
+    public ResponseEntity<?> handleResumeVersion(ResumeVersionConflictException e) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .eTag(String.valueOf(e.getCurrentVersion()))
+                .body(Map.of(
+                        "timestamp", Instant.now(), "error", "PRECONDITION_FAILED", "message", e.getMessage(),
+                        "currentVersion", e.getCurrentVersion()
+                ));
+    }
+
+    // 같은 버전 기준 저장이 동시에 들어와 커밋 시점에 충돌
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<?> handleOptimisticLock(ObjectOptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(Map.of(
+                "timestamp", Instant.now(), "error", "PRECONDITION_FAILED", "message", "다른 곳에서 먼저 저장되었습니다. 새로고침 후 다시 시도해주세요."
+        ));
+    }
+
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<?> handleHashingBusy(PasswordHashingBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of(
+                        "timestamp", Instant.now(), "error", "SERVICE_UNAVAILABLE", "message", e.getMessage()
+                ));
+    }
+
+    @ExceptionHandler(OutboundBusyException.class)
+    public ResponseEntity<?> handleOutboundBusy(OutboundBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of(
+                        "timestamp", Instant.now(), "error", "SERVICE_UNAVAILABLE", "message", e.getMessage()
+                ));
+    }
+
+    // 외부 제공자 연결/응답 타임아웃
+    @ExceptionHandler(ResourceAccessException.class)
+    public ResponseEntity<?> handleOutboundTimeout(ResourceAccessException e) {
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(Map.of(
+                "timestamp", Instant.now(), "error", "GATEWAY_TIMEOUT", "message", "외부 서비스 응답이 지연되고 있습니다."
+        ));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<?> handleValidation(MethodArgumentNotValidException e) {
         return ResponseEntity.badRequest().body(Map.of(
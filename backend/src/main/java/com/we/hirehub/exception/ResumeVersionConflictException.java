@@ -0,0 +1,13 @@
+package com.we.hirehub.exception;
+
+/** 자동 저장 패치의 기준 버전이 현재 이력서 버전과 다름 (다른 탭/기기에서 먼저 저장됨) */
+public class ResumeVersionConflictException extends RuntimeException {
+    private final long currentVersion;
+
+    public ResumeVersionConflictException(long currentVersion) {
+        super("다른 곳에서 먼저 저장된 이력서입니다. 새로고침 후 다시 시도해주세요.");
+        this.currentVersion = currentVersion;
+    }
+
+    public long getCurrentVersion() { return currentVersion; }
+}
@@ -2,10 +2,12 @@
 package com.we.hirehub.kakaoauth;
 
 import com.we.hirehub.dto.login.KakaoAuthResult;
+import com.we.hirehub.service.RefreshTokenService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,6 +22,7 @@ public class KakaoAuthController {
 
     private final KakaoOAuthProperties props;
     private final KakaoAuthService kakaoAuthService;
+    private final RefreshTokenService refreshTokenService;
 
     @GetMapping("/api/auth/kakao")
     public void launchKakao(HttpServletResponse res) throws IOException {
@@ -39,8 +42,9 @@ public class KakaoAuthController {
 
     /** 카카오 콜백 (인가코드 → 토큰 → 유저 조회 → JWT 발급 → 프론트 콜백 리다이렉트) */
     @GetMapping("/kakao/callback")
-    public String callback(String code) {
+    public String callback(String code, HttpServletResponse res) {
         KakaoAuthResult result = kakaoAuthService.handleCallback(code, props);
+        res.addHeader(HttpHeaders.SET_COOKIE, refreshTokenService.cookie(result.getRefreshToken()).toString());
 
         String redirect = props.getFrontRedirectUrl()
                 + "?token=" + java.net.URLEncoder.encode(result.getJwt(), java.nio.charset.StandardCharsets.UTF_8)
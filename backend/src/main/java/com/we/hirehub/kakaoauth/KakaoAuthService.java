@@ -7,9 +7,10 @@ import com.we.hirehub.dto.login.KakaoUserResponse;
 import com.we.hirehub.entity.Role;
 import com.we.hirehub.entity.Users;
 import com.we.hirehub.repository.UsersRepository;
+import com.we.hirehub.service.AuthService;
+import com.we.hirehub.service.RefreshTokenService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -18,18 +19,19 @@ public class KakaoAuthService {
     private final KakaoOAuthClient kakaoClient;
     private final UsersRepository usersRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
 
     /**
      * 인가코드 -> 카카오 토큰 -> 카카오 사용자 조회 -> (회원 생성/업데이트) -> JWT 발급
      * 그리고 프론트 분기용으로 isNewUser까지 함께 리턴
      */
-    @Transactional
+    // 외부 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 (저장은 리포지토리 단위 트랜잭션)
     public KakaoAuthResult handleCallback(String code, KakaoOAuthProperties props) {
         // 1) 인가코드로 토큰 교환
         KakaoTokenResponse token = kakaoClient.exchangeToken(code, props);
 
         // 2) 카카오 사용자 정보 조회
-        KakaoUserResponse userInfo = kakaoClient.fetchUser(token.getAccessToken());
+        KakaoUserResponse userInfo = kakaoClient.fetchUser(token.getAccessToken(), props);
         String email = userInfo.getEmailOrFallback();        // 이메일은 반드시 확보
         if (email == null || email.isBlank()) {
             // 카카오에서 이메일 동의 안 했을 때 등
@@ -44,6 +46,7 @@ public class KakaoAuthService {
             Users u = new Users();
             u.setEmail(email);
             u.setRole(Role.USER);      // 기본 USER
+            u.setPassword(AuthService.socialPassword("kakao")); // 비밀번호 로그인 불가 표시 (NOT NULL 제약 회피)
             return usersRepository.save(u);
         });
 
@@ -52,12 +55,12 @@ public class KakaoAuthService {
         String jwt = jwtTokenProvider.createToken(user.getEmail(), user.getId());
 
         // 6) 프론트 콜백에서 쿼리로 token & isNewUser 넘길 수 있게 패키징
-        return new KakaoAuthResult(jwt, email, isNewUser);
+        return new KakaoAuthResult(jwt, email, isNewUser, refreshTokenService.issue(user.getId()));
     }
 
     /** 수동(독립) 인가 링크 필요 시 */
     public String buildAuthorizeUrl(KakaoOAuthProperties props) {
-        return "https://kauth.kakao.com/oauth/authorize"
+        return props.getAuthorizeUri()
                 + "?response_type=code"
                 + "&client_id=" + props.getClientId()
                 + "&redirect_uri=" + props.getRedirectUri()
@@ -2,7 +2,7 @@ package com.we.hirehub.kakaoauth;
 
 import com.we.hirehub.dto.login.KakaoTokenResponse;
 import com.we.hirehub.dto.login.KakaoUserResponse;
-import lombok.RequiredArgsConstructor;
+import com.we.hirehub.outbound.OutboundHttpClients;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
@@ -10,10 +10,14 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestClient;
 
 @Component
-@RequiredArgsConstructor
 public class KakaoOAuthClient {
 
-    private final RestClient rest = RestClient.builder().build();
+    // 카카오 전용 커넥션 풀/타임아웃/벌크헤드 (app.outbound.providers.kakao)
+    private final RestClient rest;
+
+    public KakaoOAuthClient(OutboundHttpClients outboundHttpClients) {
+        this.rest = outboundHttpClients.client("kakao");
+    }
 
     public KakaoTokenResponse exchangeToken(String code, KakaoOAuthProperties props) {
         MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
@@ -26,16 +30,16 @@ public class KakaoOAuthClient {
         }
 
         return rest.post()
-                .uri("https://kauth.kakao.com/oauth/token")
+                .uri(props.getTokenUri())
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .body(form)
                 .retrieve()
                 .body(KakaoTokenResponse.class);
     }
 
-    public KakaoUserResponse fetchUser(String accessToken) {
+    public KakaoUserResponse fetchUser(String accessToken, KakaoOAuthProperties props) {
         return rest.get()
-                .uri("https://kapi.kakao.com/v2/user/me")
+                .uri(props.getUserInfoUri())
                 .header("Authorization", "Bearer " + accessToken)
                 .retrieve()
                 .body(KakaoUserResponse.class);
@@ -13,9 +13,16 @@ public class KakaoOAuthProperties {
     private String clientSecret;
     private String redirectUri;
     private String frontRedirectUrl; // 프론트 콜백 (JWT 전달용)
+    // 제공자 엔드포인트 (부하 테스트에서는 내장 스텁 서버로 교체)
+    private String authorizeUri = "https://kauth.kakao.com/oauth/authorize";
+    private String tokenUri = "https://kauth.kakao.com/oauth/token";
+    private String userInfoUri = "https://kapi.kakao.com/v2/user/me";
 
     public void setClientId(String v){ this.clientId = v; }
     public void setClientSecret(String v){ this.clientSecret = v; }
     public void setRedirectUri(String v){ this.redirectUri = v; }
     public void setFrontRedirectUrl(String v){ this.frontRedirectUrl = v; }
+    public void setAuthorizeUri(String v){ this.authorizeUri = v; }
+    public void setTokenUri(String v){ this.tokenUri = v; }
+    public void setUserInfoUri(String v){ this.userInfoUri = v; }
 }
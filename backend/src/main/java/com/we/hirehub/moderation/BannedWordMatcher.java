@@ -0,0 +1,303 @@
+package com.we.hirehub.moderation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 금칙어 다중 패턴 매처 (Aho-Corasick, 컴파일 후 불변)
+ * - 한글 음절은 자모(호환 자모)로 풀어서 비교 → "씨ㅂㅏㄹ"처럼 자모를 섞어 써도 같은 단어로 인식
+ *   · 겹받침(ㄳ, ㄺ…)은 두 자음으로 분리, 영문은 소문자/전각 → 반각으로 통일
+ *   · 공백/기타 문자는 매칭을 끊고, 문장부호는 건너뜀 ("시.발" 도 매칭)
+ * - 실패 링크를 미리 펼친 DFA 표(state × 기호) 한 장으로 스캔 → 글자당 배열 조회 1~4번
+ * - 정규화는 스캔 중에 바로 계산 (중간 문자열 없음) → 깨끗한 메시지는 할당 없이 한 번에 통과
+ * - 허용 단어(allowed)를 함께 컴파일하면 허용 단어 안에 완전히 들어가는 금칙어는 매칭하지 않음 ("시발점"의 "시발")
+ *   · 금칙어가 하나라도 걸린 메시지만 허용 단어 위치를 따로 계산 → 깨끗한 메시지 경로는 그대로
+ */
+public final class BannedWordMatcher {
+
+    public static final BannedWordMatcher EMPTY = compile(List.of());
+
+    private static final int SYLLABLE_BASE = 0xAC00;
+    private static final int SYLLABLE_LAST = 0xD7A3;
+    private static final int JAMO_FIRST = 0x3131;   // ㄱ
+    private static final int JAMO_LAST = 0x3163;    // ㅣ
+    private static final int VOWEL_FIRST = 0x314F;  // ㅏ
+
+    private static final char RESET = 0xFFFF;       // 매칭을 끊는 기호 (공백, 그 외 문자)
+
+    // 초성 19개 / 종성 28개 (0 = 받침 없음) → 호환 자모
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JONG = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    // 겹자음 → 두 자음 (호환 자모 코드 - JAMO_FIRST 기준, 0이면 홑자음)
+    private static final long[] CLUSTER = new long[JAMO_LAST - JAMO_FIRST + 1];
+
+    static {
+        split('ㄳ', 'ㄱ', 'ㅅ');
+        split('ㄵ', 'ㄴ', 'ㅈ');
+        split('ㄶ', 'ㄴ', 'ㅎ');
+        split('ㄺ', 'ㄹ', 'ㄱ');
+        split('ㄻ', 'ㄹ', 'ㅁ');
+        split('ㄼ', 'ㄹ', 'ㅂ');
+        split('ㄽ', 'ㄹ', 'ㅅ');
+        split('ㄾ', 'ㄹ', 'ㅌ');
+        split('ㄿ', 'ㄹ', 'ㅍ');
+        split('ㅀ', 'ㄹ', 'ㅎ');
+        split('ㅄ', 'ㅂ', 'ㅅ');
+    }
+
+    private static void split(char cluster, char a, char b) {
+        CLUSTER[cluster - JAMO_FIRST] = a | ((long) b << 16);
+    }
+
+    private static final ThreadLocal<int[]> RING = ThreadLocal.withInitial(() -> new int[64]);
+
+    private final int[] symbolOf;   // 정규화 문자 → 기호 번호 (0 = 패턴에 없는 문자)
+    private final int alphabet;
+    private final int[] delta;      // state * alphabet + symbol → 다음 state
+    private final int[] matchLen;   // state에서 끝나는 가장 긴 패턴 길이 (자모 단위, 0 = 없음)
+    private final int maxLen;
+    private final int patternCount;
+    private final BannedWordMatcher allow;  // 허용 단어 매처 (null = 없음)
+
+    private BannedWordMatcher(int[] symbolOf, int alphabet, int[] delta, int[] matchLen, int maxLen, int patternCount,
+                              BannedWordMatcher allow) {
+        this.symbolOf = symbolOf;
+        this.alphabet = alphabet;
+        this.delta = delta;
+        this.matchLen = matchLen;
+        this.maxLen = maxLen;
+        this.patternCount = patternCount;
+        this.allow = allow;
+    }
+
+    public int size() {
+        return patternCount;
+    }
+
+    /** 금칙어 포함 여부 (허용 단어가 없거나 금칙어가 안 걸리면 할당 없음) */
+    public boolean matches(CharSequence text) {
+        if (patternCount == 0 || text == null) return false;
+        if (!hit(text)) return false;
+        if (allow == null) return true;
+
+        int[] cover = allow.coverage(text);
+        int state = 0;
+        int pos = 0;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            for (long seq = normalize(text.charAt(i)); seq != 0; seq >>>= 16) {
+                state = delta[state * alphabet + symbol((char) seq)];
+                int len = matchLen[state];
+                if (len > 0 && cover[pos] > pos - len + 1) return true;
+                pos++;
+            }
+        }
+        return false;
+    }
+
+    /** 허용 단어를 무시하고 금칙어가 하나라도 걸리는지 */
+    private boolean hit(CharSequence text) {
+        int state = 0;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            for (long seq = normalize(text.charAt(i)); seq != 0; seq >>>= 16) {
+                state = delta[state * alphabet + symbol((char) seq)];
+                if (matchLen[state] > 0) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 자모 위치 p → p 이후에 끝나는 패턴 중 가장 앞선 시작 위치 (없으면 Integer.MAX_VALUE)
+     * - 금칙어 [a, b]는 cover[b] <= a 이면 허용 단어 안에 완전히 들어감
+     */
+    private int[] coverage(CharSequence text) {
+        int length = 0;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            for (long seq = normalize(text.charAt(i)); seq != 0; seq >>>= 16) length++;
+        }
+        int[] cover = new int[length];
+        int state = 0;
+        int pos = 0;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            for (long seq = normalize(text.charAt(i)); seq != 0; seq >>>= 16) {
+                state = delta[state * alphabet + symbol((char) seq)];
+                int len = matchLen[state];
+                cover[pos] = len > 0 ? pos - len + 1 : Integer.MAX_VALUE;
+                pos++;
+            }
+        }
+        for (int p = length - 2; p >= 0; p--) {
+            cover[p] = Math.min(cover[p], cover[p + 1]);
+        }
+        return cover;
+    }
+
+    /**
+     * 금칙어 부분을 mask 문자로 가림 (공백은 유지)
+     * @return 금칙어가 없으면 text 그대로 (같은 인스턴스)
+     */
+    public String mask(String text, char mask) {
+        if (patternCount == 0 || text == null) return text;
+        if (!hit(text)) return text;
+        int[] cover = allow == null ? null : allow.coverage(text);
+        int[] ring = ring();
+        int ringMask = ring.length - 1;
+
+        char[] out = null;
+        int state = 0;
+        int pos = 0;     // 자모 단위 위치
+        for (int i = 0, n = text.length(); i < n; i++) {
+            for (long seq = normalize(text.charAt(i)); seq != 0; seq >>>= 16) {
+                state = delta[state * alphabet + symbol((char) seq)];
+                ring[pos & ringMask] = i;
+                int len = matchLen[state];
+                if (len > 0 && (cover == null || cover[pos] > pos - len + 1)) {
+                    if (out == null) out = text.toCharArray();
+                    for (int j = ring[(pos - len + 1) & ringMask]; j <= i; j++) {
+                        if (!Character.isWhitespace(out[j])) out[j] = mask;
+                    }
+                }
+                pos++;
+            }
+        }
+        return out == null ? text : new String(out);
+    }
+
+    // ===== 정규화 =====
+
+    /**
+     * 문자 하나 → 정규화 문자 최대 4개 (16비트씩, 낮은 자리부터)
+     * @return 0이면 건너뜀
+     */
+    static long normalize(char c) {
+        if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+            int s = c - SYLLABLE_BASE;
+            int t = s % 28;
+            long seq = CHO.charAt(s / 588) | ((long) (VOWEL_FIRST + (s % 588) / 28) << 16);
+            if (t != 0) {
+                char jong = JONG.charAt(t);
+                long cluster = CLUSTER[jong - JAMO_FIRST];
+                seq |= (cluster != 0 ? cluster : jong) << 32;
+            }
+            return seq;
+        }
+        if (c >= JAMO_FIRST && c <= JAMO_LAST) {
+            long cluster = CLUSTER[c - JAMO_FIRST];
+            return cluster != 0 ? cluster : c;
+        }
+        if (c < 0x80) {
+            if (c >= 'A' && c <= 'Z') return c + ('a' - 'A');
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) return c;
+            return c <= ' ' ? RESET : 0;
+        }
+        if (c >= 0xFF01 && c <= 0xFF5E) {   // 전각 → 반각
+            return normalize((char) (c - 0xFEE0));
+        }
+        if (Character.isLetterOrDigit(c) || Character.isWhitespace(c)) return RESET;
+        return 0;
+    }
+
+    private int symbol(char normalized) {
+        return normalized < symbolOf.length ? symbolOf[normalized] : 0;
+    }
+
+    private int[] ring() {
+        int[] ring = RING.get();
+        if (ring.length < maxLen) {
+            ring = new int[Integer.highestOneBit(maxLen - 1) << 1];
+            RING.set(ring);
+        }
+        return ring;
+    }
+
+    // ===== 컴파일 =====
+
+    public static BannedWordMatcher compile(Collection<String> words) {
+        return compile(words, List.of());
+    }
+
+    /**
+     * @param allowed 금칙어를 포함하지만 정상적인 단어 (예: 시발점, 병신년) - 이 단어 안에 완전히 들어가는 금칙어는 무시
+     */
+    public static BannedWordMatcher compile(Collection<String> words, Collection<String> allowed) {
+        BannedWordMatcher allow = allowed.isEmpty() ? null : compile(allowed);
+        if (allow != null && allow.patternCount == 0) allow = null;
+
+        // 1. 정규화 + 기호 번호 부여
+        int[] symbolOf = new int[JAMO_LAST + 1];
+        int alphabet = 1;
+        List<int[]> patterns = new ArrayList<>();
+        for (String word : words) {
+            if (word == null) continue;
+            List<Integer> symbols = new ArrayList<>();
+            for (int i = 0; i < word.length(); i++) {
+                for (long seq = normalize(word.charAt(i)); seq != 0; seq >>>= 16) {
+                    char n = (char) seq;
+                    if (n == RESET) continue;   // 단어 안의 공백 등은 무시
+                    if (symbolOf[n] == 0) symbolOf[n] = alphabet++;
+                    symbols.add(symbolOf[n]);
+                }
+            }
+            if (!symbols.isEmpty()) {
+                patterns.add(symbols.stream().mapToInt(Integer::intValue).toArray());
+            }
+        }
+
+        // 2. 트라이
+        List<Map<Integer, Integer>> children = new ArrayList<>();
+        List<Integer> own = new ArrayList<>();
+        children.add(new HashMap<>());
+        own.add(0);
+        int maxLen = 1;
+        for (int[] p : patterns) {
+            int state = 0;
+            for (int sym : p) {
+                Integer next = children.get(state).get(sym);
+                if (next == null) {
+                    next = children.size();
+                    children.add(new HashMap<>());
+                    own.add(0);
+                    children.get(state).put(sym, next);
+                }
+                state = next;
+            }
+            own.set(state, Math.max(own.get(state), p.length));
+            maxLen = Math.max(maxLen, p.length);
+        }
+
+        // 3. BFS로 실패 링크를 펼쳐 DFA 표 생성
+        int states = children.size();
+        int[] delta = new int[states * alphabet];
+        int[] matchLen = new int[states];
+        int[] fail = new int[states];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (Map.Entry<Integer, Integer> e : children.get(0).entrySet()) {
+            delta[e.getKey()] = e.getValue();
+            queue.add(e.getValue());
+        }
+        for (int s : queue) matchLen[s] = own.get(s);
+        while (!queue.isEmpty()) {
+            int s = queue.poll();
+            for (int sym = 0; sym < alphabet; sym++) {
+                Integer next = children.get(s).get(sym);
+                if (next == null) {
+                    delta[s * alphabet + sym] = delta[fail[s] * alphabet + sym];
+                } else {
+                    fail[next] = delta[fail[s] * alphabet + sym];
+                    matchLen[next] = Math.max(own.get(next), matchLen[fail[next]]);
+                    delta[s * alphabet + sym] = next;
+                    queue.add(next);
+                }
+            }
+        }
+        // 기호 0(패턴에 없는 문자/공백)은 항상 루트로
+        for (int s = 0; s < states; s++) delta[s * alphabet] = 0;
+
+        return new BannedWordMatcher(symbolOf, alphabet, delta, matchLen, maxLen, patterns.size(), allow);
+    }
+}
@@ -0,0 +1,131 @@
+package com.we.hirehub.moderation;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 채팅/게시글 금칙어 필터
+ * - 금칙어 목록(한 줄에 하나, # 주석)을 BannedWordMatcher로 한 번 컴파일해서 사용
+ * - 목록 파일이 바뀌면 주기적으로 다시 컴파일 후 통째로 교체 (스캔 중인 요청은 이전 매처 그대로 사용)
+ * - 위치: app.moderation.words-location (기본 classpath:moderation/banned-words.txt, 운영에서는 file: 경로 권장)
+ * - 허용 단어: app.moderation.allowed-location (기본 classpath:moderation/allowed-words.txt)
+ *   금칙어를 포함하지만 정상적인 단어(시발점, 병신년 등) → 그 안의 금칙어는 가리지 않음
+ */
+@Slf4j
+@Component
+public class ModerationFilter {
+
+    private static final char MASK = '*';
+
+    private final ResourceLoader resourceLoader;
+    private final String location;
+    private final String allowedLocation;
+    private final boolean enabled;
+
+    private volatile BannedWordMatcher matcher = BannedWordMatcher.EMPTY;
+    private volatile long loadedModified = Long.MIN_VALUE;
+    private volatile long allowedModified = Long.MIN_VALUE;
+
+    public ModerationFilter(ResourceLoader resourceLoader,
+                            @Value("${app.moderation.words-location:classpath:moderation/banned-words.txt}") String location,
+                            @Value("${app.moderation.allowed-location:classpath:moderation/allowed-words.txt}") String allowedLocation,
+                            @Value("${app.moderation.enabled:true}") boolean enabled) {
+        this.resourceLoader = resourceLoader;
+        this.location = location;
+        this.allowedLocation = allowedLocation;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    void init() {
+        if (enabled) reload();
+    }
+
+    /** 금칙어 부분을 *로 가림 (없으면 text 그대로) */
+    public String mask(String text) {
+        if (!enabled || text == null || text.isEmpty()) return text;
+        return matcher.mask(text, MASK);
+    }
+
+    /** 금칙어가 없으면 true */
+    public boolean isClean(String text) {
+        return !enabled || !matcher.matches(text);
+    }
+
+    /** 목록 파일 변경 확인 */
+    @Scheduled(fixedDelayString = "${app.moderation.reload-ms:60000}")
+    public void refresh() {
+        if (!enabled) return;
+        try {
+            if (resourceLoader.getResource(location).lastModified() != loadedModified
+                    || lastModified(resourceLoader.getResource(allowedLocation)) != allowedModified) {
+                reload();
+            }
+        } catch (IOException e) {
+            // jar 안의 classpath 리소스 등 수정 시각을 알 수 없는 경우 → 기동 시 로드한 목록 유지
+        }
+    }
+
+    /** 목록 다시 읽기 → 컴파일 → 교체 */
+    public synchronized int reload() {
+        Resource resource = resourceLoader.getResource(location);
+        List<String> words;
+        try {
+            words = readWords(resource);
+        } catch (IOException e) {
+            log.error("❌ 금칙어 목록 읽기 실패: {} ({})", location, e.getMessage());
+            return matcher.size();
+        }
+
+        // 허용 단어 목록은 없어도 됨 (없으면 금칙어만으로 컴파일)
+        Resource allowedResource = resourceLoader.getResource(allowedLocation);
+        List<String> allowed = List.of();
+        if (allowedResource.exists()) {
+            try {
+                allowed = readWords(allowedResource);
+            } catch (IOException e) {
+                log.warn("⚠️ 허용 단어 목록 읽기 실패: {} ({})", allowedLocation, e.getMessage());
+            }
+        }
+
+        long started = System.nanoTime();
+        matcher = BannedWordMatcher.compile(words, allowed);
+        loadedModified = lastModified(resource);
+        allowedModified = lastModified(allowedResource);
+        log.info("🛡️ 금칙어 목록 로드: {}개, 허용 단어 {}개 ({}µs)", matcher.size(), allowed.size(), (System.nanoTime() - started) / 1000);
+        return matcher.size();
+    }
+
+    /** 한 줄에 하나, #으로 시작하면 주석 */
+    private static List<String> readWords(Resource resource) throws IOException {
+        List<String> words = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String word = line.strip();
+                if (!word.isEmpty() && !word.startsWith("#")) words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.exists() ? resource.lastModified() : Long.MIN_VALUE;
+        } catch (IOException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+}
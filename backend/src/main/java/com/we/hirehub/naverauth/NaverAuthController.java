@@ -2,8 +2,11 @@
 package com.we.hirehub.naverauth;
 
 import com.we.hirehub.dto.login.NaverAuthResult;
+import com.we.hirehub.service.RefreshTokenService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -17,6 +20,7 @@ public class NaverAuthController {
 
     private final NaverAuthService service;
     private final NaverOAuthProperties props;
+    private final RefreshTokenService refreshTokenService;
 
     /** ✅ /api/auth/naver 경로 명시 */
     @GetMapping("/naver")
@@ -28,7 +32,7 @@ public class NaverAuthController {
     /** 선택형: 독립 인가 진입 */
     @GetMapping("/naver/login")
     public String loginRedirect() {
-        String authorize = "https://nid.naver.com/oauth2.0/authorize"
+        String authorize = props.getAuthorizeUri()
                 + "?response_type=code"
                 + "&client_id=" + props.getClientId()
                 + "&redirect_uri=" + java.net.URLEncoder.encode(props.getRedirectUri(), java.nio.charset.StandardCharsets.UTF_8)
@@ -38,10 +42,11 @@ public class NaverAuthController {
 
     /** 콜백: code → accessToken → 사용자 → JWT → 프론트로 리다이렉트 */
     @GetMapping("/naver/callback")
-    public String callback(String code) {
+    public String callback(String code, HttpServletResponse res) {
         log.info("네이버 콜백 수신 - code: {}", code);
 
         NaverAuthResult result = service.handleCallback(code, props);
+        res.addHeader(HttpHeaders.SET_COOKIE, refreshTokenService.cookie(result.getRefreshToken()).toString());
 
         String redirect = props.getFrontRedirectUrl()
                 + "?token=" + java.net.URLEncoder.encode(result.getJwt(), java.nio.charset.StandardCharsets.UTF_8)
@@ -8,9 +8,10 @@ import com.we.hirehub.dto.login.NaverAuthResult;
 import com.we.hirehub.dto.login.NaverTokenResponse;
 import com.we.hirehub.dto.login.NaverUserResponse;
 import com.we.hirehub.repository.UsersRepository;
+import com.we.hirehub.service.AuthService;
+import com.we.hirehub.service.RefreshTokenService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -19,19 +20,15 @@ public class NaverAuthService {
     private final NaverOAuthClient client;
     private final UsersRepository usersRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
 
-    @Transactional
+    // 외부 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 (저장은 리포지토리 단위 트랜잭션)
     public NaverAuthResult handleCallback(String code, NaverOAuthProperties props) {
         // 1) 코드 → 토큰
-        NaverTokenResponse token = client.exchangeCode(
-                code,
-                props.getClientId(),
-                props.getClientSecret(),
-                props.getRedirectUri()
-        );
+        NaverTokenResponse token = client.exchangeCode(code, props);
 
         // 2) 토큰으로 유저 조회
-        NaverUserResponse userResp = client.fetchUser(token.getAccessToken());
+        NaverUserResponse userResp = client.fetchUser(token.getAccessToken(), props);
         String email = userResp.getEmailOrFallback();
         String nameOrEmail = userResp.getNameOrEmail();
 
@@ -41,7 +38,7 @@ public class NaverAuthService {
         if (user == null) {
             user = new Users();
             user.setEmail(email);
-            user.setPassword("naver_user"); // dummy
+            user.setPassword(AuthService.socialPassword("naver")); // 비밀번호 로그인 불가 표시
             user.setRole(Role.USER);
             // Users 엔티티에 nickname이 있으면 저장 (없으면 무시)
             try { user.getClass().getMethod("setNickname", String.class); user.setNickname(nameOrEmail); } catch (NoSuchMethodException ignored) {}
@@ -53,6 +50,6 @@ public class NaverAuthService {
         String jwt = jwtTokenProvider.createToken(user.getEmail(), user.getId());
 
         // 5) 프론트로 토큰 전달
-        return new NaverAuthResult(jwt, email, isNewUser);
+        return new NaverAuthResult(jwt, email, isNewUser, refreshTokenService.issue(user.getId()));
     }
 }
@@ -3,7 +3,7 @@ package com.we.hirehub.naverauth;
 
 import com.we.hirehub.dto.login.NaverTokenResponse;
 import com.we.hirehub.dto.login.NaverUserResponse;
-import lombok.RequiredArgsConstructor;
+import com.we.hirehub.outbound.OutboundHttpClients;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
@@ -11,34 +11,35 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestClient;
 
 @Component
-@RequiredArgsConstructor
 public class NaverOAuthClient {
 
-    private final RestClient rest = RestClient.builder().build();
+    // 네이버 전용 커넥션 풀/타임아웃/벌크헤드 (app.outbound.providers.naver)
+    private final RestClient rest;
 
-    public NaverTokenResponse exchangeCode(String code,
-                                           String clientId,
-                                           String clientSecret,
-                                           String redirectUri) {
+    public NaverOAuthClient(OutboundHttpClients outboundHttpClients) {
+        this.rest = outboundHttpClients.client("naver");
+    }
+
+    public NaverTokenResponse exchangeCode(String code, NaverOAuthProperties props) {
         MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
         form.add("grant_type", "authorization_code");
-        form.add("client_id", clientId);
-        form.add("client_secret", clientSecret);
+        form.add("client_id", props.getClientId());
+        form.add("client_secret", props.getClientSecret());
         form.add("code", code);
-        form.add("redirect_uri", redirectUri);
+        form.add("redirect_uri", props.getRedirectUri());
         // NOTE: 네이버는 state 검증 옵션을 권장하지만, 카카오 구조와 일치시키기 위해 생략
 
         return rest.post()
-                .uri("https://nid.naver.com/oauth2.0/token")
+                .uri(props.getTokenUri())
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .body(form)
                 .retrieve()
                 .body(NaverTokenResponse.class);
     }
 
-    public NaverUserResponse fetchUser(String accessToken) {
+    public NaverUserResponse fetchUser(String accessToken, NaverOAuthProperties props) {
         return rest.get()
-                .uri("https://openapi.naver.com/v1/nid/me")
+                .uri(props.getUserInfoUri())
                 .header("Authorization", "Bearer " + accessToken)
                 .retrieve()
                 .body(NaverUserResponse.class);
@@ -13,9 +13,16 @@ public class NaverOAuthProperties {
     private String clientSecret;
     private String redirectUri;       // ex) https://api.your-domain.com/naver/callback
     private String frontRedirectUrl;  // ex) https://app.your-domain.com/auth/callback
+    // 제공자 엔드포인트 (부하 테스트에서는 내장 스텁 서버로 교체)
+    private String authorizeUri = "https://nid.naver.com/oauth2.0/authorize";
+    private String tokenUri = "https://nid.naver.com/oauth2.0/token";
+    private String userInfoUri = "https://openapi.naver.com/v1/nid/me";
 
     public void setClientId(String v){ this.clientId = v; }
     public void setClientSecret(String v){ this.clientSecret = v; }
     public void setRedirectUri(String v){ this.redirectUri = v; }
     public void setFrontRedirectUrl(String v){ this.frontRedirectUrl = v; }
+    public void setAuthorizeUri(String v){ this.authorizeUri = v; }
+    public void setTokenUri(String v){ this.tokenUri = v; }
+    public void setUserInfoUri(String v){ this.userInfoUri = v; }
 }
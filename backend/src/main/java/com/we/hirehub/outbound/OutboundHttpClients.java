@@ -0,0 +1,197 @@
+package com.we.hirehub.outbound;
+
+import com.we.hirehub.exception.OutboundBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 외부 제공자(카카오/네이버 등)별 RestClient
+ * - 제공자마다 전용 커넥션 풀 (연결 재사용, 연결/응답/풀 대기 타임아웃, 유휴 연결 정리, 자동 재시도 없음)
+ * - 벌크헤드: 제공자별 동시 호출 수 제한, 자리가 없으면 bulkhead-wait 후 OutboundBusyException
+ * - 메트릭: outbound.http(provider, method, status), outbound.http.rejected(provider), outbound.pool.leased/available/pending
+ */
+@Slf4j
+@Component
+public class OutboundHttpClients {
+
+    private final OutboundHttpProperties properties;
+    private final MeterRegistry registry;
+    private final Map<String, Entry> clients = new ConcurrentHashMap<>();
+
+    private record Entry(RestClient rest, CloseableHttpClient http) {}
+
+    public OutboundHttpClients(OutboundHttpProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        this.registry = registry;
+    }
+
+    /** 제공자 이름별 RestClient (처음 요청 시 생성 후 재사용) */
+    public RestClient client(String provider) {
+        return clients.computeIfAbsent(provider, this::create).rest();
+    }
+
+    @PreDestroy
+    public void close() {
+        clients.values().forEach(e -> {
+            try {
+                e.http().close();
+            } catch (IOException ignored) {
+            }
+        });
+    }
+
+    // ===== Private Helper Methods =====
+
+    private Entry create(String provider) {
+        OutboundHttpProperties.Provider p = properties.provider(provider);
+
+        PoolingHttpClientConnectionManager pool = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(p.getMaxConnections())
+                .setMaxConnPerRoute(p.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(p.getConnectTimeoutMs()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(p.getReadTimeoutMs()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        CloseableHttpClient http = HttpClients.custom()
+                .setConnectionManager(pool)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(p.getPoolAcquireTimeoutMs()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(p.getReadTimeoutMs()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(p.getIdleEvictSeconds()))
+                .disableAutomaticRetries()   // 느린 제공자에 재시도까지 쌓이지 않도록
+                .build();
+
+        Gauge.builder("outbound.pool.leased", pool, m -> m.getTotalStats().getLeased()).tag("provider", provider).register(registry);
+        Gauge.builder("outbound.pool.available", pool, m -> m.getTotalStats().getAvailable()).tag("provider", provider).register(registry);
+        Gauge.builder("outbound.pool.pending", pool, m -> m.getTotalStats().getPending()).tag("provider", provider).register(registry);
+
+        RestClient rest = RestClient.builder()
+                .requestFactory(new HttpComponentsClientHttpRequestFactory(http))
+                .requestInterceptor(bulkhead(provider, p))
+                .build();
+
+        log.info("🌐 외부 HTTP 클라이언트 생성: provider={}, connect={}ms, read={}ms, pool={}, bulkhead={}",
+                provider, p.getConnectTimeoutMs(), p.getReadTimeoutMs(), p.getMaxConnections(), p.getMaxConcurrent());
+        return new Entry(rest, http);
+    }
+
+    /** 동시 호출 제한 + 지연 측정 */
+    private ClientHttpRequestInterceptor bulkhead(String provider, OutboundHttpProperties.Provider p) {
+        Semaphore permits = new Semaphore(p.getMaxConcurrent());
+        Counter rejected = Counter.builder("outbound.http.rejected").tag("provider", provider).register(registry);
+        Gauge.builder("outbound.http.inflight", permits, s -> p.getMaxConcurrent() - s.availablePermits())
+                .tag("provider", provider).register(registry);
+
+        return (request, body, execution) -> {
+            boolean acquired;
+            try {
+                acquired = permits.tryAcquire(p.getBulkheadWaitMs(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+            if (!acquired) {
+                rejected.increment();
+                log.warn("⚠️ 외부 호출 상한 초과: provider={}, {}", provider, request.getURI().getHost());
+                throw new OutboundBusyException("외부 로그인 서비스 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+            }
+
+            // 본문을 다 읽고 응답을 닫을 때까지 자리 유지 (지연도 본문 수신까지 측정)
+            Timer.Sample sample = Timer.start(registry);
+            try {
+                return new GuardedResponse(execution.execute(request, body), status -> {
+                    permits.release();
+                    sample.stop(registry.timer("outbound.http",
+                            "provider", provider, "method", request.getMethod().name(), "status", status));
+                });
+            } catch (IOException | RuntimeException e) {
+                permits.release();
+                sample.stop(registry.timer("outbound.http",
+                        "provider", provider, "method", request.getMethod().name(), "status", "IO_ERROR"));
+                throw e;
+            }
+        };
+    }
+
+    /** close() 시 한 번만 콜백 (벌크헤드 반납 + 타이머 기록) */
+    private static final class GuardedResponse implements ClientHttpResponse {
+        private final ClientHttpResponse delegate;
+        private final Consumer<String> onClose;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        GuardedResponse(ClientHttpResponse delegate, Consumer<String> onClose) {
+            this.delegate = delegate;
+            this.onClose = onClose;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            if (!closed.compareAndSet(false, true)) return;
+            String status;
+            try {
+                status = String.valueOf(delegate.getStatusCode().value());
+            } catch (IOException e) {
+                status = "IO_ERROR";
+            }
+            try {
+                delegate.close();
+            } finally {
+                onClose.accept(status);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.we.hirehub.outbound;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 외부 HTTP 호출 설정 (app.outbound.providers.{kakao|naver|...})
+ * - 제공자별로 커넥션 풀/타임아웃/동시 호출 상한을 따로 둠 → 한 제공자가 느려져도 다른 제공자에 영향 없음
+ * - 설정이 없는 제공자는 기본값 사용
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.outbound")
+public class OutboundHttpProperties {
+
+    private Map<String, Provider> providers = new HashMap<>();
+
+    public Provider provider(String name) {
+        return providers.getOrDefault(name, new Provider());
+    }
+
+    @Getter
+    @Setter
+    public static class Provider {
+        private long connectTimeoutMs = 1000;
+        private long readTimeoutMs = 3000;
+        private long poolAcquireTimeoutMs = 200;   // 풀에서 커넥션 빌리기 대기
+        private int maxConnections = 50;
+        private long idleEvictSeconds = 30;
+        private int maxConcurrent = 32;             // 벌크헤드: 동시에 진행 중인 호출 상한
+        private long bulkheadWaitMs = 50;           // 자리 없을 때 대기 후 거절
+    }
+}
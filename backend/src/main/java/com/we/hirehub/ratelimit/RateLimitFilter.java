@@ -0,0 +1,65 @@
+package com.we.hirehub.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.we.hirehub.config.JwtUserPrincipal;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 요청 속도 제한 필터 (JWT 필터 뒤 → 로그인 사용자는 사용자 id로 셈)
+ * - 초과 시 429 + Retry-After(초), 본문은 RestExceptionHandler와 같은 형식
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final ObjectMapper om = new ObjectMapper();
+
+    private final RateLimiter rateLimiter;
+
+    public RateLimitFilter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RateLimiter.Rejection rejection = rateLimiter.check(
+                request.getMethod(), request.getRequestURI(), request.getRemoteAddr(), currentUserId());
+        if (rejection == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfter = rejection.retryAfterSeconds();
+        log.debug("🚦 요청 제한: rule={}, ip={}, path={}", rejection.rule(), request.getRemoteAddr(), request.getRequestURI());
+        response.setStatus(429);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        om.writeValue(response.getOutputStream(), Map.of(
+                "timestamp", Instant.now().toString(),
+                "error", "TOO_MANY_REQUESTS",
+                "message", "요청이 너무 많습니다. " + retryAfter + "초 후 다시 시도해주세요."
+        ));
+    }
+
+    private static Long currentUserId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.getPrincipal() instanceof JwtUserPrincipal p ? p.getUserId() : null;
+    }
+}
@@ -0,0 +1,42 @@
+package com.we.hirehub.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 속도 제한 설정 (app.rate-limit)
+ * - 규칙마다 경로 패턴 + 메서드 + 키(ip/user) + 버킷 크기(capacity) + 채우는 주기(per-seconds)
+ * - capacity개까지 몰아서 보낼 수 있고, 이후에는 per-seconds 동안 capacity개 속도로 채워짐
+ * - 한 요청에 규칙 여러 개가 걸리면 전부 검사
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private int stripes = 64;                   // 락 스트라이프 수 (2의 거듭제곱으로 올림)
+    private int maxBucketsPerStripe = 4096;     // 스트라이프당 버킷 상한 (넘으면 가장 오래 안 쓴 버킷부터 제거)
+    private long idleEvictSeconds = 600;        // 이 시간 동안 요청 없는 버킷 정리
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private String name;
+        private String pattern;                     // /api/comment/** 형식
+        private List<String> methods = new ArrayList<>();   // 비우면 모든 메서드
+        private Key key = Key.IP;
+        private int capacity = 10;
+        private long perSeconds = 60;
+    }
+
+    /** 버킷 키: IP 또는 로그인 사용자 (비로그인 요청은 IP로 대체) */
+    public enum Key { IP, USER }
+}
@@ -0,0 +1,121 @@
+package com.we.hirehub.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 경로별 토큰 버킷 속도 제한
+ * - 설정 규칙은 시작 시 한 번 컴파일 (경로 패턴 파싱, 초당 → 나노초당 토큰)
+ * - 버킷 키 = 규칙 이름 + IP 또는 사용자 id → 규칙마다 따로 셈
+ * - 규칙에 걸리지 않는 요청은 경로 파싱도 하지 않음 (메서드/접두사로 먼저 거름)
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    /** 거절 결과: 어떤 규칙에 걸렸고 얼마 뒤에 다시 시도할 수 있는지 */
+    public record Rejection(String rule, long retryAfterNanos) {
+        public long retryAfterSeconds() {
+            return Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + 999_999_999L));
+        }
+    }
+
+    private record CompiledRule(String name, String prefix, PathPattern pattern, Set<String> methods,
+                                RateLimitProperties.Key key, int capacity, double tokensPerNano,
+                                Counter rejected) {
+
+        boolean matchesMethod(String method) {
+            return methods.isEmpty() || methods.contains(method);
+        }
+    }
+
+    private final boolean enabled;
+    private final List<CompiledRule> rules;
+    private final StripedTokenBuckets buckets;
+    private final long idleEvictNanos;
+
+    public RateLimiter(RateLimitProperties props, MeterRegistry meterRegistry) {
+        this.enabled = props.isEnabled() && !props.getRules().isEmpty();
+        this.buckets = new StripedTokenBuckets(props.getStripes(), props.getMaxBucketsPerStripe());
+        this.rules = props.getRules().stream().map(r -> compile(r, meterRegistry)).toList();
+
+        // 버킷이 가득 차기 전에 지우면 제한이 풀리므로, 가장 긴 채움 주기보다는 오래 둠
+        long longestRefill = rules.stream().mapToLong(r -> (long) Math.ceil(r.capacity() / r.tokensPerNano())).max().orElse(0L);
+        this.idleEvictNanos = Math.max(TimeUnit.SECONDS.toNanos(props.getIdleEvictSeconds()), longestRefill);
+
+        Gauge.builder("ratelimit.buckets", buckets, StripedTokenBuckets::size).register(meterRegistry);
+        log.info("🚦 속도 제한 규칙 {}개 (enabled={})", rules.size(), enabled);
+    }
+
+    /**
+     * @param ip     클라이언트 IP
+     * @param userId 로그인 사용자 id (없으면 null → USER 규칙도 IP로 셈)
+     * @return 허용이면 null
+     */
+    public Rejection check(String method, String path, String ip, Long userId) {
+        if (!enabled) return null;
+        long now = System.nanoTime();
+        PathContainer parsed = null;
+        for (CompiledRule rule : rules) {
+            if (!rule.matchesMethod(method) || !path.startsWith(rule.prefix())) continue;
+            if (parsed == null) parsed = PathContainer.parsePath(path);
+            if (!rule.pattern().matches(parsed)) continue;
+
+            String subject = rule.key() == RateLimitProperties.Key.USER && userId != null
+                    ? "u:" + userId
+                    : "ip:" + ip;
+            long wait = buckets.tryAcquire(rule.name() + '|' + subject, rule.capacity(), rule.tokensPerNano(), now);
+            if (wait > 0) {
+                rule.rejected().increment();
+                return new Rejection(rule.name(), wait);
+            }
+        }
+        return null;
+    }
+
+    /** 오래 안 쓴 버킷 정리 */
+    @Scheduled(fixedDelayString = "${app.rate-limit.sweep-ms:60000}")
+    public void sweep() {
+        int removed = buckets.evictIdle(System.nanoTime() - idleEvictNanos);
+        if (removed > 0) log.debug("🧹 속도 제한 버킷 정리: {}개", removed);
+    }
+
+    // ===== Private Helper Methods =====
+
+    private static CompiledRule compile(RateLimitProperties.Rule r, MeterRegistry meterRegistry) {
+        if (r.getName() == null || r.getPattern() == null || r.getCapacity() <= 0 || r.getPerSeconds() <= 0) {
+            throw new IllegalStateException("잘못된 속도 제한 규칙: name=" + r.getName() + ", pattern=" + r.getPattern());
+        }
+        PathPattern pattern = PathPatternParser.defaultInstance.parse(r.getPattern());
+        Set<String> methods = r.getMethods().stream()
+                .map(m -> m.toUpperCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        double tokensPerNano = r.getCapacity() / (double) TimeUnit.SECONDS.toNanos(r.getPerSeconds());
+        Counter rejected = Counter.builder("ratelimit.rejected").tag("rule", r.getName()).register(meterRegistry);
+        return new CompiledRule(r.getName(), literalPrefix(r.getPattern()), pattern, methods,
+                r.getKey(), r.getCapacity(), tokensPerNano, rejected);
+    }
+
+    /** 패턴에서 변수/와일드카드 앞까지 (빠른 거르기용) */
+    private static String literalPrefix(String pattern) {
+        int cut = pattern.length();
+        for (char c : new char[]{'*', '{', '?'}) {
+            int i = pattern.indexOf(c);
+            if (i >= 0) cut = Math.min(cut, i);
+        }
+        return pattern.substring(0, cut);
+    }
+}
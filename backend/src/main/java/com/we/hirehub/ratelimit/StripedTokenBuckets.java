@@ -0,0 +1,113 @@
+package com.we.hirehub.ratelimit;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 락 스트라이프 토큰 버킷 저장소
+ * - 키 해시로 고정 개수의 스트라이프 중 하나에 배정, 스트라이프마다 자기 락 + 접근 순서 LinkedHashMap
+ *   → 서로 다른 키는 대부분 다른 락을 잡음 (전역 락 없음)
+ * - 토큰은 요청이 올 때 경과 시간만큼 채움 (타이머 없음)
+ * - 스트라이프가 꽉 차면 가장 오래 안 쓴 버킷을 버림 (버려진 키는 가득 찬 버킷으로 다시 시작)
+ */
+final class StripedTokenBuckets {
+
+    private final Stripe[] stripes;
+    private final int mask;
+
+    StripedTokenBuckets(int stripes, int maxBucketsPerStripe) {
+        int n = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.stripes = new Stripe[n];
+        this.mask = n - 1;
+        for (int i = 0; i < n; i++) {
+            this.stripes[i] = new Stripe(maxBucketsPerStripe);
+        }
+    }
+
+    /**
+     * 토큰 1개 사용
+     * @param tokensPerNano 초당이 아니라 나노초당 채워지는 토큰 수
+     * @return 0이면 허용, 0보다 크면 다음 토큰까지 남은 나노초
+     */
+    long tryAcquire(String key, int capacity, double tokensPerNano, long now) {
+        Stripe stripe = stripes[spread(key.hashCode()) & mask];
+        synchronized (stripe) {
+            Bucket b = stripe.get(key);
+            if (b == null) {
+                b = new Bucket(capacity, now);
+                stripe.put(key, b);
+            } else {
+                b.refill(capacity, tokensPerNano, now);
+            }
+            if (b.tokens >= 1.0) {
+                b.tokens -= 1.0;
+                return 0;
+            }
+            return Math.max(1L, (long) Math.ceil((1.0 - b.tokens) / tokensPerNano));
+        }
+    }
+
+    /** lastSeen이 idleBefore 이전인 버킷 제거 (접근 순서라 앞에서부터만 보면 됨) */
+    int evictIdle(long idleBefore) {
+        int removed = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                Iterator<Bucket> it = stripe.values().iterator();
+                while (it.hasNext()) {
+                    if (it.next().lastSeen - idleBefore >= 0) break;
+                    it.remove();
+                    removed++;
+                }
+            }
+        }
+        return removed;
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Bucket {
+        double tokens;
+        long lastSeen;
+
+        Bucket(int capacity, long now) {
+            this.tokens = capacity;
+            this.lastSeen = now;
+        }
+
+        void refill(int capacity, double tokensPerNano, long now) {
+            long elapsed = now - lastSeen;
+            if (elapsed > 0) {
+                tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+                lastSeen = now;
+            }
+        }
+    }
+
+    /** 접근 순서 LinkedHashMap (가장 오래 안 쓴 버킷이 맨 앞) */
+    private static final class Stripe extends LinkedHashMap<String, Bucket> {
+        private final int maxBuckets;
+
+        Stripe(int maxBuckets) {
+            super(16, 0.75f, true);
+            this.maxBuckets = maxBuckets;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+            return size() > maxBuckets;
+        }
+    }
+}
@@ -17,6 +17,9 @@ public interface ApplyRepository extends JpaRepository<Apply, Long> {
     /** ✅ 같은 공고 중복지원 방지 */
     Optional<Apply> findByJobPosts_IdAndResume_Users_Id(Long jobPostId, Long userId);
 
+    /** ✅ 지원에 쓴 이력서인지 (삭제 제한) */
+    boolean existsByResume_Id(Long resumeId);
+
     /** ✅ 내가 쓴 지원 내역 중 특정 ID들 삭제 */
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM Apply a WHERE a.id IN :applyIds AND a.resume.users.id = :userId")
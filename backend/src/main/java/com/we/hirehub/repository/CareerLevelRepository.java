@@ -3,10 +3,19 @@ package com.we.hirehub.repository;
 import com.we.hirehub.entity.CareerLevel;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CareerLevelRepository extends JpaRepository<CareerLevel, Long> {
     List<CareerLevel> findByResumeId(Long resumeId);
-    void deleteByResumeId(Long resumeId);
+    List<CareerLevel> findByResumeIdInOrderByIdAsc(Collection<Long> resumeIds);  // 목록 화면/섹션 비교용 (IN 쿼리 1번, 입력 순서)
+
+    // 파생 delete는 행마다 로드 후 삭제 → JPQL 한 문장으로
+    @Modifying
+    @Query("DELETE FROM CareerLevel x WHERE x.resume.id = :resumeId")
+    void deleteByResumeId(@Param("resumeId") Long resumeId);
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.we.hirehub.repository;
+
+import com.we.hirehub.entity.ChatBusEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ChatBusEventRepository extends JpaRepository<ChatBusEvent, Long> {
+
+    @Query("SELECT e FROM ChatBusEvent e WHERE e.id > :afterId ORDER BY e.id ASC")
+    List<ChatBusEvent> findAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    List<ChatBusEvent> findByIdInOrderByIdAsc(Collection<Long> ids);
+
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM ChatBusEvent e")
+    Long findMaxId();
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ChatBusEvent e WHERE e.createAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
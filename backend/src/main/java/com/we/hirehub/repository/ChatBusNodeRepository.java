@@ -0,0 +1,12 @@
+package com.we.hirehub.repository;
+
+import com.we.hirehub.entity.ChatBusNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ChatBusNodeRepository extends JpaRepository<ChatBusNode, String> {
+
+    List<ChatBusNode> findByLastSeenAfter(LocalDateTime after);
+}
@@ -0,0 +1,11 @@
+package com.we.hirehub.repository;
+
+import com.we.hirehub.entity.ChatReadMark;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ChatReadMarkRepository extends JpaRepository<ChatReadMark, Long> {
+
+    List<ChatReadMark> findBySessionId(String sessionId);
+}
@@ -0,0 +1,7 @@
+package com.we.hirehub.repository;
+
+import com.we.hirehub.entity.ChatSearchPosting;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ChatSearchPostingRepository extends JpaRepository<ChatSearchPosting, Long> {
+}
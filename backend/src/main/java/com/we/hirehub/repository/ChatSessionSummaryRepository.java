@@ -0,0 +1,27 @@
+package com.we.hirehub.repository;
+
+import com.we.hirehub.entity.ChatSessionSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ChatSessionSummaryRepository extends JpaRepository<ChatSessionSummary, String> {
+
+    /** 최근 대화순 첫 페이지 */
+    @Query("SELECT s FROM ChatSessionSummary s " +
+            "WHERE s.lastMessageAt IS NOT NULL " +
+            "ORDER BY s.lastMessageAt DESC, s.sessionId DESC")
+    List<ChatSessionSummary> findRecent(Pageable pageable);
+
+    /** 커서(마지막으로 받은 행의 시각, 세션 id) 이후 페이지 - (last_message_at, session_id) 인덱스 범위 조회 */
+    @Query("SELECT s FROM ChatSessionSummary s " +
+            "WHERE s.lastMessageAt < :at OR (s.lastMessageAt = :at AND s.sessionId < :sessionId) " +
+            "ORDER BY s.lastMessageAt DESC, s.sessionId DESC")
+    List<ChatSessionSummary> findRecentAfter(@Param("at") LocalDateTime at,
+                                             @Param("sessionId") String sessionId,
+                                             Pageable pageable);
+}
@@ -0,0 +1,7 @@
+package com.we.hirehub.repository;
+
+import com.we.hirehub.entity.LiveChatArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface LiveChatArchiveRepository extends JpaRepository<LiveChatArchive, String> {
+}
@@ -3,9 +3,13 @@ package com.we.hirehub.repository;
 import com.we.hirehub.entity.LiveChat;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface LiveChatRepository extends JpaRepository<LiveChat, Long> {
@@ -31,4 +35,26 @@ public interface LiveChatRepository extends JpaRepository<LiveChat, Long> {
             "ORDER BY lc.createAt DESC")
     List<LiveChat> findBySessionIdWithUser(@Param("sessionId") String sessionId, Pageable pageable);
 
+    // ===== 보관(아카이브) 작업용 =====
+
+    /** 마지막 메시지가 cutoff 이전인 세션 (보관 대상 후보) */
+    @Query("SELECT lc.session.id FROM LiveChat lc " +
+            "WHERE lc.session IS NOT NULL " +
+            "GROUP BY lc.session.id " +
+            "HAVING MAX(lc.createAt) < :cutoff")
+    List<String> findIdleSessionIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /** 세션 메시지를 id 순으로 나눠 읽기 (afterId 이후 한 묶음) */
+    @Query("SELECT lc FROM LiveChat lc " +
+            "LEFT JOIN FETCH lc.user " +
+            "WHERE lc.session.id = :sessionId AND lc.id > :afterId " +
+            "ORDER BY lc.id ASC")
+    List<LiveChat> findChunkForArchive(@Param("sessionId") String sessionId,
+                                       @Param("afterId") Long afterId,
+                                       Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM LiveChat lc WHERE lc.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -3,7 +3,9 @@ package com.we.hirehub.repository;
 import com.we.hirehub.entity.Resume;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.Optional;
 
@@ -11,6 +13,11 @@ public interface ResumeRepository extends JpaRepository<Resume, Long> {
     Page<Resume> findByUsers_Id(Long userId, Pageable pageable);
     Optional<Resume> findByIdAndUsers_Id(Long resumeId, Long userId);
 
+    // 관리자 목록: 작성자까지 한 번에 (행마다 users 조회 방지)
+    @EntityGraph(attributePaths = "users")
+    @Query("select r from Resume r")
+    Page<Resume> findAllWithUsers(Pageable pageable);
+
     // 잠금 여부 확인용 (선택)
     boolean existsByIdAndLockedTrue(Long resumeId);
     boolean existsByIdAndUsers_IdAndLockedTrue(Long resumeId, Long userId);
@@ -0,0 +1,17 @@
+package com.we.hirehub.repository;
+
+import com.we.hirehub.entity.ResumeSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ResumeSnapshotRepository extends JpaRepository<ResumeSnapshot, Long> {
+
+    /** 지원 내역 삭제 시 사본도 같이 (본인 것만) */
+    @Modifying
+    @Query("DELETE FROM ResumeSnapshot s WHERE s.applyId IN :applyIds AND s.userId = :userId")
+    void deleteByUserIdAndApplyIds(@Param("userId") Long userId, @Param("applyIds") List<Long> applyIds);
+}
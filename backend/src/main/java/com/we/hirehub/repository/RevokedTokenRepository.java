@@ -0,0 +1,25 @@
+package com.we.hirehub.repository;
+
+import com.we.hirehub.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    /** 마지막으로 읽은 id 이후 추가분 + since 이후 폐기분 (늦게 커밋된 작은 id 포함, 다른 노드에서 폐기한 것 포함) */
+    @Query("SELECT r FROM RevokedToken r WHERE (r.id > :afterId OR r.revokedAt >= :since) AND r.expiresAt > :now ORDER BY r.id")
+    List<RevokedToken> findActiveAfter(@Param("afterId") Long afterId,
+                                       @Param("since") LocalDateTime since,
+                                       @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -2,5 +2,19 @@ package com.we.hirehub.repository;
 
 import com.we.hirehub.entity.Session;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface SessionRepository extends JpaRepository<Session, String> {}
+import java.time.LocalDateTime;
+
+public interface SessionRepository extends JpaRepository<Session, String> {
+
+    /** 채팅 보관 시각 (보관된 적 없거나 세션이 없으면 null) */
+    @Query("SELECT s.archivedAt FROM Session s WHERE s.id = :id")
+    LocalDateTime findArchivedAt(@Param("id") String id);
+
+    @Modifying
+    @Query("UPDATE Session s SET s.archivedAt = :at WHERE s.id = :id")
+    int markArchived(@Param("id") String id, @Param("at") LocalDateTime at);
+}
@@ -0,0 +1,220 @@
+package com.we.hirehub.retrieval;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한국어 글자 n-gram TF-IDF 검색 색인 (불변)
+ * - 특징: 공백 단위 어절마다 글자 2-gram/3-gram (한 글자 어절은 그대로) → 조사/어미가 붙어도 어근이 겹치면 점수
+ * - 가중치: (1 + log tf) × idf, 문서 벡터는 L2 정규화 → 질의와의 내적 = 코사인 유사도 (0~1)
+ * - 역색인(특징 → 문서/가중치 배열)으로 질의에 나온 특징의 문서만 누적 → FAQ 수백 개 기준 수 μs
+ */
+public final class TfIdfIndex {
+
+    private final long[] docIds;
+    private final Map<String, Integer> termIds;
+    private final float[] idf;
+    private final int[][] postingDocs;
+    private final float[][] postingWeights;
+
+    private TfIdfIndex(long[] docIds, Map<String, Integer> termIds, float[] idf,
+                       int[][] postingDocs, float[][] postingWeights) {
+        this.docIds = docIds;
+        this.termIds = termIds;
+        this.idf = idf;
+        this.postingDocs = postingDocs;
+        this.postingWeights = postingWeights;
+    }
+
+    /** 검색 결과 (score: 코사인 유사도 0~1) */
+    public record Match(long id, double score) {}
+
+    /** 색인할 문서 (필드별 가중치 적용) */
+    public static final class Builder {
+        private final List<Long> ids = new ArrayList<>();
+        private final Map<Long, Integer> positions = new HashMap<>();
+        private final List<Map<String, Float>> tfs = new ArrayList<>();
+
+        /**
+         * @param weight 이 필드 특징의 tf 배수 (질문 1.0, 답변 0.5 등)
+         */
+        public Builder add(long id, String text, float weight) {
+            Integer idx = positions.get(id);
+            Map<String, Float> tf;
+            if (idx == null) {
+                positions.put(id, ids.size());
+                ids.add(id);
+                tf = new HashMap<>();
+                tfs.add(tf);
+            } else {
+                tf = tfs.get(idx);
+            }
+            for (String f : features(text)) {
+                tf.merge(f, weight, Float::sum);
+            }
+            return this;
+        }
+
+        public TfIdfIndex build() {
+            int n = ids.size();
+            Map<String, Integer> termIds = new HashMap<>();
+            List<Integer> df = new ArrayList<>();
+            for (Map<String, Float> tf : tfs) {
+                for (String term : tf.keySet()) {
+                    Integer t = termIds.get(term);
+                    if (t == null) {
+                        termIds.put(term, df.size());
+                        df.add(1);
+                    } else {
+                        df.set(t, df.get(t) + 1);
+                    }
+                }
+            }
+
+            float[] idf = new float[df.size()];
+            for (int t = 0; t < idf.length; t++) {
+                idf[t] = (float) (Math.log((n + 1.0) / (df.get(t) + 1.0)) + 1.0);
+            }
+
+            // 문서별 정규화 가중치
+            int[][] docTerms = new int[n][];
+            float[][] docWeights = new float[n][];
+            int[] postingSize = new int[idf.length];
+            for (int d = 0; d < n; d++) {
+                Map<String, Float> tf = tfs.get(d);
+                docTerms[d] = new int[tf.size()];
+                docWeights[d] = new float[tf.size()];
+                double norm = 0;
+                int i = 0;
+                for (Map.Entry<String, Float> e : tf.entrySet()) {
+                    int t = termIds.get(e.getKey());
+                    float v = (float) (Math.max(0, 1 + Math.log(e.getValue())) * idf[t]);
+                    docTerms[d][i] = t;
+                    docWeights[d][i] = v;
+                    norm += (double) v * v;
+                    postingSize[t]++;
+                    i++;
+                }
+                float inv = norm > 0 ? (float) (1 / Math.sqrt(norm)) : 0f;
+                for (int j = 0; j < i; j++) docWeights[d][j] *= inv;
+            }
+
+            // 특징별 posting
+            int[][] postingDocs = new int[idf.length][];
+            float[][] postingWeights = new float[idf.length][];
+            for (int t = 0; t < idf.length; t++) {
+                postingDocs[t] = new int[postingSize[t]];
+                postingWeights[t] = new float[postingSize[t]];
+            }
+            int[] fill = new int[idf.length];
+            for (int d = 0; d < n; d++) {
+                for (int j = 0; j < docTerms[d].length; j++) {
+                    int t = docTerms[d][j];
+                    postingDocs[t][fill[t]] = d;
+                    postingWeights[t][fill[t]] = docWeights[d][j];
+                    fill[t]++;
+                }
+            }
+
+            long[] docIds = new long[n];
+            for (int d = 0; d < n; d++) docIds[d] = ids.get(d);
+            return new TfIdfIndex(docIds, Map.copyOf(termIds), idf, postingDocs, postingWeights);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return docIds.length;
+    }
+
+    /**
+     * 상위 k개 (점수 내림차순, 0점 제외)
+     */
+    public List<Match> search(String query, int k) {
+        if (docIds.length == 0 || query == null || k <= 0) return List.of();
+
+        // 질의 벡터 (색인에 없는 특징은 내적에 기여하지 않지만 정규화에는 포함)
+        Map<String, Integer> qtf = new HashMap<>();
+        for (String f : features(query)) {
+            qtf.merge(f, 1, Integer::sum);
+        }
+        if (qtf.isEmpty()) return List.of();
+
+        double maxIdf = Math.log(docIds.length + 1.0) + 1.0;
+        double norm = 0;
+        int[] terms = new int[qtf.size()];
+        float[] weights = new float[qtf.size()];
+        int m = 0;
+        for (Map.Entry<String, Integer> e : qtf.entrySet()) {
+            Integer t = termIds.get(e.getKey());
+            double v = (1 + Math.log(e.getValue())) * (t != null ? idf[t] : maxIdf);
+            norm += v * v;
+            if (t != null) {
+                terms[m] = t;
+                weights[m] = (float) v;
+                m++;
+            }
+        }
+        if (m == 0) return List.of();
+        float inv = (float) (1 / Math.sqrt(norm));
+
+        float[] scores = new float[docIds.length];
+        for (int i = 0; i < m; i++) {
+            int[] docs = postingDocs[terms[i]];
+            float[] w = postingWeights[terms[i]];
+            float qw = weights[i] * inv;
+            for (int j = 0; j < docs.length; j++) {
+                scores[docs[j]] += qw * w[j];
+            }
+        }
+
+        // 상위 k 선택 (k는 작음)
+        int[] top = new int[Math.min(k, docIds.length)];
+        Arrays.fill(top, -1);
+        for (int d = 0; d < scores.length; d++) {
+            if (scores[d] <= 0) continue;
+            for (int i = 0; i < top.length; i++) {
+                if (top[i] < 0 || scores[d] > scores[top[i]]) {
+                    System.arraycopy(top, i, top, i + 1, top.length - i - 1);
+                    top[i] = d;
+                    break;
+                }
+            }
+        }
+        List<Match> result = new ArrayList<>(top.length);
+        for (int d : top) {
+            if (d < 0) break;
+            result.add(new Match(docIds[d], Math.min(1.0, scores[d])));
+        }
+        return result;
+    }
+
+    /** 정규화 후 어절별 글자 2/3-gram */
+    static List<String> features(String text) {
+        List<String> out = new ArrayList<>();
+        if (text == null) return out;
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? Character.toLowerCase(text.charAt(i)) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                word.append(c);
+                continue;
+            }
+            int len = word.length();
+            if (len == 1) {
+                out.add(word.toString());
+            } else {
+                for (int j = 0; j + 2 <= len; j++) out.add(word.substring(j, j + 2));
+                for (int j = 0; j + 3 <= len; j++) out.add(word.substring(j, j + 3));
+            }
+            word.setLength(0);
+        }
+        return out;
+    }
+}
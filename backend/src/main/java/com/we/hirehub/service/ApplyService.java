@@ -24,6 +24,7 @@ public class ApplyService {
     private final ApplyRepository applyRepository;
     private final JobPostsRepository jobPostsRepository;
     private final ResumeRepository resumeRepository;
+    private final ResumeSnapshotService resumeSnapshotService;
 
     /**
      * 공고 지원 (resumeId 없으면 최신 이력서 자동 선택). 중복이면 기존 반환(멱등)
@@ -55,6 +56,8 @@ public class ApplyService {
                 .build();
 
         Apply saved = applyRepository.save(apply);
+        // 5) 지원 시점 이력서 사본 (관리자는 이후 원본 수정과 무관하게 이 사본을 봄)
+        resumeSnapshotService.capture(saved);
         return ApplyDto.toDto(saved);
     }
 
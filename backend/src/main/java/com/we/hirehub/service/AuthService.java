@@ -12,7 +12,6 @@ import org.springframework.stereotype.Service;
 
 import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
 
 @Slf4j
 @Service
@@ -22,6 +21,17 @@ public class AuthService {
     private final UsersRepository usersRepository;
     private final PasswordEncoder passwordEncoder;
 
+    /** 소셜 가입자 비밀번호 자리 (비밀번호 로그인 불가) */
+    private static final String SOCIAL_PASSWORD = "!social:";
+
+    /**
+     * 소셜 가입자 password 컬럼 값 ("!social:kakao" 등)
+     * - BCrypt 형식이 아니라 어떤 입력과도 일치하지 않음 → 해시할 필요 없음
+     */
+    public static String socialPassword(String provider) {
+        return SOCIAL_PASSWORD + provider;
+    }
+
     public Optional<Users> findByEmail(String email) {
         return usersRepository.findByEmail(email);
     }
@@ -51,14 +61,12 @@ public class AuthService {
     }
 
     // [EXISTING] ✅ 소셜 신규 유저 생성 (password NOT NULL 제약 충족용 더미 비번)
+    // - 어떤 입력과도 일치할 수 없는 값이라 해시할 필요 없음 (BCrypt 형식이 아니면 matches는 항상 false)
     public Users createSocialUser(String provider, String email, String name) {
-        String rawRandom = provider + "_" + UUID.randomUUID();
-        String encoded = passwordEncoder.encode(rawRandom);
-
         Users u = Users.builder()
                 .email(email)
                 .name(name != null ? name : "")
-                .password(encoded)           // NULL 금지 컬럼 충족
+                .password(socialPassword(provider))   // NULL 금지 컬럼 충족
                 .role(Role.USER)
                 .build();
 
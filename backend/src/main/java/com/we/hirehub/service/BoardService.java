@@ -4,6 +4,7 @@ import com.we.hirehub.dto.support.BoardDto;
 import com.we.hirehub.entity.Board;
 import com.we.hirehub.entity.Comments;
 import com.we.hirehub.entity.Users;
+import com.we.hirehub.moderation.ModerationFilter;
 import com.we.hirehub.repository.BoardRepository;
 import com.we.hirehub.repository.CommentRepository;
 import com.we.hirehub.repository.UsersRepository;
@@ -22,6 +23,7 @@ public class BoardService {
     private final BoardRepository boardRepository;
     private final UsersRepository usersRepository;
     private final CommentRepository commentRepository;
+    private final ModerationFilter moderationFilter;
 
     /** 게시글 생성 */
     @Transactional
@@ -29,6 +31,7 @@ public class BoardService {
         Users user = usersRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
+        maskBannedWords(dto);
         Board board = dto.toEntity(user);  // DTO의 toEntity 메서드 사용
         Board saved = boardRepository.save(board);
 
@@ -42,6 +45,7 @@ public class BoardService {
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
 
+        maskBannedWords(dto);
         dto.updateEntity(board);  // BoardDto의 updateEntity 메서드 사용
         Board saved = boardRepository.save(board);
 
@@ -133,4 +137,10 @@ public class BoardService {
                 })
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    /** 제목/본문 금칙어 가림 */
+    private void maskBannedWords(BoardDto dto) {
+        dto.setTitle(moderationFilter.mask(dto.getTitle()));
+        dto.setContent(moderationFilter.mask(dto.getContent()));
+    }
+}
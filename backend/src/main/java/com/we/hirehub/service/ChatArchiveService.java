@@ -0,0 +1,215 @@
+package com.we.hirehub.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.we.hirehub.dto.chat.LiveChatDto;
+import com.we.hirehub.entity.LiveChat;
+import com.we.hirehub.entity.LiveChatArchive;
+import com.we.hirehub.repository.LiveChatArchiveRepository;
+import com.we.hirehub.repository.LiveChatRepository;
+import com.we.hirehub.repository.SessionRepository;
+import com.we.hirehub.ws.PresenceService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 상담 채팅 기록 보관(아카이브)
+ * - 마지막 메시지 이후 idle-days 지난(= 종료된) 세션의 live_chat 행들을 세션당 압축 blob 1개로 합침
+ * - 보관본 저장(커밋) → 원본을 작은 묶음으로 나눠 삭제 (삭제 중 실패해도 다음 실행에서 id 기준으로 중복 없이 이어감)
+ * - 보관 후 다시 대화가 생긴 세션은 다음 실행에서 기존 보관본 뒤에 이어 붙임
+ * - 조회는 load()/recent()로 필요할 때만 압축 해제
+ * - 보관한 세션은 session.archived_at을 기록 → 히스토리 조회는 이 값이 있을 때만 보관본을 읽음
+ */
+@Slf4j
+@Service
+public class ChatArchiveService {
+
+    private static final String CODEC = "gzip-json-v1";
+
+    private final LiveChatRepository liveChatRepository;
+    private final LiveChatArchiveRepository archiveRepository;
+    private final SessionRepository sessionRepository;
+    private final PresenceService presenceService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int idleDays;
+    private final int sessionsPerRun;
+    private final int chunkSize;
+
+    public ChatArchiveService(LiveChatRepository liveChatRepository,
+                              LiveChatArchiveRepository archiveRepository,
+                              SessionRepository sessionRepository,
+                              PresenceService presenceService,
+                              TransactionTemplate transactionTemplate,
+                              ObjectMapper objectMapper,
+                              @Value("${app.chat.archive.idle-days:30}") int idleDays,
+                              @Value("${app.chat.archive.sessions-per-run:200}") int sessionsPerRun,
+                              @Value("${app.chat.archive.chunk-size:500}") int chunkSize) {
+        this.liveChatRepository = liveChatRepository;
+        this.archiveRepository = archiveRepository;
+        this.sessionRepository = sessionRepository;
+        this.presenceService = presenceService;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.idleDays = idleDays;
+        this.sessionsPerRun = sessionsPerRun;
+        this.chunkSize = chunkSize;
+    }
+
+    /** 보관본 안의 메시지 1개 (작성 당시 닉네임 그대로 보관) */
+    public record ArchivedMessage(Long id, Long userId, String nickname, String content, LocalDateTime createAt) {
+
+        public LiveChatDto toDto(String sessionId) {
+            return LiveChatDto.builder()
+                    .id(id)
+                    .userId(userId)
+                    .nickname(nickname)
+                    .content(content)
+                    .createAt(createAt)
+                    .sessionId(sessionId)
+                    .build();
+        }
+    }
+
+    @Scheduled(cron = "${app.chat.archive.cron:0 30 4 * * *}")
+    public void archiveIdleSessions() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(idleDays);
+        List<String> sessionIds = liveChatRepository.findIdleSessionIds(cutoff, PageRequest.of(0, sessionsPerRun));
+        if (sessionIds.isEmpty()) return;
+
+        int archived = 0;
+        long deleted = 0;
+        for (String sessionId : sessionIds) {
+            // 접속 중인 방은 건너뜀
+            if (presenceService.isUserOnline(sessionId) || presenceService.isAgentOnline(sessionId)) continue;
+            try {
+                deleted += archive(sessionId);
+                archived++;
+            } catch (Exception e) {
+                log.error("❌ 채팅 보관 실패: sessionId={}", sessionId, e);
+            }
+        }
+        log.info("📦 채팅 보관 완료: 세션 {}개, 원본 {}행 삭제", archived, deleted);
+    }
+
+    /**
+     * 세션 하나 보관
+     * @return 삭제한 live_chat 행 수
+     */
+    public long archive(String sessionId) {
+        // 1. 보관본 저장 (기존 보관본 + 새 메시지)
+        List<Long> ids = transactionTemplate.execute(status -> writeArchive(sessionId));
+        if (ids == null || ids.isEmpty()) return 0;
+
+        // 2. 원본은 작은 트랜잭션으로 나눠 삭제 (긴 락 방지)
+        long deleted = 0;
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            deleted += liveChatRepository.deleteByIdIn(ids.subList(from, Math.min(ids.size(), from + chunkSize)));
+        }
+        log.debug("📦 세션 보관: sessionId={}, 삭제 {}행", sessionId, deleted);
+        return deleted;
+    }
+
+    /** 보관된 전체 메시지 (오래된 순) */
+    public List<ArchivedMessage> load(String sessionId) {
+        return archiveRepository.findById(sessionId)
+                .map(this::decode)
+                .orElse(Collections.emptyList());
+    }
+
+    /** 보관된 메시지 중 최근 limit개 (오래된 순) */
+    public List<LiveChatDto> recent(String sessionId, int limit) {
+        if (limit <= 0) return Collections.emptyList();
+        List<ArchivedMessage> all = load(sessionId);
+        List<LiveChatDto> result = new ArrayList<>(Math.min(limit, all.size()));
+        for (ArchivedMessage m : all.subList(Math.max(0, all.size() - limit), all.size())) {
+            result.add(m.toDto(sessionId));
+        }
+        return result;
+    }
+
+    // ===== Private Helper Methods =====
+
+    /** @return 보관본에 들어간(= 삭제할) live_chat id 목록 */
+    private List<Long> writeArchive(String sessionId) {
+        LiveChatArchive archive = archiveRepository.findById(sessionId).orElse(null);
+        List<ArchivedMessage> messages = archive != null ? new ArrayList<>(decode(archive)) : new ArrayList<>();
+        long lastArchivedId = archive != null && archive.getLastMessageId() != null ? archive.getLastMessageId() : 0L;
+
+        List<Long> ids = new ArrayList<>();
+        long afterId = 0L;
+        while (true) {
+            List<LiveChat> chunk = liveChatRepository.findChunkForArchive(sessionId, afterId, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) break;
+            for (LiveChat chat : chunk) {
+                ids.add(chat.getId());
+                // 이전 실행에서 보관까지 하고 삭제를 못 한 행은 다시 넣지 않음
+                if (chat.getId() <= lastArchivedId) continue;
+                LiveChatDto dto = LiveChatDto.from(chat);
+                messages.add(new ArchivedMessage(dto.getId(), dto.getUserId(), dto.getNickname(),
+                        dto.getContent(), dto.getCreateAt()));
+            }
+            afterId = chunk.get(chunk.size() - 1).getId();
+        }
+        if (ids.isEmpty()) return ids;
+
+        byte[] raw = encodeJson(messages);
+        if (archive == null) {
+            archive = LiveChatArchive.builder().sessionId(sessionId).codec(CODEC).build();
+        }
+        archive.setMessageCount(messages.size());
+        archive.setFirstAt(messages.isEmpty() ? null : messages.get(0).createAt());
+        archive.setLastAt(messages.isEmpty() ? null : messages.get(messages.size() - 1).createAt());
+        archive.setLastMessageId(Math.max(lastArchivedId, afterId));
+        archive.setRawBytes(raw.length);
+        archive.setData(gzip(raw));
+        archive.setArchivedAt(LocalDateTime.now());
+        archiveRepository.save(archive);
+        sessionRepository.markArchived(sessionId, archive.getArchivedAt());
+        return ids;
+    }
+
+    private List<ArchivedMessage> decode(LiveChatArchive archive) {
+        if (!CODEC.equals(archive.getCodec())) {
+            throw new IllegalStateException("지원하지 않는 보관 형식: " + archive.getCodec());
+        }
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(archive.getData()))) {
+            return objectMapper.readValue(in, new TypeReference<List<ArchivedMessage>>() {});
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 보관본 해제 실패: " + archive.getSessionId(), e);
+        }
+    }
+
+    private byte[] encodeJson(List<ArchivedMessage> messages) {
+        try {
+            return objectMapper.writeValueAsBytes(messages);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(bos)) {
+            out.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bos.toByteArray();
+    }
+}
@@ -1,220 +1,320 @@
 package com.we.hirehub.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.we.hirehub.dto.chat.ChatBotDto;
+import com.we.hirehub.dto.chat.FaqAnswerDto;
 import com.we.hirehub.dto.support.FaqCategoryDto;
 import com.we.hirehub.dto.support.FaqItemDto;
-import com.we.hirehub.entity.ChatBot;
-import com.we.hirehub.repository.ChatBotRepository;
-import lombok.RequiredArgsConstructor;
+import com.we.hirehub.retrieval.TfIdfIndex;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
-import java.util.stream.Collectors;
 
+/**
+ * 챗봇 FAQ
+ * - chat_bot 전체를 한 번 읽어 불변 스냅샷(대표 4개 / 계층형 카테고리 / 카테고리별 목록 + 각 JSON 바이트)으로 만들어 둠
+ * - 요청 처리 시 DB 조회/JSON 파싱 없이 스냅샷만 읽음
+ * - refresh-ms마다 chat_bot을 다시 읽어 내용 해시가 바뀐 경우에만 새 스냅샷을 만들어 한 번에 교체 (volatile 참조)
+ * - 자유 질문은 스냅샷에 같이 만든 TF-IDF 색인(질문 + 답변)으로 상위 K개 → 최고 점수가 threshold 미만이면 상담사 연결 안내
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ChatBotService {
-    private final ChatBotRepository chatBotRepository;
+
+    private static final int TOP_FAQ_COUNT = 4;
+    private static final int DEFAULT_ORDER = 999;
+    private static final String SELECT_SQL =
+            "SELECT id, content, bot_answer, meta FROM chat_bot WHERE onoff = 1 ORDER BY id ASC";
+
+    private static final float QUESTION_WEIGHT = 1.0f;
+    private static final float ANSWER_WEIGHT = 0.5f;
+
     private final JdbcTemplate jdbcTemplate;
     private final ObjectMapper objectMapper;
+    private final int topK;
+    private final double threshold;
+
+    private volatile Snapshot snapshot;
+
+    public ChatBotService(JdbcTemplate jdbcTemplate,
+                          ObjectMapper objectMapper,
+                          @Value("${app.chatbot.retrieval.top-k:3}") int topK,
+                          @Value("${app.chatbot.retrieval.threshold:0.25}") double threshold) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.topK = topK;
+        this.threshold = threshold;
+        this.snapshot = Snapshot.empty();
+    }
 
     /**
-     * 자주 묻는 질문 대표 4개 조회
+     * FAQ 스냅샷 (한 번 만든 뒤 바뀌지 않음)
+     * @param version chat_bot 내용 해시 (바뀌었을 때만 재생성)
      */
-    @Transactional(readOnly = true)
-    public List<ChatBotDto> getFaqList() {
-        log.debug("FAQ 목록 조회 시작");
-
-        String sql = """
-            SELECT * FROM chat_bot 
-            WHERE onoff = 1 
-            AND JSON_EXTRACT(meta, '$.type') = 'item'
-            ORDER BY JSON_EXTRACT(meta, '$.order'), id ASC 
-            LIMIT 4
-            """;
+    private record Snapshot(String version,
+                            List<ChatBotDto> top,
+                            List<FaqCategoryDto> categories,
+                            Map<String, List<ChatBotDto>> byCategory,
+                            byte[] topJson,
+                            byte[] categoriesJson,
+                            Map<String, byte[]> byCategoryJson,
+                            byte[] emptyJson,
+                            Map<Long, ChatBotDto> itemsById,
+                            TfIdfIndex index) {
+
+        static Snapshot empty() {
+            byte[] empty = "[]".getBytes(StandardCharsets.UTF_8);
+            return new Snapshot("", List.of(), List.of(), Map.of(), empty, empty, Map.of(), empty,
+                    Map.of(), TfIdfIndex.builder().build());
+        }
+    }
 
-        List<Map<String, Object>> rows = jdbcTemplate.queryForList(sql);
+    /** meta 파싱이 끝난 chat_bot 행 */
+    private record FaqRow(long id, String content, String botAnswer, String type, String category, Integer order) {}
 
-        return rows.stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
+    /**
+     * 자주 묻는 질문 대표 4개 조회
+     */
+    public List<ChatBotDto> getFaqList() {
+        return snapshot.top();
     }
 
     /**
      * 계층형 FAQ 전체 조회
      */
-    @Transactional(readOnly = true)
     public List<FaqCategoryDto> getFaqCategoriesFromDb() {
-        log.debug("FAQ 계층형 카테고리 조회 시작");
+        return snapshot.categories();
+    }
 
-        String sql = "SELECT id, content, bot_answer, meta FROM chat_bot WHERE onoff = 1 ORDER BY id ASC";
-        List<Map<String, Object>> rows = jdbcTemplate.queryForList(sql);
+    /**
+     * 특정 카테고리의 모든 QnA 조회
+     */
+    public List<ChatBotDto> getFaqByCategory(String category) {
+        return snapshot.byCategory().getOrDefault(category, List.of());
+    }
 
-        if (rows.isEmpty()) {
-            log.warn("DB에 FAQ 데이터가 없습니다");
-            return Collections.emptyList();
-        }
+    /** 대표 4개 (직렬화된 JSON) */
+    public byte[] getFaqListJson() {
+        return snapshot.topJson();
+    }
 
-        return buildFaqCategories(rows);
+    /** 계층형 FAQ (직렬화된 JSON) */
+    public byte[] getFaqCategoriesJson() {
+        return snapshot.categoriesJson();
+    }
+
+    /** 카테고리별 QnA (직렬화된 JSON, 없는 카테고리는 []) */
+    public byte[] getFaqByCategoryJson(String category) {
+        Snapshot s = snapshot;
+        return s.byCategoryJson().getOrDefault(category, s.emptyJson());
     }
 
     /**
-     * 특정 카테고리의 모든 QnA 조회
+     * 자유 질문 → FAQ 항목 검색
+     * @return answered=false면 상담사 연결(handoff) 안내 대상
      */
-    @Transactional(readOnly = true)
-    public List<ChatBotDto> getFaqByCategory(String category) {
-        log.debug("카테고리별 FAQ 조회: {}", category);
+    public Map<String, Object> ask(String question) {
+        Snapshot s = snapshot;
+        List<FaqAnswerDto> items = new ArrayList<>();
+        for (TfIdfIndex.Match m : s.index().search(question, topK)) {
+            ChatBotDto item = s.itemsById().get(m.id());
+            if (item != null) items.add(FaqAnswerDto.of(item, m.score()));
+        }
+        boolean answered = !items.isEmpty() && items.get(0).getScore() >= threshold;
 
-        String sql = """
-            SELECT * FROM chat_bot 
-            WHERE onoff = 1 
-            AND JSON_EXTRACT(meta, '$.category') = ?
-            AND JSON_EXTRACT(meta, '$.type') = 'item'
-            ORDER BY JSON_EXTRACT(meta, '$.order'), id ASC
-            """;
+        Map<String, Object> res = new HashMap<>();
+        res.put("answered", answered);
+        res.put("handoff", !answered);
+        res.put("items", items);
+        return res;
+    }
 
-        List<Map<String, Object>> rows = jdbcTemplate.queryForList(sql, category);
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        refresh();
+    }
 
-        return rows.stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
+    /** chat_bot이 바뀌었으면 스냅샷 교체 (실패 시 기존 스냅샷 유지) */
+    @Scheduled(fixedDelayString = "${app.chatbot.faq.refresh-ms:30000}", initialDelayString = "${app.chatbot.faq.refresh-ms:30000}")
+    public synchronized void refresh() {
+        try {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(SELECT_SQL);
+            String version = digest(rows);
+            if (version.equals(snapshot.version())) return;
+
+            Snapshot next = build(version, rows);
+            snapshot = next;
+            log.info("📚 FAQ 스냅샷 갱신: 카테고리 {}개, 항목 {}개, version={}",
+                    next.categories().size(),
+                    next.byCategory().values().stream().mapToInt(List::size).sum(),
+                    version.substring(0, 12));
+        } catch (Exception e) {
+            log.error("❌ FAQ 스냅샷 갱신 실패 (기존 스냅샷 유지)", e);
+        }
     }
 
     // ========== Private Helper Methods ==========
 
-    /**
-     * DB Row -> ChatBotDto 변환
-     */
-    private ChatBotDto mapToDto(Map<String, Object> row) {
-        Long id = ((Number) row.get("id")).longValue();
-        String content = (String) row.get("content");
-        String botAnswer = (String) row.get("bot_answer");
-        String category = extractCategory((String) row.get("meta"));
+    private Snapshot build(String version, List<Map<String, Object>> rows) throws JsonProcessingException {
+        List<FaqRow> faqRows = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            FaqRow parsed = parse(row);
+            if (parsed != null) faqRows.add(parsed);
+        }
 
-        return ChatBotDto.builder()
-                .id(id)
-                .content(content)
-                .botAnswer(botAnswer)
-                .category(category)
-                .build();
+        // 대표 4개: 기존 SQL(ORDER BY JSON_EXTRACT(meta, '$.order'), id)과 같게 order 없는 항목이 먼저
+        List<FaqRow> items = faqRows.stream().filter(r -> "item".equals(r.type())).toList();
+        List<ChatBotDto> top = items.stream()
+                .sorted(Comparator.comparing(FaqRow::order, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparingLong(FaqRow::id))
+                .limit(TOP_FAQ_COUNT)
+                .map(ChatBotService::toDto)
+                .toList();
+
+        Map<String, List<ChatBotDto>> byCategory = new LinkedHashMap<>();
+        for (FaqRow r : items.stream()
+                .filter(r -> r.category() != null)
+                .sorted(Comparator.comparing(FaqRow::order, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparingLong(FaqRow::id))
+                .toList()) {
+            byCategory.computeIfAbsent(r.category(), k -> new ArrayList<>()).add(toDto(r));
+        }
+        byCategory.replaceAll((k, v) -> List.copyOf(v));
+
+        List<FaqCategoryDto> categories = buildFaqCategories(faqRows);
+
+        // 자유 질문 검색 색인 (질문 + 답변)
+        Map<Long, ChatBotDto> itemsById = new HashMap<>();
+        TfIdfIndex.Builder index = TfIdfIndex.builder();
+        for (FaqRow r : items) {
+            itemsById.put(r.id(), toDto(r));
+            index.add(r.id(), r.content(), QUESTION_WEIGHT);
+            index.add(r.id(), r.botAnswer(), ANSWER_WEIGHT);
+        }
+
+        Map<String, byte[]> byCategoryJson = new HashMap<>();
+        for (Map.Entry<String, List<ChatBotDto>> e : byCategory.entrySet()) {
+            byCategoryJson.put(e.getKey(), objectMapper.writeValueAsBytes(e.getValue()));
+        }
+
+        return new Snapshot(version,
+                top,
+                categories,
+                Collections.unmodifiableMap(byCategory),
+                objectMapper.writeValueAsBytes(top),
+                objectMapper.writeValueAsBytes(categories),
+                Map.copyOf(byCategoryJson),
+                "[]".getBytes(StandardCharsets.UTF_8),
+                Map.copyOf(itemsById),
+                index.build());
     }
 
     /**
-     * Meta JSON에서 카테고리 추출
+     * chat_bot 행 → meta 파싱 (스냅샷 만들 때 한 번만)
      */
-    private String extractCategory(String metaJson) {
-        if (metaJson == null || metaJson.isEmpty()) return "";
+    private FaqRow parse(Map<String, Object> row) {
+        long id = ((Number) row.get("id")).longValue();
+        String content = (String) row.get("content");
+        String botAnswer = (String) row.get("bot_answer");
+        Object metaValue = row.get("meta");
+        String metaJson = metaValue != null ? metaValue.toString() : null;
+        if (metaJson == null || metaJson.isEmpty()) {
+            return new FaqRow(id, content, botAnswer, null, null, null);
+        }
 
         try {
             Map<String, Object> meta = objectMapper.readValue(
                     metaJson,
                     new TypeReference<Map<String, Object>>() {}
             );
-            return (String) meta.getOrDefault("category", "");
+            Integer order = meta.get("order") instanceof Number n ? n.intValue() : null;
+            return new FaqRow(id, content, botAnswer,
+                    (String) meta.get("type"), (String) meta.get("category"), order);
         } catch (Exception e) {
             log.warn("Meta 파싱 실패: {}", metaJson);
-            return "";
+            return null;
         }
     }
 
+    private static ChatBotDto toDto(FaqRow r) {
+        return ChatBotDto.builder()
+                .id(r.id())
+                .content(r.content())
+                .botAnswer(r.botAnswer())
+                .category(r.category() != null ? r.category() : "")
+                .build();
+    }
+
     /**
-     * FAQ 카테고리 구조 생성
+     * FAQ 카테고리 구조 생성 (header 행 = 카테고리, item 행 = 하위 항목)
+     * - 카테고리 id는 header 행의 chat_bot id (재시작/배포와 무관하게 고정)
      */
-    private List<FaqCategoryDto> buildFaqCategories(List<Map<String, Object>> rows) {
-        Map<String, List<Map<String, Object>>> categoryItems = new LinkedHashMap<>();
-        Map<String, String> categoryDescriptions = new LinkedHashMap<>();
-        Map<String, Integer> categoryOrders = new LinkedHashMap<>();
-
-        // 데이터 분류
-        for (Map<String, Object> row : rows) {
-            String metaJson = (String) row.get("meta");
-            if (metaJson == null) continue;
-
-            try {
-                Map<String, Object> meta = objectMapper.readValue(
-                        metaJson,
-                        new TypeReference<Map<String, Object>>() {}
-                );
-
-                String type = (String) meta.get("type");
-                String category = (String) meta.get("category");
-                if (category == null) continue;
-
-                Integer order = meta.get("order") instanceof Number
-                        ? ((Number) meta.get("order")).intValue()
-                        : 999;
-
-                if ("header".equals(type)) {
-                    categoryDescriptions.put(category, (String) row.get("bot_answer"));
-                    categoryOrders.put(category, order);
-                } else if ("item".equals(type)) {
-                    Map<String, Object> item = new HashMap<>();
-                    item.put("id", ((Number) row.get("id")).longValue());
-                    item.put("content", row.get("content"));
-                    item.put("botAnswer", row.get("bot_answer"));
-                    item.put("category", category);
-                    item.put("order", order);
-
-                    categoryItems.computeIfAbsent(category, k -> new ArrayList<>()).add(item);
-                }
-            } catch (Exception e) {
-                log.warn("Meta 파싱 실패: {}", metaJson);
+    private List<FaqCategoryDto> buildFaqCategories(List<FaqRow> rows) {
+        Map<String, FaqRow> headers = new LinkedHashMap<>();
+        Map<String, List<FaqRow>> categoryItems = new LinkedHashMap<>();
+
+        for (FaqRow r : rows) {
+            if (r.category() == null) continue;
+            if ("header".equals(r.type())) {
+                headers.put(r.category(), r);
+            } else if ("item".equals(r.type())) {
+                categoryItems.computeIfAbsent(r.category(), k -> new ArrayList<>()).add(r);
             }
         }
 
-        // 카테고리 정렬 및 DTO 변환
-        return categoryDescriptions.keySet().stream()
-                .sorted(Comparator.comparingInt(cat -> categoryOrders.getOrDefault(cat, 999)))
-                .map(categoryName -> buildCategoryDto(
-                        categoryName,
-                        categoryDescriptions.get(categoryName),
-                        categoryItems.get(categoryName)
-                ))
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        List<FaqCategoryDto> categories = new ArrayList<>();
+        headers.values().stream()
+                .sorted(Comparator.comparingInt(h -> orderOf(h)))
+                .forEach(header -> {
+                    List<FaqRow> items = categoryItems.get(header.category());
+                    if (items == null || items.isEmpty()) {
+                        log.warn("카테고리 {}에 항목이 없습니다", header.category());
+                        return;
+                    }
+                    List<FaqItemDto> faqItems = items.stream()
+                            .sorted(Comparator.comparingInt(ChatBotService::orderOf))
+                            .map(item -> FaqItemDto.builder()
+                                    .id(item.id())
+                                    .question(item.content())
+                                    .answer(item.botAnswer())
+                                    .category(header.category())
+                                    .build())
+                            .toList();
+                    categories.add(FaqCategoryDto.builder()
+                            .id(header.id())
+                            .category(header.category())
+                            .description(header.botAnswer() != null ? header.botAnswer() : header.category())
+                            .items(faqItems)
+                            .build());
+                });
+        return List.copyOf(categories);
     }
 
-    /**
-     * 카테고리 DTO 생성
-     */
-    private FaqCategoryDto buildCategoryDto(
-            String categoryName,
-            String description,
-            List<Map<String, Object>> items
-    ) {
-        if (items == null || items.isEmpty()) {
-            log.warn("카테고리 {}에 항목이 없습니다", categoryName);
-            return null;
-        }
+    private static int orderOf(FaqRow r) {
+        return r.order() != null ? r.order() : DEFAULT_ORDER;
+    }
 
-        // 항목 정렬
-        items.sort(Comparator.comparingInt(item ->
-                item.get("order") instanceof Number
-                        ? ((Number) item.get("order")).intValue()
-                        : 999
-        ));
-
-        List<FaqItemDto> faqItems = items.stream()
-                .map(item -> FaqItemDto.builder()
-                        .id(((Number) item.get("id")).longValue())
-                        .question((String) item.get("content"))
-                        .answer((String) item.get("botAnswer"))
-                        .category(categoryName)
-                        .build())
-                .collect(Collectors.toList());
-
-        return FaqCategoryDto.builder()
-                .id((long) categoryName.hashCode())
-                .category(categoryName)
-                .description(description != null ? description : categoryName)
-                .items(faqItems)
-                .build();
+    /** 스냅샷에 들어가는 컬럼 내용 해시 */
+    private static String digest(List<Map<String, Object>> rows) throws NoSuchAlgorithmException {
+        MessageDigest md = MessageDigest.getInstance("SHA-256");
+        for (Map<String, Object> row : rows) {
+            for (String col : new String[]{"id", "content", "bot_answer", "meta"}) {
+                Object v = row.get(col);
+                md.update(String.valueOf(v).getBytes(StandardCharsets.UTF_8));
+                md.update((byte) 0);
+            }
+        }
+        return HexFormat.of().formatHex(md.digest());
     }
 }
@@ -0,0 +1,411 @@
+package com.we.hirehub.service;
+
+import com.we.hirehub.config.AfterCommit;
+import com.we.hirehub.entity.LiveChat;
+import com.we.hirehub.entity.LiveChatArchive;
+import com.we.hirehub.repository.LiveChatArchiveRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 관리자 상담 기록 전문 검색 (chat_search_posting 역색인)
+ * - 메시지 저장 시 토큰화해서 쓰기 지연 큐에 넣고, 주기적으로 INSERT IGNORE 배치로 색인
+ * - 한글은 글자 2-gram + 구간 마지막 글자, 영문/숫자는 단어 단위 + 이메일 등은 통째로 한 번 더
+ *   · 한 글자 검색어는 "그 글자로 시작하는 2-gram 또는 그 글자" 범위 조회 → 어느 위치의 글자든 찾음
+ * - 색인은 메시지 id만 가리키므로 보관(아카이브)으로 live_chat 행이 지워져도 그대로 검색됨
+ * - 색인 기록이 실패하면 실패한 가장 작은 id부터 live_chat을 다시 훑어 색인 (INSERT IGNORE라 중복 무해)
+ * - 기동 시 색인된 최대 메시지 id 이후부터 이어서 채움 (중간에 끊긴 초기 적재도 이어감), 그동안 새 메시지는 큐에 대기
+ * - 검색: 모든 토큰을 포함한 메시지 → 세션별로 전부 묶은 뒤 최근 일치 순으로 자름, 마지막 일치 메시지 id 커서로 페이징
+ * - 스니펫은 결과 페이지의 일치 메시지만 live_chat에서, 없으면 해당 세션 보관본에서 읽음
+ */
+@Slf4j
+@Service
+public class ChatSearchService {
+
+    private static final int MAX_TERM_LENGTH = 64;
+    private static final int MAX_TERMS_PER_MESSAGE = 256;
+    private static final int MAX_QUERY_TERMS = 16;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int SNIPPET_RADIUS = 40;
+
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO chat_search_posting (term, session_id, message_id) VALUES (?, ?, ?)";
+
+    private final LiveChatArchiveRepository archiveRepository;
+    private final ChatArchiveService chatArchiveService;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    /** 색인 대기 메시지 */
+    private record Pending(long messageId, String sessionId, String content) {}
+
+    private final Queue<Pending> pending = new ConcurrentLinkedQueue<>();
+
+    // 기동 시 따라잡기가 끝나기 전에는 큐만 쌓음 → 색인이 id 순으로 채워져 최대 id가 재개 지점이 됨
+    private volatile boolean caughtUp;
+    // 이 id 초과 live_chat을 다시 색인해야 함 (Long.MAX_VALUE = 없음, flush 스레드에서만 변경)
+    private long reindexAfter = Long.MAX_VALUE;
+
+    public ChatSearchService(LiveChatArchiveRepository archiveRepository,
+                             ChatArchiveService chatArchiveService,
+                             JdbcTemplate jdbcTemplate,
+                             @Value("${app.chat.search.batch-size:1000}") int batchSize) {
+        this.archiveRepository = archiveRepository;
+        this.chatArchiveService = chatArchiveService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /** 검색 결과 1건 (세션 단위) */
+    public record Hit(String sessionId, long hits, long lastHitId, LocalDateTime lastHitAt, String snippet) {}
+
+    /**
+     * 메시지 저장 직후 호출 - 큐에만 넣고 바로 반환
+     * - 저장 트랜잭션이 커밋된 뒤에만 큐에 넣음 (트랜잭션 밖이면 바로)
+     *   → 롤백된 메시지의 색인이 남아 스니펫 없는 검색 결과가 생기지 않도록
+     */
+    public void onMessage(LiveChat saved) {
+        if (saved == null || saved.getId() == null || saved.getSession() == null) return;
+        Pending p = new Pending(saved.getId(), saved.getSession().getId(), saved.getContent());
+        AfterCommit.run(() -> pending.offer(p));
+    }
+
+    /** 대기 중인 메시지 색인 + 실패분 재색인 */
+    @Scheduled(fixedDelayString = "${app.chat.search.flush-ms:1000}")
+    @PreDestroy
+    public synchronized void flush() {
+        if (!caughtUp) return;
+
+        List<Object[]> rows = new ArrayList<>();
+        Pending p;
+        while ((p = pending.poll()) != null) {
+            addPostings(rows, p.messageId(), p.sessionId(), p.content());
+            if (rows.size() >= batchSize) {
+                write(rows);
+                rows = new ArrayList<>();
+            }
+        }
+        write(rows);
+
+        if (reindexAfter != Long.MAX_VALUE) {
+            long from = reindexAfter;
+            reindexAfter = Long.MAX_VALUE;
+            if (indexLiveChat(from)) {
+                log.info("🔎 채팅 검색 색인 재시도 완료: id > {}", from);
+            }
+        }
+    }
+
+    /**
+     * 검색
+     * @param query  검색어 (공백으로 나눈 토큰 전부 포함한 메시지)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    public Map<String, Object> search(String query, String cursor, int size) {
+        Set<String> terms = terms(query == null ? "" : query.trim(), true);
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        if (terms.size() > MAX_QUERY_TERMS) {
+            throw new IllegalArgumentException("검색어가 너무 깁니다.");
+        }
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        long before = cursor == null || cursor.isBlank() ? Long.MAX_VALUE : decodeCursor(cursor);
+
+        // 검색어 토큰마다 (번호, 세션, 메시지) → 모든 번호가 모인 메시지 → 세션별 집계 → 커서/정렬/LIMIT
+        // 한 글자 한글은 "그 글자" 또는 "그 글자로 시작하는 2-gram" (term 인덱스 범위 조회)
+        List<Object> args = new ArrayList<>();
+        StringJoiner matches = new StringJoiner(" UNION ALL ");
+        int k = 0;
+        for (String term : terms) {
+            if (term.length() == 1 && isHangul(term.charAt(0))) {
+                matches.add("SELECT " + k + " AS q, session_id, message_id FROM chat_search_posting WHERE term = ? OR term LIKE ?");
+                args.add(term);
+                args.add(term + "%");
+            } else {
+                matches.add("SELECT " + k + " AS q, session_id, message_id FROM chat_search_posting WHERE term = ?");
+                args.add(term);
+            }
+            k++;
+        }
+        String sql =
+                "SELECT session_id, hits, last_hit FROM (" +
+                "  SELECT session_id, COUNT(*) AS hits, MAX(message_id) AS last_hit FROM (" +
+                "    SELECT session_id, message_id FROM (" + matches + ") t" +
+                "    GROUP BY session_id, message_id HAVING COUNT(DISTINCT q) = ?" +
+                "  ) m GROUP BY session_id" +
+                ") s WHERE last_hit < ? ORDER BY last_hit DESC LIMIT ?";
+        args.add(terms.size());
+        args.add(before);
+        args.add(limit + 1);
+
+        List<Object[]> rows = jdbcTemplate.query(sql,
+                (rs, i) -> new Object[]{rs.getString("session_id"), rs.getLong("hits"), rs.getLong("last_hit")},
+                args.toArray());
+
+        boolean hasNext = rows.size() > limit;
+        List<Object[]> page = rows.subList(0, Math.min(limit, rows.size()));
+        Map<Long, ChatArchiveService.ArchivedMessage> messages = loadMessages(page);
+
+        List<Hit> items = new ArrayList<>(page.size());
+        for (Object[] row : page) {
+            long lastHit = (Long) row[2];
+            ChatArchiveService.ArchivedMessage m = messages.get(lastHit);
+            items.add(new Hit((String) row[0], (Long) row[1], lastHit,
+                    m != null ? m.createAt() : null,
+                    m != null ? snippet(m.content(), query.trim()) : null));
+        }
+
+        Map<String, Object> res = new HashMap<>();
+        res.put("items", items);
+        res.put("nextCursor", hasNext ? encodeCursor(items.get(items.size() - 1).lastHitId()) : null);
+        return res;
+    }
+
+    /** 기동 시 색인된 최대 메시지 id 이후 live_chat + 아직 색인 안 된 보관본을 채움 (백그라운드) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeBackfill() {
+        Thread t = new Thread(this::backfill, "chat-search-backfill");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    // ===== Private Helper Methods =====
+
+    private void backfill() {
+        long started = System.currentTimeMillis();
+        try {
+            // 1. live_chat: 색인은 id 순으로만 쌓이므로 최대 id 이하는 이미 색인됨
+            Long max = jdbcTemplate.queryForObject("SELECT MAX(message_id) FROM chat_search_posting", Long.class);
+            indexLiveChat(max != null ? max : 0);
+        } catch (Exception e) {
+            log.error("❌ 채팅 검색 색인 재개 지점 조회 실패 → 새 메시지 색인만 진행", e);
+        } finally {
+            caughtUp = true;  // 이후 새 메시지 큐 처리 시작
+        }
+
+        // 2. 보관본: 보관본의 마지막 메시지가 이미 색인돼 있으면 건너뜀
+        long messages = 0;
+        try {
+            int pageNo = 0;
+            while (true) {
+                Page<LiveChatArchive> archives = archiveRepository.findAll(PageRequest.of(pageNo++, 50));
+                for (LiveChatArchive archive : archives) {
+                    if (archive.getLastMessageId() != null && isIndexed(archive.getSessionId(), archive.getLastMessageId())) {
+                        continue;
+                    }
+                    List<Object[]> rows = new ArrayList<>();
+                    for (ChatArchiveService.ArchivedMessage m : chatArchiveService.load(archive.getSessionId())) {
+                        addPostings(rows, m.id(), archive.getSessionId(), m.content());
+                        messages++;
+                    }
+                    write(rows);
+                }
+                if (!archives.hasNext()) break;
+            }
+            log.info("🔎 채팅 검색 색인 이어서 채우기 완료: 보관 메시지 {}개, {}ms", messages, System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("❌ 채팅 검색 보관본 색인 실패 (메시지 {}개까지 처리, 다음 기동 시 이어감)", messages, e);
+        }
+    }
+
+    /**
+     * live_chat에서 id > afterId 인 메시지를 id 순 묶음으로 색인
+     * @return 끝까지 기록했으면 true, 실패 시 false (실패 지점부터 다음 flush에서 다시 하도록 reindexAfter 기록)
+     */
+    private boolean indexLiveChat(long afterId) {
+        long messages = 0;
+        try {
+            while (true) {
+                List<Object[]> chunk = jdbcTemplate.query(
+                        "SELECT id, session_id, content FROM live_chat WHERE id > ? AND session_id IS NOT NULL ORDER BY id LIMIT ?",
+                        (rs, i) -> new Object[]{rs.getLong(1), rs.getString(2), rs.getString(3)},
+                        afterId, batchSize);
+                if (chunk.isEmpty()) break;
+                List<Object[]> rows = new ArrayList<>();
+                for (Object[] c : chunk) {
+                    addPostings(rows, (Long) c[0], (String) c[1], (String) c[2]);
+                }
+                if (!write(rows)) return false;
+                messages += chunk.size();
+                afterId = (Long) chunk.get(chunk.size() - 1)[0];
+            }
+        } catch (Exception e) {
+            synchronized (this) {
+                reindexAfter = Math.min(reindexAfter, afterId);
+            }
+            log.error("❌ 채팅 검색 색인 읽기 실패 (id > {} 다음 주기에 재색인)", afterId, e);
+            return false;
+        }
+        if (messages > 0) log.info("🔎 채팅 검색 색인: live_chat 메시지 {}개", messages);
+        return true;
+    }
+
+    private boolean isIndexed(String sessionId, long messageId) {
+        return !jdbcTemplate.queryForList(
+                "SELECT 1 FROM chat_search_posting WHERE session_id = ? AND message_id = ? LIMIT 1",
+                Integer.class, sessionId, messageId).isEmpty();
+    }
+
+    private static void addPostings(List<Object[]> rows, long messageId, String sessionId, String content) {
+        if (content == null || content.isEmpty()) return;
+        for (String term : terms(content, false)) {
+            rows.add(new Object[]{term, sessionId, messageId});
+        }
+    }
+
+    /** @return 실패 시 false (묶음의 가장 작은 메시지 id 앞부터 다음 flush에서 재색인) */
+    private synchronized boolean write(List<Object[]> rows) {
+        if (rows.isEmpty()) return true;
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+            return true;
+        } catch (Exception e) {
+            long minId = rows.stream().mapToLong(r -> (Long) r[2]).min().orElse(0);
+            reindexAfter = Math.min(reindexAfter, minId - 1);
+            log.error("❌ 채팅 검색 색인 기록 실패: {}행 (id > {} 다음 주기에 재색인)", rows.size(), minId - 1, e);
+            return false;
+        }
+    }
+
+    /** 결과 페이지의 마지막 일치 메시지 본문 (live_chat → 없으면 보관본) */
+    private Map<Long, ChatArchiveService.ArchivedMessage> loadMessages(List<Object[]> page) {
+        Map<Long, ChatArchiveService.ArchivedMessage> found = new HashMap<>();
+        if (page.isEmpty()) return found;
+
+        List<Long> ids = page.stream().map(r -> (Long) r[2]).toList();
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        jdbcTemplate.query("SELECT id, content, create_at FROM live_chat WHERE id IN (" + placeholders + ")",
+                rs -> {
+                    Timestamp at = rs.getTimestamp("create_at");
+                    found.put(rs.getLong("id"), new ChatArchiveService.ArchivedMessage(
+                            rs.getLong("id"), null, null, rs.getString("content"),
+                            at != null ? at.toLocalDateTime() : null));
+                },
+                ids.toArray());
+
+        for (Object[] row : page) {
+            long id = (Long) row[2];
+            if (found.containsKey(id)) continue;
+            for (ChatArchiveService.ArchivedMessage m : chatArchiveService.load((String) row[0])) {
+                if (m.id() != null && m.id() == id) {
+                    found.put(id, m);
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    /** 검색어(또는 첫 토큰) 주변만 잘라낸 미리보기 */
+    private static String snippet(String content, String query) {
+        if (content == null) return null;
+        String lower = content.toLowerCase(Locale.ROOT);
+        int at = lower.indexOf(query.toLowerCase(Locale.ROOT));
+        if (at < 0) {
+            for (String word : query.toLowerCase(Locale.ROOT).split("\\s+")) {
+                at = lower.indexOf(word);
+                if (at >= 0) break;
+            }
+        }
+        if (at < 0) at = 0;
+        int from = Math.max(0, at - SNIPPET_RADIUS);
+        int to = Math.min(content.length(), at + query.length() + SNIPPET_RADIUS);
+        return (from > 0 ? "…" : "") + content.substring(from, to) + (to < content.length() ? "…" : "");
+    }
+
+    /**
+     * 색인/검색 공용 토큰화
+     * - 한글 연속 구간 → 2-gram (한 글자면 그대로), 색인할 때는 구간 마지막 글자도 한 번 더
+     *   (한 글자 검색어는 "그 글자로 시작하는 2-gram" 또는 "마지막 글자"로 모든 위치를 찾음)
+     * - 영문/숫자 연속 구간(@ . _ + - 포함) → 소문자 통째로 + 기호로 나눈 2자 이상 조각
+     */
+    static Set<String> terms(String text, boolean query) {
+        Set<String> terms = new LinkedHashSet<>();
+        int n = text.length();
+        int i = 0;
+        while (i < n && terms.size() < MAX_TERMS_PER_MESSAGE) {
+            char c = text.charAt(i);
+            if (isHangul(c)) {
+                int start = i;
+                while (i < n && isHangul(text.charAt(i))) i++;
+                if (i - start == 1) {
+                    terms.add(String.valueOf(c));
+                } else {
+                    for (int k = start; k + 1 < i && terms.size() < MAX_TERMS_PER_MESSAGE; k++) {
+                        terms.add(text.substring(k, k + 2));
+                    }
+                    if (!query) terms.add(String.valueOf(text.charAt(i - 1)));
+                }
+            } else if (isWordChar(c)) {
+                int start = i;
+                while (i < n && (isWordChar(text.charAt(i)) || isJoiner(text.charAt(i)))) i++;
+                int end = i;
+                while (end > start && isJoiner(text.charAt(end - 1))) end--;  // 문장 끝 마침표 등
+                String word = text.substring(start, end).toLowerCase(Locale.ROOT);
+                addWord(terms, word);
+            } else {
+                i++;
+            }
+        }
+        return terms;
+    }
+
+    private static void addWord(Set<String> terms, String word) {
+        boolean compound = false;
+        int partStart = 0;
+        for (int k = 0; k <= word.length(); k++) {
+            if (k == word.length() || isJoiner(word.charAt(k))) {
+                if (k < word.length()) compound = true;
+                if (k - partStart >= 2 && k - partStart <= MAX_TERM_LENGTH) {
+                    terms.add(word.substring(partStart, k));
+                } else if (k - partStart == 1 && !compound && k == word.length()) {
+                    terms.add(word);  // 한 글자 단어
+                }
+                partStart = k + 1;
+            }
+        }
+        if (compound && word.length() <= MAX_TERM_LENGTH) {
+            terms.add(word);  // 이메일 등 통째로 일치
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return (c >= '가' && c <= '힣') || (c >= 'ㄱ' && c <= 'ㆎ');
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isJoiner(char c) {
+        return c == '@' || c == '.' || c == '_' || c == '+' || c == '-';
+    }
+
+    private static String encodeCursor(long lastHitId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(lastHitId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long decodeCursor(String cursor) {
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -36,7 +36,7 @@ public class CustomOidcUserService extends OidcUserService {
             Users u = new Users();
             u.setEmail(email);
             u.setRole(Role.USER);
-            u.setPassword("google_user");  // [ADDED] 더미 비번 (NOT NULL 제약 회피)
+            u.setPassword(AuthService.socialPassword("google"));  // 비밀번호 로그인 불가 표시 (NOT NULL 제약 회피)
             return usersRepository.save(u);
         });
 
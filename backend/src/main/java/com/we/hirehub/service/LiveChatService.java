@@ -1,23 +1,27 @@
 package com.we.hirehub.service;
 
+import com.we.hirehub.config.AfterCommit;
 import com.we.hirehub.dto.chat.LiveChatDto;
 import com.we.hirehub.entity.LiveChat;
 import com.we.hirehub.entity.Session;
 import com.we.hirehub.entity.Users;
+import com.we.hirehub.moderation.ModerationFilter;
 import com.we.hirehub.repository.LiveChatRepository;
 import com.we.hirehub.repository.SessionRepository;
 import com.we.hirehub.repository.UsersRepository;
+import com.we.hirehub.ws.RoomBroadcaster;
+import com.we.hirehub.ws.RoomMailboxExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
@@ -30,10 +34,16 @@ public class LiveChatService {
 
     private final LiveChatRepository liveChatRepository;
     private final SessionRepository sessionRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final RoomBroadcaster roomBroadcaster;
+    private final RoomMailboxExecutor roomMailbox;
+    private final ChatArchiveService chatArchiveService;
+    private final ModerationFilter moderationFilter;
+    private final SessionSummaryService sessionSummaryService;
+    private final ChatSearchService chatSearchService;
 
     /**
      * 최근 메시지 조회 - Fetch Join으로 N+1 문제 해결
+     * - live_chat에 남은 메시지가 limit보다 적으면 보관된 기록을 풀어서 앞쪽을 채움
      */
     @Transactional(readOnly = true)
     public List<LiveChatDto> getRecentMessages(String sessionId, int limit) {
@@ -41,10 +51,22 @@ public class LiveChatService {
         // ✅ Fetch Join 사용하여 N+1 문제 해결 (Repository에 메서드 추가 필요)
         List<LiveChat> chats = liveChatRepository.findBySessionIdWithUser(sessionId, pageRequest);
 
-        return chats.stream()
+        List<LiveChatDto> live = chats.stream()
                 .sorted((a, b) -> a.getCreateAt().compareTo(b.getCreateAt()))
                 .map(LiveChatDto::from) // ✅ DTO의 static 메서드 사용
                 .collect(Collectors.toList());
+
+        // 모자라는 만큼 보관본(압축)에서 채움 - 보관본은 항상 live_chat보다 오래된 메시지
+        // 보관된 적 없는 세션(대부분)은 live_chat_archive를 읽지 않음
+        if (live.size() >= limit) return live;
+        if (sessionRepository.findArchivedAt(sessionId) == null) return live;
+        List<LiveChatDto> archived = chatArchiveService.recent(sessionId, limit - live.size());
+        if (archived.isEmpty()) return live;
+
+        List<LiveChatDto> merged = new ArrayList<>(archived.size() + live.size());
+        merged.addAll(archived);
+        merged.addAll(live);
+        return merged;
     }
 
     /**
@@ -76,8 +98,15 @@ public class LiveChatService {
                 dto.getId(), dto.getUserId(), dto.getNickname());
         log.info("전송 대상 토픽: /topic/rooms/{}", sessionId);
 
-        // 5. WebSocket으로 메시지 브로드캐스트
-        messagingTemplate.convertAndSend("/topic/rooms/" + sessionId, dto);
+        // 5. WebSocket으로 메시지 브로드캐스트 (방 seq 부여 + 재전송 버퍼 기록)
+        // 커밋된 뒤에만 전송 (롤백된 메시지가 화면에 보이지 않도록)
+        // 방 메일박스 경유 → STOMP로 들어온 같은 방 메시지와 전송 순서가 섞이지 않음
+        AfterCommit.run(() -> {
+            if (!roomMailbox.execute(sessionId, () -> roomBroadcaster.send(sessionId, dto))) {
+                // 이미 저장됨 → 구독자는 재접속/히스토리 조회 때 받음
+                log.warn("⚠️ 방 대기열 초과로 실시간 전송 생략: sessionId={}, id={}", sessionId, dto.getId());
+            }
+        });
 
         log.info("=== 채팅 메시지 전송 완료 ===");
     }
@@ -130,14 +159,17 @@ public class LiveChatService {
     private LiveChat saveMessage(Session session, String content, Users user) {
         LiveChat chat = LiveChat.builder()
                 .session(session)
-                .content(content)
+                .content(moderationFilter.mask(content))  // 금칙어 가림
                 .createAt(LocalDateTime.now())
                 .user(user)
                 .build();
 
         // ✅ save()로 변경 - 트랜잭션 종료 시 자동으로 flush됨
         // MySQL에 정상적으로 저장되며, 성능이 더 좋음
-        return liveChatRepository.save(chat);
+        LiveChat saved = liveChatRepository.save(chat);
+        sessionSummaryService.onMessage(saved, "USER");  // 세션 목록 요약 갱신 (같은 트랜잭션)
+        chatSearchService.onMessage(saved);                // 검색 색인 대기열 (커밋된 뒤에만 적재)
+        return saved;
     }
 
     /**
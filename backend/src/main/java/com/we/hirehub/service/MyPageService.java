@@ -3,10 +3,15 @@ package com.we.hirehub.service;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.fge.jsonpatch.JsonPatch;
+import com.github.fge.jsonpatch.JsonPatchException;
+import com.we.hirehub.config.TokenDenylist;
 import com.we.hirehub.dto.common.PagedResponse;
 import com.we.hirehub.dto.company.FavoriteSummaryDto;
 import com.we.hirehub.dto.job.ApplyDto;
 import com.we.hirehub.dto.resume.ResumeDto;
+import com.we.hirehub.dto.resume.ResumePatchResponse;
 import com.we.hirehub.dto.resume.ResumeUpsertRequest;
 import com.we.hirehub.dto.user.MyProfileDto;
 import com.we.hirehub.dto.user.MyProfileUpdateRequest;
@@ -14,6 +19,7 @@ import com.we.hirehub.dto.user.UserSummaryDto;
 import com.we.hirehub.entity.*;
 import com.we.hirehub.exception.ForbiddenEditException;
 import com.we.hirehub.exception.ResourceNotFoundException;
+import com.we.hirehub.exception.ResumeVersionConflictException;
 import com.we.hirehub.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +33,7 @@ import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -50,7 +57,14 @@ public class MyPageService {
     private final SkillRepository skillRepo;
     private final LanguageRepository languageRepo;
     private final UsersRepository usersRepository; // ✅ 이거 추가
+    private final ResumeSectionLoader sectionLoader;
+    private final ResumeSectionWriter sectionWriter;
+    private final ResumeSnapshotService resumeSnapshotService;
     private final S3Client s3Client;
+    private final TokenDenylist tokenDenylist;
+    private final RefreshTokenService refreshTokenService;
+    private final UserSummaryCache userSummaryCache;
+    private final ObjectMapper objectMapper;   // 스프링 설정 매퍼 (LocalDate → ISO 문자열)
 
     @Value("${aws.s3.bucket}")
     private String bucketName;
@@ -61,6 +75,19 @@ public class MyPageService {
 
     private final ObjectMapper om = new ObjectMapper();
 
+    /** 자동 저장 패치 대상 필드 (섹션 제외) */
+    private static final List<String> PATCH_FIELDS = List.of("title", "idPhoto", "essayTitle", "essayContent");
+    /** 자동 저장 패치 대상 섹션 (htmlContent JSON 키와 같음) */
+    private static final List<String> PATCH_SECTIONS = List.of("education", "career", "certificate", "skill", "language");
+    private static final int MAX_HTML_CONTENT = 100_000;   // ResumeUpsertRequest.htmlContent 와 같은 제한
+    /** 섹션 항목 필수 값 (섹션 엔티티의 NOT NULL 컬럼) */
+    private static final Map<String, List<String>> REQUIRED_SECTION_FIELDS = Map.of(
+            "education", List.of("name", "status", "type", "startAt"),
+            "career", List.of("companyName", "type", "position", "startAt", "content"),
+            "certificate", List.of("name"),
+            "skill", List.of("name"),
+            "language", List.of("name"));
+
     /* ==========================================================
      *                   [1] 이력서 CRUD
      * ========================================================== */
@@ -73,7 +100,7 @@ public class MyPageService {
         Page<Resume> p = resumeRepository.findByUsers_Id(userId, pageable);
 
         return new PagedResponse<>(
-                p.getContent().stream().map(this::toDto).collect(Collectors.toList()),
+                toDtos(p.getContent()),
                 p.getNumber(), p.getSize(), p.getTotalElements(), p.getTotalPages()
         );
     }
@@ -118,9 +145,10 @@ public class MyPageService {
 
     /**
      * 수정: 잠금 검사 + 섹션 전부 재저장
+     * - expectedVersion(If-Match)이 있으면 현재 버전과 같을 때만 저장 (없으면 기존처럼 마지막 저장이 이김)
      */
     @Transactional
-    public ResumeDto update(Long userId, Long resumeId, ResumeUpsertRequest req) {
+    public ResumeDto update(Long userId, Long resumeId, Long expectedVersion, ResumeUpsertRequest req) {
 
         Resume resume = resumeRepository.findByIdAndUsers_Id(resumeId, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("이력서를 찾을 수 없습니다."));
@@ -128,6 +156,9 @@ public class MyPageService {
         if (resume.isLocked()) {
             throw new ForbiddenEditException("이미 제출된 이력서는 수정할 수 없습니다.");
         }
+        if (expectedVersion != null && resume.getVersion() != expectedVersion) {
+            throw new ResumeVersionConflictException(resume.getVersion());
+        }
 
         resume.setTitle(req.getTitle());
         resume.setIdPhoto(req.getIdPhoto());
@@ -139,6 +170,7 @@ public class MyPageService {
         resumeRepository.save(resume);
 
         upsertSections(resume, req);
+        resumeRepository.flush();   // 올라간 버전을 응답에 싣기 위해
 
         return toDto(resume);
     }
@@ -152,7 +184,8 @@ public class MyPageService {
         Resume resume = resumeRepository.findByIdAndUsers_Id(resumeId, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("이력서를 찾을 수 없습니다."));
 
-        if (resume.isLocked() || resumeRepository.existsByIdAndUsers_IdAndLockedTrue(resumeId, userId)) {
+        // 지원 내역이 원본을 참조하므로 지원에 쓴 이력서는 삭제 불가 (수정은 가능)
+        if (resume.isLocked() || applyRepository.existsByResume_Id(resumeId)) {
             throw new ForbiddenEditException("이미 제출된 이력서는 삭제할 수 없습니다.");
         }
 
@@ -167,10 +200,103 @@ public class MyPageService {
         resumeRepository.delete(resume);
     }
 
+    /**
+     * 자동 저장: RFC 6902 JSON Patch
+     * - 패치 대상 문서 = {title, idPhoto, essayTitle, essayContent, education[], career[], certificate[], skill[], language[]}
+     *   (섹션 키는 htmlContent JSON과 같음)
+     * - expectedVersion(If-Match)이 현재 버전과 다르면 거절 → 클라이언트가 새로 받아서 다시 적용
+     * - 바뀐 컬럼만 UPDATE(@DynamicUpdate), 섹션은 바뀐 종류만 ResumeSectionWriter로 행 단위 반영
+     * - 섹션이 바뀌면 htmlContent(JSON)의 섹션 배열도 같이 갱신
+     *   · 화면(ResumeDetail/ResumeViewer)이 섹션을 htmlContent에서 읽으므로 섹션 테이블과 어긋나지 않게 유지
+     *   · 그 덕분에 섹션만 바뀐 패치도 resume 행이 바뀌어 버전이 올라감 (동시 저장 충돌 검출)
+     * - resume 행 변경은 섹션 쓰기 전에 모두 끝냄 → 중간에 자동 flush가 일어나도 UPDATE(버전 +1)는 1번
+     */
+    @Transactional
+    public ResumePatchResponse patch(Long userId, Long resumeId, long expectedVersion, JsonNode operations) {
+        Resume resume = resumeRepository.findByIdAndUsers_Id(resumeId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("이력서를 찾을 수 없습니다."));
+
+        if (resume.isLocked()) {
+            throw new ForbiddenEditException("이미 제출된 이력서는 수정할 수 없습니다.");
+        }
+        if (resume.getVersion() != expectedVersion) {
+            throw new ResumeVersionConflictException(resume.getVersion());
+        }
+
+        ObjectNode html = parseHtmlDocument(resume.getHtmlContent());
+        ObjectNode before = patchDocument(resume, html);
+        JsonNode after;
+        try {
+            after = JsonPatch.fromJson(operations).apply(before);
+        } catch (IOException | JsonPatchException e) {
+            throw new IllegalArgumentException("잘못된 패치입니다: " + e.getMessage());
+        }
+        validatePatchDocument(after);
+
+        List<String> changed = new ArrayList<>();
+        for (String f : PATCH_FIELDS) {
+            if (!Objects.equals(before.get(f), after.get(f))) changed.add(f);
+        }
+        for (String f : PATCH_SECTIONS) {
+            if (!Objects.equals(before.get(f), after.get(f))) {
+                validateSectionItems(f, after.get(f));   // 바뀐 섹션만 (쓰지 않는 섹션의 옛 데이터로 막지 않음)
+                changed.add(f);
+            }
+        }
+        if (changed.isEmpty()) {
+            return new ResumePatchResponse(resumeId, resume.getVersion(), changed);
+        }
+
+        if (changed.contains("title")) resume.setTitle(after.get("title").asText());
+        if (changed.contains("idPhoto")) resume.setIdPhoto(textOrNull(after.get("idPhoto")));
+        if (changed.contains("essayTitle")) resume.setEssayTittle(textOrNull(after.get("essayTitle")));
+        if (changed.contains("essayContent")) resume.setEssayContent(after.get("essayContent").asText());
+
+        boolean sectionsChanged = !Collections.disjoint(changed, PATCH_SECTIONS);
+        if (sectionsChanged) {
+            for (String f : PATCH_SECTIONS) html.set(f, after.get(f));
+            String json = html.toString();
+            if (json.length() > MAX_HTML_CONTENT) {
+                throw new IllegalArgumentException("이력서 내용은 " + MAX_HTML_CONTENT + "자를 넘을 수 없습니다.");
+            }
+            resume.setHtmlContent(json);
+        }
+        resume.setUpdateAt(LocalDate.now());
+
+        if (sectionsChanged) {
+            sectionWriter.write(resumeId, new ResumeSectionWriter.Desired(
+                    changed.contains("education") ? toEducations(extractList(after, "education")) : null,
+                    changed.contains("career") ? toCareers(extractList(after, "career")) : null,
+                    changed.contains("certificate") ? toCertificates(extractList(after, "certificate")) : null,
+                    changed.contains("skill") ? toSkills(extractList(after, "skill")) : null,
+                    changed.contains("language") ? toLanguages(extractList(after, "language")) : null));
+        }
+
+        // 바뀐 컬럼이 항상 있으므로 flush의 UPDATE ... WHERE version=? 에서 버전 증가 + 동시 저장 충돌 검출
+        resumeRepository.flush();
+        log.debug("💾 이력서 자동 저장: resumeId={}, v{} → v{}, {}", resumeId, expectedVersion, resume.getVersion(), changed);
+        return new ResumePatchResponse(resumeId, resume.getVersion(), changed);
+    }
+
     /**
      * Resume → DTO (profile 포함)
      */
     private ResumeDto toDto(Resume r) {
+        return toDto(r, sectionLoader.load(r.getId(), true));
+    }
+
+    /**
+     * 목록용: 페이지의 이력서 섹션을 종류별 IN 쿼리로 한 번에 로드
+     */
+    private List<ResumeDto> toDtos(List<Resume> resumes) {
+        Map<Long, ResumeSectionLoader.Sections> sections =
+                sectionLoader.load(resumes.stream().map(Resume::getId).toList(), true);
+        return resumes.stream()
+                .map(r -> toDto(r, sections.get(r.getId())))
+                .collect(Collectors.toList());
+    }
+
+    private ResumeDto toDto(Resume r, ResumeSectionLoader.Sections sections) {
         Users u = r.getUsers();
         UserSummaryDto profile = null;
         if (u != null) {
@@ -186,60 +312,6 @@ public class MyPageService {
             );
         }
 
-        Long rid = r.getId();
-
-        // ★★ 1) 여기: 리포지토리 메서드 이름을 프로젝트에 맞춰 "findByResumeId" 로 통일 ★★
-        //    (이미 deleteByResumeId(...)를 쓰고 있었다면, find도 같은 규칙으로 만드세요)
-        //    repository 인터페이스에 아래 시그니처 추가 필요:
-        //    List<Education> findByResumeId(Long resumeId);  (등등 동일)
-
-        List<Map<String, Object>> eduList =
-                educationRepo.findByResumeId(rid).stream().map(e -> {
-                    Map<String, Object> m = new HashMap<>();
-                    m.put("name", e.getName());
-                    m.put("major", e.getMajor());
-                    m.put("status", e.getStatus());
-                    m.put("type", e.getType());
-                    m.put("startAt", e.getStartAt());
-                    m.put("endAt", e.getEndAt());
-                    return m;
-                }).toList();
-
-        List<Map<String, Object>> careerList =
-                careerRepo.findByResumeId(rid).stream().map(c -> {
-                    Map<String, Object> m = new HashMap<>();
-                    m.put("companyName", c.getCompanyName());
-                    m.put("type", c.getType());
-                    m.put("position", c.getPosition());
-                    m.put("startAt", c.getStartAt());
-                    m.put("endAt", c.getEndAt());
-                    m.put("content", c.getContent());
-                    return m;
-                }).toList();
-
-        List<Map<String, Object>> certList =
-                certRepo.findByResumeId(rid).stream().map(c -> {
-                    Map<String, Object> m = new HashMap<>();
-                    m.put("name", c.getName());
-                    return m;
-                }).toList();
-
-        List<Map<String, Object>> skillList =
-                skillRepo.findByResumeId(rid).stream().map(s -> {
-                    Map<String, Object> m = new HashMap<>();
-                    m.put("name", s.getName());
-                    return m;
-                }).toList();
-
-        // ★★ 2) 여기: 언어 리스트는 String만 들어가서 컴파일러가 List<Map<String,String>>로 추론함.
-        //          값을 Object로 명시해서 List<Map<String,Object>>가 되도록 만든다.
-        List<Map<String, Object>> langList =
-                languageRepo.findByResumeId(rid).stream().map(l -> {
-                    Map<String, Object> m = new HashMap<>();
-                    m.put("name", (Object) l.getName()); // ← Object로 명시
-                    return m;
-                }).toList();
-
         return new ResumeDto(
                 r.getId(),
                 r.getTitle(),
@@ -252,11 +324,12 @@ public class MyPageService {
                 r.getUpdateAt(),
                 profile,
                 null,            // users (관리자용이 아니니 null)
-                eduList,
-                careerList,
-                certList,
-                skillList,
-                langList
+                sections.education(),
+                sections.career(),
+                sections.certificate(),
+                sections.skill(),
+                sections.language(),
+                r.getVersion()
         );
     }
 
@@ -269,15 +342,6 @@ public class MyPageService {
     @Transactional
     protected void upsertSections(Resume resume, ResumeUpsertRequest req) {
 
-        Long rid = resume.getId();
-
-        // 기존 데이터 삭제
-        educationRepo.deleteByResumeId(rid);
-        careerRepo.deleteByResumeId(rid);
-        certRepo.deleteByResumeId(rid);
-        skillRepo.deleteByResumeId(rid);
-        languageRepo.deleteByResumeId(rid);
-
         // JSON 읽기
         List<Map<String, Object>> educations = parseList(req.getEducationJson());
         List<Map<String, Object>> careers = parseList(req.getCareerJson());
@@ -297,79 +361,182 @@ public class MyPageService {
             } catch (Exception ignore) {}
         }
 
-        // Education 저장
-        if (!educations.isEmpty()) {
-            List<Education> list = new ArrayList<>();
-            for (Map<String, Object> m : educations) {
-                Education e = new Education();
-                e.setName(asString(m.get("name")));
-                e.setMajor(asString(m.get("major")));
-                e.setStatus(asString(m.get("status")));
-                e.setType(asString(m.get("type")));
-                e.setStartAt(parseLocalDate(m.get("startAt")));
-                e.setEndAt(parseLocalDate(m.get("endAt")));
-                e.setResume(resume);
-                list.add(e);
-            }
-            educationRepo.saveAll(list);
-        }
-
-        // Career 저장
-        if (!careers.isEmpty()) {
-            List<CareerLevel> list = new ArrayList<>();
-            for (Map<String, Object> m : careers) {
-                CareerLevel c = new CareerLevel();
-                c.setCompanyName(asString(m.get("companyName")));
-                c.setType(asString(m.get("type")));
-                c.setPosition(asString(m.get("position")));
-                c.setStartAt(parseLocalDate(m.get("startAt")));
-                c.setEndAt(parseLocalDate(m.get("endAt")));
-                c.setContent(asString(m.get("content")));
-                c.setResume(resume);
-                list.add(c);
-            }
-            careerRepo.saveAll(list);
+        // 저장된 섹션과 비교해서 바뀐 행만 반영 (전체 삭제/재삽입 X)
+        sectionWriter.write(resume.getId(), new ResumeSectionWriter.Desired(
+                toEducations(educations), toCareers(careers), toCertificates(certs), toSkills(skills), toLanguages(languages)));
+    }
+
+    /* ------- 섹션 JSON(Map) → 엔티티 (id/resume 없이, ResumeSectionWriter 입력용) ------- */
+
+    private List<Education> toEducations(List<Map<String, Object>> maps) {
+        List<Education> list = new ArrayList<>();
+        for (Map<String, Object> m : maps) {
+            Education e = new Education();
+            e.setName(asString(m.get("name")));
+            e.setMajor(asString(m.get("major")));
+            e.setStatus(asString(m.get("status")));
+            e.setType(asString(m.get("type")));
+            e.setStartAt(parseLocalDate(m.get("startAt")));
+            e.setEndAt(parseLocalDate(m.get("endAt")));
+            list.add(e);
+        }
+        return list;
+    }
+
+    private List<CareerLevel> toCareers(List<Map<String, Object>> maps) {
+        List<CareerLevel> list = new ArrayList<>();
+        for (Map<String, Object> m : maps) {
+            CareerLevel c = new CareerLevel();
+            c.setCompanyName(asString(m.get("companyName")));
+            c.setType(asString(m.get("type")));
+            c.setPosition(asString(m.get("position")));
+            c.setStartAt(parseLocalDate(m.get("startAt")));
+            c.setEndAt(parseLocalDate(m.get("endAt")));
+            c.setContent(asString(m.get("content")));
+            list.add(c);
+        }
+        return list;
+    }
+
+    private List<Certificate> toCertificates(List<Map<String, Object>> maps) {
+        List<Certificate> list = new ArrayList<>();
+        for (Map<String, Object> m : maps) {
+            Certificate c = new Certificate();
+            c.setName(asString(m.get("name")));
+            list.add(c);
         }
+        return list;
+    }
+
+    private List<Skill> toSkills(List<Map<String, Object>> maps) {
+        List<Skill> list = new ArrayList<>();
+        for (Map<String, Object> m : maps) {
+            Skill s = new Skill();
+            s.setName(asString(m.get("name")));
+            list.add(s);
+        }
+        return list;
+    }
 
-        // Certificate
-        if (!certs.isEmpty()) {
-            List<Certificate> list = new ArrayList<>();
-            for (Map<String, Object> m : certs) {
-                Certificate c = new Certificate();
-                c.setName(asString(m.get("name")));
-                c.setResume(resume);
-                list.add(c);
+    private List<Language> toLanguages(List<Map<String, Object>> maps) {
+        List<Language> list = new ArrayList<>();
+        for (Map<String, Object> m : maps) {
+            Language l = new Language();
+            l.setName(asString(m.get("name")));
+            list.add(l);
+        }
+        return list;
+    }
+
+
+    /* ------- 유틸: JSON 파싱 & 변환 ------- */
+
+    /** htmlContent가 JSON 객체면 그대로, 아니면(비었거나 옛 형식) 빈 객체 */
+    private ObjectNode parseHtmlDocument(String htmlContent) {
+        if (looksJson(htmlContent)) {
+            try {
+                JsonNode root = om.readTree(htmlContent);
+                if (root.isObject()) return (ObjectNode) root;
+            } catch (Exception e) {
+                log.warn("htmlContent 파싱 실패: {}", e.getMessage());
             }
-            certRepo.saveAll(list);
         }
+        return om.createObjectNode();
+    }
 
-        // Skill
-        if (!skills.isEmpty()) {
-            List<Skill> list = new ArrayList<>();
-            for (Map<String, Object> m : skills) {
-                Skill s = new Skill();
-                s.setName(asString(m.get("name")));
-                s.setResume(resume);
-                list.add(s);
+    /**
+     * 자동 저장 패치 대상 문서
+     * - 섹션은 화면이 읽는 htmlContent 기준, htmlContent에 섹션이 없으면 섹션 테이블에서 로드
+     */
+    private ObjectNode patchDocument(Resume r, ObjectNode html) {
+        ObjectNode doc = objectMapper.createObjectNode();
+        doc.put("title", r.getTitle());
+        doc.put("idPhoto", r.getIdPhoto());
+        doc.put("essayTitle", r.getEssayTittle());
+        doc.put("essayContent", r.getEssayContent());
+
+        boolean fromHtml = PATCH_SECTIONS.stream().anyMatch(f -> html.path(f).isArray());
+        ResumeSectionLoader.Sections sections = fromHtml ? null : sectionLoader.load(r.getId(), true);
+        for (String f : PATCH_SECTIONS) {
+            if (fromHtml) {
+                doc.set(f, html.path(f).isArray() ? html.get(f) : objectMapper.createArrayNode());
+                continue;
             }
-            skillRepo.saveAll(list);
+            doc.set(f, objectMapper.valueToTree(switch (f) {
+                case "education" -> sections.education();
+                case "career" -> sections.career();
+                case "certificate" -> sections.certificate();
+                case "skill" -> sections.skill();
+                default -> sections.language();
+            }));
         }
+        return doc;
+    }
 
-        // Language
-        if (!languages.isEmpty()) {
-            List<Language> list = new ArrayList<>();
-            for (Map<String, Object> m : languages) {
-                Language l = new Language();
-                l.setName(asString(m.get("name")));
-                l.setResume(resume);
-                list.add(l);
+    /** 패치 적용 결과 검증 (ResumeUpsertRequest 제약과 동일) */
+    private void validatePatchDocument(JsonNode doc) {
+        if (!doc.isObject()) {
+            throw new IllegalArgumentException("이력서 문서는 객체여야 합니다.");
+        }
+        doc.fieldNames().forEachRemaining(f -> {
+            if (!PATCH_FIELDS.contains(f) && !PATCH_SECTIONS.contains(f)) {
+                throw new IllegalArgumentException("알 수 없는 필드: " + f);
+            }
+        });
+        JsonNode title = doc.get("title");
+        if (title == null || !title.isTextual() || title.asText().isBlank() || title.asText().length() > 255) {
+            throw new IllegalArgumentException("이력서 제목은 1~255자여야 합니다.");
+        }
+        JsonNode essayTitle = doc.get("essayTitle");
+        if (essayTitle != null && !essayTitle.isNull() && (!essayTitle.isTextual() || essayTitle.asText().length() > 255)) {
+            throw new IllegalArgumentException("자기소개서 제목은 255자 이하여야 합니다.");
+        }
+        JsonNode essayContent = doc.get("essayContent");
+        if (essayContent == null || !essayContent.isTextual() || essayContent.asText().isBlank()) {
+            throw new IllegalArgumentException("자기소개서 내용은 비어 있을 수 없습니다.");
+        }
+        JsonNode idPhoto = doc.get("idPhoto");
+        if (idPhoto != null && !idPhoto.isNull() && !idPhoto.isTextual()) {
+            throw new IllegalArgumentException("idPhoto는 문자열이어야 합니다.");
+        }
+        for (String f : PATCH_SECTIONS) {
+            JsonNode arr = doc.get(f);
+            if (arr == null || !arr.isArray()) {
+                throw new IllegalArgumentException(f + "는 배열이어야 합니다.");
+            }
+            for (JsonNode item : arr) {
+                if (!item.isObject()) throw new IllegalArgumentException(f + " 항목은 객체여야 합니다.");
             }
-            languageRepo.saveAll(list);
         }
     }
 
+    /** 바뀐 섹션 항목 검증: 필수 값 + 날짜 형식 (그대로 저장하면 NOT NULL 위반으로 500) */
+    private static void validateSectionItems(String section, JsonNode items) {
+        List<String> required = REQUIRED_SECTION_FIELDS.get(section);
+        int i = 0;
+        for (JsonNode item : items) {
+            for (String f : required) {
+                JsonNode v = item.get(f);
+                if (v == null || !v.isTextual() || v.asText().isBlank()) {
+                    throw new IllegalArgumentException(section + "[" + i + "]." + f + " 값이 필요합니다.");
+                }
+            }
+            for (String f : List.of("startAt", "endAt")) {
+                JsonNode v = item.get(f);
+                if (v == null || v.isNull() || !required.contains(f) && v.asText().isEmpty()) continue;
+                try {
+                    LocalDate.parse(v.asText());
+                } catch (DateTimeParseException e) {
+                    throw new IllegalArgumentException(section + "[" + i + "]." + f + "는 yyyy-MM-dd 형식이어야 합니다.");
+                }
+            }
+            i++;
+        }
+    }
 
-    /* ------- 유틸: JSON 파싱 & 변환 ------- */
+    private static String textOrNull(JsonNode n) {
+        return (n == null || n.isNull()) ? null : n.asText();
+    }
 
     private boolean looksJson(String s) {
         if (s == null) return false;
@@ -501,6 +668,7 @@ public class MyPageService {
         if (req.getRegion() != null) u.setLocation(req.getRegion());
         if (req.getCareer() != null) u.setCareerLevel(req.getCareer());
         userRepository.save(u);
+        userSummaryCache.invalidate(u.getId());   // 닉네임/이름 변경 즉시 반영
         return getProfile(u.getId());
     }
 
@@ -566,9 +734,7 @@ public class MyPageService {
         JobPosts jobPost = jobPostsRepository.findById(jobPostId)
                 .orElseThrow(() -> new ResourceNotFoundException("공고를 찾을 수 없습니다."));
 
-        resume.setLocked(true);
-        resumeRepository.save(resume);
-
+        // 이력서는 잠그지 않고 지원 시점 사본을 남김 (지원 후에도 원본 수정 가능)
         Apply apply = Apply.builder()
                 .resume(resume)
                 .jobPosts(jobPost)
@@ -576,6 +742,7 @@ public class MyPageService {
                 .build();
 
         Apply saved = applyRepository.save(apply);
+        resumeSnapshotService.capture(saved);
         return ApplyDto.toDto(saved);
     }
 
@@ -612,6 +779,11 @@ public class MyPageService {
         user.setLocation(null);
 
         usersRepository.save(user);
+
+        // ✅ 발급된 토큰 즉시 무효화 (액세스 토큰은 거부 목록, 리프레시 토큰은 폐기)
+        tokenDenylist.revokeUser(user.getId());
+        refreshTokenService.revokeAllForUser(user.getId());
+        userSummaryCache.invalidate(user.getId());
         log.info("✅ 회원 소프트삭제 완료: {} → {}", email, newEmail);
         return true;
     }
@@ -619,10 +791,14 @@ public class MyPageService {
     @Transactional
     public void deleteMyApplies(Long userId, List<Long> applyIds) {
         applyRepository.deleteAllByUserIdAndApplyIds(userId, applyIds);
+        resumeSnapshotService.deleteForApplies(userId, applyIds);
     }
 
+    /** 증명사진 업로드 결과 (version: 사진 반영 후 이력서 버전 → 다음 수정의 If-Match) */
+    public record PhotoUpload(String url, long version) {}
+
     @Transactional
-    public String uploadResumePhotoToS3(Long resumeId, MultipartFile file) throws IOException {
+    public PhotoUpload uploadResumePhotoToS3(Long resumeId, MultipartFile file) throws IOException {
         log.info("📸 S3 업로드 시도 - resumeId={}, file={}", resumeId, file.getOriginalFilename());
 
         Resume r = resumeRepository.findById(resumeId)
@@ -648,10 +824,10 @@ public class MyPageService {
 
             r.setIdPhoto(photoUrl);
             r.setUpdateAt(LocalDate.now());
-            resumeRepository.save(r);
+            resumeRepository.saveAndFlush(r);   // 올라간 버전을 응답에 싣기 위해
 
             log.info("✅ 업로드 성공: {}", photoUrl);
-            return photoUrl;
+            return new PhotoUpload(photoUrl, r.getVersion());
 
         } catch (Exception e) {
             log.error("🚨 업로드 실패: {}", e.getMessage(), e);
@@ -16,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class OnboardingService {
 
     private final UsersRepository usersRepository;
+    private final UserSummaryCache userSummaryCache;
 
     /**
      * ✅ 온보딩 저장 로직
@@ -81,6 +82,7 @@ public class OnboardingService {
         }
 
         usersRepository.save(user);
+        userSummaryCache.invalidate(user.getId());
         log.info("✅ 온보딩 정보 저장 완료: {}", email);
     }
 }
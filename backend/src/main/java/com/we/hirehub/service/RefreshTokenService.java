@@ -0,0 +1,176 @@
+package com.we.hirehub.service;
+
+import com.we.hirehub.config.JwtTokenProvider;
+import com.we.hirehub.entity.RefreshToken;
+import com.we.hirehub.entity.Users;
+import com.we.hirehub.exception.RefreshTokenRaceException;
+import com.we.hirehub.repository.RefreshTokenRepository;
+import com.we.hirehub.repository.UsersRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseCookie;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 발급/교체/폐기
+ * - 로그인마다 새 family 시작, /api/auth/refresh 할 때마다 새 토큰으로 교체 (이전 토큰은 사용 처리)
+ * - 이미 사용한 토큰이 grace 이후 다시 들어오면 탈취로 보고 family 전체 폐기
+ * - 원문은 HttpOnly 쿠키로만 전달하고 DB에는 SHA-256 해시만 저장
+ * - 교체는 한 트랜잭션 (새 토큰 저장이 실패하면 이전 토큰 사용 처리도 롤백 → 멀쩡한 세션이 끊기지 않음)
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    public static final String COOKIE_NAME = "hh_refresh";
+    private static final String COOKIE_PATH = "/api/auth";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UsersRepository usersRepository;
+    private final JwtTokenProvider tokenProvider;
+    private final Duration ttl;
+    private final Duration reuseGrace;
+    private final boolean cookieSecure;
+    private final SecureRandom random = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               UsersRepository usersRepository,
+                               JwtTokenProvider tokenProvider,
+                               @Value("${app.jwt.refresh-expire-days:14}") long refreshExpireDays,
+                               @Value("${app.jwt.refresh-reuse-grace-seconds:10}") long reuseGraceSeconds,
+                               @Value("${app.jwt.refresh-cookie-secure:true}") boolean cookieSecure) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.usersRepository = usersRepository;
+        this.tokenProvider = tokenProvider;
+        this.ttl = Duration.ofDays(refreshExpireDays);
+        this.reuseGrace = Duration.ofSeconds(reuseGraceSeconds);
+        this.cookieSecure = cookieSecure;
+    }
+
+    /** 교체 결과 (새 액세스 토큰 + 새 리프레시 토큰 원문) */
+    public record Rotated(String accessToken, String refreshToken, Users user) {}
+
+    /** 로그인 성공 시 새 family로 발급 → 원문 반환 */
+    public String issue(Long userId) {
+        return create(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 리프레시 토큰 교체
+     * - 거절(IllegalArgumentException)이어도 family/사용자 토큰 폐기는 커밋되어야 하므로 롤백하지 않음
+     * @throws RefreshTokenRaceException 다른 요청이 grace 안에 먼저 교체함 (쿠키 유지, 재시도 대상)
+     * @throws IllegalArgumentException 없거나 만료/폐기된 토큰, grace 이후 재사용, 탈퇴한 사용자
+     */
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public Rotated rotate(String raw) {
+        if (raw == null || raw.isBlank()) throw new IllegalArgumentException("리프레시 토큰이 없습니다.");
+        RefreshToken token = refreshTokenRepository.findByTokenHash(hash(raw))
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다."));
+        LocalDateTime now = LocalDateTime.now();
+
+        if (token.getRevokedAt() != null || token.getExpiresAt().isBefore(now)) {
+            throw new IllegalArgumentException("만료되었거나 폐기된 리프레시 토큰입니다.");
+        }
+        if (token.getUsedAt() != null || refreshTokenRepository.markUsed(token.getId(), now) == 0) {
+            // 여러 탭이 동시에 교체한 경우(grace 안)는 거절만, 그 이후 재사용은 family 폐기
+            LocalDateTime usedAt = token.getUsedAt() != null ? token.getUsedAt() : now;
+            if (!usedAt.plus(reuseGrace).isBefore(now)) {
+                throw new RefreshTokenRaceException("다른 요청이 먼저 토큰을 재발급했습니다. 잠시 후 다시 시도해주세요.");
+            }
+            refreshTokenRepository.revokeFamily(token.getFamilyId(), now);
+            log.warn("🚨 리프레시 토큰 재사용 감지 → family 폐기: userId={}", token.getUserId());
+            throw new IllegalArgumentException("이미 사용된 리프레시 토큰입니다.");
+        }
+
+        Users user = usersRepository.findById(token.getUserId())
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        if (user.getEmail() == null || user.getEmail().contains("_deleted_")) {
+            refreshTokenRepository.revokeAllForUser(user.getId(), now);
+            throw new IllegalArgumentException("탈퇴한 사용자입니다.");
+        }
+
+        String next = create(user.getId(), token.getFamilyId());
+        return new Rotated(tokenProvider.createToken(user.getEmail(), user.getId()), next, user);
+    }
+
+    /** 로그아웃: 이 토큰의 family 폐기 */
+    @Transactional
+    public void revoke(String raw) {
+        if (raw == null || raw.isBlank()) return;
+        refreshTokenRepository.findByTokenHash(hash(raw))
+                .ifPresent(t -> refreshTokenRepository.revokeFamily(t.getFamilyId(), LocalDateTime.now()));
+    }
+
+    /** 사용자의 모든 리프레시 토큰 폐기 (탈퇴/권한 변경) */
+    @Transactional
+    public void revokeAllForUser(Long userId) {
+        if (userId == null) return;
+        refreshTokenRepository.revokeAllForUser(userId, LocalDateTime.now());
+    }
+
+    /** 리프레시 토큰 쿠키 (HttpOnly, /api/auth 경로에만 전송) */
+    public ResponseCookie cookie(String raw) {
+        return ResponseCookie.from(COOKIE_NAME, raw)
+                .httpOnly(true)
+                .secure(cookieSecure)
+                .sameSite("Lax")
+                .path(COOKIE_PATH)
+                .maxAge(ttl)
+                .build();
+    }
+
+    public ResponseCookie clearCookie() {
+        return ResponseCookie.from(COOKIE_NAME, "")
+                .httpOnly(true)
+                .secure(cookieSecure)
+                .sameSite("Lax")
+                .path(COOKIE_PATH)
+                .maxAge(0)
+                .build();
+    }
+
+    /** 만료된 리프레시 토큰 삭제 */
+    @Scheduled(cron = "${app.jwt.refresh-cleanup-cron:0 15 4 * * *}")
+    public void cleanup() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) log.info("🧹 만료된 리프레시 토큰 삭제: {}", deleted);
+    }
+
+    // ===== Private Helper Methods =====
+
+    private String create(Long userId, String familyId) {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String raw = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .userId(userId)
+                .tokenHash(hash(raw))
+                .familyId(familyId)
+                .createdAt(now)
+                .expiresAt(now.plus(ttl))
+                .build());
+        return raw;
+    }
+
+    private static String hash(String raw) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(raw.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
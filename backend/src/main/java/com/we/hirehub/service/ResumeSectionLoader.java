@@ -0,0 +1,120 @@
+package com.we.hirehub.service;
+
+import com.we.hirehub.entity.*;
+import com.we.hirehub.repository.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 이력서 섹션(학력/경력/자격증/스킬/언어) 일괄 로더
+ * - 이력서 id 목록을 받아 섹션 종류마다 IN 쿼리 1번씩 → 메모리에서 이력서별로 묶음
+ *   (목록 화면에서 이력서마다 섹션 쿼리 5번씩 나가던 것 대체)
+ * - DTO용 Map 변환도 여기서 한 곳으로 (마이페이지/관리자 응답 필드 동일)
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ResumeSectionLoader {
+
+    private final EducationRepository educationRepo;
+    private final CareerLevelRepository careerRepo;
+    private final CertificateRepository certRepo;
+    private final SkillRepository skillRepo;
+    private final LanguageRepository languageRepo;
+
+    /** 이력서 1개 분량의 섹션 (DTO 필드 형태) */
+    public record Sections(List<Map<String, Object>> education,
+                           List<Map<String, Object>> career,
+                           List<Map<String, Object>> certificate,
+                           List<Map<String, Object>> skill,
+                           List<Map<String, Object>> language) {
+
+        static final Sections EMPTY = new Sections(List.of(), List.of(), List.of(), List.of(), List.of());
+
+        /** 언어를 제외한 섹션이 전부 비었는지 (예전 htmlContent 전용 데이터 판별) */
+        public boolean isEmptyExceptLanguage() {
+            return education.isEmpty() && career.isEmpty() && certificate.isEmpty() && skill.isEmpty();
+        }
+    }
+
+    /**
+     * @param withLanguages false면 language 테이블은 조회하지 않음 (관리자 화면은 htmlContent에서 읽음)
+     * @return 이력서 id → 섹션 (섹션이 없는 이력서도 빈 Sections로 들어 있음)
+     */
+    public Map<Long, Sections> load(Collection<Long> resumeIds, boolean withLanguages) {
+        if (resumeIds.isEmpty()) return Map.of();
+
+        Map<Long, List<Map<String, Object>>> edu = group(educationRepo.findByResumeIdInOrderByIdAsc(resumeIds),
+                e -> e.getResume().getId(), ResumeSectionLoader::education);
+        Map<Long, List<Map<String, Object>>> career = group(careerRepo.findByResumeIdInOrderByIdAsc(resumeIds),
+                c -> c.getResume().getId(), ResumeSectionLoader::career);
+        Map<Long, List<Map<String, Object>>> cert = group(certRepo.findByResumeIdInOrderByIdAsc(resumeIds),
+                c -> c.getResume().getId(), c -> named(c.getName()));
+        Map<Long, List<Map<String, Object>>> skill = group(skillRepo.findByResumeIdInOrderByIdAsc(resumeIds),
+                s -> s.getResume().getId(), s -> named(s.getName()));
+        Map<Long, List<Map<String, Object>>> lang = withLanguages
+                ? group(languageRepo.findByResumeIdInOrderByIdAsc(resumeIds), l -> l.getResume().getId(), l -> named(l.getName()))
+                : Map.of();
+
+        Map<Long, Sections> result = new HashMap<>(resumeIds.size() * 2);
+        for (Long rid : resumeIds) {
+            result.put(rid, new Sections(
+                    edu.getOrDefault(rid, List.of()),
+                    career.getOrDefault(rid, List.of()),
+                    cert.getOrDefault(rid, List.of()),
+                    skill.getOrDefault(rid, List.of()),
+                    lang.getOrDefault(rid, List.of())
+            ));
+        }
+        return result;
+    }
+
+    /** 이력서 1개 */
+    public Sections load(Long resumeId, boolean withLanguages) {
+        return load(List.of(resumeId), withLanguages).getOrDefault(resumeId, Sections.EMPTY);
+    }
+
+    // ===== Private Helper Methods =====
+
+    private static <T> Map<Long, List<Map<String, Object>>> group(List<T> rows,
+                                                                  Function<T, Long> resumeId,
+                                                                  Function<T, Map<String, Object>> toMap) {
+        Map<Long, List<Map<String, Object>>> grouped = new HashMap<>();
+        for (T row : rows) {
+            grouped.computeIfAbsent(resumeId.apply(row), k -> new ArrayList<>()).add(toMap.apply(row));
+        }
+        return grouped;
+    }
+
+    private static Map<String, Object> education(Education e) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("name", e.getName());
+        m.put("major", e.getMajor());
+        m.put("status", e.getStatus());
+        m.put("type", e.getType());
+        m.put("startAt", e.getStartAt());
+        m.put("endAt", e.getEndAt());
+        return m;
+    }
+
+    private static Map<String, Object> career(CareerLevel c) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("companyName", c.getCompanyName());
+        m.put("type", c.getType());
+        m.put("position", c.getPosition());
+        m.put("startAt", c.getStartAt());
+        m.put("endAt", c.getEndAt());
+        m.put("content", c.getContent());
+        return m;
+    }
+
+    private static Map<String, Object> named(String name) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("name", name);
+        return m;
+    }
+}
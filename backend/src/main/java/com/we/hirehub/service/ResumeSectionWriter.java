@@ -0,0 +1,152 @@
+package com.we.hirehub.service;
+
+import com.we.hirehub.entity.*;
+import com.we.hirehub.repository.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 이력서 섹션(학력/경력/자격증/스킬/언어) 저장기 - 전체 삭제 후 재삽입 대신 저장된 행과 비교해서 바뀐 것만 씀
+ * - 섹션 종류마다 저장된 행을 id 순서로 1번 조회 후 같은 위치끼리 비교
+ *   · 내용이 같으면 그대로 둠 (문장 없음)
+ *   · 내용이 다르면 그 행만 수정 (변경 감지 UPDATE)
+ *   · 남는 저장 행은 id IN 벌크 삭제 1문장, 새로 늘어난 행은 JDBC 배치 INSERT
+ * - 화면 순서 = id 순서라서 위치 기준으로 비교 (중간 삽입은 뒤쪽 행들이 수정으로 처리됨)
+ * - 호출하는 쪽 트랜잭션 안에서 실행 (JdbcTemplate도 같은 커넥션 사용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResumeSectionWriter {
+
+    private static final String INSERT_EDUCATION_SQL =
+            "INSERT INTO education (name, major, status, type, start_at, end_at, resume_id) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_CAREER_SQL =
+            "INSERT INTO career_level (company_name, type, position, start_at, end_at, content, resume_id) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_CERTIFICATE_SQL = "INSERT INTO certificate (name, resume_id) VALUES (?, ?)";
+    private static final String INSERT_SKILL_SQL = "INSERT INTO skill (name, resume_id) VALUES (?, ?)";
+    private static final String INSERT_LANGUAGE_SQL = "INSERT INTO language (name, resume_id) VALUES (?, ?)";
+
+    private final EducationRepository educationRepo;
+    private final CareerLevelRepository careerRepo;
+    private final CertificateRepository certRepo;
+    private final SkillRepository skillRepo;
+    private final LanguageRepository languageRepo;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 저장하려는 섹션 목록 (엔티티의 id/resume는 보지 않음)
+     * - null인 섹션은 건드리지 않음, 빈 목록이면 그 섹션 전부 삭제
+     */
+    public record Desired(List<Education> education,
+                          List<CareerLevel> career,
+                          List<Certificate> certificate,
+                          List<Skill> skill,
+                          List<Language> language) {}
+
+    @Transactional
+    public void write(Long resumeId, Desired desired) {
+        List<Long> ids = List.of(resumeId);
+        int changed = 0;
+        if (desired.education() != null) {
+            changed += sync(desired.education(), educationRepo.findByResumeIdInOrderByIdAsc(ids), educationRepo,
+                    Education::getId,
+                    e -> Arrays.asList(e.getName(), e.getMajor(), e.getStatus(), e.getType(), e.getStartAt(), e.getEndAt()),
+                    (t, s) -> {
+                        t.setName(s.getName());
+                        t.setMajor(s.getMajor());
+                        t.setStatus(s.getStatus());
+                        t.setType(s.getType());
+                        t.setStartAt(s.getStartAt());
+                        t.setEndAt(s.getEndAt());
+                    },
+                    INSERT_EDUCATION_SQL,
+                    e -> new Object[]{e.getName(), e.getMajor(), e.getStatus(), e.getType(), e.getStartAt(), e.getEndAt(), resumeId});
+        }
+        if (desired.career() != null) {
+            changed += sync(desired.career(), careerRepo.findByResumeIdInOrderByIdAsc(ids), careerRepo,
+                    CareerLevel::getId,
+                    c -> Arrays.asList(c.getCompanyName(), c.getType(), c.getPosition(), c.getStartAt(), c.getEndAt(), c.getContent()),
+                    (t, s) -> {
+                        t.setCompanyName(s.getCompanyName());
+                        t.setType(s.getType());
+                        t.setPosition(s.getPosition());
+                        t.setStartAt(s.getStartAt());
+                        t.setEndAt(s.getEndAt());
+                        t.setContent(s.getContent());
+                    },
+                    INSERT_CAREER_SQL,
+                    c -> new Object[]{c.getCompanyName(), c.getType(), c.getPosition(), c.getStartAt(), c.getEndAt(), c.getContent(), resumeId});
+        }
+        if (desired.certificate() != null) {
+            changed += sync(desired.certificate(), certRepo.findByResumeIdInOrderByIdAsc(ids), certRepo,
+                    Certificate::getId, c -> Collections.singletonList(c.getName()), (t, s) -> t.setName(s.getName()),
+                    INSERT_CERTIFICATE_SQL, c -> new Object[]{c.getName(), resumeId});
+        }
+        if (desired.skill() != null) {
+            changed += sync(desired.skill(), skillRepo.findByResumeIdInOrderByIdAsc(ids), skillRepo,
+                    Skill::getId, s -> Collections.singletonList(s.getName()), (t, s) -> t.setName(s.getName()),
+                    INSERT_SKILL_SQL, s -> new Object[]{s.getName(), resumeId});
+        }
+        if (desired.language() != null) {
+            changed += sync(desired.language(), languageRepo.findByResumeIdInOrderByIdAsc(ids), languageRepo,
+                    Language::getId, l -> Collections.singletonList(l.getName()), (t, s) -> t.setName(s.getName()),
+                    INSERT_LANGUAGE_SQL, l -> new Object[]{l.getName(), resumeId});
+        }
+        log.debug("📝 이력서 섹션 저장: resumeId={}, 변경 행 {}개", resumeId, changed);
+    }
+
+    // ===== Private Helper Methods =====
+
+    /**
+     * 섹션 1종류 비교 후 반영
+     * @return 수정/삭제/삽입된 행 수
+     */
+    private <T> int sync(List<T> desired,
+                         List<T> stored,
+                         JpaRepository<T, Long> repo,
+                         Function<T, Long> id,
+                         Function<T, List<Object>> content,
+                         BiConsumer<T, T> copy,
+                         String insertSql,
+                         Function<T, Object[]> row) {
+        int common = Math.min(desired.size(), stored.size());
+        int changed = 0;
+
+        // 같은 위치: 내용이 다를 때만 수정 (관리 중인 엔티티라 flush 때 UPDATE)
+        for (int i = 0; i < common; i++) {
+            T target = stored.get(i);
+            T source = desired.get(i);
+            if (!content.apply(target).equals(content.apply(source))) {
+                copy.accept(target, source);
+                changed++;
+            }
+        }
+
+        // 줄어든 만큼 벌크 삭제 (DELETE ... WHERE id IN 1문장)
+        if (stored.size() > common) {
+            List<Long> removed = stored.subList(common, stored.size()).stream().map(id).toList();
+            repo.deleteAllByIdInBatch(removed);
+            changed += removed.size();
+        }
+
+        // 늘어난 만큼 배치 INSERT (IDENTITY라 JPA saveAll은 행마다 1문장)
+        if (desired.size() > common) {
+            List<Object[]> rows = new ArrayList<>(desired.size() - common);
+            for (T d : desired.subList(common, desired.size())) {
+                rows.add(row.apply(d));
+            }
+            jdbcTemplate.batchUpdate(insertSql, rows);
+            changed += rows.size();
+        }
+        return changed;
+    }
+}
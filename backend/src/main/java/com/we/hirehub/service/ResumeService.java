@@ -23,6 +23,7 @@ public class ResumeService {
     private final CareerLevelRepository careerLevelRepository;
     private final CertificateRepository certificateRepository;
     private final SkillRepository skillRepository;
+    private final ResumeSectionWriter sectionWriter;
 
     private final ObjectMapper om = new ObjectMapper(); // JSON 파싱
 
@@ -87,12 +88,6 @@ public class ResumeService {
         List<String> certs                   = listOfString(root.get("certs"));
         List<String> skills                  = listOfString(root.get("skills"));
 
-        Long rid = resume.getId();
-        educationRepository.deleteByResumeId(rid);
-        careerLevelRepository.deleteByResumeId(rid);
-        certificateRepository.deleteByResumeId(rid);
-        skillRepository.deleteByResumeId(rid);
-
         List<Education> eduEntities = educations.stream().map(m -> {
             String school = str(m.get("school"));
             String period = str(m.get("period"));
@@ -106,7 +101,6 @@ public class ResumeService {
             e.setType("학력");
             e.setStartAt(se[0]);
             e.setEndAt(se[1]);
-            e.setResume(resume);
             return e;
         }).toList();
 
@@ -129,7 +123,6 @@ public class ResumeService {
             c.setContent(content.isBlank()? "상세 없음" : content);
             c.setStartAt(se[0]);
             c.setEndAt(se[1]);
-            c.setResume(resume);
             return c;
         }).toList();
 
@@ -138,7 +131,6 @@ public class ResumeService {
                 .map(name -> {
                     Certificate c = new Certificate();
                     c.setName(name);
-                    c.setResume(resume);
                     return c;
                 }).toList();
 
@@ -147,14 +139,12 @@ public class ResumeService {
                 .map(name -> {
                     Skill s = new Skill();
                     s.setName(name);
-                    s.setResume(resume);
                     return s;
                 }).toList();
 
-        educationRepository.saveAll(eduEntities);
-        careerLevelRepository.saveAll(careerEntities);
-        certificateRepository.saveAll(certEntities);
-        skillRepository.saveAll(skillEntities);
+        // 바뀐 행만 반영 (언어는 이 경로에서 다루지 않음)
+        sectionWriter.write(resume.getId(),
+                new ResumeSectionWriter.Desired(eduEntities, careerEntities, certEntities, skillEntities, null));
     }
 
     private static List<Map<String, Object>> listOfMap(Object o) {
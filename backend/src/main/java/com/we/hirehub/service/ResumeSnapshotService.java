@@ -0,0 +1,143 @@
+package com.we.hirehub.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.we.hirehub.dto.resume.ResumeDto;
+import com.we.hirehub.dto.user.UserSummaryDto;
+import com.we.hirehub.entity.Apply;
+import com.we.hirehub.entity.Resume;
+import com.we.hirehub.entity.ResumeSnapshot;
+import com.we.hirehub.entity.Users;
+import com.we.hirehub.repository.ResumeSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 지원 시점 이력서 사본
+ * - 지원할 때 이력서 + 섹션 전체를 ResumeDto JSON으로 한 번 직렬화 → gzip 압축해서 resume_snapshot 1행으로 저장
+ * - 이후 변경 없음 → 원본 이력서는 지원 후에도 자유롭게 수정 가능 (잠그지 않음)
+ * - 관리자 지원서 조회는 1행 읽기 + 압축된 바이트 그대로 전송 (섹션 테이블/htmlContent 다시 안 읽음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ResumeSnapshotService {
+
+    public static final String CODEC = "gzip-json-v1";
+
+    private final ResumeSnapshotRepository snapshotRepository;
+    private final ResumeSectionLoader sectionLoader;
+    private final ObjectMapper objectMapper;
+
+    /** 지원 저장 직후 같은 트랜잭션에서 호출 */
+    @Transactional
+    public ResumeSnapshot capture(Apply apply) {
+        Resume r = apply.getResume();
+        byte[] raw = encodeJson(toDto(r, sectionLoader.load(r.getId(), true)));
+
+        ResumeSnapshot snapshot = snapshotRepository.save(ResumeSnapshot.builder()
+                .applyId(apply.getId())
+                .resumeId(r.getId())
+                .userId(r.getUsers().getId())
+                .codec(CODEC)
+                .data(gzip(raw))
+                .rawBytes(raw.length)
+                .createdAt(LocalDateTime.now())
+                .build());
+        log.debug("📸 이력서 사본 저장: applyId={}, resumeId={}, {}B → {}B",
+                apply.getId(), r.getId(), raw.length, snapshot.getData().length);
+        return snapshot;
+    }
+
+    public Optional<ResumeSnapshot> find(Long applyId) {
+        return snapshotRepository.findById(applyId);
+    }
+
+    /** 지원 내역 삭제 시 사본도 삭제 */
+    @Transactional
+    public void deleteForApplies(Long userId, List<Long> applyIds) {
+        if (applyIds == null || applyIds.isEmpty()) return;
+        snapshotRepository.deleteByUserIdAndApplyIds(userId, applyIds);
+    }
+
+    /** gzip을 못 받는 클라이언트용 (압축 해제한 JSON 바이트) */
+    public static byte[] json(ResumeSnapshot snapshot) {
+        if (!CODEC.equals(snapshot.getCodec())) {
+            throw new IllegalStateException("지원하지 않는 사본 형식: " + snapshot.getCodec());
+        }
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(snapshot.getData()))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("이력서 사본 해제 실패: " + snapshot.getApplyId(), e);
+        }
+    }
+
+    // ===== Private Helper Methods =====
+
+    /** 지원 시점 DTO: 일반 사용자용 profile + 관리자용 users 둘 다 채움 */
+    private static ResumeDto toDto(Resume r, ResumeSectionLoader.Sections sections) {
+        Users u = r.getUsers();
+        UserSummaryDto profile = new UserSummaryDto(
+                u.getId(),
+                u.getNickname(),
+                u.getName(),
+                u.getPhone(),
+                u.getGender(),
+                (u.getDob() != null ? LocalDate.parse(u.getDob()) : null),
+                u.getAddress(),
+                u.getEmail()
+        );
+        ResumeDto.UserInfo userInfo = new ResumeDto.UserInfo(u.getId(), u.getNickname(), u.getEmail());
+
+        return new ResumeDto(
+                r.getId(),
+                r.getTitle(),
+                r.getIdPhoto(),
+                r.getEssayTittle(),
+                r.getEssayContent(),
+                r.getHtmlContent(),
+                true,            // 제출본
+                r.getCreateAt(),
+                r.getUpdateAt(),
+                profile,
+                userInfo,
+                sections.education(),
+                sections.career(),
+                sections.certificate(),
+                sections.skill(),
+                sections.language()
+        );
+    }
+
+    private byte[] encodeJson(ResumeDto dto) {
+        try {
+            return objectMapper.writeValueAsBytes(dto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이력서 사본 직렬화 실패: resumeId=" + dto.getId(), e);
+        }
+    }
+
+    private static byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(bos)) {
+            out.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bos.toByteArray();
+    }
+}
@@ -0,0 +1,167 @@
+package com.we.hirehub.service;
+
+import com.we.hirehub.dto.chat.ChatSessionSummaryDto;
+import com.we.hirehub.entity.ChatSessionSummary;
+import com.we.hirehub.entity.LiveChat;
+import com.we.hirehub.repository.ChatSessionSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상담 세션 목록 읽기 모델 (chat_session_summary)
+ * - live_chat 저장마다 upsert 1번으로 마지막 메시지/개수/안 읽은 수를 증분 갱신 → 목록 조회 시 live_chat GROUP BY 없음
+ * - 안 읽은 수: 유저 메시지 → unread_agent +1, 상담사 메시지 → unread_user +1,
+ *   읽음 위치가 마지막 메시지에 도달하면 해당 쪽 0으로 (ReadReceiptStore 기록 시 함께 반영)
+ * - 목록은 (last_message_at, session_id) 커서로 페이지 조회 (OFFSET 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SessionSummaryService {
+
+    private static final int PREVIEW_LENGTH = 100;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // 늦게 커밋된 이전 메시지가 마지막 메시지를 덮어쓰지 않도록 id 비교 후 갱신 (last_message_id는 맨 마지막에 갱신)
+    private static final String UPSERT_SQL =
+            "INSERT INTO chat_session_summary " +
+            "(session_id, last_message_id, last_preview, last_message_at, last_sender_role, message_count, unread_user, unread_agent) " +
+            "VALUES (?, ?, ?, ?, ?, 1, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "message_count = message_count + 1, " +
+            "unread_user = unread_user + VALUES(unread_user), " +
+            "unread_agent = unread_agent + VALUES(unread_agent), " +
+            "last_preview = CASE WHEN VALUES(last_message_id) > COALESCE(last_message_id, 0) THEN VALUES(last_preview) ELSE last_preview END, " +
+            "last_message_at = CASE WHEN VALUES(last_message_id) > COALESCE(last_message_id, 0) THEN VALUES(last_message_at) ELSE last_message_at END, " +
+            "last_sender_role = CASE WHEN VALUES(last_message_id) > COALESCE(last_message_id, 0) THEN VALUES(last_sender_role) ELSE last_sender_role END, " +
+            "last_message_id = GREATEST(COALESCE(last_message_id, 0), VALUES(last_message_id))";
+
+    private static final String READ_USER_SQL =
+            "UPDATE chat_session_summary SET unread_user = 0 WHERE session_id = ? AND last_message_id <= ?";
+    private static final String READ_AGENT_SQL =
+            "UPDATE chat_session_summary SET unread_agent = 0 WHERE session_id = ? AND last_message_id <= ?";
+
+    private final ChatSessionSummaryRepository summaryRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 읽음 위치 (세션, 읽은 쪽 역할, 마지막으로 읽은 id) */
+    public record ReadPosition(String sessionId, String role, long lastReadId) {}
+
+    /**
+     * 메시지 저장 직후 호출 (호출한 쪽 트랜잭션에 함께 참여)
+     * @param role 보낸 쪽 USER / AGENT
+     */
+    public void onMessage(LiveChat saved, String role) {
+        if (saved == null || saved.getSession() == null) return;
+        boolean agent = "AGENT".equalsIgnoreCase(role);
+        jdbcTemplate.update(UPSERT_SQL,
+                saved.getSession().getId(),
+                saved.getId(),
+                preview(saved.getContent()),
+                Timestamp.valueOf(saved.getCreateAt()),
+                agent ? "AGENT" : "USER",
+                agent ? 1 : 0,
+                agent ? 0 : 1);
+    }
+
+    /** 읽음 위치 기록 시 안 읽은 수 정리 */
+    public void onRead(List<ReadPosition> positions) {
+        List<Object[]> userReads = new ArrayList<>();
+        List<Object[]> agentReads = new ArrayList<>();
+        for (ReadPosition p : positions) {
+            Object[] row = {p.sessionId(), p.lastReadId()};
+            if ("AGENT".equals(p.role())) agentReads.add(row);
+            else userReads.add(row);
+        }
+        if (!userReads.isEmpty()) jdbcTemplate.batchUpdate(READ_USER_SQL, userReads);
+        if (!agentReads.isEmpty()) jdbcTemplate.batchUpdate(READ_AGENT_SQL, agentReads);
+    }
+
+    /**
+     * 최근 대화순 세션 목록
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> page(String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageRequest pageRequest = PageRequest.of(0, limit + 1);
+
+        List<ChatSessionSummary> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = summaryRepository.findRecent(pageRequest);
+        } else {
+            Cursor c = decodeCursor(cursor);
+            rows = summaryRepository.findRecentAfter(c.at(), c.sessionId(), pageRequest);
+        }
+
+        boolean hasNext = rows.size() > limit;
+        List<ChatSessionSummaryDto> items = rows.stream().limit(limit).map(ChatSessionSummaryDto::from).toList();
+
+        Map<String, Object> res = new HashMap<>();
+        res.put("items", items);
+        res.put("nextCursor", hasNext ? encodeCursor(items.get(items.size() - 1)) : null);
+        return res;
+    }
+
+    /** 요약 테이블이 비어 있으면 기존 live_chat으로 한 번 채움 (역할/안 읽은 수는 알 수 없어 비워 둠) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            if (summaryRepository.count() > 0) return;
+            int inserted = jdbcTemplate.update(
+                    "INSERT INTO chat_session_summary " +
+                    "(session_id, last_message_id, last_message_at, message_count, unread_user, unread_agent) " +
+                    "SELECT session_id, MAX(id), MAX(create_at), COUNT(*), 0, 0 FROM live_chat " +
+                    "WHERE session_id IS NOT NULL GROUP BY session_id");
+            if (inserted == 0) return;
+            jdbcTemplate.update(
+                    "UPDATE chat_session_summary s SET last_preview = " +
+                    "(SELECT SUBSTRING(lc.content, 1, " + PREVIEW_LENGTH + ") FROM live_chat lc WHERE lc.id = s.last_message_id)");
+            log.info("📋 세션 요약 초기 적재: {}개 세션", inserted);
+        } catch (Exception e) {
+            log.error("❌ 세션 요약 초기 적재 실패", e);
+        }
+    }
+
+    // ===== Private Helper Methods =====
+
+    private static String preview(String content) {
+        if (content == null) return null;
+        return content.length() <= PREVIEW_LENGTH ? content : content.substring(0, PREVIEW_LENGTH);
+    }
+
+    private static String encodeCursor(ChatSessionSummaryDto last) {
+        String raw = last.getLastMessageAt() + "|" + last.getSessionId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record Cursor(LocalDateTime at, String sessionId) {}
+
+    /** 시각 파싱까지 여기서 → 형식이 틀리면 모두 IllegalArgumentException (컨트롤러에서 400) */
+    private static Cursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            if (parts.length != 2 || parts[1].isEmpty()) throw new IllegalArgumentException();
+            return new Cursor(LocalDateTime.parse(parts[0]), parts[1]);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.we.hirehub.service;
+
+import com.we.hirehub.config.CurrentUser;
+import com.we.hirehub.repository.UsersRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그인 사용자 요약 캐시 (userId → CurrentUser)
+ * - 인증된 쓰기 요청마다 users를 다시 읽지 않도록 짧은 TTL 동안 보관
+ * - 프로필/권한 변경, 탈퇴 시 invalidate (다른 노드는 TTL 안에 반영)
+ */
+@Slf4j
+@Component
+public class UserSummaryCache {
+
+    private final UsersRepository usersRepository;
+    private final long ttlMillis;
+    private final int maxSize;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    private record Entry(CurrentUser user, long expiresAt) {}
+
+    public UserSummaryCache(UsersRepository usersRepository,
+                            @Value("${app.user.summary-ttl-ms:30000}") long ttlMillis,
+                            @Value("${app.user.summary-cache-size:10000}") int maxSize) {
+        this.usersRepository = usersRepository;
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+    }
+
+    /** @return 사용자 요약 (없는 사용자면 null) */
+    public CurrentUser get(Long userId) {
+        long now = System.currentTimeMillis();
+        Entry e = entries.get(userId);
+        if (e != null && e.expiresAt() > now) return e.user();
+
+        CurrentUser user = usersRepository.findById(userId).map(CurrentUser::of).orElse(null);
+        if (user == null) {
+            entries.remove(userId);
+            return null;
+        }
+        if (entries.size() >= maxSize) evict(now);
+        entries.put(userId, new Entry(user, now + ttlMillis));
+        return user;
+    }
+
+    public void invalidate(Long userId) {
+        if (userId != null) entries.remove(userId);
+    }
+
+    // ===== Private Helper Methods =====
+
+    private void evict(long now) {
+        entries.values().removeIf(e -> e.expiresAt() <= now);
+        int excess = entries.size() - maxSize * 3 / 4;
+        Iterator<Long> it = entries.keySet().iterator();
+        while (excess-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+}
@@ -5,6 +5,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.we.hirehub.dto.resume.ResumeDto;
 import com.we.hirehub.entity.*;
 import com.we.hirehub.repository.*;
+import com.we.hirehub.service.ResumeSectionLoader;
+import com.we.hirehub.service.ResumeSectionWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -31,6 +33,8 @@ public class ResumeAdminService {
     private final CareerLevelRepository careerLevelRepository;
     private final CertificateRepository certificateRepository;
     private final SkillRepository skillRepository;
+    private final ResumeSectionLoader sectionLoader;
+    private final ResumeSectionWriter sectionWriter;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -38,7 +42,7 @@ public class ResumeAdminService {
 
     public Page<Resume> getAllResumes(Pageable pageable) {
         log.debug("모든 이력서 조회");
-        return resumeRepository.findAll(pageable);
+        return resumeRepository.findAllWithUsers(pageable);
     }
 
     public Resume getResumeById(Long resumeId) {
@@ -154,76 +158,42 @@ public class ResumeAdminService {
 
     @Transactional(readOnly = true)
     public ResumeDto toDto(Resume r) {
-        // 1) 자식 테이블에서 우선 조회
-        var edus   = educationRepository.findByResumeId(r.getId());
-        var cars   = careerLevelRepository.findByResumeId(r.getId());
-        var certs  = certificateRepository.findByResumeId(r.getId());
-        var skills = skillRepository.findByResumeId(r.getId());
-
-        List<Map<String, Object>> education = edus.stream().map(e -> {
-            Map<String, Object> m = new LinkedHashMap<>();
-            m.put("name", e.getName());
-            m.put("major", e.getMajor()); // null 허용
-            m.put("status", e.getStatus());
-            m.put("type", e.getType());
-            m.put("startAt", e.getStartAt());
-            m.put("endAt", e.getEndAt());
-            return m;
-        }).collect(Collectors.toList());
-
-// career
-        List<Map<String, Object>> career = cars.stream().map(c -> {
-            Map<String, Object> m = new LinkedHashMap<>();
-            m.put("companyName", c.getCompanyName());
-            m.put("type", c.getType());
-            m.put("position", c.getPosition());
-            m.put("startAt", c.getStartAt());
-            m.put("endAt", c.getEndAt());
-            m.put("content", c.getContent());
-            return m;
-        }).collect(Collectors.toList());
-
-// certificate
-        List<Map<String, Object>> certificate = certs.stream().map(c -> {
-            Map<String, Object> m = new LinkedHashMap<>();
-            m.put("name", c.getName());
-            return m;
-        }).collect(Collectors.toList());
-
-// skill
-        List<Map<String, Object>> skill = skills.stream().map(s -> {
-            Map<String, Object> m = new LinkedHashMap<>();
-            m.put("name", s.getName());
-            return m;
-        }).collect(Collectors.toList());
+        return toDto(r, sectionLoader.load(r.getId(), false));
+    }
+
+    /** 목록용: 페이지 전체 섹션을 종류별 IN 쿼리 1번씩으로 로드 후 조립 */
+    @Transactional(readOnly = true)
+    public List<ResumeDto> toDtos(List<Resume> resumes) {
+        Map<Long, ResumeSectionLoader.Sections> sections =
+                sectionLoader.load(resumes.stream().map(Resume::getId).toList(), false);
+        return resumes.stream()
+                .map(r -> toDto(r, sections.get(r.getId())))
+                .collect(Collectors.toList());
+    }
 
+    private ResumeDto toDto(Resume r, ResumeSectionLoader.Sections sections) {
+        // 1) 자식 테이블 우선
+        List<Map<String, Object>> education   = sections.education();
+        List<Map<String, Object>> career      = sections.career();
+        List<Map<String, Object>> certificate = sections.certificate();
+        List<Map<String, Object>> skill       = sections.skill();
         // 언어는 별도 엔티티가 없으므로 htmlContent에서만 추출
-        List<Map<String, Object>> language = Collections.emptyList();
+        List<Map<String, Object>> language    = Collections.emptyList();
 
-        // 2) 전부 비어있으면 htmlContent fallback 사용(기존 데이터 호환)
-        if (education.isEmpty() && career.isEmpty() && certificate.isEmpty() && skill.isEmpty()) {
+        // 2) htmlContent는 한 번만 파싱: 언어는 항상, 자식 테이블이 전부 비었으면 나머지도 fallback(기존 데이터 호환)
+        if (r.getHtmlContent() != null && !r.getHtmlContent().isBlank()) {
             try {
-                if (r.getHtmlContent() != null && !r.getHtmlContent().isBlank()) {
-                    JsonNode root = objectMapper.readTree(r.getHtmlContent());
+                JsonNode root = objectMapper.readTree(r.getHtmlContent());
+                language = extractList(root, "language");
+                if (sections.isEmptyExceptLanguage()) {
                     education   = extractList(root, "education");
                     career      = extractList(root, "career");
                     certificate = extractList(root, "certificate");
                     skill       = extractList(root, "skill");
-                    language    = extractList(root, "language");
                 }
             } catch (Exception e) {
                 log.warn("htmlContent 파싱 실패: {}", e.getMessage());
             }
-        } else {
-            // 자식 테이블에 값이 있으면 언어만 htmlContent에서 추가로 시도
-            try {
-                if (r.getHtmlContent() != null && !r.getHtmlContent().isBlank()) {
-                    JsonNode root = objectMapper.readTree(r.getHtmlContent());
-                    language = extractList(root, "language");
-                }
-            } catch (Exception e) {
-                log.warn("language 파싱 실패: {}", e.getMessage());
-            }
         }
 
         // 사용자 정보(관리자용)
@@ -276,15 +246,8 @@ public class ResumeAdminService {
         List<Map<String, Object>> skills         = extractArray(updateData, "skills", "skillJson");
         // 언어는 엔티티가 없으므로 저장 스킵
 
-        // 전체 갈아끼우기
-        educationRepository.deleteByResumeId(resumeId);
-        careerLevelRepository.deleteByResumeId(resumeId);
-        certificateRepository.deleteByResumeId(resumeId);
-        skillRepository.deleteByResumeId(resumeId);
-
-        Resume ref = Resume.builder().id(resumeId).build();
-
         // 교육
+        List<Education> eduList = new ArrayList<>();
         for (Map<String, Object> m : educations) {
             Education e = new Education();
             e.setName(str(m.get("name")));
@@ -293,11 +256,11 @@ public class ResumeAdminService {
             e.setType(str(m.get("type")));
             e.setStartAt(toLocalDate(m.get("startAt")));
             e.setEndAt(toLocalDate(m.get("endAt")));
-            e.setResume(ref);
-            educationRepository.save(e);
+            eduList.add(e);
         }
 
         // 경력
+        List<CareerLevel> careerList = new ArrayList<>();
         for (Map<String, Object> m : careers) {
             CareerLevel c = new CareerLevel();
             c.setCompanyName(str(m.get("companyName")));
@@ -306,25 +269,27 @@ public class ResumeAdminService {
             c.setStartAt(toLocalDate(m.get("startAt")));
             c.setEndAt(toLocalDate(m.get("endAt")));
             c.setContent(str(m.get("content")));
-            c.setResume(ref);
-            careerLevelRepository.save(c);
+            careerList.add(c);
         }
 
         // 자격증
+        List<Certificate> certList = new ArrayList<>();
         for (Map<String, Object> m : certifications) {
             Certificate c = new Certificate();
             c.setName(str(m.get("name")));
-            c.setResume(ref);
-            certificateRepository.save(c);
+            certList.add(c);
         }
 
         // 스킬
+        List<Skill> skillList = new ArrayList<>();
         for (Map<String, Object> m : skills) {
             Skill s = new Skill();
             s.setName(str(m.get("name")));
-            s.setResume(ref);
-            skillRepository.save(s);
+            skillList.add(s);
         }
+
+        // 저장된 섹션과 비교해서 바뀐 행만 반영 (행마다 save() X)
+        sectionWriter.write(resumeId, new ResumeSectionWriter.Desired(eduList, careerList, certList, skillList, null));
     }
 
     private List<Map<String, Object>> extractArray(Map<String, Object> map, String arrayKey, String jsonKey) {
@@ -1,7 +1,10 @@
 package com.we.hirehub.service.admin;
 
+import com.we.hirehub.config.TokenDenylist;
 import com.we.hirehub.entity.Users;
 import com.we.hirehub.repository.UsersRepository;
+import com.we.hirehub.service.RefreshTokenService;
+import com.we.hirehub.service.UserSummaryCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -16,6 +19,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class UsersAdminService {
 
     private final UsersRepository usersRepository;
+    private final TokenDenylist tokenDenylist;
+    private final RefreshTokenService refreshTokenService;
+    private final UserSummaryCache userSummaryCache;
 
     // 생성
     @Transactional
@@ -65,11 +71,14 @@ public class UsersAdminService {
     public Users updateUser(Long userId, Users updateData) {
         log.info("사용자 정보 수정: {}", userId);
         Users user = getUserById(userId);
+        // 권한/이메일/비밀번호가 바뀌면 기존 토큰은 더 이상 믿을 수 없음
+        boolean revoke = false;
 
         if (updateData.getName() != null && !updateData.getName().trim().isEmpty()) {
             user.setName(updateData.getName());
         }
         if (updateData.getEmail() != null && !updateData.getEmail().trim().isEmpty()) {
+            revoke |= !updateData.getEmail().equals(user.getEmail());
             user.setEmail(updateData.getEmail());
         }
         if (updateData.getNickname() != null && !updateData.getNickname().trim().isEmpty()) {
@@ -78,6 +87,7 @@ public class UsersAdminService {
 
         // ✅ role 업데이트 추가
         if (updateData.getRole() != null) {
+            revoke |= updateData.getRole() != user.getRole();
             user.setRole(updateData.getRole());
             log.info("역할 변경: {}", updateData.getRole());
         }
@@ -85,6 +95,7 @@ public class UsersAdminService {
         // ✅ password 업데이트 추가 (비밀번호가 있을 때만)
         if (updateData.getPassword() != null && !updateData.getPassword().trim().isEmpty()) {
             user.setPassword(updateData.getPassword());
+            revoke = true;
             log.info("비밀번호 변경됨");
         }
 
@@ -96,6 +107,8 @@ public class UsersAdminService {
         if (updateData.getLocation() != null) user.setLocation(updateData.getLocation());
 
         Users savedUser = usersRepository.save(user);
+        userSummaryCache.invalidate(userId);
+        if (revoke) revokeTokens(userId);
         log.info("사용자 정보 수정 완료 - userId: {}, email: {}", userId, savedUser.getEmail());
 
         return savedUser;
@@ -110,5 +123,13 @@ public class UsersAdminService {
             throw new IllegalArgumentException("존재하지 않는 사용자입니다");
         }
         usersRepository.deleteById(userId);
+        userSummaryCache.invalidate(userId);
+        revokeTokens(userId);
+    }
+
+    private void revokeTokens(Long userId) {
+        tokenDenylist.revokeUser(userId);
+        refreshTokenService.revokeAllForUser(userId);
+        log.info("🔒 사용자 토큰 폐기: {}", userId);
     }
 }
\ No newline at end of file
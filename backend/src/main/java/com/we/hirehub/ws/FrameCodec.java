@@ -0,0 +1,59 @@
+package com.we.hirehub.ws;
+
+/**
+ * STOMP 프레임 인코딩
+ * - CONNECT 헤더 frame-codec: cbor | smile 로 선택 (없거나 모르는 값이면 JSON)
+ * - 바이너리 코덱 연결의 구독은 /topic/{codec}/... 로 바꿔 등록 → 브로드캐스트마다 코덱별로 한 번만 인코딩
+ */
+public enum FrameCodec {
+    JSON("json"),
+    CBOR("cbor"),
+    SMILE("smile");
+
+    /** CONNECT 요청 / 바이너리 MESSAGE 프레임 헤더 */
+    public static final String HEADER = "frame-codec";
+
+    private static final String TOPIC_ROOT = "/topic/";
+
+    private final String id;
+
+    FrameCodec(String id) {
+        this.id = id;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public boolean binary() {
+        return this != JSON;
+    }
+
+    public static FrameCodec fromHeader(String value) {
+        if (value != null) {
+            for (FrameCodec codec : values()) {
+                if (codec.id.equalsIgnoreCase(value.trim())) return codec;
+            }
+        }
+        return JSON;
+    }
+
+    /** /topic/rooms/1 → /topic/cbor/rooms/1 */
+    public String destination(String destination) {
+        if (!binary() || !destination.startsWith(TOPIC_ROOT)) return destination;
+        return TOPIC_ROOT + id + "/" + destination.substring(TOPIC_ROOT.length());
+    }
+
+    /** /topic/cbor/rooms/1 → /topic/rooms/1 (코덱 없는 목적지는 그대로) */
+    public static String canonical(String destination) {
+        if (destination == null || !destination.startsWith(TOPIC_ROOT)) return destination;
+        for (FrameCodec codec : values()) {
+            if (!codec.binary()) continue;
+            String prefix = TOPIC_ROOT + codec.id + "/";
+            if (destination.startsWith(prefix)) {
+                return TOPIC_ROOT + destination.substring(prefix.length());
+            }
+        }
+        return destination;
+    }
+}
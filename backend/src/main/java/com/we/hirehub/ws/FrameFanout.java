@@ -0,0 +1,123 @@
+package com.we.hirehub.ws;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 방/대기 큐/프레즌스 프레임 로컬 전송 (코덱별 1회 인코딩)
+ * - JSON은 미리 직렬화한 바이트 그대로 전송 (버스 전파용 JSON과 같은 바이트 재사용)
+ * - 바이너리 코덱(CBOR/Smile)은 해당 코덱 연결이 하나라도 있을 때만 인코딩해서 /topic/{codec}/... 로 전송
+ * - 바이너리 프레임은 content-type application/octet-stream (웹소켓 바이너리 프레임) + frame-codec 헤더
+ * - SockJS 연결은 바이너리 프레임을 보낼 수 없어 항상 JSON
+ */
+@Slf4j
+@Component
+public class FrameFanout {
+
+    /** 웹소켓 핸드셰이크 시 순수 WebSocket(/ws) 연결에만 붙는 세션 속성 */
+    public static final String BINARY_CAPABLE_ATTR = "frameFanout.binaryCapable";
+
+    private static final MimeType JSON_TYPE = new MimeType("application", "json", StandardCharsets.UTF_8);
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<FrameCodec, ObjectMapper> binaryMappers = new EnumMap<>(FrameCodec.class);
+    private final Map<FrameCodec, AtomicInteger> connections = new EnumMap<>(FrameCodec.class);
+    private final Map<String, FrameCodec> sessions = new ConcurrentHashMap<>();
+
+    public FrameFanout(SimpMessagingTemplate messagingTemplate, ObjectMapper objectMapper) {
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        // 앱 ObjectMapper 설정(JavaTimeModule 등) 그대로 복사
+        binaryMappers.put(FrameCodec.CBOR, objectMapper.copyWith(new CBORFactory()));
+        binaryMappers.put(FrameCodec.SMILE, objectMapper.copyWith(new SmileFactory()));
+        for (FrameCodec codec : FrameCodec.values()) {
+            connections.put(codec, new AtomicInteger());
+        }
+    }
+
+    /** 바이너리 코덱을 쓰는 목적지 (채팅/상담 연결 흐름/프레즌스) */
+    public static boolean negotiable(String destination) {
+        return destination != null
+                && (destination.startsWith(RoomBroadcaster.ROOM_PREFIX)
+                || SupportQueuePublisher.QUEUE_TOPIC.equals(destination)
+                || PresenceService.PRESENCE_TOPIC.equals(destination));
+    }
+
+    /** CONNECT 시 코덱 등록 (JSON이면 아무것도 안 함) */
+    public void register(String sessionId, FrameCodec codec) {
+        if (sessionId == null || !codec.binary()) return;
+        FrameCodec prev = sessions.put(sessionId, codec);
+        if (prev != null) connections.get(prev).decrementAndGet();
+        connections.get(codec).incrementAndGet();
+        log.debug("📦 바이너리 프레임 연결: session={}, codec={}", sessionId, codec.id());
+    }
+
+    /** 세션의 코덱 (등록 안 된 세션은 JSON) */
+    public FrameCodec codecOf(String sessionId) {
+        return sessionId == null ? FrameCodec.JSON : sessions.getOrDefault(sessionId, FrameCodec.JSON);
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        FrameCodec codec = sessions.remove(event.getSessionId());
+        if (codec != null) connections.get(codec).decrementAndGet();
+    }
+
+    /** JSON 직렬화 (실패 시 null) */
+    public byte[] json(Object frame) {
+        try {
+            return objectMapper.writeValueAsBytes(frame);
+        } catch (JsonProcessingException e) {
+            log.warn("⚠️ 프레임 직렬화 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 로컬 구독자에게 전송
+     * @param json 이미 직렬화한 JSON (null이면 여기서 직렬화)
+     */
+    public void deliver(String destination, Object frame, byte[] json) {
+        byte[] payload = json != null ? json : json(frame);
+        if (payload == null) return;
+        send(destination, payload, JSON_TYPE, null);
+
+        if (!negotiable(destination)) return;
+        for (Map.Entry<FrameCodec, ObjectMapper> e : binaryMappers.entrySet()) {
+            if (connections.get(e.getKey()).get() <= 0) continue;
+            try {
+                byte[] encoded = e.getValue().writeValueAsBytes(frame);
+                send(e.getKey().destination(destination), encoded, MimeTypeUtils.APPLICATION_OCTET_STREAM, e.getKey());
+            } catch (JsonProcessingException ex) {
+                log.warn("⚠️ {} 프레임 인코딩 실패: {}", e.getKey().id(), ex.getMessage());
+            }
+        }
+    }
+
+    private void send(String destination, byte[] payload, MimeType contentType, FrameCodec codec) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(contentType);
+        if (codec != null) accessor.setNativeHeader(FrameCodec.HEADER, codec.id());
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(destination, MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+    }
+}
@@ -0,0 +1,458 @@
+package com.we.hirehub.ws;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.we.hirehub.ws.bus.BusEnvelope;
+import com.we.hirehub.ws.bus.ChatBus;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상담 채팅 접속 상태(프레즌스) 추적
+ * - STOMP CONNECT / SUBSCRIBE / DISCONNECT 이벤트와 인바운드 프레임(하트비트 포함)으로 갱신
+ * - /topic/support.queue 구독 세션 = 상담사, 그 외 /topic/rooms/{roomId} 구독 세션 = 유저
+ * - 하트비트가 끊긴 세션은 TimerWheel로 만료 처리 (전체 세션 스캔 없음)
+ * - 방에서 유저/상담사가 모두 빠지면 유예시간 뒤 SupportQueue 상태를 정리하고 알림 전송
+ * - 변경분은 틱마다 모아서 /topic/support.presence 로 한 번에 전송
+ * - 델타는 노드 로컬 상태만 담아 ChatBus로 다른 노드에도 전달 (node 필드로 출처 구분)
+ *   → 다른 노드의 델타를 remoteRooms에 모아 isUserOnline/isAgentOnline은 전체 노드 기준으로 판단
+ *   (유저/상담사가 다른 노드로 재접속해도 유예 만료 시 연결 해제로 처리하지 않음)
+ * - 노드 구성이 바뀌면 사라진 노드 상태는 버리고, 이 노드 방 상태 전체를 다시 보냄
+ */
+@Slf4j
+@Component
+public class PresenceService {
+
+    public static final String PRESENCE_TOPIC = "/topic/support.presence";
+    private static final String ROOM_PREFIX = RoomBroadcaster.ROOM_PREFIX;
+
+    private final SupportQueue supportQueue;
+    private final SupportQueuePublisher queuePublisher;
+    private final RoomBroadcaster roomBroadcaster;
+    private final RoomReplayBuffer replayBuffer;
+    private final RoomMailboxExecutor roomMailbox;
+    private final RoomSignals roomSignals;
+    private final ChatBus bus;
+    private final ObjectMapper objectMapper;
+    private final long minTimeoutMs;
+    private final long graceMs;
+
+    private final Map<String, SessionPresence> sessions = new ConcurrentHashMap<>();
+    private final Map<String, RoomPresence> rooms = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> agents = new ConcurrentHashMap<>(); // 상담사 이름 → 세션들
+    private final Map<String, Map<String, RemoteRoom>> remoteRooms = new ConcurrentHashMap<>(); // 노드 → 방 → 접속 상태
+    private volatile List<String> lastMembers = List.of();
+
+    private final TimerWheel<String> sessionWheel = new TimerWheel<>(1000, 64);
+    private final TimerWheel<Vacancy> vacancyWheel = new TimerWheel<>(1000, 64);
+
+    // 다음 틱에 보낼 변경분 (방/상담사 단위로 중복 제거)
+    private final Set<String> dirtyRooms = ConcurrentHashMap.newKeySet();
+    private final Set<String> dirtyAgents = ConcurrentHashMap.newKeySet();
+
+    public PresenceService(SupportQueue supportQueue,
+                           SupportQueuePublisher queuePublisher,
+                           RoomBroadcaster roomBroadcaster,
+                           RoomReplayBuffer replayBuffer,
+                           RoomMailboxExecutor roomMailbox,
+                           RoomSignals roomSignals,
+                           ChatBus bus,
+                           ObjectMapper objectMapper,
+                           @Value("${app.support.presence.timeout-ms:30000}") long minTimeoutMs,
+                           @Value("${app.support.presence.grace-ms:10000}") long graceMs) {
+        this.supportQueue = supportQueue;
+        this.queuePublisher = queuePublisher;
+        this.roomBroadcaster = roomBroadcaster;
+        this.replayBuffer = replayBuffer;
+        this.roomMailbox = roomMailbox;
+        this.roomSignals = roomSignals;
+        this.bus = bus;
+        this.objectMapper = objectMapper;
+        this.minTimeoutMs = minTimeoutMs;
+        this.graceMs = graceMs;
+    }
+
+    /** 세션 단위 상태 */
+    private static class SessionPresence {
+        final String sessionId;
+        final String name;
+        final long timeoutMs; // 0이면 하트비트 미협상 → 만료 대상 아님
+        final Map<String, String> subscriptions = new ConcurrentHashMap<>(); // subscriptionId → roomId
+        volatile boolean agent;
+
+        SessionPresence(String sessionId, String name, long timeoutMs) {
+            this.sessionId = sessionId;
+            this.name = name;
+            this.timeoutMs = timeoutMs;
+        }
+    }
+
+    /** 방 단위 접속 세션 */
+    private static class RoomPresence {
+        final Set<String> users = ConcurrentHashMap.newKeySet();
+        final Set<String> agents = ConcurrentHashMap.newKeySet();
+
+        boolean isEmpty() {
+            return users.isEmpty() && agents.isEmpty();
+        }
+    }
+
+    /** 방의 한쪽(유저/상담사)이 비었음을 나타내는 유예 타이머 키 */
+    private record Vacancy(String roomId, boolean agentSide) {}
+
+    /** 다른 노드에 접속한 방 상태 */
+    private record RemoteRoom(boolean userOnline, boolean agentOnline) {}
+
+    @PostConstruct
+    void init() {
+        bus.subscribe(env -> {
+            if (env.kind() == BusEnvelope.Kind.TOPIC && PRESENCE_TOPIC.equals(env.destination())) {
+                applyRemote(env);
+            }
+        });
+    }
+
+    // ===== STOMP 이벤트 =====
+
+    @EventListener
+    public void onConnect(SessionConnectEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        if (sessionId == null) return;
+
+        // 클라이언트 하트비트 주기: max(클라이언트 cx, 서버 희망 수신 주기)
+        long[] hb = accessor.getHeartbeat();
+        long clientInterval = hb != null && hb.length > 0 ? hb[0] : 0;
+        long timeoutMs = clientInterval > 0 ? Math.max(minTimeoutMs, clientInterval * 3) : 0;
+
+        Principal user = event.getUser();
+        String name = user != null ? user.getName() : sessionId;
+
+        SessionPresence sp = new SessionPresence(sessionId, name, timeoutMs);
+        sessions.put(sessionId, sp);
+        touch(sessionId);
+        log.debug("🟢 프레즌스 연결: session={}, name={}, timeout={}ms", sessionId, name, timeoutMs);
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        SessionPresence sp = accessor.getSessionId() != null ? sessions.get(accessor.getSessionId()) : null;
+        String destination = FrameCodec.canonical(accessor.getDestination());  // 바이너리 코덱 구독 포함
+        if (sp == null || destination == null) return;
+
+        if (SupportQueuePublisher.QUEUE_TOPIC.equals(destination)) {
+            markAgent(sp);
+        } else if (destination.startsWith(ROOM_PREFIX)) {
+            String roomId = destination.substring(ROOM_PREFIX.length());
+            if (roomId.isBlank()) return;
+            if (accessor.getSubscriptionId() != null) {
+                sp.subscriptions.put(accessor.getSubscriptionId(), roomId);
+            }
+            join(sp, roomId);
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        SessionPresence sp = accessor.getSessionId() != null ? sessions.get(accessor.getSessionId()) : null;
+        if (sp == null || accessor.getSubscriptionId() == null) return;
+
+        String roomId = sp.subscriptions.remove(accessor.getSubscriptionId());
+        if (roomId != null && !sp.subscriptions.containsValue(roomId)) {
+            leave(sp, roomId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        drop(event.getSessionId(), false);
+    }
+
+    /** 인바운드 프레임(하트비트 포함)마다 호출 → 만료 시각 연장 */
+    public void touch(String sessionId) {
+        SessionPresence sp = sessions.get(sessionId);
+        if (sp == null || sp.timeoutMs <= 0) return;
+        sessionWheel.schedule(sessionId, System.currentTimeMillis() + sp.timeoutMs);
+    }
+
+    // ===== 조회 =====
+
+    /** 어느 노드에서든 유저가 방에 접속해 있는지 */
+    public boolean isUserOnline(String roomId) {
+        return localUserOnline(roomId) || remoteOnline(roomId, false);
+    }
+
+    /** 어느 노드에서든 상담사가 방에 접속해 있는지 */
+    public boolean isAgentOnline(String roomId) {
+        return localAgentOnline(roomId) || remoteOnline(roomId, true);
+    }
+
+    /** 대시보드 최초 진입용 전체 스냅샷 */
+    public Map<String, Object> snapshot() {
+        List<Map<String, Object>> roomList = new ArrayList<>();
+        rooms.keySet().forEach(roomId -> roomList.add(roomEntry(roomId)));
+        remoteRooms.forEach((node, remote) -> remote.forEach((roomId, r) -> {
+            Map<String, Object> e = new HashMap<>();
+            e.put("roomId", roomId);
+            e.put("userOnline", r.userOnline());
+            e.put("agentOnline", r.agentOnline());
+            e.put("node", node);
+            roomList.add(e);
+        }));
+
+        Map<String, Object> frame = new HashMap<>();
+        frame.put("event", "PRESENCE_SNAPSHOT");
+        frame.put("rooms", roomList);
+        frame.put("agents", new ArrayList<>(agents.keySet()));
+        frame.put("node", roomBroadcaster.nodeId());
+        return frame;
+    }
+
+    // ===== 만료 / 전송 =====
+
+    @Scheduled(fixedDelayString = "${app.support.presence.tick-ms:1000}")
+    public void tick() {
+        long now = System.currentTimeMillis();
+
+        List<String> members = bus.members();
+        if (!members.equals(lastMembers)) {
+            remoteRooms.keySet().retainAll(members);
+            dirtyRooms.addAll(rooms.keySet());  // 새로 들어온 노드도 이 노드 상태를 알 수 있게 전체 재전송
+            lastMembers = members;
+        }
+
+        for (String sessionId : sessionWheel.advance(now)) {
+            log.info("⏱️ 하트비트 만료: session={}", sessionId);
+            drop(sessionId, true);
+        }
+        for (Vacancy vacancy : vacancyWheel.advance(now)) {
+            // 방 상태 변경은 해당 방 메일박스에서 (방 대기열이 가득 차면 다음 틱에 다시 시도)
+            if (!roomMailbox.execute(vacancy.roomId(), () -> vacate(vacancy))) {
+                vacancyWheel.schedule(vacancy, now + 1000);
+            }
+        }
+        flush();
+    }
+
+    /** 모인 변경분을 한 프레임으로 전송 */
+    void flush() {
+        if (dirtyRooms.isEmpty() && dirtyAgents.isEmpty()) return;
+
+        List<Map<String, Object>> roomList = new ArrayList<>();
+        for (String roomId : drain(dirtyRooms)) {
+            roomList.add(roomEntry(roomId));
+        }
+        List<Map<String, Object>> agentList = new ArrayList<>();
+        for (String name : drain(dirtyAgents)) {
+            Map<String, Object> a = new HashMap<>();
+            a.put("agent", name);
+            a.put("online", agents.containsKey(name));
+            agentList.add(a);
+        }
+
+        Map<String, Object> frame = new HashMap<>();
+        frame.put("event", "PRESENCE_DELTA");
+        frame.put("rooms", roomList);
+        frame.put("agents", agentList);
+        frame.put("agentsOnline", agents.size());
+        frame.put("node", roomBroadcaster.nodeId());
+        roomBroadcaster.sendTopic(PRESENCE_TOPIC, frame);
+    }
+
+    // ===== Private Helper Methods =====
+
+    private void markAgent(SessionPresence sp) {
+        if (sp.agent) return;
+
+        // 상담사 판별 전에 들어간 방은 상담사 쪽으로 옮김
+        Set<String> joined = Set.copyOf(sp.subscriptions.values());
+        joined.forEach(roomId -> leave(sp, roomId, false));
+        sp.agent = true;
+        joined.forEach(roomId -> join(sp, roomId));
+
+        agents.compute(sp.name, (k, set) -> {
+            if (set == null) {
+                set = ConcurrentHashMap.newKeySet();
+                dirtyAgents.add(k);
+            }
+            set.add(sp.sessionId);
+            return set;
+        });
+    }
+
+    private void join(SessionPresence sp, String roomId) {
+        boolean agentSide = sp.agent;
+        rooms.compute(roomId, (k, rp) -> {
+            if (rp == null) rp = new RoomPresence();
+            Set<String> side = agentSide ? rp.agents : rp.users;
+            if (side.isEmpty()) dirtyRooms.add(k);
+            side.add(sp.sessionId);
+            return rp;
+        });
+        vacancyWheel.cancel(new Vacancy(roomId, agentSide));
+    }
+
+    private void leave(SessionPresence sp, String roomId) {
+        leave(sp, roomId, true);
+    }
+
+    private void leave(SessionPresence sp, String roomId, boolean armVacancy) {
+        boolean agentSide = sp.agent;
+        boolean[] emptied = {false};
+        rooms.computeIfPresent(roomId, (k, rp) -> {
+            Set<String> side = agentSide ? rp.agents : rp.users;
+            if (side.remove(sp.sessionId) && side.isEmpty()) {
+                emptied[0] = true;
+                dirtyRooms.add(k);
+            }
+            return rp.isEmpty() ? null : rp;
+        });
+        if (emptied[0] && armVacancy) {
+            vacancyWheel.schedule(new Vacancy(roomId, agentSide), System.currentTimeMillis() + graceMs);
+        }
+    }
+
+    /** 세션 종료 (정상 종료 또는 하트비트 만료) */
+    private void drop(String sessionId, boolean expired) {
+        if (sessionId == null) return;
+        SessionPresence sp = sessions.remove(sessionId);
+        sessionWheel.cancel(sessionId);
+        if (sp == null) return;
+
+        for (String roomId : Set.copyOf(sp.subscriptions.values())) {
+            leave(sp, roomId);
+        }
+        sp.subscriptions.clear();
+
+        if (sp.agent) {
+            agents.computeIfPresent(sp.name, (k, set) -> {
+                set.remove(sessionId);
+                if (set.isEmpty()) {
+                    dirtyAgents.add(k);
+                    return null;
+                }
+                return set;
+            });
+        }
+        log.debug("🔴 프레즌스 해제: session={}, expired={}", sessionId, expired);
+    }
+
+    /**
+     * 유예시간이 지나도 방의 한쪽이 비어 있으면 명시적 disconnect 프레임을 받은 것처럼 처리
+     */
+    private void vacate(Vacancy vacancy) {
+        String roomId = vacancy.roomId();
+        if (vacancy.agentSide() ? isAgentOnline(roomId) : isUserOnline(roomId)) return;
+
+        var s = supportQueue.state(roomId);
+        boolean wasActive = s.handoffRequested || s.handoffAccepted;
+
+        if (vacancy.agentSide()) {
+            if (s.handoffAccepted) {
+                supportQueue.released(roomId);
+
+                Map<String, Object> msg = new HashMap<>();
+                msg.put("type", "AGENT_DISCONNECTED");
+                roomBroadcaster.send(roomId, msg);
+                log.info("📌 상담사 연결 만료: roomId={}", roomId);
+            }
+        } else if (wasActive) {
+            String userName = s.userName != null ? s.userName : "user";
+            String userNickname = s.userNickname != null ? s.userNickname : "user";
+            supportQueue.released(roomId);
+
+            Map<String, Object> msg = new HashMap<>();
+            msg.put("type", "USER_DISCONNECTED");
+            msg.put("userName", userName);
+            msg.put("userNickname", userNickname);
+            msg.put("roomId", roomId);
+            roomBroadcaster.send(roomId, msg);
+
+            queuePublisher.removed(roomId);
+            log.info("📌 유저 연결 만료: roomId={}, name={}, nickname={}", roomId, userName, userNickname);
+        }
+
+        // 아무도 없는 방은 상태 정리
+        if (!rooms.containsKey(roomId)) {
+            supportQueue.removeIfIdle(roomId);
+            replayBuffer.evict(roomId);
+            roomSignals.evict(roomId);
+        }
+    }
+
+    /** 이 노드 기준 방 상태 (델타/스냅샷용) */
+    private Map<String, Object> roomEntry(String roomId) {
+        Map<String, Object> r = new HashMap<>();
+        r.put("roomId", roomId);
+        r.put("userOnline", localUserOnline(roomId));
+        r.put("agentOnline", localAgentOnline(roomId));
+        r.put("node", bus.nodeId());
+        return r;
+    }
+
+    private boolean localUserOnline(String roomId) {
+        RoomPresence rp = rooms.get(roomId);
+        return rp != null && !rp.users.isEmpty();
+    }
+
+    private boolean localAgentOnline(String roomId) {
+        RoomPresence rp = rooms.get(roomId);
+        return rp != null && !rp.agents.isEmpty();
+    }
+
+    private boolean remoteOnline(String roomId, boolean agentSide) {
+        for (Map<String, RemoteRoom> remote : remoteRooms.values()) {
+            RemoteRoom r = remote.get(roomId);
+            if (r != null && (agentSide ? r.agentOnline() : r.userOnline())) return true;
+        }
+        return false;
+    }
+
+    /** 다른 노드 프레즌스 델타 반영 (로컬 구독자 전달은 RoomBroadcaster가 처리) */
+    private void applyRemote(BusEnvelope env) {
+        try {
+            JsonNode delta = objectMapper.readTree(env.payload());
+            Map<String, RemoteRoom> remote = remoteRooms.computeIfAbsent(env.origin(), k -> new ConcurrentHashMap<>());
+            for (JsonNode room : delta.path("rooms")) {
+                String roomId = room.path("roomId").asText();
+                boolean userOnline = room.path("userOnline").asBoolean();
+                boolean agentOnline = room.path("agentOnline").asBoolean();
+                if (userOnline || agentOnline) {
+                    remote.put(roomId, new RemoteRoom(userOnline, agentOnline));
+                } else {
+                    remote.remove(roomId);
+                }
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("⚠️ 원격 프레즌스 델타 파싱 실패: origin={}", env.origin());
+        }
+    }
+
+    private static List<String> drain(Set<String> dirty) {
+        List<String> out = new ArrayList<>();
+        for (String key : dirty) {
+            if (dirty.remove(key)) out.add(key);
+        }
+        return out;
+    }
+}
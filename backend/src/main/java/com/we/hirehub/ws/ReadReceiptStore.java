@@ -0,0 +1,123 @@
+package com.we.hirehub.ws;
+
+import com.we.hirehub.entity.ChatReadMark;
+import com.we.hirehub.repository.ChatReadMarkRepository;
+import com.we.hirehub.service.SessionSummaryService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 읽음 위치(high-water mark) 저장소
+ * - 참여자당 "마지막으로 읽은 메시지 id" 하나만 유지 (메시지별 읽음 행 없음)
+ * - 갱신은 메모리에서 max로 합치고, 주기적으로 바뀐 것만 한 번의 배치 upsert로 기록 (write-behind)
+ * - DB에서도 GREATEST로 갱신 → 늦게 도착한 작은 값이 덮어쓰지 않음
+ * - 메모리 값은 방 → 참여자 2단계 맵 (방 입장 조회/정리가 다른 방 항목을 훑지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReadReceiptStore {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO chat_read_mark (session_id, participant, role, last_read_id, updated_at) VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE last_read_id = GREATEST(last_read_id, VALUES(last_read_id)), updated_at = VALUES(updated_at)";
+
+    private final ChatReadMarkRepository readMarkRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final SessionSummaryService sessionSummaryService;
+
+    public record Mark(String participant, String role, long lastReadId) {}
+
+    private record Key(String roomId, String participant) {}
+
+    // 최근 갱신값 (roomId → participant → 위치, 방이 비면 evict) / 아직 DB에 안 쓴 값
+    private final Map<String, Map<String, Mark>> latest = new ConcurrentHashMap<>();
+    private final Map<Key, Mark> dirty = new ConcurrentHashMap<>();
+
+    /**
+     * 읽음 위치 전진
+     * @return 실제로 앞으로 움직였으면 true (같거나 작은 값은 무시)
+     */
+    public boolean advance(String roomId, String participant, String role, long lastReadId) {
+        boolean[] moved = new boolean[1];
+        // 방 단위 compute → 같은 방 evict와 겹치지 않음
+        latest.compute(roomId, (r, room) -> {
+            if (room == null) room = new ConcurrentHashMap<>();
+            Mark cur = room.get(participant);
+            if (cur == null || cur.lastReadId() < lastReadId) {
+                Mark next = new Mark(participant, role, lastReadId);
+                room.put(participant, next);
+                dirty.put(new Key(roomId, participant), next);
+                moved[0] = true;
+            }
+            return room;
+        });
+        return moved[0];
+    }
+
+    /** 방의 참여자별 읽음 위치 (DB + 아직 안 쓴 값) */
+    public List<Mark> marks(String roomId) {
+        Map<String, Mark> merged = new HashMap<>();
+        for (ChatReadMark m : readMarkRepository.findBySessionId(roomId)) {
+            merged.put(m.getParticipant(), new Mark(m.getParticipant(), m.getRole(), m.getLastReadId()));
+        }
+        Map<String, Mark> room = latest.get(roomId);
+        if (room != null) {
+            room.forEach((participant, m) -> merged.merge(participant, m, ReadReceiptStore::newer));
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    /** 방이 비었을 때 메모리 정리 (미기록분은 남겨둠) */
+    public void evict(String roomId) {
+        latest.computeIfPresent(roomId, (r, room) -> {
+            room.keySet().removeIf(participant -> !dirty.containsKey(new Key(r, participant)));
+            return room.isEmpty() ? null : room;
+        });
+    }
+
+    private static Mark newer(Mark a, Mark b) {
+        return a.lastReadId() >= b.lastReadId() ? a : b;
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.read.flush-ms:2000}")
+    @PreDestroy
+    public void flush() {
+        if (dirty.isEmpty()) return;
+
+        List<Object[]> batch = new ArrayList<>();
+        List<SessionSummaryService.ReadPosition> positions = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (Key key : dirty.keySet()) {
+            Mark m = dirty.remove(key);
+            if (m == null) continue;
+            batch.add(new Object[]{key.roomId(), m.participant(), m.role(), m.lastReadId(), now});
+            positions.add(new SessionSummaryService.ReadPosition(key.roomId(), m.role(), m.lastReadId()));
+        }
+        if (batch.isEmpty()) return;
+
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+            sessionSummaryService.onRead(positions);  // 세션 목록 안 읽은 수 정리
+            log.debug("💾 읽음 위치 기록: {}건", batch.size());
+        } catch (Exception e) {
+            log.error("❌ 읽음 위치 기록 실패: {}건 (다음 주기에 재시도)", batch.size(), e);
+            for (Object[] row : batch) {
+                Mark m = new Mark((String) row[1], (String) row[2], (Long) row[3]);
+                dirty.merge(new Key((String) row[0], (String) row[1]), m, ReadReceiptStore::newer);
+            }
+        }
+    }
+}
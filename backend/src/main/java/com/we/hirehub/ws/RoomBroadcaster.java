@@ -0,0 +1,142 @@
+package com.we.hirehub.ws;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.we.hirehub.dto.chat.LiveChatDto;
+import com.we.hirehub.ws.bus.BusEnvelope;
+import com.we.hirehub.ws.bus.ChatBus;
+import com.we.hirehub.ws.bus.RoomAffinity;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongFunction;
+
+/**
+ * /topic/rooms/{roomId} 전송 단일 창구
+ * - 모든 방 프레임에 seq를 붙이고 RoomReplayBuffer에 기록한 뒤 전송
+ * - 노드가 여러 개면 방 소유 노드(RoomAffinity)만 seq를 발급하고, ChatBus로 다른 노드 구독자에게 팬아웃
+ *   · 소유 노드가 아니면 seq 없이 소유 노드로 전달(FORWARD) → 소유 노드가 seq 발급 후 전체 전파(ROOM)
+ *   · 받은 노드는 같은 방 메일박스에서 버퍼 기록 + 로컬 전송 → 노드마다 같은 순서
+ * - 프레임은 한 번만 JSON 직렬화해서 로컬 전송/버스 전파에 같이 사용, 바이너리 코덱은 FrameFanout이 코덱별 1회 인코딩
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomBroadcaster {
+
+    public static final String ROOM_PREFIX = "/topic/rooms/";
+
+    private final FrameFanout frameFanout;
+    private final RoomReplayBuffer replayBuffer;
+    private final RoomMailboxExecutor roomMailbox;
+    private final ChatBus bus;
+    private final ObjectMapper objectMapper;
+
+    @PostConstruct
+    void init() {
+        bus.subscribe(this::onRemote);
+        log.info("🛰️ 채팅 버스 노드: {}", bus.nodeId());
+    }
+
+    /** Map 프레임 전송 (seq 필드 추가) */
+    public long send(String roomId, Map<String, Object> frame) {
+        return route(roomId, seq -> {
+            Map<String, Object> stamped = new HashMap<>(frame);
+            stamped.put("seq", seq);
+            return stamped;
+        });
+    }
+
+    /** 채팅 DTO 전송 (seq 필드 설정) */
+    public long send(String roomId, LiveChatDto dto) {
+        return route(roomId, seq -> {
+            dto.setSeq(seq);
+            return dto;
+        });
+    }
+
+    /** 방 외 토픽 전송 (대기 큐/프레즌스) - 로컬 구독자 + 다른 노드 */
+    public void sendTopic(String destination, Object frame) {
+        byte[] json = frameFanout.json(frame);
+        if (json == null) return;
+        frameFanout.deliver(destination, frame, json);
+        bus.publish(new BusEnvelope(BusEnvelope.Kind.TOPIC, bus.nodeId(), null, null, destination, 0, text(json)));
+    }
+
+    /** 휘발성 방 프레임 (입력 중/읽음 표시) - seq/재전송 버퍼 없이 로컬 구독자 + 다른 노드 */
+    public void sendEphemeral(String roomId, Map<String, Object> frame) {
+        sendTopic(ROOM_PREFIX + roomId, frame);
+    }
+
+    /** 이 노드 id (프레임 출처 표시용) */
+    public String nodeId() {
+        return bus.nodeId();
+    }
+
+    /**
+     * @return 발급된 seq (소유 노드로 넘긴 경우 0)
+     */
+    private long route(String roomId, LongFunction<Object> stamp) {
+        String owner = RoomAffinity.owner(roomId, bus.members());
+        if (owner == null || owner.equals(bus.nodeId())) {
+            return sequence(roomId, stamp);
+        }
+        byte[] json = frameFanout.json(stamp.apply(0));
+        if (json == null) return 0;
+        bus.publish(new BusEnvelope(BusEnvelope.Kind.FORWARD, bus.nodeId(), owner, roomId, ROOM_PREFIX + roomId, 0, text(json)));
+        return 0;
+    }
+
+    /** seq 발급 → 기록 → 로컬 전송 → 다른 노드 전파 */
+    private long sequence(String roomId, LongFunction<Object> stamp) {
+        String destination = ROOM_PREFIX + roomId;
+        long[] issued = new long[1];
+        return replayBuffer.append(roomId, seq -> {
+            issued[0] = seq;
+            return stamp.apply(seq);
+        }, f -> {
+            byte[] json = frameFanout.json(f);
+            if (json == null) return;
+            frameFanout.deliver(destination, f, json);
+            bus.publish(new BusEnvelope(BusEnvelope.Kind.ROOM, bus.nodeId(), null, roomId, destination, issued[0], text(json)));
+        });
+    }
+
+    /** 다른 노드에서 온 프레임 */
+    private void onRemote(BusEnvelope env) {
+        if (env.kind() == BusEnvelope.Kind.STATE) return;
+        JsonNode frame;
+        try {
+            frame = objectMapper.readTree(env.payload());
+        } catch (JsonProcessingException e) {
+            log.warn("⚠️ 버스 프레임 파싱 실패: origin={}, dest={}", env.origin(), env.destination());
+            return;
+        }
+        // FORWARD/ROOM은 방 메일박스가 가득 차면 버려짐 → 이 노드 구독자는 재전송(since)에서 빈틈을 DB 히스토리로 채움
+        switch (env.kind()) {
+            // 받은 JSON 바이트는 다시 직렬화하지 않고 그대로 전송
+            case TOPIC -> frameFanout.deliver(env.destination(), frame, env.payload().getBytes(StandardCharsets.UTF_8));
+            case FORWARD -> roomMailbox.execute(env.roomId(), () -> sequence(env.roomId(), seq -> {
+                ObjectNode stamped = ((ObjectNode) frame).deepCopy();
+                stamped.put("seq", seq);
+                return stamped;
+            }));
+            case ROOM -> roomMailbox.execute(env.roomId(), () -> {
+                replayBuffer.record(env.roomId(), env.seq(), frame);
+                frameFanout.deliver(env.destination(), frame, env.payload().getBytes(StandardCharsets.UTF_8));
+            });
+            case STATE -> { }   // 위에서 걸러짐 (SupportQueue가 직접 반영)
+        }
+    }
+
+    private static String text(byte[] json) {
+        return new String(json, StandardCharsets.UTF_8);
+    }
+}
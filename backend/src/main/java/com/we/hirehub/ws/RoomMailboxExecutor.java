@@ -0,0 +1,152 @@
+package com.we.hirehub.ws;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 방 단위 단일 작성자(single-writer) 메일박스 실행기
+ * - roomId 해시로 고정 개수의 메일박스 중 하나에 배정
+ * - 같은 메일박스의 작업은 도착 순서대로 한 번에 하나씩만 실행 → 같은 방의 상태 변경/저장/전송 순서 보장
+ * - 서로 다른 메일박스는 워커 풀에서 병렬 실행
+ * - 방마다 대기 작업 수 상한(room-capacity) → 넘치면 투입 거절(false), 호출하는 쪽이 오류 프레임 등으로 처리
+ *   (메일박스 단위가 아니라 방 단위라서 같은 메일박스를 쓰는 다른 방은 영향 없음)
+ * - 워커는 throughput개 또는 slice-ms 중 먼저 닿는 쪽에서 양보 → DB 저장이 느린 방이 워커를 오래 잡지 않음
+ */
+@Slf4j
+@Component
+public class RoomMailboxExecutor {
+
+    private final Mailbox[] mailboxes;
+    private final int throughput;
+    private final long sliceNanos;
+    private final int roomCapacity;
+    private final ExecutorService workers;
+
+    /** 방별 대기 작업 수 (0이 되면 항목 제거) */
+    private final Map<String, Integer> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger totalPending = new AtomicInteger();
+    private final Counter rejected;
+
+    public RoomMailboxExecutor(MeterRegistry registry,
+                               @Value("${app.chat.mailbox.count:1024}") int count,
+                               @Value("${app.chat.mailbox.threads:0}") int threads,
+                               @Value("${app.chat.mailbox.throughput:32}") int throughput,
+                               @Value("${app.chat.mailbox.slice-ms:50}") long sliceMs,
+                               @Value("${app.chat.mailbox.room-capacity:256}") int roomCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors() * 2;
+        AtomicInteger seq = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(poolSize, r -> {
+            Thread t = new Thread(r, "room-mailbox-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.throughput = throughput;
+        this.sliceNanos = TimeUnit.MILLISECONDS.toNanos(sliceMs);
+        this.roomCapacity = roomCapacity;
+        this.mailboxes = new Mailbox[count];
+        for (int i = 0; i < count; i++) {
+            mailboxes[i] = new Mailbox();
+        }
+        Gauge.builder("chat.mailbox.pending", totalPending, AtomicInteger::get).register(registry);
+        this.rejected = Counter.builder("chat.mailbox.rejected").register(registry);
+    }
+
+    /**
+     * roomId 메일박스에 작업 투입 (호출 스레드는 바로 반환)
+     * @return 방 대기열이 가득 차서 버렸으면 false
+     */
+    public boolean execute(String roomId, Runnable task) {
+        if (!reserve(roomId)) {
+            rejected.increment();
+            log.warn("⚠️ 방 메일박스 가득 참 → 작업 거절: roomId={}, capacity={}", roomId, roomCapacity);
+            return false;
+        }
+        mailboxes[Math.floorMod(roomId.hashCode(), mailboxes.length)].enqueue(roomId, task);
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("⚠️ 메일박스 워커 종료 대기 시간 초과");
+            workers.shutdownNow();
+        }
+    }
+
+    // ===== Private Helper Methods =====
+
+    private boolean reserve(String roomId) {
+        boolean[] ok = new boolean[1];
+        pending.compute(roomId, (k, n) -> {
+            int current = (n == null) ? 0 : n;
+            if (current >= roomCapacity) return n;
+            ok[0] = true;
+            return current + 1;
+        });
+        if (ok[0]) totalPending.incrementAndGet();
+        return ok[0];
+    }
+
+    private void release(String roomId) {
+        pending.computeIfPresent(roomId, (k, n) -> n <= 1 ? null : n - 1);
+        totalPending.decrementAndGet();
+    }
+
+    /** 메일박스 하나 = 동시에 최대 1개 스레드만 실행 */
+    private final class Mailbox implements Runnable {
+        private final Queue<Task> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        void enqueue(String roomId, Runnable task) {
+            queue.offer(new Task(roomId, task));
+            trySchedule();
+        }
+
+        private void trySchedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                workers.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                // throughput개 또는 시간 조각을 다 쓰면 양보 (다른 메일박스 굶주림 방지)
+                long deadline = System.nanoTime() + sliceNanos;
+                for (int i = 0; i < throughput; i++) {
+                    Task task = queue.poll();
+                    if (task == null) break;
+                    try {
+                        task.runnable().run();
+                    } catch (Exception e) {
+                        log.error("❌ 메일박스 작업 실패: roomId={}", task.roomId(), e);
+                    } finally {
+                        release(task.roomId());
+                    }
+                    if (System.nanoTime() - deadline > 0) break;
+                }
+            } finally {
+                scheduled.set(false);
+                if (!queue.isEmpty()) trySchedule();
+            }
+        }
+    }
+
+    private record Task(String roomId, Runnable runnable) {}
+}
@@ -0,0 +1,128 @@
+package com.we.hirehub.ws;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * 방별 메시지 순번(seq) + 최근 프레임 링버퍼
+ * - /topic/rooms/{roomId} 로 나가는 모든 프레임에 방 단위로 단조 증가하는 seq 부여
+ * - 최근 capacity개 프레임만 메모리에 유지 (방당 고정 크기)
+ * - 재접속한 클라이언트는 마지막으로 본 seq 이후 프레임만 받음 → 범위를 벗어나면 DB 조회로 대체
+ */
+@Slf4j
+@Component
+public class RoomReplayBuffer {
+
+    private final int capacity;
+    private final long idleMillis;
+    private final Map<String, RoomLog> rooms = new ConcurrentHashMap<>();
+
+    public RoomReplayBuffer(@Value("${app.chat.replay.capacity:128}") int capacity,
+                            @Value("${app.chat.replay.idle-minutes:30}") long idleMinutes) {
+        this.capacity = capacity;
+        this.idleMillis = idleMinutes * 60_000L;
+    }
+
+    /**
+     * 재전송 결과
+     * @param headSeq  현재 방의 마지막 seq
+     * @param frames   lastSeq 이후 프레임 (complete=false면 비어 있음)
+     * @param complete 버퍼만으로 빈틈을 채울 수 있는지 여부
+     */
+    public record Replay(long headSeq, List<Object> frames, boolean complete) {}
+
+    /** 방 하나의 링버퍼 */
+    private static final class RoomLog {
+        final Object[] ring;
+        long head;            // 마지막으로 발급한 seq (0 = 아직 없음)
+        volatile long lastAppendAt = System.currentTimeMillis();
+
+        RoomLog(int capacity) {
+            this.ring = new Object[capacity];
+        }
+
+        synchronized long append(LongFunction<Object> stamp, Consumer<Object> deliver) {
+            long seq = ++head;
+            Object frame = stamp.apply(seq);
+            ring[(int) (seq % ring.length)] = frame;
+            lastAppendAt = System.currentTimeMillis();
+            // 발급 순서 = 전송 순서가 되도록 락 안에서 전송
+            deliver.accept(frame);
+            return seq;
+        }
+
+        /** 다른 노드가 발급한 seq 그대로 기록 (건너뛴 칸은 비움 → 재전송 불가로 처리) */
+        synchronized void record(long seq, Object frame) {
+            if (seq <= head - ring.length) return;
+            for (long s = head + 1; s < seq; s++) {
+                ring[(int) (s % ring.length)] = null;
+            }
+            ring[(int) (seq % ring.length)] = frame;
+            head = Math.max(head, seq);
+            lastAppendAt = System.currentTimeMillis();
+        }
+
+        synchronized Replay since(long lastSeq) {
+            if (lastSeq == head) return new Replay(head, Collections.emptyList(), true);
+            // 서버 재시작 등으로 seq가 되돌아갔거나, 버퍼 범위를 벗어남
+            if (lastSeq > head || head - lastSeq > ring.length) {
+                return new Replay(head, Collections.emptyList(), false);
+            }
+            List<Object> frames = new ArrayList<>((int) (head - lastSeq));
+            for (long seq = lastSeq + 1; seq <= head; seq++) {
+                Object frame = ring[(int) (seq % ring.length)];
+                if (frame == null) return new Replay(head, Collections.emptyList(), false);
+                frames.add(frame);
+            }
+            return new Replay(head, frames, true);
+        }
+    }
+
+    /**
+     * seq 발급 → 프레임 기록 → 전송을 방 단위로 원자적으로 수행
+     * @param stamp   발급된 seq를 받아 실제로 보낼 프레임을 만든다
+     * @param deliver 프레임 전송
+     */
+    public long append(String roomId, LongFunction<Object> stamp, Consumer<Object> deliver) {
+        return rooms.computeIfAbsent(roomId, k -> new RoomLog(capacity)).append(stamp, deliver);
+    }
+
+    /** 다른 노드(방 소유 노드)가 seq를 발급한 프레임 기록 */
+    public void record(String roomId, long seq, Object frame) {
+        rooms.computeIfAbsent(roomId, k -> new RoomLog(capacity)).record(seq, frame);
+    }
+
+    /** lastSeq 이후 놓친 프레임 */
+    public Replay since(String roomId, long lastSeq) {
+        RoomLog roomLog = rooms.get(roomId);
+        if (roomLog == null) {
+            return new Replay(0, Collections.emptyList(), lastSeq == 0);
+        }
+        return roomLog.since(lastSeq);
+    }
+
+    public void evict(String roomId) {
+        rooms.remove(roomId);
+    }
+
+    /** 오래 조용한 방 버퍼 정리 */
+    @Scheduled(fixedDelayString = "${app.chat.replay.sweep-ms:300000}")
+    public void sweep() {
+        long cutoff = System.currentTimeMillis() - idleMillis;
+        int before = rooms.size();
+        rooms.entrySet().removeIf(e -> e.getValue().lastAppendAt < cutoff);
+        if (rooms.size() != before) {
+            log.debug("🧹 재전송 버퍼 정리: {} → {}", before, rooms.size());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.we.hirehub.ws;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 입력 중 표시 / 읽음 표시 (휘발성 방 프레임)
+ * - 클라이언트는 입력 중 신호를 몇 초에 한 번만 보냄 (키 입력마다 X)
+ * - 서버는 상태가 바뀐 경우(입력 시작/종료, 읽음 위치 전진)만 방 단위로 모아 윈도우마다 SIGNALS 프레임 1개 전송
+ * - 입력 중 상태는 ttl 동안 갱신이 없으면 자동 종료
+ * - seq 부여/재전송 버퍼/DB 저장 대상 아님 (읽음 위치만 ReadReceiptStore로 write-behind)
+ */
+@Slf4j
+@Component
+public class RoomSignals {
+
+    private final RoomBroadcaster roomBroadcaster;
+    private final ReadReceiptStore readReceipts;
+    private final long typingTtlMs;
+
+    private record Typing(String who, String role, boolean typing) {}
+
+    /** 방 하나의 다음 윈도우 전송분 (참여자 단위 마지막 상태만) */
+    private static final class Pending {
+        final Map<String, Typing> typing = new ConcurrentHashMap<>();
+        final Map<String, ReadReceiptStore.Mark> read = new ConcurrentHashMap<>();
+    }
+
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+    // 현재 입력 중인 참여자 (roomId → who → 역할/만료 시각)
+    private record Active(String role, long until) {}
+    private final Map<String, Map<String, Active>> typingUntil = new ConcurrentHashMap<>();
+
+    public RoomSignals(RoomBroadcaster roomBroadcaster,
+                       ReadReceiptStore readReceipts,
+                       @Value("${app.chat.signals.typing-ttl-ms:6000}") long typingTtlMs) {
+        this.roomBroadcaster = roomBroadcaster;
+        this.readReceipts = readReceipts;
+        this.typingTtlMs = typingTtlMs;
+    }
+
+    /** 입력 중 신호 (이미 입력 중이면 만료 시각만 연장, 프레임 없음) */
+    public void typing(String roomId, String who, String role, boolean typing) {
+        Map<String, Active> room = typingUntil.computeIfAbsent(roomId, k -> new ConcurrentHashMap<>());
+        if (typing) {
+            Active prev = room.put(who, new Active(role, System.currentTimeMillis() + typingTtlMs));
+            if (prev == null) queue(roomId).typing.put(who, new Typing(who, role, true));
+        } else if (room.remove(who) != null) {
+            queue(roomId).typing.put(who, new Typing(who, role, false));
+        }
+    }
+
+    /** 읽음 위치 신호 (전진한 경우만 전송) */
+    public void read(String roomId, String who, String role, long lastReadId) {
+        if (readReceipts.advance(roomId, who, role, lastReadId)) {
+            // 메시지를 보냈거나 읽었으면 입력 중 종료로 간주
+            typing(roomId, who, role, false);
+            queue(roomId).read.put(who, new ReadReceiptStore.Mark(who, role, lastReadId));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.signals.window-ms:300}")
+    public void flush() {
+        expireTyping();
+        if (pending.isEmpty()) return;
+
+        for (String roomId : pending.keySet()) {
+            Pending p = pending.remove(roomId);
+            if (p == null || (p.typing.isEmpty() && p.read.isEmpty())) continue;
+
+            Map<String, Object> frame = new HashMap<>();
+            frame.put("type", "SIGNALS");
+            frame.put("roomId", roomId);
+            frame.put("typing", new ArrayList<>(p.typing.values()));
+            frame.put("read", new ArrayList<>(p.read.values()));
+            roomBroadcaster.sendEphemeral(roomId, frame);
+        }
+    }
+
+    /** 방이 비었을 때 정리 */
+    public void evict(String roomId) {
+        typingUntil.remove(roomId);
+        pending.remove(roomId);
+        readReceipts.evict(roomId);
+    }
+
+    // ===== Private Helper Methods =====
+
+    private Pending queue(String roomId) {
+        return pending.computeIfAbsent(roomId, k -> new Pending());
+    }
+
+    /** ttl 동안 갱신 없는 입력 중 상태 → 종료 프레임 */
+    private void expireTyping() {
+        long now = System.currentTimeMillis();
+        typingUntil.forEach((roomId, room) -> {
+            room.forEach((who, active) -> {
+                if (active.until() < now && room.remove(who, active)) {
+                    queue(roomId).typing.put(who, new Typing(who, active.role(), false));
+                }
+            });
+            if (room.isEmpty()) typingUntil.remove(roomId, room);
+        });
+    }
+}
@@ -1,26 +1,137 @@
 package com.we.hirehub.ws;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.we.hirehub.ws.bus.BusEnvelope;
+import com.we.hirehub.ws.bus.ChatBus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 
+/**
+ * 상담 방 상태 (핸드오프 요청/수락, 유저 이름)
+ * - 상태 변경(요청/수락/해제)은 ChatBus STATE 이벤트로 다른 노드에도 전파 → 모든 노드가 같은 상태를 가짐
+ *   (다른 노드의 상담사가 수락해도 유저 이름이 유지되고, 요청 노드의 대기 큐 스냅샷에서도 빠짐)
+ * - 받은 노드도 해당 방 메일박스에서 반영 (단일 작성자 유지)
+ */
+@Slf4j
 @Component
+@RequiredArgsConstructor
 public class SupportQueue {
 
+    static final String STATE_DESTINATION = "support.state";
+
+    private final ChatBus bus;
+    private final RoomMailboxExecutor roomMailbox;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 방 상태
+     * - 쓰기는 RoomMailboxExecutor의 해당 방 메일박스 안에서만 한다 (단일 작성자)
+     * - 대기 큐 스냅샷 등 다른 스레드의 읽기를 위해 volatile
+     */
     public static class RoomState {
-        public boolean handoffRequested = false;
-        public boolean handoffAccepted = false;
-        public String userName = "user";
-        public String userNickname = "user"; // ✅ 닉네임 필드 추가
+        public volatile boolean handoffRequested = false;
+        public volatile boolean handoffAccepted = false;
+        public volatile String userName = "user";
+        public volatile String userNickname = "user"; // ✅ 닉네임 필드 추가
+        public volatile String node;                  // 핸드오프를 요청받은 노드 (노드가 사라지면 대기 큐에서 제외)
     }
 
     private final ConcurrentHashMap<String, RoomState> rooms = new ConcurrentHashMap<>();
 
+    @PostConstruct
+    void init() {
+        bus.subscribe(env -> {
+            if (env.kind() != BusEnvelope.Kind.STATE || env.roomId() == null) return;
+            if (!roomMailbox.execute(env.roomId(), () -> applyRemote(env))) {
+                log.warn("⚠️ 원격 방 상태 반영 실패 (방 대기열 초과): roomId={}, origin={}", env.roomId(), env.origin());
+            }
+        });
+    }
+
     public RoomState state(String roomId) {
         return rooms.computeIfAbsent(roomId, k -> new RoomState());
     }
 
-    public void remove(String roomId) {
-        rooms.remove(roomId);
+    /** 핸드오프 요청 (메일박스 안에서 호출) */
+    public void requested(String roomId, String userName, String userNickname) {
+        apply(roomId, "REQUESTED", userName, userNickname, bus.nodeId());
+        publish(roomId, "REQUESTED", userName, userNickname);
+    }
+
+    /** 상담사 수락 (메일박스 안에서 호출) */
+    public void accepted(String roomId) {
+        apply(roomId, "ACCEPTED", null, null, null);
+        publish(roomId, "ACCEPTED", null, null);
+    }
+
+    /** 유저/상담사 연결 해제 → 요청/수락 모두 해제 (메일박스 안에서 호출) */
+    public void released(String roomId) {
+        apply(roomId, "RELEASED", null, null, null);
+        publish(roomId, "RELEASED", null, null);
+    }
+
+    /** 진행 중인 핸드오프가 없으면 메모리에서 정리 (다른 노드에서 진행 중인 방은 유지) */
+    public void removeIfIdle(String roomId) {
+        rooms.computeIfPresent(roomId, (k, s) -> (s.handoffRequested || s.handoffAccepted) ? s : null);
+    }
+
+    /** 핸드오프 요청 후 아직 수락되지 않은 방 */
+    public void forEachWaiting(BiConsumer<String, RoomState> action) {
+        rooms.forEach((roomId, s) -> {
+            if (s.handoffRequested && !s.handoffAccepted) action.accept(roomId, s);
+        });
+    }
+
+    // ===== Private Helper Methods =====
+
+    private void apply(String roomId, String op, String userName, String userNickname, String node) {
+        RoomState s = state(roomId);
+        switch (op) {
+            case "REQUESTED" -> {
+                s.userName = userName;
+                s.userNickname = userNickname;
+                s.node = node;
+                s.handoffAccepted = false;
+                s.handoffRequested = true;
+            }
+            case "ACCEPTED" -> s.handoffAccepted = true;
+            case "RELEASED" -> {
+                s.handoffRequested = false;
+                s.handoffAccepted = false;
+            }
+            default -> log.warn("⚠️ 알 수 없는 방 상태 이벤트: {}", op);
+        }
+    }
+
+    private void publish(String roomId, String op, String userName, String userNickname) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("op", op);
+        payload.put("userName", userName);
+        payload.put("userNickname", userNickname);
+        try {
+            bus.publish(new BusEnvelope(BusEnvelope.Kind.STATE, bus.nodeId(), null, roomId, STATE_DESTINATION, 0,
+                    objectMapper.writeValueAsString(payload)));
+        } catch (JsonProcessingException e) {
+            log.warn("⚠️ 방 상태 이벤트 직렬화 실패: roomId={}", roomId);
+        }
+    }
+
+    private void applyRemote(BusEnvelope env) {
+        try {
+            JsonNode p = objectMapper.readTree(env.payload());
+            apply(env.roomId(), p.path("op").asText(),
+                    p.path("userName").asText("user"), p.path("userNickname").asText("user"), env.origin());
+        } catch (JsonProcessingException e) {
+            log.warn("⚠️ 원격 방 상태 파싱 실패: origin={}, roomId={}", env.origin(), env.roomId());
+        }
     }
 }
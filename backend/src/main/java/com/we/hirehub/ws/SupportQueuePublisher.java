@@ -0,0 +1,137 @@
+package com.we.hirehub.ws;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.we.hirehub.ws.bus.BusEnvelope;
+import com.we.hirehub.ws.bus.ChatBus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상담사 대시보드 대기 큐(/topic/support.queue) 묶음 전송
+ * - 핸드오프 요청/해제마다 바로 보내지 않고 짧은 윈도우 동안 방 단위로 모아서(마지막 상태만 유지)
+ * - 윈도우마다 변경분 프레임 1개만 전송 → 팬아웃 비용이 이벤트 수가 아니라 윈도우 수에 비례
+ * - 늦게 들어온 상담사는 /app/support.queue 구독으로 스냅샷을 받고, version 이후 델타만 적용
+ * - version은 노드별로 따로 증가 → 프레임의 node 필드로 구분
+ * - 방 상태는 SupportQueue가 모든 노드에 복제 → 스냅샷은 로컬 SupportQueue만 보면 됨 (사라진 노드가 받은 요청은 제외)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SupportQueuePublisher {
+
+    public static final String QUEUE_TOPIC = "/topic/support.queue";
+
+    private final RoomBroadcaster roomBroadcaster;
+    private final SupportQueue supportQueue;
+    private final ChatBus bus;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, QueueEvent> pending = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    // 다른 노드의 마지막 델타 version (스냅샷 이후 델타 판별용)
+    private final Map<String, Long> remoteVersions = new ConcurrentHashMap<>();
+
+    /** 방 단위 최종 상태 (waiting=false 면 큐에서 제거) */
+    private record QueueEvent(String roomId, boolean waiting, String userName, String userNickname) {}
+
+    @PostConstruct
+    void init() {
+        bus.subscribe(env -> {
+            if (env.kind() == BusEnvelope.Kind.TOPIC && QUEUE_TOPIC.equals(env.destination())) {
+                applyRemote(env);
+            }
+        });
+    }
+
+    /** 핸드오프 요청 → 대기 큐에 추가 */
+    public void requested(String roomId, String userName, String userNickname) {
+        pending.put(roomId, new QueueEvent(roomId, true, userName, userNickname));
+    }
+
+    /** 수락/연결 해제 → 대기 큐에서 제거 */
+    public void removed(String roomId) {
+        pending.put(roomId, new QueueEvent(roomId, false, null, null));
+    }
+
+    @Scheduled(fixedDelayString = "${app.support.queue.window-ms:250}")
+    public void flush() {
+        if (!remoteVersions.isEmpty()) {
+            remoteVersions.keySet().retainAll(bus.members());
+        }
+        if (pending.isEmpty()) return;
+
+        List<Map<String, Object>> upserts = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        for (String roomId : pending.keySet()) {
+            QueueEvent e = pending.remove(roomId);
+            if (e == null) continue;
+            if (e.waiting()) {
+                upserts.add(entry(e.roomId(), e.userName(), e.userNickname()));
+            } else {
+                removed.add(e.roomId());
+            }
+        }
+        if (upserts.isEmpty() && removed.isEmpty()) return;
+
+        Map<String, Object> frame = new HashMap<>();
+        frame.put("event", "QUEUE_DELTA");
+        frame.put("version", version.incrementAndGet());
+        frame.put("upserts", upserts);
+        frame.put("removed", removed);
+        frame.put("node", bus.nodeId());
+        roomBroadcaster.sendTopic(QUEUE_TOPIC, frame);
+        log.debug("📤 대기 큐 델타 전송: upserts={}, removed={}", upserts.size(), removed.size());
+    }
+
+    /** 현재 대기 중인 방 전체 (늦게 접속한 상담사용) */
+    public Map<String, Object> snapshot() {
+        long v = version.get();
+        List<Map<String, Object>> rooms = new ArrayList<>();
+        List<String> members = bus.members();
+        supportQueue.forEachWaiting((roomId, s) -> {
+            if (s.node == null || members.contains(s.node)) rooms.add(entry(roomId, s.userName, s.userNickname));
+        });
+
+        Map<String, Long> versions = new HashMap<>(remoteVersions);
+        versions.put(bus.nodeId(), v);
+
+        Map<String, Object> frame = new HashMap<>();
+        frame.put("event", "QUEUE_SNAPSHOT");
+        frame.put("version", v);
+        frame.put("node", bus.nodeId());
+        frame.put("versions", versions);
+        frame.put("rooms", rooms);
+        return frame;
+    }
+
+    /** 다른 노드 델타의 version 기록 (로컬 구독자 전달은 RoomBroadcaster, 방 상태는 SupportQueue가 처리) */
+    private void applyRemote(BusEnvelope env) {
+        try {
+            JsonNode delta = objectMapper.readTree(env.payload());
+            remoteVersions.merge(env.origin(), delta.path("version").asLong(), Math::max);
+        } catch (JsonProcessingException e) {
+            log.warn("⚠️ 원격 대기 큐 델타 파싱 실패: origin={}", env.origin());
+        }
+    }
+
+    private static Map<String, Object> entry(String roomId, String userName, String userNickname) {
+        Map<String, Object> m = new HashMap<>();
+        m.put("roomId", roomId);
+        m.put("userName", userName != null ? userName : "user");
+        m.put("userNickname", userNickname != null ? userNickname : "user");
+        return m;
+    }
+}
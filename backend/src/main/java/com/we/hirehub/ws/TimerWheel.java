@@ -0,0 +1,104 @@
+package com.we.hirehub.ws;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 해시드 타이머 휠 (만료 관리용)
+ * - 키마다 마감 시각(deadline)만 들고 있고, 슬롯에는 키만 넣어둔다.
+ * - schedule()로 마감을 연장해도 슬롯을 옮기지 않는다 → 하트비트 갱신은 O(1)
+ * - advance()가 현재 틱의 슬롯만 훑으면서 아직 남은 키는 새 슬롯으로 옮기고(lazy), 지난 키만 반환
+ * - 전체 세션을 주기적으로 스캔하지 않는다
+ *
+ * schedule/cancel은 아무 스레드에서나 호출 가능, advance는 단일 스레드(스케줄러)에서만 호출한다.
+ */
+public class TimerWheel<K> {
+
+    private final long tickMs;
+    private final int mask;
+    private final List<Set<K>> slots;
+    private final ConcurrentHashMap<K, Long> deadlines = new ConcurrentHashMap<>();
+
+    private long lastTick = -1;
+
+    public TimerWheel(long tickMs, int slotCount) {
+        if (tickMs <= 0) throw new IllegalArgumentException("tickMs must be positive");
+        if (slotCount <= 0 || Integer.bitCount(slotCount) != 1) {
+            throw new IllegalArgumentException("slotCount must be a power of two");
+        }
+        this.tickMs = tickMs;
+        this.mask = slotCount - 1;
+        List<Set<K>> s = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            s.add(ConcurrentHashMap.newKeySet());
+        }
+        this.slots = List.copyOf(s);
+    }
+
+    /** 마감 시각 등록/연장 (이미 등록된 키는 deadline만 갱신) */
+    public void schedule(K key, long deadlineMs) {
+        Long prev = deadlines.put(key, deadlineMs);
+        if (prev == null) {
+            slotFor(deadlineMs).add(key);
+        }
+    }
+
+    /** 등록 해제 (슬롯에 남은 키는 advance에서 정리됨) */
+    public void cancel(K key) {
+        deadlines.remove(key);
+    }
+
+    public boolean isScheduled(K key) {
+        return deadlines.containsKey(key);
+    }
+
+    public int size() {
+        return deadlines.size();
+    }
+
+    /**
+     * nowMs까지 지난 틱들을 처리하고 만료된 키 목록을 반환
+     * - 만료된 키는 휠에서 제거된 상태로 반환된다
+     */
+    public List<K> advance(long nowMs) {
+        long nowTick = nowMs / tickMs;
+        if (lastTick < 0) lastTick = nowTick - 1;
+
+        List<K> expired = new ArrayList<>();
+        List<K> carried = new ArrayList<>();
+        long from = Math.max(lastTick + 1, nowTick - mask);
+        for (long t = from; t <= nowTick; t++) {
+            Set<K> slot = slots.get((int) (t & mask));
+            Iterator<K> it = slot.iterator();
+            while (it.hasNext()) {
+                K key = it.next();
+                it.remove();
+
+                Long deadline = deadlines.get(key);
+                if (deadline == null) continue; // 취소된 키
+
+                if (deadline <= nowMs && deadlines.remove(key, deadline)) {
+                    expired.add(key);
+                } else {
+                    // 아직 남았거나, 방금 다른 스레드가 연장함 → 순회가 끝난 뒤 재배치
+                    carried.add(key);
+                }
+            }
+        }
+
+        long nextTickStart = (nowTick + 1) * tickMs;
+        for (K key : carried) {
+            Long current = deadlines.get(key);
+            if (current != null) slotFor(Math.max(current, nextTickStart)).add(key);
+        }
+        lastTick = nowTick;
+        return expired;
+    }
+
+    private Set<K> slotFor(long deadlineMs) {
+        return slots.get((int) ((deadlineMs / tickMs) & mask));
+    }
+}
@@ -0,0 +1,22 @@
+package com.we.hirehub.ws.bus;
+
+/**
+ * 노드 간 전달 단위
+ * @param kind        FORWARD(방 소유 노드로 전달, seq 미부여) / ROOM(seq 부여된 방 프레임) / TOPIC(방 외 토픽)
+ *                    / STATE(상담 방 상태 변경, 구독자 전송 없이 각 노드 SupportQueue에 반영)
+ * @param origin      보낸 노드
+ * @param target      받을 노드 (null이면 나머지 전체)
+ * @param roomId      방 프레임이면 roomId
+ * @param destination STOMP 목적지
+ * @param seq         ROOM일 때 방 seq
+ * @param payload     JSON 프레임
+ */
+public record BusEnvelope(Kind kind, String origin, String target, String roomId,
+                          String destination, long seq, String payload) {
+
+    public enum Kind { FORWARD, ROOM, TOPIC, STATE }
+
+    public boolean isFor(String nodeId) {
+        return !nodeId.equals(origin) && (target == null || target.equals(nodeId));
+    }
+}
@@ -0,0 +1,25 @@
+package com.we.hirehub.ws.bus;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 채팅 팬아웃 버스
+ * - simple broker는 같은 JVM의 구독자에게만 전달하므로, 다른 노드 구독자에게는 이 버스로 전파
+ * - 구현: LoopbackChatBus(메모리, 단일 노드/테스트), JdbcChatBus(DB 테이블 폴링, 클러스터)
+ * - app.chat.bus.type 으로 선택 (기본 loopback)
+ */
+public interface ChatBus {
+
+    /** 이 노드 id */
+    String nodeId();
+
+    /** 현재 살아있는 노드 목록 (자기 자신 포함, 정렬됨) */
+    List<String> members();
+
+    /** 다른 노드로 전파 (자기 자신에게는 전달하지 않음) */
+    void publish(BusEnvelope envelope);
+
+    /** 다른 노드에서 온 메시지 수신 */
+    void subscribe(Consumer<BusEnvelope> listener);
+}
@@ -0,0 +1,224 @@
+package com.we.hirehub.ws.bus;
+
+import com.we.hirehub.entity.ChatBusEvent;
+import com.we.hirehub.entity.ChatBusNode;
+import com.we.hirehub.repository.ChatBusEventRepository;
+import com.we.hirehub.repository.ChatBusNodeRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * DB 테이블(chat_bus_event) 기반 버스 - 별도 브로커 없이 같은 MySQL을 쓰는 노드끼리 팬아웃
+ * - publish는 아웃박스 큐에 넣기만 하고, 펌프 틱마다 saveAll로 한 번에 기록 (메일박스 스레드에서 DB 대기 없음)
+ * - 같은 틱에서 워터마크 이후 이벤트를 id 순으로 읽어 전달 (페이지가 가득 차면 이어서 더 읽음)
+ *   · IDENTITY id는 커밋 순서와 다를 수 있음 → 워터마크를 넘기면서 건너뛴 id는 빈칸(gap)으로 기억하고
+ *     gap-grace-ms 동안 id IN (...)으로 다시 확인해 늦게 커밋된 이벤트도 전달 (그 뒤엔 롤백/삭제된 것으로 보고 포기)
+ * - chat_bus_node 하트비트로 살아있는 노드 목록 유지 → 방 소유 노드 계산에 사용
+ * - 오래된 이벤트는 주기적으로 삭제 (재전송은 RoomReplayBuffer/DB가 담당하므로 짧게만 보관)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.chat.bus.type", havingValue = "jdbc")
+public class JdbcChatBus implements ChatBus {
+
+    private static final int MAX_GAPS = 10_000;
+    private static final int MAX_PAGES_PER_TICK = 20;
+
+    private final ChatBusEventRepository eventRepository;
+    private final ChatBusNodeRepository nodeRepository;
+    private final String nodeId;
+    private final int batchSize;
+    private final long nodeTtlMs;
+    private final long retentionMs;
+    private final long gapGraceMs;
+
+    private final Queue<ChatBusEvent> outbox = new ConcurrentLinkedQueue<>();
+    private final List<Consumer<BusEnvelope>> listeners = new CopyOnWriteArrayList<>();
+    private volatile List<String> members;
+
+    // pump()에서만 접근
+    private long watermark;
+    /** 워터마크 아래에서 아직 못 받은 id → 처음 건너뛴 시각 (삽입 순서 = id 순서) */
+    private final Map<Long, Long> gaps = new LinkedHashMap<>();
+
+    public JdbcChatBus(ChatBusEventRepository eventRepository,
+                       ChatBusNodeRepository nodeRepository,
+                       @Value("${app.chat.bus.node-id:}") String nodeId,
+                       @Value("${app.chat.bus.batch-size:500}") int batchSize,
+                       @Value("${app.chat.bus.node-ttl-ms:15000}") long nodeTtlMs,
+                       @Value("${app.chat.bus.retention-ms:60000}") long retentionMs,
+                       @Value("${app.chat.bus.gap-grace-ms:10000}") long gapGraceMs) {
+        this.eventRepository = eventRepository;
+        this.nodeRepository = nodeRepository;
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.batchSize = batchSize;
+        this.nodeTtlMs = nodeTtlMs;
+        this.retentionMs = retentionMs;
+        this.gapGraceMs = gapGraceMs;
+        this.members = List.of(this.nodeId);
+    }
+
+    @PostConstruct
+    void init() {
+        // 기동 전에 쌓인 이벤트는 받지 않음
+        watermark = eventRepository.findMaxId();
+        heartbeat();
+        log.info("🛰️ JDBC 채팅 버스 시작: node={}, watermark={}", nodeId, watermark);
+    }
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public List<String> members() {
+        return members;
+    }
+
+    @Override
+    public void publish(BusEnvelope envelope) {
+        // 다른 노드가 없으면 기록할 필요 없음
+        if (members.size() <= 1) return;
+        outbox.offer(ChatBusEvent.builder()
+                .kind(envelope.kind().name())
+                .originNode(envelope.origin())
+                .targetNode(envelope.target())
+                .roomId(envelope.roomId())
+                .destination(envelope.destination())
+                .seq(envelope.seq())
+                .payload(envelope.payload())
+                .createAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Override
+    public void subscribe(Consumer<BusEnvelope> listener) {
+        listeners.add(listener);
+    }
+
+    /** 아웃박스 기록 + 새 이벤트 전달 */
+    @Scheduled(fixedDelayString = "${app.chat.bus.poll-ms:100}")
+    public void pump() {
+        try {
+            flushOutbox();
+            poll();
+        } catch (Exception e) {
+            log.error("❌ 채팅 버스 펌프 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.bus.heartbeat-ms:5000}")
+    public void heartbeat() {
+        LocalDateTime now = LocalDateTime.now();
+        nodeRepository.save(new ChatBusNode(nodeId, now));
+
+        List<String> alive = new ArrayList<>();
+        for (ChatBusNode node : nodeRepository.findByLastSeenAfter(now.minusNanos(nodeTtlMs * 1_000_000))) {
+            alive.add(node.getNodeId());
+        }
+        if (!alive.contains(nodeId)) alive.add(nodeId);
+        Collections.sort(alive);
+        if (!alive.equals(members)) {
+            log.info("🛰️ 채팅 버스 노드 변경: {} → {}", members, alive);
+        }
+        members = List.copyOf(alive);
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.bus.cleanup-ms:30000}")
+    public void cleanup() {
+        int deleted = eventRepository.deleteOlderThan(LocalDateTime.now().minusNanos(retentionMs * 1_000_000));
+        if (deleted > 0) {
+            log.debug("🧹 채팅 버스 이벤트 정리: {}건", deleted);
+        }
+    }
+
+    // ===== Private Helper Methods =====
+
+    private void flushOutbox() {
+        if (outbox.isEmpty()) return;
+        List<ChatBusEvent> batch = new ArrayList<>();
+        ChatBusEvent e;
+        while (batch.size() < batchSize && (e = outbox.poll()) != null) {
+            batch.add(e);
+        }
+        eventRepository.saveAll(batch);
+    }
+
+    private void poll() {
+        long now = System.currentTimeMillis();
+        pollGaps(now);
+
+        for (int page = 0; page < MAX_PAGES_PER_TICK; page++) {
+            List<ChatBusEvent> events = eventRepository.findAfter(watermark, PageRequest.of(0, batchSize));
+            for (ChatBusEvent e : events) {
+                // 건너뛴 id = 아직 커밋 안 된(또는 롤백된) 이벤트
+                for (long id = Math.max(watermark + 1, e.getId() - MAX_GAPS); id < e.getId(); id++) {
+                    gaps.put(id, now);
+                }
+                watermark = e.getId();
+                deliver(e);
+            }
+            if (events.size() < batchSize) break;
+        }
+
+        // 빈칸이 너무 많으면 오래된 것부터 포기
+        Iterator<Long> it = gaps.keySet().iterator();
+        while (gaps.size() > MAX_GAPS && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    /** 늦게 커밋된 빈칸 이벤트 확인 */
+    private void pollGaps(long now) {
+        if (gaps.isEmpty()) return;
+        gaps.values().removeIf(firstSkipped -> now - firstSkipped > gapGraceMs);
+
+        List<Long> ids = new ArrayList<>(gaps.keySet());
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + batchSize));
+            for (ChatBusEvent e : eventRepository.findByIdInOrderByIdAsc(chunk)) {
+                if (gaps.remove(e.getId()) != null) {
+                    log.debug("🛰️ 늦게 커밋된 버스 이벤트 전달: id={}, watermark={}", e.getId(), watermark);
+                    deliver(e);
+                }
+            }
+        }
+    }
+
+    private void deliver(ChatBusEvent e) {
+        BusEnvelope env = new BusEnvelope(BusEnvelope.Kind.valueOf(e.getKind()), e.getOriginNode(),
+                e.getTargetNode(), e.getRoomId(), e.getDestination(), e.getSeq(), e.getPayload());
+        if (!env.isFor(nodeId)) return;
+        for (Consumer<BusEnvelope> listener : listeners) {
+            try {
+                listener.accept(env);
+            } catch (Exception ex) {
+                log.error("❌ 채팅 버스 수신 처리 실패: id={}", e.getId(), ex);
+            }
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,64 @@
+package com.we.hirehub.ws.bus;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 메모리 버스 (기본값)
+ * - 단일 노드 운영: 다른 노드가 없으므로 publish는 아무 곳에도 가지 않음
+ * - 테스트: 같은 Hub를 공유하는 인스턴스끼리 여러 노드처럼 주고받음
+ */
+@Component
+@ConditionalOnProperty(name = "app.chat.bus.type", havingValue = "loopback", matchIfMissing = true)
+public class LoopbackChatBus implements ChatBus {
+
+    /** 같은 JVM 안의 노드들을 잇는 허브 */
+    public static final class Hub {
+        private final List<LoopbackChatBus> nodes = new CopyOnWriteArrayList<>();
+    }
+
+    private final String nodeId;
+    private final Hub hub;
+    private final List<Consumer<BusEnvelope>> listeners = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    public LoopbackChatBus(@Value("${app.chat.bus.node-id:local}") String nodeId) {
+        this(nodeId, new Hub());
+    }
+
+    public LoopbackChatBus(String nodeId, Hub hub) {
+        this.nodeId = nodeId;
+        this.hub = hub;
+        hub.nodes.add(this);
+    }
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public List<String> members() {
+        return hub.nodes.stream().map(n -> n.nodeId).sorted().toList();
+    }
+
+    @Override
+    public void publish(BusEnvelope envelope) {
+        for (LoopbackChatBus node : hub.nodes) {
+            if (envelope.isFor(node.nodeId)) {
+                node.listeners.forEach(l -> l.accept(envelope));
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<BusEnvelope> listener) {
+        listeners.add(listener);
+    }
+}
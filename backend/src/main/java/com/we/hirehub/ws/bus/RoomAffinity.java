@@ -0,0 +1,38 @@
+package com.we.hirehub.ws.bus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 방 소유 노드 결정 (rendezvous hashing)
+ * - 노드가 추가/제거돼도 그 노드가 맡던 방만 옮겨감
+ * - 소유 노드가 방 seq를 발급하므로 노드가 여러 개여도 방 안의 순서가 하나로 유지됨
+ */
+public final class RoomAffinity {
+
+    private RoomAffinity() {}
+
+    public static String owner(String roomId, List<String> members) {
+        String best = null;
+        long bestScore = Long.MIN_VALUE;
+        for (String node : members) {
+            long score = score(node, roomId);
+            if (score > bestScore) {
+                bestScore = score;
+                best = node;
+            }
+        }
+        return best;
+    }
+
+    private static long score(String node, String roomId) {
+        CRC32 crc = new CRC32();
+        crc.update(node.getBytes(StandardCharsets.UTF_8));
+        crc.update(0);
+        crc.update(roomId.getBytes(StandardCharsets.UTF_8));
+        // CRC 결과를 한 번 더 섞어서 분포 보정
+        long h = crc.getValue() * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 31);
+    }
+}
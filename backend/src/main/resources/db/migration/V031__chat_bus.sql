@@ -0,0 +1,23 @@
+-- [user-031] 노드 간 채팅 버스 (app.chat.bus.type=jdbc 일 때 사용, 엔티티: ChatBusEvent / ChatBusNode)
+-- aws 프로필은 ddl-auto: validate → 배포 전에 이 디렉터리 스크립트를 파일명(V 번호) 순서대로 먼저 실행
+-- local 프로필은 ddl-auto: update 가 같은 스키마를 생성함
+
+CREATE TABLE IF NOT EXISTS chat_bus_event (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    kind        VARCHAR(16)  NOT NULL,
+    origin_node VARCHAR(64)  NOT NULL,
+    target_node VARCHAR(64),
+    room_id     VARCHAR(255),
+    destination VARCHAR(255) NOT NULL,
+    seq         BIGINT       NOT NULL,
+    payload     LONGTEXT     NOT NULL,
+    create_at   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_chat_bus_event_create_at (create_at)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS chat_bus_node (
+    node_id   VARCHAR(64) NOT NULL,
+    last_seen DATETIME(6) NOT NULL,
+    PRIMARY KEY (node_id)
+) ENGINE = InnoDB;
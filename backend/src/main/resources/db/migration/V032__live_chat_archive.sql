@@ -0,0 +1,24 @@
+-- [user-032] 상담 채팅 보관본 (엔티티: LiveChatArchive, Session.archivedAt)
+-- aws 프로필은 ddl-auto: validate → 배포 전에 이 디렉터리 스크립트를 파일명(V 번호) 순서대로 먼저 실행
+-- local 프로필은 ddl-auto: update 가 같은 스키마를 생성함
+
+CREATE TABLE IF NOT EXISTS live_chat_archive (
+    session_id      VARCHAR(255) NOT NULL,
+    codec           VARCHAR(32)  NOT NULL,
+    data            LONGBLOB     NOT NULL,
+    message_count   INT          NOT NULL,
+    raw_bytes       INT,
+    first_at        DATETIME(6),
+    last_at         DATETIME(6),
+    last_message_id BIGINT,
+    archived_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (session_id)
+) ENGINE = InnoDB;
+
+-- 보관본이 있는 세션 표시 (null이면 히스토리 조회 때 live_chat_archive를 읽지 않음)
+ALTER TABLE session ADD COLUMN archived_at DATETIME(6);
+
+-- 이미 보관된 세션 채우기
+UPDATE session s
+    JOIN live_chat_archive a ON a.session_id = s.id
+SET s.archived_at = a.archived_at;
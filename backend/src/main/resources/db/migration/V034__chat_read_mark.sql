@@ -0,0 +1,14 @@
+-- [user-034] 상담 채팅 참여자별 읽음 위치 (엔티티: ChatReadMark, ReadReceiptStore가 ON DUPLICATE KEY UPDATE로 기록)
+-- aws 프로필은 ddl-auto: validate → 배포 전에 이 디렉터리 스크립트를 파일명(V 번호) 순서대로 먼저 실행
+-- local 프로필은 ddl-auto: update 가 같은 스키마를 생성함
+
+CREATE TABLE IF NOT EXISTS chat_read_mark (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    session_id   VARCHAR(255) NOT NULL,
+    participant  VARCHAR(128) NOT NULL,
+    role         VARCHAR(16)  NOT NULL,
+    last_read_id BIGINT       NOT NULL,
+    updated_at   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_chat_read_mark (session_id, participant)
+) ENGINE = InnoDB;
@@ -0,0 +1,16 @@
+-- [user-035] 상담 세션 목록 요약 (엔티티: ChatSessionSummary, 비어 있으면 기동 시 live_chat으로 초기 적재)
+-- aws 프로필은 ddl-auto: validate → 배포 전에 이 디렉터리 스크립트를 파일명(V 번호) 순서대로 먼저 실행
+-- local 프로필은 ddl-auto: update 가 같은 스키마를 생성함
+
+CREATE TABLE IF NOT EXISTS chat_session_summary (
+    session_id       VARCHAR(255) NOT NULL,
+    last_message_id  BIGINT,
+    last_message_at  DATETIME(6),
+    last_preview     VARCHAR(200),
+    last_sender_role VARCHAR(16),
+    message_count    BIGINT       NOT NULL,
+    unread_user      INT          NOT NULL,
+    unread_agent     INT          NOT NULL,
+    PRIMARY KEY (session_id),
+    INDEX idx_chat_session_summary_recent (last_message_at, session_id)
+) ENGINE = InnoDB;
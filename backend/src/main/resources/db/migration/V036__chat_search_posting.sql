@@ -0,0 +1,13 @@
+-- [user-036] 상담 기록 검색 역색인 (엔티티: ChatSearchPosting, 기동 시 색인된 최대 메시지 id 이후부터 자동으로 채움)
+-- aws 프로필은 ddl-auto: validate → 배포 전에 이 디렉터리 스크립트를 파일명(V 번호) 순서대로 먼저 실행
+-- local 프로필은 ddl-auto: update 가 같은 스키마를 생성함
+
+CREATE TABLE IF NOT EXISTS chat_search_posting (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    term       VARCHAR(64)  NOT NULL,
+    session_id VARCHAR(255) NOT NULL,
+    message_id BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_chat_search_posting (term, message_id),
+    INDEX idx_chat_search_posting_session (session_id)
+) ENGINE = InnoDB;
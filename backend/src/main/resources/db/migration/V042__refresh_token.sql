@@ -0,0 +1,28 @@
+-- [user-042] 리프레시 토큰 교체/재사용 감지 (엔티티: RefreshToken), 액세스 토큰 폐기 목록 (엔티티: RevokedToken)
+-- aws 프로필은 ddl-auto: validate → 배포 전에 이 디렉터리 스크립트를 파일명(V 번호) 순서대로 먼저 실행
+-- local 프로필은 ddl-auto: update 가 같은 스키마를 생성함
+
+CREATE TABLE IF NOT EXISTS refresh_token (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT      NOT NULL,
+    token_hash VARCHAR(64) NOT NULL,
+    family_id  VARCHAR(36) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    used_at    DATETIME(6),
+    revoked_at DATETIME(6),
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_refresh_token_hash (token_hash),
+    INDEX idx_refresh_token_user (user_id),
+    INDEX idx_refresh_token_family (family_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS revoked_token (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    kind       VARCHAR(8)  NOT NULL,
+    subject    VARCHAR(64) NOT NULL,
+    revoked_at DATETIME(6) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_revoked_token_expires (expires_at)
+) ENGINE = InnoDB;
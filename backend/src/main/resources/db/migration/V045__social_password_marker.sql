@@ -0,0 +1,7 @@
+-- [user-045] 소셜 가입자 더미 비밀번호를 "!social:{provider}" 표시로 통일 (엔티티: Users, AuthService.socialPassword)
+-- aws 프로필은 ddl-auto: validate → 배포 전에 이 디렉터리 스크립트를 파일명(V 번호) 순서대로 먼저 실행
+-- 스키마 변경 없음 (기존 행 값만 정리, 여러 번 실행해도 같은 결과)
+
+UPDATE users SET password = '!social:kakao'  WHERE password = 'kakao_user';
+UPDATE users SET password = '!social:naver'  WHERE password = 'naver_user';
+UPDATE users SET password = '!social:google' WHERE password = 'google_user';
@@ -0,0 +1,17 @@
+-- [user-049] 지원 시점 이력서 사본 (엔티티: ResumeSnapshot, 지원 1건당 1행, 이후 변경 없음)
+-- aws 프로필은 ddl-auto: validate → 배포 전에 이 디렉터리 스크립트를 파일명(V 번호) 순서대로 먼저 실행
+-- local 프로필은 ddl-auto: update 가 같은 스키마를 생성함 (아래 UPDATE는 수동 실행)
+
+CREATE TABLE IF NOT EXISTS resume_snapshot (
+    apply_id   BIGINT      NOT NULL,
+    resume_id  BIGINT      NOT NULL,
+    users_id   BIGINT      NOT NULL,
+    codec      VARCHAR(32) NOT NULL,
+    data       LONGBLOB    NOT NULL,
+    raw_bytes  INT,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (apply_id)
+) ENGINE = InnoDB;
+
+-- 사본이 있는 지원은 원본을 잠글 필요가 없음 → 예전 지원 흐름에서 잠긴 이력서 잠금 해제 (사본 없는 예전 지원은 그대로)
+UPDATE resume SET locked = 0 WHERE id IN (SELECT resume_id FROM resume_snapshot);
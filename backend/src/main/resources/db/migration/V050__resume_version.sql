@@ -0,0 +1,5 @@
+-- [user-050] 이력서 낙관적 잠금 버전 (엔티티: Resume.version, 자동 저장 PATCH / 수정 PUT의 If-Match)
+-- aws 프로필은 ddl-auto: validate → 배포 전에 이 디렉터리 스크립트를 파일명(V 번호) 순서대로 먼저 실행
+-- local 프로필은 ddl-auto: update 가 같은 스키마를 생성함
+
+ALTER TABLE resume ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,157 @@
+package com.we.hirehub.config;
+
+import com.we.hirehub.entity.RevokedToken;
+import com.we.hirehub.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TokenDenylistTest {
+
+    private final RevokedTokenRepository repository = mock(RevokedTokenRepository.class);
+    private final JwtTokenProvider tokenProvider =
+            new JwtTokenProvider("test-secret-test-secret-test-secret-0123456789", 100, 900);
+    private final TokenDenylist denylist = new TokenDenylist(repository, tokenProvider, 1 << 16, 60_000);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 다른_노드의_폐기분을_sync로_반영한다() {
+        long now = System.currentTimeMillis();
+        when(repository.findActiveAfter(anyLong(), any(), any())).thenReturn(List.of(
+                row(1L, "USER", "7", now, now + 60_000),
+                row(2L, "TOKEN", "jti-1", now, now + 60_000)));
+
+        denylist.sync();
+
+        assertThat(denylist.isRevoked(claims(7L, "other", now - 5_000))).isTrue();
+        assertThat(denylist.isRevoked(claims(8L, "jti-1", now))).isTrue();
+        assertThat(denylist.isRevoked(claims(8L, "jti-2", now))).isFalse();
+        // 폐기 이후(다음 초) 발급된 토큰은 통과
+        assertThat(denylist.isRevoked(claims(7L, "other", TokenDenylist.seconds(now) + 1_000))).isFalse();
+    }
+
+    @Test
+    void 폐기_시각과_같은_초에_발급된_토큰도_폐기로_본다() {
+        // DB가 ms까지 저장해도 JWT iat는 초 단위 → 절삭 후 비교
+        long revokedAt = TokenDenylist.seconds(System.currentTimeMillis()) + 400;
+        when(repository.findActiveAfter(anyLong(), any(), any())).thenReturn(List.of(
+                row(1L, "USER", "7", revokedAt, revokedAt + 60_000)));
+
+        denylist.sync();
+
+        assertThat(denylist.isRevoked(claims(7L, "a", TokenDenylist.seconds(revokedAt)))).isTrue();
+        assertThat(TokenDenylist.seconds(1_999L)).isEqualTo(1_000L);
+        assertThat(TokenDenylist.seconds(-1L)).isEqualTo(-1_000L);
+    }
+
+    @Test
+    void 트랜잭션_안의_폐기는_커밋된_뒤에만_반영한다() {
+        TransactionSynchronizationManager.initSynchronization();
+        long issuedAt = TokenDenylist.seconds(System.currentTimeMillis()) - 1_000;
+
+        denylist.revokeUser(7L);
+        assertThat(denylist.isRevoked(claims(7L, "a", issuedAt))).isFalse();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(denylist.isRevoked(claims(7L, "a", issuedAt))).isTrue();
+    }
+
+    @Test
+    void 롤백된_폐기는_반영하지_않는다() {
+        TransactionSynchronizationManager.initSynchronization();
+        long issuedAt = TokenDenylist.seconds(System.currentTimeMillis()) - 1_000;
+
+        denylist.revokeUser(7L);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(denylist.isRevoked(claims(7L, "a", issuedAt))).isFalse();
+    }
+
+    @Test
+    void 만료된_항목은_정리되고_남은_항목은_유지된다() {
+        long now = System.currentTimeMillis();
+        denylist.revokeToken(claims(1L, "expired", now - 10_000, now - 1));
+        denylist.revokeToken(claims(1L, "alive", now, now + 60_000));
+        when(repository.findActiveAfter(anyLong(), any(), any())).thenReturn(List.of());
+
+        denylist.sync();
+
+        assertThat(denylist.isRevoked(claims(2L, "expired", now))).isFalse();
+        assertThat(denylist.isRevoked(claims(2L, "alive", now))).isTrue();
+    }
+
+    @Test
+    void 필터_재구성_중에_추가된_폐기도_빠지지_않는다() throws Exception {
+        when(repository.findActiveAfter(anyLong(), any(), any())).thenReturn(List.of());
+        AtomicBoolean done = new AtomicBoolean();
+
+        // 매번 만료 항목을 넣어 sync마다 Bloom 필터를 다시 만들게 함
+        Thread rebuilder = new Thread(() -> {
+            int i = 0;
+            while (!done.get()) {
+                long now = System.currentTimeMillis();
+                denylist.revokeToken(claims(0L, "expired-" + i++, now - 10_000, now - 1));
+                denylist.sync();
+            }
+        });
+        rebuilder.start();
+        try {
+            for (long userId = 1; userId <= 2_000; userId++) {
+                denylist.revokeUser(userId);
+            }
+        } finally {
+            done.set(true);
+            rebuilder.join();
+        }
+
+        long issuedAt = TokenDenylist.seconds(System.currentTimeMillis()) - 60_000;
+        for (long userId = 1; userId <= 2_000; userId++) {
+            assertThat(denylist.isRevoked(claims(userId, "x", issuedAt))).as("userId=%d", userId).isTrue();
+        }
+    }
+
+    // ===== Private Helper Methods =====
+
+    private static JwtTokenProvider.VerifiedClaims claims(Long userId, String jti, long issuedAt) {
+        return claims(userId, jti, issuedAt, issuedAt + 900_000);
+    }
+
+    private static JwtTokenProvider.VerifiedClaims claims(Long userId, String jti, long issuedAt, long expiresAt) {
+        return new JwtTokenProvider.VerifiedClaims(userId, "u" + userId + "@hirehub.com", jti,
+                TokenDenylist.seconds(issuedAt), expiresAt);
+    }
+
+    private static RevokedToken row(Long id, String kind, String subject, long revokedAt, long expiresAt) {
+        return RevokedToken.builder()
+                .id(id)
+                .kind(kind)
+                .subject(subject)
+                .revokedAt(toLocal(revokedAt))
+                .expiresAt(toLocal(expiresAt))
+                .build();
+    }
+
+    private static LocalDateTime toLocal(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,130 @@
+package com.we.hirehub.controller;
+
+import com.we.hirehub.config.JwtTokenProvider;
+import com.we.hirehub.config.TokenDenylist;
+import com.we.hirehub.entity.RefreshToken;
+import com.we.hirehub.entity.Role;
+import com.we.hirehub.entity.Users;
+import com.we.hirehub.repository.RefreshTokenRepository;
+import com.we.hirehub.repository.UsersRepository;
+import com.we.hirehub.service.AuthService;
+import com.we.hirehub.service.RefreshTokenService;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+class AuthRestControllerRefreshTest {
+
+    private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+    private final UsersRepository usersRepository = mock(UsersRepository.class);
+    private final JwtTokenProvider tokenProvider =
+            new JwtTokenProvider("test-secret-test-secret-test-secret-0123456789", 100, 900);
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        RefreshTokenService refreshTokenService =
+                new RefreshTokenService(refreshTokenRepository, usersRepository, tokenProvider, 14, 10, true);
+        AuthRestController controller = new AuthRestController(mock(AuthenticationManager.class), tokenProvider,
+                usersRepository, mock(AuthService.class), refreshTokenService, mock(TokenDenylist.class));
+        mvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        when(usersRepository.findById(1L)).thenReturn(Optional.of(
+                Users.builder().id(1L).email("user@hirehub.com").role(Role.USER).build()));
+    }
+
+    @Test
+    void 교체에_성공하면_새_쿠키를_내려준다() throws Exception {
+        givenStored(null);
+        when(refreshTokenRepository.markUsed(eq(10L), any())).thenReturn(1);
+
+        MvcResult res = refresh();
+
+        assertThat(res.getResponse().getStatus()).isEqualTo(200);
+        assertThat(res.getResponse().getHeader(HttpHeaders.SET_COOKIE))
+                .startsWith(RefreshTokenService.COOKIE_NAME + "=")
+                .doesNotContain("Max-Age=0");
+    }
+
+    @Test
+    void grace_안의_동시_교체는_409이고_쿠키를_건드리지_않는다() throws Exception {
+        // 다른 탭이 방금 같은 토큰으로 교체 → 그 탭이 받은 새 쿠키가 지워지면 안 됨
+        givenStored(LocalDateTime.now().minusSeconds(1));
+
+        MvcResult res = refresh();
+
+        assertThat(res.getResponse().getStatus()).isEqualTo(409);
+        assertThat(res.getResponse().getHeaders(HttpHeaders.SET_COOKIE)).isEmpty();
+        verify(refreshTokenRepository, never()).revokeFamily(anyString(), any());
+    }
+
+    @Test
+    void 동시_교체에서_사용_처리에_진_요청도_409다() throws Exception {
+        givenStored(null);
+        when(refreshTokenRepository.markUsed(anyLong(), any())).thenReturn(0);
+
+        MvcResult res = refresh();
+
+        assertThat(res.getResponse().getStatus()).isEqualTo(409);
+        assertThat(res.getResponse().getHeaders(HttpHeaders.SET_COOKIE)).isEmpty();
+    }
+
+    @Test
+    void grace_이후_재사용은_401이고_쿠키를_지운다() throws Exception {
+        givenStored(LocalDateTime.now().minusMinutes(1));
+
+        MvcResult res = refresh();
+
+        assertThat(res.getResponse().getStatus()).isEqualTo(401);
+        assertThat(res.getResponse().getHeader(HttpHeaders.SET_COOKIE)).contains("Max-Age=0");
+        verify(refreshTokenRepository).revokeFamily(eq("family-1"), any());
+    }
+
+    @Test
+    void 모르는_토큰은_401이고_쿠키를_지운다() throws Exception {
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+        MvcResult res = refresh();
+
+        assertThat(res.getResponse().getStatus()).isEqualTo(401);
+        assertThat(res.getResponse().getHeader(HttpHeaders.SET_COOKIE)).contains("Max-Age=0");
+    }
+
+    // ===== Private Helper Methods =====
+
+    private MvcResult refresh() throws Exception {
+        return mvc.perform(post("/api/auth/refresh").cookie(new Cookie(RefreshTokenService.COOKIE_NAME, "old-raw")))
+                .andReturn();
+    }
+
+    private void givenStored(LocalDateTime usedAt) {
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(RefreshToken.builder()
+                .id(10L)
+                .userId(1L)
+                .tokenHash("hash")
+                .familyId("family-1")
+                .createdAt(LocalDateTime.now().minusHours(1))
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .usedAt(usedAt)
+                .build()));
+    }
+}
@@ -0,0 +1,63 @@
+package com.we.hirehub.moderation;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BannedWordMatcherTest {
+
+    private final BannedWordMatcher matcher = BannedWordMatcher.compile(
+            List.of("시발", "병신", "fuck"),
+            List.of("시발점", "병신년"));
+
+    @Test
+    void 금칙어와_자모_변형을_가린다() {
+        assertThat(matcher.matches("아 시발")).isTrue();
+        assertThat(matcher.matches("시ㅂㅏㄹ")).isTrue();
+        assertThat(matcher.matches("FUCK")).isTrue();
+        assertThat(matcher.mask("아 시발 진짜", '*')).isEqualTo("아 ** 진짜");
+    }
+
+    @Test
+    void 허용_단어_안의_금칙어는_통과한다() {
+        assertThat(matcher.matches("그게 모든 일의 시발점이었다")).isFalse();
+        assertThat(matcher.matches("1956년은 병신년")).isFalse();
+
+        String text = "시발점에서 출발";
+        assertThat(matcher.mask(text, '*')).isSameAs(text);
+    }
+
+    @Test
+    void 허용_단어와_겹쳐도_밖으로_나간_금칙어는_가린다() {
+        // 허용 단어와 같은 문장에 있는 별개의 금칙어
+        assertThat(matcher.mask("시발점 얘기하다 시발", '*')).isEqualTo("시발점 얘기하다 **");
+        // 허용 단어 일부만 쓴 경우 / 공백으로 끊은 경우
+        assertThat(matcher.matches("시발저")).isTrue();
+        assertThat(matcher.matches("시발 점")).isTrue();
+        assertThat(matcher.matches("병신같은")).isTrue();
+    }
+
+    @Test
+    void 허용_단어가_없으면_기존과_같다() {
+        BannedWordMatcher plain = BannedWordMatcher.compile(List.of("시발"));
+        assertThat(plain.matches("시발점")).isTrue();
+        assertThat(plain.mask("시발점", '*')).isEqualTo("**점");
+    }
+
+    @Test
+    void 기본_목록_파일로_시발점은_통과한다() {
+        ModerationFilter filter = new ModerationFilter(new DefaultResourceLoader(),
+                "classpath:moderation/banned-words.txt",
+                "classpath:moderation/allowed-words.txt",
+                true);
+        filter.init();
+
+        assertThat(filter.isClean("출발점이자 시발점")).isTrue();
+        assertThat(filter.isClean("시발")).isFalse();
+        assertThat(filter.isClean("씨발점")).isFalse();   // 허용 단어가 아닌 변형
+        assertThat(filter.mask("시발점 말고 시발")).isEqualTo("시발점 말고 **");
+    }
+}
@@ -0,0 +1,172 @@
+package com.we.hirehub.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.we.hirehub.config.TokenDenylist;
+import com.we.hirehub.dto.resume.ResumePatchResponse;
+import com.we.hirehub.dto.resume.ResumeUpsertRequest;
+import com.we.hirehub.entity.Resume;
+import com.we.hirehub.entity.Users;
+import com.we.hirehub.exception.ResumeVersionConflictException;
+import com.we.hirehub.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MyPageServicePatchTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long RESUME_ID = 10L;
+    private static final String HTML =
+            "{\"education\":[],\"career\":[],\"certificate\":[],\"skill\":[{\"name\":\"Java\"}],\"language\":[]}";
+
+    private final ObjectMapper om = new ObjectMapper().findAndRegisterModules();
+    private final ResumeRepository resumeRepository = mock(ResumeRepository.class);
+    private final ResumeSectionWriter sectionWriter = mock(ResumeSectionWriter.class);
+    private final UsersRepository usersRepository = mock(UsersRepository.class);
+    private MyPageService service;
+    private Resume resume;
+
+    @BeforeEach
+    void setUp() {
+        service = new MyPageService(
+                resumeRepository, usersRepository,
+                mock(ApplyRepository.class), mock(FavoriteCompanyRepository.class), mock(JobPostsRepository.class),
+                mock(CompanyRepository.class), mock(EducationRepository.class), mock(CareerLevelRepository.class),
+                mock(CertificateRepository.class), mock(SkillRepository.class), mock(LanguageRepository.class),
+                usersRepository, mock(ResumeSectionLoader.class), sectionWriter, mock(ResumeSnapshotService.class),
+                mock(S3Client.class), mock(TokenDenylist.class), mock(RefreshTokenService.class),
+                mock(UserSummaryCache.class), om);
+
+        resume = Resume.builder()
+                .id(RESUME_ID)
+                .title("이력서")
+                .essayTittle("자기소개서")
+                .essayContent("안녕하세요")
+                .htmlContent(HTML)
+                .createAt(LocalDate.now().minusDays(3))
+                .updateAt(LocalDate.now().minusDays(1))
+                .users(Users.builder().id(USER_ID).email("user@hirehub.com").build())
+                .version(2)
+                .build();
+        when(resumeRepository.findByIdAndUsers_Id(RESUME_ID, USER_ID)).thenReturn(Optional.of(resume));
+    }
+
+    @Test
+    void 버전이_다르면_패치를_거절한다() {
+        assertThatThrownBy(() -> service.patch(USER_ID, RESUME_ID, 1, ops("[{\"op\":\"replace\",\"path\":\"/title\",\"value\":\"새 제목\"}]")))
+                .isInstanceOf(ResumeVersionConflictException.class)
+                .extracting(e -> ((ResumeVersionConflictException) e).getCurrentVersion())
+                .isEqualTo(2L);
+
+        assertThat(resume.getTitle()).isEqualTo("이력서");
+        verify(sectionWriter, never()).write(anyLong(), any());
+    }
+
+    @Test
+    void 수정_PUT도_If_Match_버전이_다르면_거절한다() {
+        ResumeUpsertRequest req = new ResumeUpsertRequest();
+        req.setTitle("새 제목");
+        req.setEssayContent("내용");
+
+        assertThatThrownBy(() -> service.update(USER_ID, RESUME_ID, 1L, req))
+                .isInstanceOf(ResumeVersionConflictException.class);
+
+        assertThat(resume.getTitle()).isEqualTo("이력서");
+        verify(sectionWriter, never()).write(anyLong(), any());
+    }
+
+    @Test
+    void 섹션_필수_값이_빠지면_저장하지_않고_거절한다() {
+        assertThatThrownBy(() -> service.patch(USER_ID, RESUME_ID, 2,
+                ops("[{\"op\":\"add\",\"path\":\"/education/-\",\"value\":{\"major\":\"x\"}}]")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("education[0].name");
+
+        assertThatThrownBy(() -> service.patch(USER_ID, RESUME_ID, 2,
+                ops("[{\"op\":\"add\",\"path\":\"/education/-\",\"value\":"
+                        + "{\"name\":\"한국대\",\"status\":\"졸업\",\"type\":\"대학교\",\"startAt\":\"2020-03\"}}]")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("startAt");
+
+        assertThatThrownBy(() -> service.patch(USER_ID, RESUME_ID, 2,
+                ops("[{\"op\":\"replace\",\"path\":\"/skill/0/name\",\"value\":\" \"}]")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("skill[0].name");
+
+        assertThat(resume.getHtmlContent()).isEqualTo(HTML);
+        verify(sectionWriter, never()).write(anyLong(), any());
+    }
+
+    @Test
+    void 이력서_행은_섹션을_쓰기_전에_모두_바꿔둔다() {
+        // 섹션 저장 중 자동 flush가 일어나도 resume UPDATE가 한 번으로 끝나야 함
+        AtomicReference<String> titleAtWrite = new AtomicReference<>();
+        AtomicReference<String> htmlAtWrite = new AtomicReference<>();
+        AtomicReference<LocalDate> updateAtWrite = new AtomicReference<>();
+        doAnswer(inv -> {
+            titleAtWrite.set(resume.getTitle());
+            htmlAtWrite.set(resume.getHtmlContent());
+            updateAtWrite.set(resume.getUpdateAt());
+            return null;
+        }).when(sectionWriter).write(eq(RESUME_ID), any());
+
+        ResumePatchResponse res = service.patch(USER_ID, RESUME_ID, 2, ops("["
+                + "{\"op\":\"replace\",\"path\":\"/title\",\"value\":\"새 제목\"},"
+                + "{\"op\":\"add\",\"path\":\"/skill/-\",\"value\":{\"name\":\"Spring\"}}]"));
+
+        assertThat(res.changed()).containsExactly("title", "skill");
+        assertThat(titleAtWrite.get()).isEqualTo("새 제목");
+        assertThat(htmlAtWrite.get()).contains("Spring");
+        assertThat(updateAtWrite.get()).isEqualTo(LocalDate.now());
+        verify(resumeRepository).flush();
+    }
+
+    @Test
+    void 섹션만_바뀐_패치도_htmlContent가_바뀌어_버전이_오른다() {
+        service.patch(USER_ID, RESUME_ID, 2, ops("[{\"op\":\"remove\",\"path\":\"/skill/0\"}]"));
+
+        assertThat(resume.getHtmlContent()).isNotEqualTo(HTML).contains("\"skill\":[]");
+        ArgumentCaptor<ResumeSectionWriter.Desired> desired = ArgumentCaptor.forClass(ResumeSectionWriter.Desired.class);
+        verify(sectionWriter).write(eq(RESUME_ID), desired.capture());
+        assertThat(desired.getValue().skill()).isEmpty();
+        assertThat(desired.getValue().education()).isNull();   // 안 바뀐 섹션은 건드리지 않음
+    }
+
+    @Test
+    void 바뀐_것이_없으면_저장하지_않는다() {
+        ResumePatchResponse res = service.patch(USER_ID, RESUME_ID, 2,
+                ops("[{\"op\":\"replace\",\"path\":\"/title\",\"value\":\"이력서\"}]"));
+
+        assertThat(res.changed()).isEmpty();
+        assertThat(res.version()).isEqualTo(2L);
+        assertThat(resume.getUpdateAt()).isEqualTo(LocalDate.now().minusDays(1));
+        verify(resumeRepository, never()).flush();
+    }
+
+    // ===== Private Helper Methods =====
+
+    private JsonNode ops(String json) {
+        try {
+            return om.readTree(json);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.we.hirehub.service;
+
+import com.we.hirehub.config.JwtTokenProvider;
+import com.we.hirehub.entity.RefreshToken;
+import com.we.hirehub.entity.Users;
+import com.we.hirehub.exception.RefreshTokenRaceException;
+import com.we.hirehub.repository.RefreshTokenRepository;
+import com.we.hirehub.repository.UsersRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenServiceTest {
+
+    private static final String FAMILY = "family-1";
+
+    private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+    private final UsersRepository usersRepository = mock(UsersRepository.class);
+    private final JwtTokenProvider tokenProvider =
+            new JwtTokenProvider("test-secret-test-secret-test-secret-0123456789", 100, 900);
+    private RefreshTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new RefreshTokenService(refreshTokenRepository, usersRepository, tokenProvider, 14, 10, true);
+        when(usersRepository.findById(1L))
+                .thenReturn(Optional.of(Users.builder().id(1L).email("user@hirehub.com").build()));
+    }
+
+    @Test
+    void 교체하면_같은_family로_새_토큰을_발급하고_이전_토큰은_사용_처리한다() {
+        givenStored(token(null, null, LocalDateTime.now().plusDays(1)));
+        when(refreshTokenRepository.markUsed(eq(10L), any())).thenReturn(1);
+
+        RefreshTokenService.Rotated rotated = service.rotate("old-raw");
+
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertThat(saved.getValue().getFamilyId()).isEqualTo(FAMILY);
+        assertThat(saved.getValue().getUserId()).isEqualTo(1L);
+        assertThat(rotated.refreshToken()).isNotEqualTo("old-raw");
+        assertThat(tokenProvider.verify(rotated.accessToken()).userId()).isEqualTo(1L);
+        verify(refreshTokenRepository, never()).revokeFamily(anyString(), any());
+    }
+
+    @Test
+    void grace_이후_재사용하면_family_전체를_폐기한다() {
+        givenStored(token(LocalDateTime.now().minusSeconds(30), null, LocalDateTime.now().plusDays(1)));
+
+        assertThatThrownBy(() -> service.rotate("old-raw"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("이미 사용된");
+
+        verify(refreshTokenRepository).revokeFamily(eq(FAMILY), any());
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void grace_안의_재사용은_재시도_대상으로_거절하고_family는_유지한다() {
+        givenStored(token(LocalDateTime.now().minusSeconds(2), null, LocalDateTime.now().plusDays(1)));
+
+        assertThatThrownBy(() -> service.rotate("old-raw")).isInstanceOf(RefreshTokenRaceException.class);
+
+        verify(refreshTokenRepository, never()).revokeFamily(anyString(), any());
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void 동시_교체에서_진_요청은_거절만_한다() {
+        // 조회 시점엔 미사용이었지만 다른 탭이 먼저 사용 처리
+        givenStored(token(null, null, LocalDateTime.now().plusDays(1)));
+        when(refreshTokenRepository.markUsed(anyLong(), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> service.rotate("old-raw")).isInstanceOf(RefreshTokenRaceException.class);
+
+        verify(refreshTokenRepository, never()).revokeFamily(anyString(), any());
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void 폐기되었거나_만료된_토큰은_거절한다() {
+        givenStored(token(null, LocalDateTime.now().minusMinutes(1), LocalDateTime.now().plusDays(1)));
+        assertThatThrownBy(() -> service.rotate("old-raw")).hasMessageContaining("폐기");
+
+        givenStored(token(null, null, LocalDateTime.now().minusSeconds(1)));
+        assertThatThrownBy(() -> service.rotate("old-raw")).hasMessageContaining("만료");
+
+        verify(refreshTokenRepository, never()).markUsed(anyLong(), any());
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void 없는_토큰은_거절한다() {
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.rotate("unknown")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.rotate(" ")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ===== Private Helper Methods =====
+
+    private void givenStored(RefreshToken token) {
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(token));
+    }
+
+    private static RefreshToken token(LocalDateTime usedAt, LocalDateTime revokedAt, LocalDateTime expiresAt) {
+        return RefreshToken.builder()
+                .id(10L)
+                .userId(1L)
+                .tokenHash("hash")
+                .familyId(FAMILY)
+                .createdAt(LocalDateTime.now().minusHours(1))
+                .expiresAt(expiresAt)
+                .usedAt(usedAt)
+                .revokedAt(revokedAt)
+                .build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.we.hirehub.service;
+
+import com.we.hirehub.entity.Education;
+import com.we.hirehub.entity.Skill;
+import com.we.hirehub.repository.*;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ResumeSectionWriterTest {
+
+    private static final Long RESUME_ID = 5L;
+
+    private final EducationRepository educationRepo = mock(EducationRepository.class);
+    private final CareerLevelRepository careerRepo = mock(CareerLevelRepository.class);
+    private final CertificateRepository certRepo = mock(CertificateRepository.class);
+    private final SkillRepository skillRepo = mock(SkillRepository.class);
+    private final LanguageRepository languageRepo = mock(LanguageRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ResumeSectionWriter writer =
+            new ResumeSectionWriter(educationRepo, careerRepo, certRepo, skillRepo, languageRepo, jdbcTemplate);
+
+    @Test
+    void 내용이_같으면_아무것도_쓰지_않는다() {
+        List<Skill> stored = List.of(skill(1L, "Java"), skill(2L, "Spring"));
+        when(skillRepo.findByResumeIdInOrderByIdAsc(List.of(RESUME_ID))).thenReturn(stored);
+
+        writer.write(RESUME_ID, skills(skill(null, "Java"), skill(null, "Spring")));
+
+        assertThat(stored).extracting(Skill::getName).containsExactly("Java", "Spring");
+        verify(skillRepo, never()).deleteAllByIdInBatch(any());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void 같은_위치에서_바뀐_행만_수정하고_남는_행은_한_번에_삭제한다() {
+        List<Skill> stored = List.of(skill(1L, "Java"), skill(2L, "Spring"), skill(3L, "JPA"), skill(4L, "MySQL"));
+        when(skillRepo.findByResumeIdInOrderByIdAsc(List.of(RESUME_ID))).thenReturn(stored);
+
+        writer.write(RESUME_ID, skills(skill(null, "Java"), skill(null, "Kotlin")));
+
+        assertThat(stored).extracting(Skill::getName).containsExactly("Java", "Kotlin", "JPA", "MySQL");
+        verify(skillRepo).deleteAllByIdInBatch(List.of(3L, 4L));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void 늘어난_행은_배치_INSERT_한_번으로_넣는다() {
+        when(skillRepo.findByResumeIdInOrderByIdAsc(List.of(RESUME_ID))).thenReturn(List.of(skill(1L, "Java")));
+
+        writer.write(RESUME_ID, skills(skill(null, "Java"), skill(null, "Redis"), skill(null, "Kafka")));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq("INSERT INTO skill (name, resume_id) VALUES (?, ?)"), rows.capture());
+        assertThat(rows.getValue()).containsExactly(new Object[]{"Redis", RESUME_ID}, new Object[]{"Kafka", RESUME_ID});
+        verify(skillRepo, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void 빈_목록이면_섹션_전체를_삭제하고_null_섹션은_조회도_하지_않는다() {
+        when(skillRepo.findByResumeIdInOrderByIdAsc(List.of(RESUME_ID)))
+                .thenReturn(List.of(skill(1L, "Java"), skill(2L, "Spring")));
+
+        writer.write(RESUME_ID, new ResumeSectionWriter.Desired(null, null, null, List.of(), null));
+
+        verify(skillRepo).deleteAllByIdInBatch(List.of(1L, 2L));
+        verifyNoInteractions(educationRepo, careerRepo, certRepo, languageRepo, jdbcTemplate);
+    }
+
+    @Test
+    void 여러_필드_섹션은_한_필드만_달라도_그_행을_수정한다() {
+        Education stored = education(1L, "한국대", "컴퓨터공학", LocalDate.of(2020, 3, 1));
+        Education same = education(2L, "서울고", null, LocalDate.of(2017, 3, 1));
+        when(educationRepo.findByResumeIdInOrderByIdAsc(List.of(RESUME_ID)))
+                .thenReturn(new ArrayList<>(List.of(stored, same)));
+
+        writer.write(RESUME_ID, new ResumeSectionWriter.Desired(
+                List.of(education(null, "한국대", "소프트웨어학", LocalDate.of(2020, 3, 1)),
+                        education(null, "서울고", null, LocalDate.of(2017, 3, 1))),
+                null, null, null, null));
+
+        assertThat(stored.getMajor()).isEqualTo("소프트웨어학");
+        assertThat(stored.getId()).isEqualTo(1L);
+        assertThat(same.getMajor()).isNull();
+        verify(educationRepo, never()).deleteAllByIdInBatch(any());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    // ===== Private Helper Methods =====
+
+    private static ResumeSectionWriter.Desired skills(Skill... skills) {
+        return new ResumeSectionWriter.Desired(null, null, null, List.of(skills), null);
+    }
+
+    private static Skill skill(Long id, String name) {
+        Skill s = new Skill();
+        s.setId(id);
+        s.setName(name);
+        return s;
+    }
+
+    private static Education education(Long id, String name, String major, LocalDate startAt) {
+        return Education.builder()
+                .id(id)
+                .name(name)
+                .major(major)
+                .status("졸업")
+                .type("대학교")
+                .startAt(startAt)
+                .endAt(startAt.plusYears(4))
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 import React, { useEffect, useRef, useState, useCallback } from "react";
 import SockJS from "sockjs-client";
 import { CompatClient, Stomp } from "@stomp/stompjs";
+import { getFreshToken } from "../../api/api";
 
 interface QueueItem {
   roomId: string;
@@ -9,6 +10,7 @@ interface QueueItem {
 }
 
 const MESSAGE_CLEANUP_INTERVAL = 5 * 60 * 1000; // 5분
+const TYPING_SIGNAL_INTERVAL = 2000; // 입력 중 신호 최소 간격 (키 입력마다 보내지 않음)
 
 const LiveSupport: React.FC = () => {
   const API_BASE_URL = import.meta.env.VITE_API_BASE_URL || '';
@@ -30,7 +32,12 @@ const LiveSupport: React.FC = () => {
     localStorage.getItem('agent-isUserConnected') === 'true'
   );
 
+  const [userTyping, setUserTyping] = useState(false);
+  const [userReadId, setUserReadId] = useState(0);
+  const [lastAgentMsgId, setLastAgentMsgId] = useState(0);
+
   const stompRef = useRef<CompatClient | null>(null);
+  const lastTypingSentRef = useRef(0);
   const roomSubRef = useRef<{ unsubscribe: () => void } | null>(null);
   const processedMessagesRef = useRef<Map<string, number>>(new Map());
   const cleanupIntervalRef = useRef<NodeJS.Timeout | null>(null);
@@ -83,6 +90,22 @@ const LiveSupport: React.FC = () => {
     };
   }, []);
 
+  // 입력 중/읽음 신호 전송 (저장되지 않는 휘발성 신호)
+  const sendSignal = useCallback((roomId: string, destination: string, body: object) => {
+    if (!stompRef.current?.connected) return;
+    stompRef.current.send(`/app/${destination}/${roomId}`, {}, JSON.stringify({ role: "AGENT", ...body }));
+  }, []);
+
+  // 입력 중/읽음 프레임 (중복 체크 대상 아님)
+  const handleSignals = useCallback((body: any) => {
+    (body.typing ?? []).forEach((t: any) => {
+      if (t.role === 'USER') setUserTyping(!!t.typing);
+    });
+    (body.read ?? []).forEach((r: any) => {
+      if (r.role === 'USER') setUserReadId(prev => Math.max(prev, r.lastReadId ?? 0));
+    });
+  }, []);
+
   // 방 구독
   const subscribeRoom = useCallback((roomId: string) => {
     if (!stompRef.current?.connected) {
@@ -100,9 +123,20 @@ const LiveSupport: React.FC = () => {
       roomSubRef.current = null;
     }
 
+    setUserTyping(false);
+    setUserReadId(0);
+    setLastAgentMsgId(0);
+
     roomSubRef.current = stompRef.current.subscribe(`/topic/rooms/${roomId}`, (frame) => {
       try {
         const body = JSON.parse(frame.body);
+        if (body.type === "SIGNALS") {
+          handleSignals(body);
+          return;
+        }
+        if (body.role === "USER" && typeof body.id === "number") {
+          sendSignal(roomId, "support.read", { lastReadId: body.id });
+        }
         const messageId = `agent-${body.type}-${body.role}-${body.text}`;
 
         if (isMessageProcessed(messageId)) return;
@@ -113,7 +147,18 @@ const LiveSupport: React.FC = () => {
         if (frame.body) setLogs(prev => [...prev, `[RAW] ${frame.body}`]);
       }
     });
-  }, [isMessageProcessed]);
+
+    // 유저 읽음 위치 1회 조회
+    stompRef.current.subscribe(`/app/rooms/${roomId}/reads`, (frame) => {
+      try {
+        const marks = JSON.parse(frame.body) as Array<{ role: string; lastReadId: number }>;
+        const userMax = marks.filter(m => m.role === 'USER').reduce((max, m) => Math.max(max, m.lastReadId), 0);
+        setUserReadId(prev => Math.max(prev, userMax));
+      } catch (e) {
+        console.error("읽음 위치 파싱 오류:", e);
+      }
+    });
+  }, [isMessageProcessed, handleSignals, sendSignal]);
 
   // 방 메시지 핸들러
   const handleRoomMessage = useCallback((body: any) => {
@@ -139,12 +184,43 @@ const LiveSupport: React.FC = () => {
           const role = body.role ?? "UNKNOWN";
           const prefix = role === "AGENT" ? "[나]" : `[${role}]`;
           setLogs(prev => [...prev, `${prefix} ${body.text}`]);
+          if (role === "AGENT" && typeof body.id === "number") setLastAgentMsgId(body.id);
+          if (role === "USER") setUserTyping(false);
         }
     }
   }, []);
 
+  // 노드별 마지막 version (서버가 여러 대면 노드마다 따로 증가)
+  const queueVersionRef = useRef<Record<string, number>>({});
+
+  const toQueueItem = (r: any): QueueItem => ({
+    roomId: r.roomId,
+    userName: r.userName || "user",
+    userNickname: r.userNickname || "user"
+  });
+
   // 큐 메시지 핸들러
   const handleQueueMessage = useCallback((body: any) => {
+    // 서버가 윈도우 단위로 묶어 보내는 스냅샷/델타
+    if (body.event === "QUEUE_SNAPSHOT") {
+      queueVersionRef.current = body.versions ?? { [body.node ?? ""]: body.version ?? 0 };
+      setQueue((body.rooms ?? []).map(toQueueItem));
+      return;
+    }
+    if (body.event === "QUEUE_DELTA") {
+      const node = body.node ?? "";
+      const seen = queueVersionRef.current[node] ?? 0;
+      if (typeof body.version === "number" && body.version <= seen) return;
+      queueVersionRef.current = { ...queueVersionRef.current, [node]: body.version ?? seen };
+      const removed = new Set<string>(body.removed ?? []);
+      const upserts: QueueItem[] = (body.upserts ?? []).map(toQueueItem);
+      setQueue(prev => {
+        const next = prev.filter(q => !removed.has(q.roomId) && !upserts.some(u => u.roomId === q.roomId));
+        return [...next, ...upserts];
+      });
+      return;
+    }
+
     if (body.event === "HANDOFF_REQUESTED" && body.roomId) {
       setQueue(prev => {
         if (prev.some(q => q.roomId === body.roomId)) {
@@ -168,45 +244,56 @@ const LiveSupport: React.FC = () => {
     const client = Stomp.over(sock);
     client.debug = () => {};
 
-    const token = localStorage.getItem("adminAccessToken") || 
-                  localStorage.getItem("accessToken") || 
-                  localStorage.getItem("token");
-    
-    const headers: Record<string, string> = {};
-    if (token) headers["Authorization"] = `Bearer ${token}`;
-
-    client.connect(
-      headers,
-      () => {
-        stompRef.current = client;
-
-        // 큐 구독
-        client.subscribe("/topic/support.queue", (frame) => {
-          try {
-            const body = JSON.parse(frame.body);
-            const messageId = `queue-${body.event}-${body.roomId}`;
+    let cancelled = false;
+    // ✅ CONNECT 직전에 토큰 갱신 (만료됐으면 리프레시) - ADMIN 인증이어야 서버가 상담사로 판단
+    getFreshToken().then((token) => {
+      if (cancelled) return;
+      const headers: Record<string, string> = {};
+      if (token) headers["Authorization"] = `Bearer ${token}`;
+
+      client.connect(
+        headers,
+        () => {
+          stompRef.current = client;
+
+          // 큐 구독
+          client.subscribe("/topic/support.queue", (frame) => {
+            try {
+              const body = JSON.parse(frame.body);
+              const messageId = `queue-${body.event}-${body.version ?? body.roomId}`;
             
-            if (isMessageProcessed(messageId)) return;
+              if (isMessageProcessed(messageId)) return;
             
-            handleQueueMessage(body);
-          } catch (e) {
-            console.error("큐 메시지 파싱 오류:", e);
+              handleQueueMessage(body);
+            } catch (e) {
+              console.error("큐 메시지 파싱 오류:", e);
+            }
+          });
+
+          // 현재 대기 큐 스냅샷 (1회 응답)
+          client.subscribe("/app/support.queue", (frame) => {
+            try {
+              handleQueueMessage(JSON.parse(frame.body));
+            } catch (e) {
+              console.error("큐 스냅샷 파싱 오류:", e);
+            }
+          });
+
+          // 활성 방 재구독
+          if (activeRoom) {
+            subscribeRoom(activeRoom);
+            setLogs(prev => [...prev, `[SYS] 연결이 복원되었습니다.`]);
           }
-        });
-
-        // 활성 방 재구독
-        if (activeRoom) {
-          subscribeRoom(activeRoom);
-          setLogs(prev => [...prev, `[SYS] 연결이 복원되었습니다.`]);
+        },
+        (err) => {
+          console.error("STOMP 연결 오류:", err);
+          setLogs(prev => [...prev, `[ERROR] WebSocket 연결 실패: ${err}`]);
         }
-      },
-      (err) => {
-        console.error("STOMP 연결 오류:", err);
-        setLogs(prev => [...prev, `[ERROR] WebSocket 연결 실패: ${err}`]);
-      }
-    );
+      );
+    });
 
     return () => {
+      cancelled = true;
       try {
         client.disconnect(() => {});
       } catch (e) {
@@ -252,7 +339,20 @@ const LiveSupport: React.FC = () => {
     );
 
     setInput("");
-  }, [activeRoom, input, isUserConnected]);
+    lastTypingSentRef.current = 0;
+    sendSignal(activeRoom, "support.typing", { typing: false });
+  }, [activeRoom, input, isUserConnected, sendSignal]);
+
+  // 입력 변경 → 입력 중 신호 (TYPING_SIGNAL_INTERVAL마다 최대 1번)
+  const handleInputChange = useCallback((value: string) => {
+    setInput(value);
+    if (!activeRoom || !isUserConnected || !value.trim()) return;
+    const now = Date.now();
+    if (now - lastTypingSentRef.current > TYPING_SIGNAL_INTERVAL) {
+      lastTypingSentRef.current = now;
+      sendSignal(activeRoom, "support.typing", { typing: true });
+    }
+  }, [activeRoom, isUserConnected, sendSignal]);
 
   // 연결 해제
   const disconnectFromUser = useCallback(() => {
@@ -354,12 +454,17 @@ const LiveSupport: React.FC = () => {
             )}
           </div>
 
+          <div className="h-5 mt-1 text-xs text-gray-500 flex justify-between">
+            <span>{isUserConnected && userTyping ? "유저가 입력 중..." : ""}</span>
+            <span>{lastAgentMsgId > 0 && userReadId >= lastAgentMsgId ? "✓ 유저가 읽음" : ""}</span>
+          </div>
+
           <div className="mt-2 space-y-2">
             <div className="flex gap-2">
               <input
                 className="flex-1 border rounded px-2 py-2 text-sm"
                 value={input}
-                onChange={(e) => setInput(e.target.value)}
+                onChange={(e) => handleInputChange(e.target.value)}
                 onKeyDown={(e) => {
                   if (e.key === "Enter" && isUserConnected) sendToRoom();
                 }}
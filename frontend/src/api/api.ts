@@ -46,10 +46,70 @@ api.interceptors.request.use(
   (error) => Promise.reject(error)
 );
 
+// ✅ 액세스 토큰 재발급 (HttpOnly 리프레시 쿠키 사용) - 동시에 여러 401이 와도 요청은 1번만
+let refreshing: Promise<string | null> | null = null;
+
+const REFRESH_RACE_RETRY_MS = 300;
+
+const postRefresh = () =>
+  axios.post(`${api.defaults.baseURL}/api/auth/refresh`, null, { withCredentials: true });
+
+const refreshAccessToken = (): Promise<string | null> => {
+  if (!refreshing) {
+    refreshing = postRefresh()
+      .catch((err) => {
+        // 409: 다른 탭이 같은 리프레시 토큰으로 방금 먼저 교체함 → 그 탭이 받은 새 쿠키로 한 번 더
+        if (err?.response?.status !== 409) throw err;
+        return new Promise((resolve) => setTimeout(resolve, REFRESH_RACE_RETRY_MS)).then(postRefresh);
+      })
+      .then((res) => {
+        const token: string = res.data.accessToken;
+        setAuthToken(token);
+        return token;
+      })
+      .catch(() => null)
+      .finally(() => {
+        refreshing = null;
+      });
+  }
+  return refreshing;
+};
+
+// ✅ axios 밖(STOMP CONNECT 헤더 등)에서 쓸 토큰 - 만료됐거나 곧 만료되면 먼저 리프레시
+const EXPIRY_MARGIN_MS = 30_000;
+
+const isExpiring = (token: string): boolean => {
+  try {
+    let payload = token.split('.')[1].replace(/-/g, '+').replace(/_/g, '/');
+    while (payload.length % 4) payload += '=';
+    const { exp } = JSON.parse(atob(payload));
+    return typeof exp === 'number' && exp * 1000 - EXPIRY_MARGIN_MS <= Date.now();
+  } catch {
+    return false; // 형식을 모르면 그대로 사용 (서버가 판단)
+  }
+};
+
+export const getFreshToken = async (): Promise<string | null> => {
+  const token = localStorage.getItem('token');
+  if (!token) return null; // 비로그인
+  if (!isExpiring(token)) return token;
+  return refreshAccessToken();
+};
+
 // Response 인터셉터
 api.interceptors.response.use(
   (response) => response,
-  (error) => {
+  async (error) => {
+    const original = error.config;
+    const isAuthCall = original?.url?.includes('/api/auth/refresh') || original?.url?.includes('/api/auth/login');
+    if (error.response?.status === 401 && original && !original._retry && !isAuthCall) {
+      original._retry = true;
+      const token = await refreshAccessToken();
+      if (token) {
+        original.headers.Authorization = `Bearer ${token}`;
+        return api(original); // 새 토큰으로 1번만 재시도
+      }
+    }
     if (error.response?.status === 401) {
       console.error('❌ 401 Unauthorized - 토큰이 유효하지 않거나 만료됨');
       setAuthToken(null); // 헬퍼 함수 사용
@@ -2,6 +2,7 @@ import React, { useEffect, useMemo, useRef, useState, useCallback } from 'react'
 import { PaperAirplaneIcon, ChevronDownIcon, ChevronUpIcon } from "@heroicons/react/24/outline";
 import SockJS from "sockjs-client";
 import { CompatClient, Stomp } from "@stomp/stompjs";
+import api, { getFreshToken } from "../api/api";
 
 interface FaqItem {
   id: number;
@@ -20,10 +21,12 @@ interface FaqCategory {
 interface Message {
   role: 'BOT' | 'USER' | 'AGENT' | 'SYS';
   text: string;
+  id?: number; // live_chat id (읽음 표시 기준)
 }
 
 const INACTIVITY_TIMEOUT = 10 * 60 * 1000; // 10분
 const MESSAGE_CLEANUP_INTERVAL = 5 * 60 * 1000; // 5분마다 정리
+const TYPING_SIGNAL_INTERVAL = 2000; // 입력 중 신호 최소 간격 (키 입력마다 보내지 않음)
 
 const ChatBot: React.FC = () => {
   const API_BASE_URL = import.meta.env.VITE_API_BASE_URL || '';
@@ -58,8 +61,12 @@ const ChatBot: React.FC = () => {
     return stored === 'true';
   });
 
+  const [agentTyping, setAgentTyping] = useState(false);
+  const [agentReadId, setAgentReadId] = useState(0);
+
   // Refs
   const stompRef = useRef<CompatClient | null>(null);
+  const lastTypingSentRef = useRef(0);
   const inactivityTimerRef = useRef<NodeJS.Timeout | null>(null);
   const processedMessagesRef = useRef<Map<string, number>>(new Map());
   const cleanupIntervalRef = useRef<NodeJS.Timeout | null>(null);
@@ -78,23 +85,23 @@ const ChatBot: React.FC = () => {
   useEffect(() => {
     const controller = new AbortController();
     
-    fetch(`${API_BASE_URL}/api/chatbot/faq/categories`, {
+    api.get(`/api/chatbot/faq/categories`, {
       signal: controller.signal
     })
-      .then(res => res.ok ? res.json() : Promise.reject(res.status))
+      .then(res => res.data)
       .then(data => {
         if (Array.isArray(data) && data.length > 0) {
           setFaqCategories(data);
         }
       })
       .catch(err => {
-        if (err.name !== 'AbortError') {
+        if (err?.code !== 'ERR_CANCELED') {
           console.error("FAQ 로드 실패:", err);
         }
       });
 
     return () => controller.abort();
-  }, [API_BASE_URL]);
+  }, []);
 
   // 메시지 중복 체크 (시간 기반)
   const isMessageProcessed = useCallback((messageId: string): boolean => {
@@ -158,32 +165,48 @@ const ChatBot: React.FC = () => {
     const client = Stomp.over(() => sock);
     client.debug = () => {};
 
-    const token = localStorage.getItem("accessToken");
-    const headers: Record<string, string> = {};
-    if (token) headers["Authorization"] = `Bearer ${token}`;
-
-    client.connect(
-      headers,
-      () => {
-        stompRef.current = client;
-
-        client.subscribe(`/topic/rooms/${roomId}`, (frame) => {
-          try {
-            const body = JSON.parse(frame.body);
-            const messageId = `${body.type}-${body.role}-${body.text}-${Date.now()}`;
-
-            if (isMessageProcessed(messageId)) return;
-
-            handleWebSocketMessage(body);
-          } catch (error) {
-            console.error("메시지 파싱 오류:", error);
-          }
-        });
-      },
-      (err) => console.error("STOMP error:", err)
-    );
+    let cancelled = false;
+    // ✅ CONNECT 직전에 토큰 갱신 (만료됐으면 리프레시) - 서버는 이 인증 정보로 참여자/역할을 판단
+    getFreshToken().then((token) => {
+      if (cancelled) return;
+      const headers: Record<string, string> = {};
+      if (token) headers["Authorization"] = `Bearer ${token}`;
+
+      client.connect(
+        headers,
+        () => {
+          stompRef.current = client;
+
+          client.subscribe(`/topic/rooms/${roomId}`, (frame) => {
+            try {
+              const body = JSON.parse(frame.body);
+              const messageId = `${body.type}-${body.role}-${body.text}-${Date.now()}`;
+
+              if (isMessageProcessed(messageId)) return;
+
+              handleWebSocketMessage(body);
+            } catch (error) {
+              console.error("메시지 파싱 오류:", error);
+            }
+          });
+
+          // 상담사 읽음 위치 1회 조회
+          client.subscribe(`/app/rooms/${roomId}/reads`, (frame) => {
+            try {
+              const marks = JSON.parse(frame.body) as Array<{ role: string; lastReadId: number }>;
+              const agentMax = marks.filter(m => m.role === 'AGENT').reduce((max, m) => Math.max(max, m.lastReadId), 0);
+              setAgentReadId(prev => Math.max(prev, agentMax));
+            } catch (error) {
+              console.error("읽음 위치 파싱 오류:", error);
+            }
+          });
+        },
+        (err) => console.error("STOMP error:", err)
+      );
+    });
 
     return () => {
+      cancelled = true;
       if (inactivityTimerRef.current) {
         clearTimeout(inactivityTimerRef.current);
       }
@@ -193,9 +216,33 @@ const ChatBot: React.FC = () => {
     };
   }, [roomId, API_BASE_URL, isMessageProcessed]);
 
+  // 입력 중/읽음 신호 전송 (저장되지 않는 휘발성 신호)
+  const sendSignal = useCallback((destination: string, body: object) => {
+    if (!stompRef.current?.connected) return;
+    stompRef.current.send(
+      `/app/${destination}/${roomId}`,
+      {},
+      JSON.stringify({
+        role: "USER",
+        userId: userInfo.current.userId,
+        nickname: userInfo.current.nickname,
+        ...body
+      })
+    );
+  }, [roomId]);
+
   // WebSocket 메시지 핸들러
   const handleWebSocketMessage = useCallback((body: any) => {
     switch (body.type) {
+      case "SIGNALS":
+        (body.typing ?? []).forEach((t: any) => {
+          if (t.role === 'AGENT') setAgentTyping(!!t.typing);
+        });
+        (body.read ?? []).forEach((r: any) => {
+          if (r.role === 'AGENT') setAgentReadId(prev => Math.max(prev, r.lastReadId ?? 0));
+        });
+        break;
+
       case "HANDOFF_REQUESTED":
         setMessages(prev => [...prev, { 
           role: 'SYS', 
@@ -213,6 +260,7 @@ const ChatBot: React.FC = () => {
 
       case "AGENT_DISCONNECTED":
         setIsAgentConnected(false);
+        setAgentTyping(false);
         setMessages(prev => [...prev, { 
           role: 'SYS', 
           text: '상담사가 연결을 해제했습니다.' 
@@ -231,13 +279,35 @@ const ChatBot: React.FC = () => {
       default:
         if (body.text) {
           const role = (body.role as 'BOT' | 'USER' | 'AGENT') ?? 'BOT';
-          setMessages(prev => [...prev, { role, text: body.text }]);
+          setMessages(prev => [...prev, { role, text: body.text, id: body.id ?? undefined }]);
           if (role === 'AGENT') {
             resetInactivityTimer();
+            setAgentTyping(false);
+            if (typeof body.id === 'number') sendSignal("support.read", { lastReadId: body.id });
           }
         }
     }
-  }, [resetInactivityTimer]);
+  }, [resetInactivityTimer, sendSignal]);
+
+  // 입력 변경 → 입력 중 신호 (TYPING_SIGNAL_INTERVAL마다 최대 1번)
+  const handleInputChange = useCallback((value: string) => {
+    setInput(value);
+    if (!isAgentConnected || !value.trim()) return;
+    const now = Date.now();
+    if (now - lastTypingSentRef.current > TYPING_SIGNAL_INTERVAL) {
+      lastTypingSentRef.current = now;
+      sendSignal("support.typing", { typing: true });
+    }
+  }, [isAgentConnected, sendSignal]);
+
+  // 상담사가 읽은 내 메시지 중 마지막 위치
+  const lastReadMineIdx = useMemo(() => {
+    for (let i = messages.length - 1; i >= 0; i--) {
+      const m = messages[i];
+      if (m.role === 'USER' && m.id !== undefined && m.id <= agentReadId) return i;
+    }
+    return -1;
+  }, [messages, agentReadId]);
 
   // 메시지 전송
   const sendText = useCallback(() => {
@@ -249,8 +319,46 @@ const ChatBot: React.FC = () => {
       JSON.stringify({ type: "TEXT", role: "USER", text: input })
     );
     setInput("");
+    lastTypingSentRef.current = 0;
+    sendSignal("support.typing", { typing: false });
     resetInactivityTimer();
-  }, [input, isAgentConnected, roomId, resetInactivityTimer]);
+  }, [input, isAgentConnected, roomId, resetInactivityTimer, sendSignal]);
+
+  // 상담사 연결 전: 자유 질문 → 챗봇 FAQ 검색 (못 찾으면 상담사 연결 안내)
+  const askBot = useCallback(async () => {
+    const question = input.trim();
+    if (!question) return;
+    setInput("");
+    setMessages(prev => [...prev, { role: 'USER', text: question }]);
+
+    try {
+      const { data } = await api.post<{
+        answered: boolean;
+        items: Array<{ id: number; question: string; answer: string; score: number }>;
+      }>(`/api/chatbot/ask`, { question });
+
+      if (data.answered) {
+        const [best, ...related] = data.items;
+        setMessages(prev => [
+          ...prev,
+          { role: 'BOT', text: best.answer },
+          ...(related.length > 0
+            ? [{ role: 'BOT' as const, text: `관련 질문: ${related.map(r => r.question).join(' / ')}` }]
+            : [])
+        ]);
+      } else {
+        setMessages(prev => [...prev, {
+          role: 'BOT',
+          text: '질문에 맞는 답변을 찾지 못했어요. 아래 "상담사 연결하기"로 상담사와 이야기해 보세요.'
+        }]);
+      }
+    } catch (err) {
+      console.error("챗봇 질문 실패:", err);
+      setMessages(prev => [...prev, { role: 'SYS', text: '답변을 불러오지 못했습니다. 잠시 후 다시 시도해주세요.' }]);
+    }
+  }, [input]);
+
+  const submitInput = isAgentConnected ? sendText : askBot;
 
   // 핸드오프 요청
   const requestHandoff = useCallback(() => {
@@ -372,10 +480,17 @@ const ChatBot: React.FC = () => {
                   <div className="bg-white rounded-lg px-4 py-3 shadow-sm max-w-md">
                     <p className="text-sm text-gray-800">{m.text}</p>
                   </div>
+                  {idx === lastReadMineIdx && (
+                    <p className="text-xs text-gray-400 mt-1">읽음</p>
+                  )}
                 </div>
               </div>
             ))}
 
+            {isAgentConnected && agentTyping && (
+              <p className="text-xs text-gray-500 ml-13">상담사가 입력 중...</p>
+            )}
+
             {/* FAQ 아코디언 */}
             <div className="ml-13 space-y-3">
               {faqCategories.map((category) => (
@@ -455,20 +570,14 @@ const ChatBot: React.FC = () => {
             <input
               type="text"
               value={input}
-              onChange={(e) => setInput(e.target.value)}
-              onKeyDown={(e) => { if (e.key === 'Enter' && isAgentConnected) sendText(); }}
-              placeholder={isAgentConnected ? "문의 사항을 남겨주세요" : "상담사 연결 후 이용 가능합니다"}
-              disabled={!isAgentConnected}
-              className={`w-full bg-white border border-gray-300 rounded-full px-6 py-4 pr-14 text-sm focus:outline-none ${
-                !isAgentConnected ? 'bg-gray-100 text-gray-400 cursor-not-allowed' : ''
-              }`}
+              onChange={(e) => handleInputChange(e.target.value)}
+              onKeyDown={(e) => { if (e.key === 'Enter') submitInput(); }}
+              placeholder={isAgentConnected ? "문의 사항을 남겨주세요" : "궁금한 점을 입력하면 챗봇이 먼저 답변해 드려요"}
+              className="w-full bg-white border border-gray-300 rounded-full px-6 py-4 pr-14 text-sm focus:outline-none"
             />
             <button
-              onClick={sendText}
-              disabled={!isAgentConnected}
-              className={`absolute right-4 top-1/2 transform -translate-y-1/2 transition ${
-                isAgentConnected ? 'text-gray-400 hover:text-gray-600' : 'text-gray-300 cursor-not-allowed'
-              }`}
+              onClick={submitInput}
+              className="absolute right-4 top-1/2 transform -translate-y-1/2 transition text-gray-400 hover:text-gray-600"
             >
               <PaperAirplaneIcon className="w-5 h-5" />
             </button>
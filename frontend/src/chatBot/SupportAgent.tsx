@@ -1,6 +1,7 @@
 import React, { useEffect, useRef, useState } from "react";
 import SockJS from "sockjs-client";
 import { CompatClient, Stomp } from "@stomp/stompjs";
+import { getFreshToken } from "../api/api";
 
 /**
  * 상담사 화면
@@ -22,35 +23,47 @@ const SupportAgent: React.FC = () => {
     const client = Stomp.over(sock);
     (client as any).debug = () => {};
 
-    const token = localStorage.getItem("adminAccessToken"); // 어드민 JWT
-    const headers: Record<string, string> = {};
-    if (token) headers["Authorization"] = `Bearer ${token}`;
+    let cancelled = false;
+    // ✅ CONNECT 직전에 토큰 갱신 (만료됐으면 리프레시) - ADMIN 인증이어야 서버가 상담사로 판단
+    getFreshToken().then((token) => {
+      if (cancelled) return;
+      const headers: Record<string, string> = {};
+      if (token) headers["Authorization"] = `Bearer ${token}`;
 
-    client.connect(
-      headers,
-      () => {
-        stompRef.current = client;
+      client.connect(
+        headers,
+        () => {
+          stompRef.current = client;
 
-        // 상담사 큐 구독
-        client.subscribe("/topic/support.queue", (frame) => {
-          try{
-            const body = JSON.parse(frame.body);
-            if (body.event === "HANDOFF_REQUESTED") {
-              setQueue(prev => {
-                const exists = prev.some(q => q.roomId === body.roomId);
-                if (exists) return prev;
-                return [...prev, { roomId: body.roomId, userName: body.userName ?? 'user' }];
-              });
+          // 상담사 큐 구독
+          client.subscribe("/topic/support.queue", (frame) => {
+            try{
+              const body = JSON.parse(frame.body);
+              if (body.event === "QUEUE_DELTA") {
+                const removed = new Set<string>(body.removed ?? []);
+                const upserts = (body.upserts ?? []).map((u: any) => ({ roomId: u.roomId, userName: u.userName ?? 'user' }));
+                setQueue(prev => [
+                  ...prev.filter(q => !removed.has(q.roomId) && !upserts.some((u: any) => u.roomId === q.roomId)),
+                  ...upserts,
+                ]);
+              } else if (body.event === "HANDOFF_REQUESTED") {
+                setQueue(prev => {
+                  const exists = prev.some(q => q.roomId === body.roomId);
+                  if (exists) return prev;
+                  return [...prev, { roomId: body.roomId, userName: body.userName ?? 'user' }];
+                });
+              }
+            } catch(e) {
+              console.warn("queue parse error", e);
             }
-          } catch(e) {
-            console.warn("queue parse error", e);
-          }
-        });
-      },
-      (err) => console.error("agent stomp error", err)
-    );
+          });
+        },
+        (err) => console.error("agent stomp error", err)
+      );
+    });
 
     return () => {
+      cancelled = true;
       try { client.disconnect(()=>{}); } catch {}
     };
   }, []);
@@ -77,6 +77,8 @@ export const useAuth = () => {
   };
 
   const logout = () => {
+    // 서버 쪽 토큰 폐기 (실패해도 로컬 로그아웃은 진행)
+    api.post('/api/auth/logout').catch(() => {});
     localStorage.removeItem('token');
     localStorage.removeItem('role');
     localStorage.removeItem('email');
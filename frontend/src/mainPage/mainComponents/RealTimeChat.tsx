@@ -1,7 +1,7 @@
 import React, { useState, useEffect, useRef, useCallback } from 'react';
 import { Client } from '@stomp/stompjs';
 import SockJS from 'sockjs-client';
-import api from '../../api/api';
+import api, { getFreshToken } from '../../api/api';
 
 if (typeof window !== 'undefined') {
   (window as any).global = window;
@@ -15,6 +15,7 @@ interface ChatMessage {
   sessionId: string;
   nickname?: string;
   userId?: number;
+  seq?: number;
 }
 
 const RealTimeChat: React.FC = () => {
@@ -30,6 +31,7 @@ const RealTimeChat: React.FC = () => {
   const messagesEndRef = useRef<HTMLDivElement>(null);
   const stompClientRef = useRef<Client | null>(null);
   const isInitializing = useRef(false);
+  const lastSeqRef = useRef<number | null>(null); // 마지막으로 받은 방 seq (재접속 빈틈 채우기용)
   const sessionId = 'main-chat-room';
 
   const API_BASE_URL = api.defaults.baseURL;
@@ -52,53 +54,32 @@ const RealTimeChat: React.FC = () => {
         return false;
       }
 
-      const res = await fetch(`${API_BASE_URL}/api/auth/me`, {
-        headers: { Authorization: `Bearer ${token}` },
-      });
-
-      if (res.ok) {
-        const user = await res.json();
-        const nick = user.nickname || user.name || '익명';
-        console.log('사용자 정보 조회 성공:', user);
-        setUserNickname(nick.trim() || '익명');
-        setUserId(user.id);
-        setIsAuthenticated(true);
-        return true;
-      } else {
-        console.log('사용자 정보 조회 실패 - 토큰 무효');
-        localStorage.removeItem('token');
-        setUserNickname('');
-        setIsAuthenticated(false);
-        return false;
-      }
+      // ✅ api 인스턴스: 401이면 리프레시 후 재시도, 리프레시도 실패하면 인터셉터가 토큰 제거
+      const { data: user } = await api.get('/api/auth/me');
+      const nick = user.nickname || user.name || '익명';
+      console.log('사용자 정보 조회 성공:', user);
+      setUserNickname(nick.trim() || '익명');
+      setUserId(user.id);
+      setIsAuthenticated(true);
+      return true;
     } catch (e) {
-      console.error('사용자 정보 조회 에러:', e);
+      console.error('사용자 정보 조회 실패:', e);
       setUserNickname('');
       setIsAuthenticated(false);
       return false;
     }
-  }, [API_BASE_URL]);
+  }, []);
 
   const fetchRecentMessages = useCallback(async () => {
     try {
-      const token = localStorage.getItem('token');
-      const headers: HeadersInit = {};
-      if (token) headers['Authorization'] = `Bearer ${token}`;
-
-      const res = await fetch(`${API_BASE_URL}/api/chat/history/${sessionId}?limit=30`, { headers });
-      if (res.ok) {
-        const messages = await res.json();
-        console.log('이전 메시지 로드:', messages.length, '개');
-        setMessages(messages);
-      } else {
-        console.log('메시지 로드 실패');
-        setMessages([]);
-      }
+      const { data: messages } = await api.get(`/api/chat/history/${sessionId}`, { params: { limit: 30 } });
+      console.log('이전 메시지 로드:', messages.length, '개');
+      setMessages(messages);
     } catch (e) {
-      console.error('메시지 로드 에러:', e);
+      console.error('메시지 로드 실패:', e);
       setMessages([]);
     }
-  }, [API_BASE_URL, sessionId]);
+  }, [sessionId]);
 
   const handleLeave = useCallback(() => {
     console.log('채팅방 퇴장');
@@ -131,15 +112,18 @@ const RealTimeChat: React.FC = () => {
 
       const client = new Client({
         webSocketFactory: () => new SockJS(`${API_BASE_URL}/ws`),
-        connectHeaders: {
-          Authorization: `Bearer ${token}`
-        },
         debug: (str) => console.log('STOMP:', str),
         reconnectDelay: 5000,
         heartbeatIncoming: 4000,
         heartbeatOutgoing: 4000,
       });
 
+      // ✅ 재연결마다 CONNECT 직전에 토큰 갱신 (만료된 토큰으로 재접속하지 않도록)
+      client.beforeConnect = async () => {
+        const fresh = await getFreshToken();
+        client.connectHeaders = fresh ? { Authorization: `Bearer ${fresh}` } : {};
+      };
+
       client.onConnect = (frame) => {
         console.log('✅ STOMP 연결 성공', frame);
         setIsConnected(true);
@@ -147,6 +131,20 @@ const RealTimeChat: React.FC = () => {
 
         console.log(`📢 구독 시작: /topic/rooms/${sessionId}`);
 
+        const appendMessage = (newMsg: ChatMessage) => {
+          if (typeof newMsg.seq === 'number') {
+            lastSeqRef.current = Math.max(lastSeqRef.current ?? 0, newMsg.seq);
+          }
+          setMessages((prev) => {
+            if (newMsg.id && prev.some(m => m.id === newMsg.id)) {
+              console.log('⚠️ 중복 메시지 무시:', newMsg.id);
+              return prev;
+            }
+            console.log('✅ 메시지 추가:', newMsg);
+            return [...prev, newMsg];
+          });
+        };
+
         client.subscribe(`/topic/rooms/${sessionId}`, (message) => {
           console.log('📨 새 메시지 수신 (raw):', message);
           console.log('📨 메시지 body:', message.body);
@@ -154,19 +152,30 @@ const RealTimeChat: React.FC = () => {
           try {
             const newMsg: ChatMessage = JSON.parse(message.body);
             console.log('✅ 파싱된 메시지:', newMsg);
-
-            setMessages((prev) => {
-              if (newMsg.id && prev.some(m => m.id === newMsg.id)) {
-                console.log('⚠️ 중복 메시지 무시:', newMsg.id);
-                return prev;
-              }
-              console.log('✅ 메시지 추가:', newMsg);
-              return [...prev, newMsg];
-            });
+            appendMessage(newMsg);
           } catch (e) {
             console.error('❌ 메시지 파싱 실패:', e, message.body);
           }
         });
+
+        // 재연결이면 끊긴 동안 놓친 메시지만 받아서 채움 (버퍼 범위 초과 시 reset=true → 최근 히스토리로 교체)
+        if (lastSeqRef.current !== null) {
+          client.subscribe(`/app/rooms/${sessionId}/since/${lastSeqRef.current}`, (message) => {
+            try {
+              const replay = JSON.parse(message.body);
+              if (replay.reset) {
+                setMessages(replay.frames ?? []);
+              } else {
+                (replay.frames ?? []).forEach(appendMessage);
+              }
+              lastSeqRef.current = replay.headSeq ?? lastSeqRef.current;
+            } catch (e) {
+              console.error('❌ 빈틈 채우기 실패:', e, message.body);
+            }
+          });
+        } else {
+          lastSeqRef.current = 0;
+        }
       };
 
       client.onStompError = (frame) => {
@@ -295,9 +304,6 @@ const RealTimeChat: React.FC = () => {
       return;
     }
 
-    const headers: HeadersInit = { 'Content-Type': 'application/json' };
-    if (token) headers['Authorization'] = `Bearer ${token}`;
-
     console.log('메시지 전송 시도:', {
       sessionId,
       content: inputMessage,
@@ -306,29 +312,22 @@ const RealTimeChat: React.FC = () => {
     });
 
     try {
-      const res = await fetch(`${API_BASE_URL}/api/chat/send`, {
-        method: 'POST',
-        headers,
-        body: JSON.stringify({
-          sessionId,
-          content: inputMessage,
-          nickname: userNickname || '익명',
-          userId,
-        }),
+      await api.post('/api/chat/send', {
+        sessionId,
+        content: inputMessage,
+        nickname: userNickname || '익명',
+        userId,
       });
-
-      if (res.ok) {
-        console.log('✅ 메시지 전송 성공');
-        setInputMessage('');
+      console.log('✅ 메시지 전송 성공');
+      setInputMessage('');
+    } catch (e: any) {
+      const status = e?.response?.status;
+      console.error('❌ 메시지 전송 실패:', status ?? e);
+      if (status === 401 || status === 403) {
+        setConnectionError('인증이 만료되었습니다. 다시 로그인해주세요.');
       } else {
-        console.error('❌ 메시지 전송 실패:', res.status);
-        if (res.status === 401 || res.status === 403) {
-          setConnectionError('인증이 만료되었습니다. 다시 로그인해주세요.');
-        }
+        setConnectionError('메시지 전송 실패. 다시 시도해주세요.');
       }
-    } catch (e) {
-      console.error('❌ 메시지 전송 에러:', e);
-      setConnectionError('메시지 전송 실패. 다시 시도해주세요.');
     }
   };
 
@@ -28,7 +28,7 @@ function parseJwt(token?: string | null) {
   try { return JSON.parse(atob(payload)); } catch { return undefined; }
 }
 function readJwtEmail(): string | undefined {
-  const stored = localStorage.getItem("accessToken") || localStorage.getItem("token");
+  const stored = localStorage.getItem("token") || localStorage.getItem("accessToken");  // 리프레시 후 갱신되는 쪽 우선
   const json = parseJwt(stored || undefined);
   return json?.email || json?.sub || json?.username || undefined;
 }
@@ -2,7 +2,6 @@
 import React, { useEffect, useMemo, useRef, useState } from "react";
 import { useLocation, useNavigate } from "react-router-dom";
 import api from "../../api/api";
-import axios from "axios";
 
 
 /** ---------------- Types ---------------- */
@@ -18,6 +17,7 @@ type ResumeDto = {
   locked: boolean;
   createAt: string;
   updateAt: string;
+  version?: number;
 };
 
 type MyProfileDto = {
@@ -172,6 +172,8 @@ const ResumeDetail: React.FC = () => {
   }, [location.search]);
 
   const [resumeId, setResumeId] = useState<number | undefined>(resumeIdFromQS);
+  // 마지막으로 받은 이력서 버전 → 수정 시 If-Match (다른 탭/기기에서 먼저 저장했으면 412)
+  const versionRef = useRef<number | undefined>(undefined);
   const [title, setTitle] = useState("새 이력서");
   const [essayTitle, setEssayTitle] = useState("자기소개서");
   const [essayContent, setEssayContent] = useState("");
@@ -214,6 +216,7 @@ const ResumeDetail: React.FC = () => {
       try {
         setLoading(true);
         const { data } = await api.get<ResumeDto>(`/api/mypage/resumes/${resumeId}`);
+        versionRef.current = data?.version;
         setTitle(data?.title || "새 이력서");
         setEssayTitle(data?.essayTitle ?? data?.essayTittle ?? "자기소개서");
         setEssayContent(data?.essayContent ?? "");
@@ -278,6 +281,7 @@ const ResumeDetail: React.FC = () => {
       });
       const id = res?.data?.id;
       if (!id) throw new Error("이력서 생성 실패: ID 없음");
+      versionRef.current = res?.data?.version;
       setResumeId(id);
       return id;
     } catch (e: any) {
@@ -310,20 +314,20 @@ const ResumeDetail: React.FC = () => {
       const form = new FormData();
       form.append("file", file);
 
-      // ✅ 토큰 명시적으로 추가 (multipart는 인터셉터가 깨지기 쉬움)
+      // ✅ 토큰은 api 인터셉터가 붙임 (401이면 리프레시 후 새 토큰으로 재시도)
       const res = await api.post(
   `/api/mypage/resumes/${id}/photo`,
   form,
   {
     headers: {
       "Content-Type": "multipart/form-data",
-      Authorization: `Bearer ${localStorage.getItem("token")}`,
     },
     withCredentials: true,
   }
 );
       const url = res?.data?.url || res?.data?.idPhoto;
       if (url) setPhotoPreview(url);
+      if (res?.data?.version != null) versionRef.current = res.data.version;
     } catch (err) {
       console.error(err);
       alert("사진 업로드 중 오류가 발생했습니다.");
@@ -446,16 +450,22 @@ const ResumeDetail: React.FC = () => {
       };
 
       if (resumeId) {
-        await api.put(`/api/mypage/resumes/${resumeId}`, payload, {
-          headers: { "Content-Type": "application/json" },
+        const version = versionRef.current;
+        const res = await api.put(`/api/mypage/resumes/${resumeId}`, payload, {
+          headers: {
+            "Content-Type": "application/json",
+            ...(version != null ? { "If-Match": `"${version}"` } : {}),
+          },
           withCredentials: true,
         });
+        versionRef.current = res?.data?.version;
       } else {
         const res = await api.post(`/api/mypage/resumes`, payload, {
           headers: { "Content-Type": "application/json" },
           withCredentials: true,
         });
         const id = res?.data?.id;
+        versionRef.current = res?.data?.version;
         if (id) setResumeId(id);
       }
 
@@ -467,8 +477,11 @@ const ResumeDetail: React.FC = () => {
       const serverMsg =
         data?.message || data?.error || (typeof data === "string" ? data : JSON.stringify(data)) || e?.message;
 
-      // 5xx → 사용자가 고칠 수 있는 안내로 치환
-      if (status && String(status).startsWith("5")) {
+      // 412 → 다른 곳에서 먼저 저장됨 (덮어쓰지 않음)
+      if (status === 412) {
+        alert(serverMsg || "다른 곳에서 먼저 저장된 이력서입니다. 새로고침 후 다시 시도해주세요.");
+      } else if (status && String(status).startsWith("5")) {
+        // 5xx → 사용자가 고칠 수 있는 안내로 치환
         alert("정확한 값을 입력해주세요. (예: 기간 2023-01 ~ 2024-05)");
       } else {
         alert(`저장 중 오류가 발생했습니다.\n[${status ?? "ERR"}] ${serverMsg}`);
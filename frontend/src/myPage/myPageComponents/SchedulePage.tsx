@@ -23,25 +23,12 @@ type ResumeItem = {
   updateAt: string;
 };
 
-const API_BASE = api.defaults.baseURL;
-const TOKEN_KEY = "accessToken";
-
-function resolveAccessToken(): string | null {
-  const primary = localStorage.getItem(TOKEN_KEY) || sessionStorage.getItem(TOKEN_KEY);
-  if (primary) return primary.startsWith("Bearer ") ? primary.slice(7) : primary;
-
-  const keys = ["jwt", "jwtToken", "token", "Authorization"];
-  for (const k of keys) {
-    const v = localStorage.getItem(k) || sessionStorage.getItem(k);
-    if (v) return v.startsWith("Bearer ") ? v.slice(7) : v;
-  }
-  const m = document.cookie.match(/(?:^|;\s*)Authorization=([^;]+)/);
-  if (m) {
-    const decoded = decodeURIComponent(m[1]);
-    return decoded.startsWith("Bearer ") ? decoded.replace(/^Bearer\s+/i, "") : decoded;
-  }
-  return null;
-}
+// ✅ 모든 요청은 api 인스턴스로 (토큰 헤더 + 401 시 리프레시 후 재시도)
+const errorText = (e: any, fallback: string) => {
+  const data = e?.response?.data;
+  if (typeof data === "string" && data) return data;
+  return data?.message || fallback;
+};
 
 const pick = (obj: any, keys: string[], fallback: any = "") => {
   for (const path of keys) {
@@ -106,30 +93,19 @@ const SchedulePage: React.FC = () => {
 
   useEffect(() => {
     const controller = new AbortController();
-    const token = resolveAccessToken();
 
     async function fetchFavorites() {
       try {
         setLoading(true);
         setError(null);
 
-        const url = `${API_BASE}/api/mypage/favorites/jobposts?page=0&size=1000`;
-        const res = await fetch(url, {
-          method: "GET",
-          headers: {
-            "Content-Type": "application/json",
-            ...(token ? { Authorization: `Bearer ${token}` } : {}),
-          },
-          credentials: "include",
-          signal: controller.signal,
-        });
-
-        if (!res.ok) {
-          const text = await res.text().catch(() => "");
-          throw new Error(`(${res.status}) ${text || "스크랩 공고 로드 실패"}`);
-        }
-
-        const raw = await res.json();
+        const raw = await api
+          .get("/api/mypage/favorites/jobposts", { params: { page: 0, size: 1000 }, signal: controller.signal })
+          .then((res) => res.data)
+          .catch((e) => {
+            if (e?.code === "ERR_CANCELED") throw e;
+            throw new Error(`(${e?.response?.status ?? "-"}) ${errorText(e, "스크랩 공고 로드 실패")}`);
+          });
 
         let arr: any[] = [];
         if (Array.isArray(raw)) arr = raw;
@@ -153,32 +129,7 @@ const SchedulePage: React.FC = () => {
 
             try {
               // 개별 공고 상세 정보 조회
-              const detailRes = await fetch(`${API_BASE}/api/jobposts/${jobPostId}`, {
-                method: "GET",
-                headers: {
-                  "Content-Type": "application/json",
-                  ...(token ? { Authorization: `Bearer ${token}` } : {}),
-                },
-                credentials: "include",
-                signal: controller.signal,
-              });
-
-              if (!detailRes.ok) {
-                // 상세 정보 조회 실패 시 기본 정보만 사용
-                return {
-                  id: jobPostId,
-                  title: item.title || "",
-                  companyName: item.companyName || "",
-                  date: endAt.slice(0, 10),
-                  location: "",
-                  type: "",
-                  position: "",
-                  careerLevel: "",
-                  education: "",
-                };
-              }
-
-              const detail = await detailRes.json();
+              const { data: detail } = await api.get(`/api/jobposts/${jobPostId}`, { signal: controller.signal });
 
               return {
                 id: jobPostId,
@@ -192,7 +143,7 @@ const SchedulePage: React.FC = () => {
                 education: detail.education || "",
               };
             } catch (err) {
-              // 에러 발생 시 기본 정보만 반환
+              // 상세 정보 조회 실패 시 기본 정보만 반환
               return {
                 id: jobPostId,
                 title: item.title || "",
@@ -211,7 +162,7 @@ const SchedulePage: React.FC = () => {
         const mapped = detailedNotices.filter(Boolean) as Notice[];
         setAllFavorites(mapped);
       } catch (e: any) {
-        if (e?.name !== "AbortError") setError(e.message || "스크랩 로드 중 오류가 발생했습니다.");
+        if (e?.code !== "ERR_CANCELED") setError(e.message || "스크랩 로드 중 오류가 발생했습니다.");
       } finally {
         setLoading(false);
       }
@@ -256,23 +207,13 @@ const SchedulePage: React.FC = () => {
     setCurrentJobId(jobPostId);
     setSelectedResumeId(null);
 
-    const controller = new AbortController();
-    const token = resolveAccessToken();
-
     try {
-      const res = await fetch(`${API_BASE}/api/mypage/resumes?page=0&size=50`, {
-        method: "GET",
-        headers: {
-          "Content-Type": "application/json",
-          ...(token ? { Authorization: `Bearer ${token}` } : {}),
-        },
-        credentials: "include",
-        signal: controller.signal,
-      });
-
-      if (!res.ok) throw new Error("이력서 목록을 불러올 수 없습니다.");
-
-      const data = await res.json();
+      const data = await api
+        .get("/api/mypage/resumes", { params: { page: 0, size: 50 } })
+        .then((res) => res.data)
+        .catch(() => {
+          throw new Error("이력서 목록을 불러올 수 없습니다.");
+        });
       const list: ResumeItem[] = (data?.items ?? data?.content ?? []).filter((r: any) => !r.locked);
       setResumes(list);
       setShowApplyModal(true);
@@ -286,23 +227,13 @@ const SchedulePage: React.FC = () => {
     if (!selectedResumeId) return alert("이력서를 선택해주세요.");
     if (!confirm("선택한 이력서로 지원하시겠습니까? 제출 후에는 이력서를 수정할 수 없습니다.")) return;
 
-    const token = resolveAccessToken();
     try {
       setApplying(true);
-      const res = await fetch(`${API_BASE}/api/mypage/applies`, {
-        method: "POST",
-        headers: {
-          "Content-Type": "application/json",
-          ...(token ? { Authorization: `Bearer ${token}` } : {}),
-        },
-        credentials: "include",
-        body: JSON.stringify({ jobPostId: currentJobId, resumeId: selectedResumeId }),
-      });
-
-      if (!res.ok) {
-        const msg = await res.text().catch(() => "");
-        throw new Error(msg || "지원 중 오류가 발생했습니다.");
-      }
+      await api
+        .post("/api/mypage/applies", { jobPostId: currentJobId, resumeId: selectedResumeId })
+        .catch((e) => {
+          throw new Error(errorText(e, "지원 중 오류가 발생했습니다."));
+        });
 
       alert("지원이 완료되었습니다!");
       setShowApplyModal(false);